@@ -1,6 +1,8 @@
 package org.pitest.aggregate;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -17,6 +19,7 @@ import javax.xml.stream.events.XMLEvent;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageReader;
 import org.pitest.mutationtest.engine.Location;
 
 class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
@@ -37,6 +40,11 @@ class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
     super(filesToLoad);
   }
   
+  @Override
+  protected Set<BlockCoverage> readBinary(InputStream stream) throws IOException {
+    return new HashSet<>(new BinaryCoverageReader().read(stream));
+  }
+
   @Override
   protected Set<BlockCoverage> mapToData(XMLEventReader doc) throws XMLStreamException {
     final Set<BlockCoverage> data = new HashSet<>();
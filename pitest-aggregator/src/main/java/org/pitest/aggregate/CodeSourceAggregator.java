@@ -19,7 +19,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.config.DefaultCodePathPredicate;
 import org.pitest.mutationtest.config.DefaultDependencyPathPredicate;
-import org.pitest.util.Glob;
+import org.pitest.util.ClassNameGlobs;
 
 class CodeSourceAggregator {
 
@@ -49,7 +49,7 @@ class CodeSourceAggregator {
         classes.addAll(FCollection.map(dcRoot.classNames(), toPredicate()));
       }
     }
-    return Prelude.or(FCollection.map(classes, Glob.toGlobPredicate()));
+    return ClassNameGlobs.of(classes);
   }
 
   private Function<String, String> toPredicate() {
@@ -6,10 +6,18 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
@@ -30,16 +38,73 @@ abstract class DataLoader<T> {
   }
 
   public Set<T> loadData() throws ReportAggregationException {
-    final Set<T> data = new HashSet<>();
+    return loadData(Function.identity());
+  }
 
-    for (final File file : this.filesToLoad) {
-      data.addAll(loadData(file));
-    }
+  /**
+   * Parses the files in parallel, applying the mapping to the contents of
+   * each file as soon as it is parsed so that only the mapped data from each
+   * file is retained.
+   */
+  public <R> Set<R> loadData(final Function<? super T, ? extends R> mapping)
+      throws ReportAggregationException {
+    final Set<R> data = new HashSet<>();
+    forEachFile(contents -> data.addAll(map(contents, mapping)));
     return data;
   }
 
+  /**
+   * Parses the files in parallel, handing the contents of each file to the
+   * consumer as soon as it is parsed rather than retaining them. The consumer
+   * is called by one thread at a time.
+   */
+  public void forEachFile(final Consumer<? super Set<T>> consumer)
+      throws ReportAggregationException {
+    final int threads = Math.min(this.filesToLoad.size(),
+        Runtime.getRuntime().availableProcessors());
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final Object lock = new Object();
+    try {
+      final List<Future<?>> parsed = new ArrayList<>();
+      for (final File file : this.filesToLoad) {
+        parsed.add(executor.submit(() -> {
+          final Set<T> contents = loadData(file);
+          synchronized (lock) {
+            consumer.accept(contents);
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> each : parsed) {
+        each.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ReportAggregationException("Interrupted while loading data", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof ReportAggregationException) {
+        throw (ReportAggregationException) e.getCause();
+      }
+      throw new ReportAggregationException(e.getCause().getMessage(),
+          e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static <T, R> Set<R> map(final Set<T> data,
+      final Function<? super T, ? extends R> mapping) {
+    final Set<R> mapped = new HashSet<>(data.size());
+    for (final T each : data) {
+      mapped.add(mapping.apply(each));
+    }
+    return mapped;
+  }
+
   protected abstract Set<T> mapToData(XMLEventReader doc) throws XMLStreamException;
 
+  protected abstract Set<T> readBinary(InputStream stream) throws IOException;
+
   Set<T> loadData(final File dataLocation) throws ReportAggregationException {
     if (!dataLocation.exists() || !dataLocation.isFile()) {
       throw new ReportAggregationException(dataLocation.getAbsolutePath() + " does not exist or is not a file");
@@ -53,9 +118,12 @@ abstract class DataLoader<T> {
   
   Set<T> loadData(final InputStream inputStream, final File dataLocation) throws ReportAggregationException {
     try {
+      if (dataLocation.getName().endsWith(".bin")) {
+        return readBinary(inputStream);
+      }
       final XMLEventReader doc = XMLInputFactory.newInstance().createXMLEventReader(inputStream);
       return mapToData(doc);
-    } catch (final XMLStreamException e) {
+    } catch (final XMLStreamException | IOException e) {
       throw new ReportAggregationException("Could not parse file: " + dataLocation.getAbsolutePath(), e);
     } finally {
       if (inputStream != null) {
@@ -3,6 +3,8 @@ package org.pitest.aggregate;
 import static java.util.Arrays.asList;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -21,6 +23,7 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.report.binary.BinaryMutationReader;
 
 class MutationResultDataLoader extends DataLoader<MutationResult> {
 
@@ -42,6 +45,11 @@ class MutationResultDataLoader extends DataLoader<MutationResult> {
     super(filesToLoad);
   }
   
+  @Override
+  protected Set<MutationResult> readBinary(InputStream stream) throws IOException {
+    return new HashSet<>(new BinaryMutationReader().read(stream));
+  }
+
   @Override
   protected Set<MutationResult> mapToData(XMLEventReader doc) throws XMLStreamException {
     final Set<MutationResult> data = new HashSet<>();
@@ -11,19 +11,22 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
-import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.report.FileResultStore;
+import org.pitest.mutationtest.report.ResultStore;
 import org.pitest.mutationtest.report.html.MutationHtmlReportListener;
 import org.pitest.mutationtest.tooling.SmartSourceLocator;
 import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
 
 import java.io.File;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,25 +52,55 @@ public final class ReportAggregator {
     this.codeSourceAggregator = new CodeSourceAggregator(new HashSet<>(compiledCodeDirs));
   }
 
+  /**
+   * Each mutation results file is grouped by package and spilled to disk as
+   * soon as it is parsed. Results are then fed to the report one package at
+   * a time, and each package is rendered and its results released before the
+   * next is read back, so the mutation results held do not grow with the
+   * size of the project. The block coverage of the project is held in full.
+   */
   public void aggregateReport() throws ReportAggregationException {
-    final MutationMetaData mutationMetaData = new MutationMetaData(new ArrayList<>(this.mutationLoader.loadData()));
-
-    final MutationResultListener mutationResultListener = createResultListener(mutationMetaData);
-
-    mutationResultListener.runStart();
+    final Collection<String> mutatorNames = new HashSet<>();
+    final ResultStore resultsByPackage = new FileResultStore(
+        Paths.get(System.getProperty("java.io.tmpdir")));
+    try {
+      this.mutationLoader.forEachFile(results -> {
+        mutatorNames.addAll(FCollection.flatMap(results, resultToMutatorName()));
+        new MutationMetaData(new ArrayList<>(results)).toClassResults()
+            .forEach(resultsByPackage::add);
+      });
+
+      final MutationHtmlReportListener mutationResultListener = createResultListener(mutatorNames);
+
+      mutationResultListener.runStart();
+      for (final String each : resultsByPackage.packages()) {
+        for (final ClassMutationResults mutationResults : mergeFiles(resultsByPackage.resultsFor(each))) {
+          mutationResultListener.handleMutationResult(mutationResults);
+        }
+        mutationResultListener.packageComplete(each);
+        resultsByPackage.release(each);
+      }
+      mutationResultListener.runEnd();
+    } finally {
+      resultsByPackage.close();
+    }
+  }
 
-    for (final ClassMutationResults mutationResults : mutationMetaData.toClassResults()) {
-      mutationResultListener.handleMutationResult(mutationResults);
+  // the same class may appear in more than one file, and the same results
+  // may be repeated between files
+  private static Collection<ClassMutationResults> mergeFiles(final List<ClassMutationResults> results) {
+    final Set<MutationResult> unique = new LinkedHashSet<>();
+    for (final ClassMutationResults each : results) {
+      unique.addAll(each.getMutations());
     }
-    mutationResultListener.runEnd();
+    return new MutationMetaData(new ArrayList<>(unique)).toClassResults();
   }
 
-  private MutationResultListener createResultListener(final MutationMetaData mutationMetaData) throws ReportAggregationException {
+  private MutationHtmlReportListener createResultListener(final Collection<String> mutatorNames) throws ReportAggregationException {
     final SourceLocator sourceLocator = new SmartSourceLocator(this.sourceCodeDirectories);
 
     final CodeSource codeSource = this.codeSourceAggregator.createCodeSource();
     final ReportCoverage coverageDatabase = calculateCoverage(codeSource);
-    final Collection<String> mutatorNames = new HashSet<>(FCollection.flatMap(mutationMetaData.getMutations(), resultToMutatorName()));
 
     return new MutationHtmlReportListener(coverageDatabase, this.resultOutputStrategy, mutatorNames, sourceLocator);
   }
@@ -85,9 +118,8 @@ public final class ReportAggregator {
 
   private ReportCoverage calculateCoverage(final CodeSource codeSource) throws ReportAggregationException {
     try {
-      Collection<BlockLocation> coverageData = this.blockCoverageLoader.loadData().stream()
-              .map(BlockCoverage::getBlock)
-              .collect(Collectors.toList());
+      // test names are not needed for the report so are dropped as each file is parsed
+      Collection<BlockLocation> coverageData = this.blockCoverageLoader.loadData(BlockCoverage::getBlock);
       CoverageData cd = new CoverageData(codeSource, new LineMapper(codeSource));
       cd.loadBlockDataOnly(coverageData);
       return cd;
@@ -5,15 +5,33 @@ import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.report.binary.BinaryReportListener;
+import org.pitest.util.BinaryResultOutputStrategy;
 
 public class DataLoaderTest {
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Test
   public void testLoadMutationSnippet() throws Exception {
     String file = "/snippets/mutation.xml";
@@ -54,4 +72,86 @@ public class DataLoaderTest {
     assertEquals(Arrays.asList("com.example.DividerTest.testDivide(com.example.DividerTest)"), result.getTests());
   }
 
+  @Test
+  public void shouldMergeDataFromAllFiles() throws Exception {
+    // the snippet repeats one of the mutations in the full data
+    final File full = resource("/full-data/mutations.xml");
+    final File snippet = resource("/snippets/mutation.xml");
+
+    MutationResultDataLoader dataLoader = new MutationResultDataLoader(asList(full, snippet));
+
+    assertEquals(2, dataLoader.loadData().size());
+  }
+
+  @Test
+  public void shouldApplyMappingToLoadedData() throws Exception {
+    BlockCoverageDataLoader dataLoader = new BlockCoverageDataLoader(asList(resource("/full-data/linecoverage.xml")));
+    Set<BlockLocation> results = dataLoader.loadData(BlockCoverage::getBlock);
+
+    assertEquals(5, results.size());
+  }
+
+  @Test
+  public void shouldHandContentsOfEachFileToConsumerSeparately() throws Exception {
+    final File full = resource("/full-data/mutations.xml");
+    final File snippet = resource("/snippets/mutation.xml");
+    MutationResultDataLoader dataLoader = new MutationResultDataLoader(asList(full, snippet));
+
+    final List<Integer> sizes = new ArrayList<>();
+    dataLoader.forEachFile(contents -> sizes.add(contents.size()));
+
+    Collections.sort(sizes);
+    assertEquals(Arrays.asList(1, 2), sizes);
+  }
+
+  @Test
+  public void shouldLoadBinaryMutationResults() throws Exception {
+    Set<MutationResult> expected = new MutationResultDataLoader(asList(resource("/full-data/mutations.xml"))).loadData();
+    File binary = this.folder.newFile(BinaryReportListener.FILE_NAME);
+    BinaryReportListener listener = new BinaryReportListener(new FileOutputStream(binary));
+    listener.handleMutationResult(new ClassMutationResults(expected));
+    listener.runEnd();
+
+    assertEquals(expected, new MutationResultDataLoader(asList(binary)).loadData());
+  }
+
+  @Test
+  public void shouldLoadBinaryCoverage() throws Exception {
+    Set<BlockCoverage> expected = new BlockCoverageDataLoader(asList(resource("/full-data/linecoverage.xml"))).loadData();
+    File binary = this.folder.newFile(BinaryCoverageExporter.FILE_NAME);
+    new BinaryCoverageExporter(new BinaryResultOutputStrategy() {
+      @Override
+      public Writer createWriterForFile(String sourceFile) {
+        throw new AssertionError();
+      }
+
+      @Override
+      public OutputStream createOutputStreamForFile(String sourceFile) {
+        try {
+          return new FileOutputStream(binary);
+        } catch (FileNotFoundException e) {
+          throw new AssertionError(e);
+        }
+      }
+    }).recordCoverage(expected);
+
+    Set<BlockCoverage> actual = new BlockCoverageDataLoader(asList(binary)).loadData();
+    assertEquals(expected.size(), actual.size());
+    assertEquals(blocks(expected), blocks(actual));
+  }
+
+  @Test(expected = ReportAggregationException.class)
+  public void shouldReportFilesThatCannotBeLoaded() throws Exception {
+    MutationResultDataLoader dataLoader = new MutationResultDataLoader(asList(resource("/full-data/mutations.xml"), new File("doesNotExist.xml")));
+    dataLoader.loadData();
+  }
+
+  private static Set<BlockLocation> blocks(Set<BlockCoverage> coverage) {
+    return coverage.stream().map(BlockCoverage::getBlock).collect(Collectors.toSet());
+  }
+
+  private static File resource(String name) throws Exception {
+    return new File(DataLoaderTest.class.getResource(name).toURI());
+  }
+
 }
@@ -0,0 +1,331 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.AnalysisResult;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Resident process that accepts command line style run requests over a local
+ * socket, so repeated runs against a module avoid plugin discovery and JVM
+ * warm up.
+ *
+ * Relative paths in a request are resolved against the base directory the
+ * client sends with it, as they would be for a run started there.
+ *
+ * If the daemon is started with a storage directory, each module that does
+ * not supply its own is given a history file and result cache within it.
+ * Coverage and results for classes that have not changed since the previous
+ * request are then reused, with changes detected from the class files
+ * themselves. Without a storage directory requests are run as given.
+ *
+ * A request runs arbitrary code as the daemon's owner, so each must carry a
+ * token chosen at random when the daemon starts. The token is written to a
+ * file only the owner can read, from which the client reads it.
+ *
+ * Requests are run one at a time. Submit them with
+ * {@link MutationCoverageDaemonClient}.
+ *
+ * Usage : MutationCoverageDaemon port [storageDir]
+ */
+public class MutationCoverageDaemon {
+
+  private static final Logger  LOG         = Log.getLogger();
+
+  private static final int     TOKEN_BYTES = 32;
+
+  private final ServerSocket   socket;
+  private final byte[]         token;
+  private final PluginServices plugins;
+  private final OptionsParser  parser;
+  private final Optional<File> storageDir;
+
+  /**
+   * Creates a daemon that runs requests carrying the supplied token as given,
+   * storing nothing between them
+   */
+  public MutationCoverageDaemon(ServerSocket socket, PluginServices plugins,
+      String token) {
+    this(socket, plugins, token, Optional.empty());
+  }
+
+  /**
+   * Creates a daemon that runs requests carrying the supplied token, keeping
+   * history and cached results for each module within the supplied directory
+   */
+  public MutationCoverageDaemon(ServerSocket socket, PluginServices plugins,
+      String token, File storageDir) {
+    this(socket, plugins, token, Optional.of(storageDir));
+  }
+
+  private MutationCoverageDaemon(ServerSocket socket, PluginServices plugins,
+      String token, Optional<File> storageDir) {
+    this.socket = socket;
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+    this.plugins = plugins;
+    this.parser = new OptionsParser(new PluginFilter(plugins));
+    this.storageDir = storageDir;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage : MutationCoverageDaemon port [storageDir]");
+      System.exit(1);
+    }
+    final int port = Integer.parseInt(args[0]);
+
+    try (ServerSocket socket = new ServerSocket(port, 50,
+        InetAddress.getLoopbackAddress())) {
+      LOG.info("Daemon listening on port " + socket.getLocalPort());
+      final String token = newToken();
+      final File tokenFile = tokenFile(socket.getLocalPort());
+      writeToken(tokenFile, token);
+      LOG.info("Request token written to " + tokenFile);
+      final PluginServices plugins = PluginServices.makeForContextLoader();
+      if (args.length > 1) {
+        final File storageDir = new File(args[1]).getAbsoluteFile();
+        LOG.info("Keeping history and cached results in " + storageDir);
+        new MutationCoverageDaemon(socket, plugins, token, storageDir).run();
+      } else {
+        new MutationCoverageDaemon(socket, plugins, token).run();
+      }
+    }
+  }
+
+  /**
+   * File holding the token for the daemon listening on the supplied port
+   */
+  static File tokenFile(int port) {
+    return new File(new File(System.getProperty("user.home"), ".pitest"),
+        "daemon-" + port + ".token");
+  }
+
+  static String newToken() {
+    final byte[] bytes = new byte[TOKEN_BYTES];
+    new SecureRandom().nextBytes(bytes);
+    return String.format("%064x", new BigInteger(1, bytes));
+  }
+
+  /**
+   * Writes the token to a file that only the owner can read, replacing any
+   * left by an earlier daemon on the same port
+   */
+  static void writeToken(File file, String token) throws IOException {
+    final Path path = file.toPath();
+    Files.createDirectories(path.getParent());
+    Files.deleteIfExists(path);
+    if (FileSystems.getDefault().supportedFileAttributeViews()
+        .contains("posix")) {
+      Files.createFile(path, PosixFilePermissions
+          .asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    } else {
+      Files.createFile(path);
+      file.setReadable(false, false);
+      file.setWritable(false, false);
+      file.setReadable(true, true);
+      file.setWritable(true, true);
+    }
+    Files.write(path, token.getBytes(StandardCharsets.UTF_8));
+    file.deleteOnExit();
+  }
+
+  /**
+   * Handles requests until the server socket is closed
+   */
+  public void run() {
+    while (!this.socket.isClosed()) {
+      try (Socket connection = this.socket.accept()) {
+        handle(connection);
+      } catch (final IOException e) {
+        if (!this.socket.isClosed()) {
+          LOG.log(Level.WARNING, "Error handling request", e);
+        }
+      }
+    }
+  }
+
+  private void handle(Socket connection) throws IOException {
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        connection.getInputStream());
+    final SafeDataOutputStream dos = new SafeDataOutputStream(
+        connection.getOutputStream());
+
+    final byte[] supplied = dis.readString().getBytes(StandardCharsets.UTF_8);
+    if (!MessageDigest.isEqual(this.token, supplied)) {
+      LOG.warning("Rejected request without the daemon's token");
+      dos.writeBoolean(false);
+      dos.writeString("request did not carry the daemon's token");
+      dos.flush();
+      return;
+    }
+
+    final File baseDir = new File(dis.readString());
+    final int numberOfArgs = dis.readInt();
+    final List<String> args = new ArrayList<>(numberOfArgs);
+    for (int i = 0; i != numberOfArgs; i++) {
+      args.add(dis.readString());
+    }
+
+    String message;
+    boolean ok;
+    try {
+      message = runRequest(baseDir, args.toArray(new String[0]));
+      ok = true;
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Request failed", e);
+      message = String.valueOf(e.getMessage());
+      ok = false;
+    }
+
+    dos.writeBoolean(ok);
+    dos.writeString(message);
+    dos.flush();
+  }
+
+  String runRequest(File baseDir, String[] args) {
+    final ParseResult pr = this.parser.parse(args);
+    if (!pr.isOk()) {
+      throw new IllegalArgumentException(pr.getErrorMessage().get());
+    }
+
+    final ReportOptions data = pr.getOptions();
+    resolvePaths(baseDir, data);
+    useDaemonStorage(data);
+
+    final AnalysisResult result = new EntryPoint().execute(baseDir, data,
+        this.plugins, new HashMap<>());
+    if (result.getError().isPresent()) {
+      throw Unchecked.translateCheckedException(result.getError().get());
+    }
+    final CombinedStatistics stats = result.getStatistics().get();
+    MutationCoverageReport.checkThresholds(stats, data);
+
+    return "Generated " + stats.getMutationStatistics().getTotalMutations()
+        + " mutations Killed "
+        + stats.getMutationStatistics().getTotalDetectedMutations() + " ("
+        + stats.getMutationStatistics().getPercentageDetected() + "%)";
+  }
+
+  /**
+   * Resolves the relative paths in the options against the client's base
+   * directory rather than the daemon's working directory
+   */
+  static void resolvePaths(File baseDir, ReportOptions data) {
+    if (data.getReportDir() != null) {
+      data.setReportDir(resolve(baseDir, data.getReportDir()));
+    }
+    if (data.getSourceDirs() != null) {
+      data.setSourceDirs(data.getSourceDirs().stream()
+          .map(f -> resolve(baseDir, f)).collect(Collectors.toList()));
+    }
+    if (data.getClassPathElements() != null) {
+      data.setClassPathElements(resolveAll(baseDir,
+          data.getClassPathElements()));
+    }
+    if (data.getCodePaths() != null) {
+      data.setCodePaths(resolveAll(baseDir, data.getCodePaths()));
+    }
+    data.setHistoryInputLocation(resolve(baseDir,
+        data.getHistoryInputLocation()));
+    data.setHistoryOutputLocation(resolve(baseDir,
+        data.getHistoryOutputLocation()));
+    data.setResultCacheLocation(resolve(baseDir,
+        data.getResultCacheLocation()));
+    data.setInstrumentationCacheLocation(resolve(baseDir,
+        data.getInstrumentationCacheLocation()));
+    data.setResultSpillLocation(resolve(baseDir,
+        data.getResultSpillLocation()));
+    // a bare executable name is looked up on the path
+    if (data.getJavaExecutable() != null
+        && data.getJavaExecutable().contains(File.separator)) {
+      data.setJavaExecutable(resolve(baseDir, data.getJavaExecutable()));
+    }
+  }
+
+  private static List<String> resolveAll(File baseDir,
+      Collection<String> paths) {
+    return paths.stream().map(p -> resolve(baseDir, p))
+        .collect(Collectors.toList());
+  }
+
+  private static String resolve(File baseDir, String path) {
+    return resolve(baseDir, new File(path)).getPath();
+  }
+
+  private static File resolve(File baseDir, File path) {
+    if (path == null || path.isAbsolute()) {
+      return path;
+    }
+    return new File(baseDir, path.getPath());
+  }
+
+  void useDaemonStorage(ReportOptions data) {
+    if (!this.storageDir.isPresent()) {
+      return;
+    }
+    final File moduleDir = new File(this.storageDir.get(), moduleKey(data));
+    if (data.getHistoryInputLocation() == null
+        && data.getHistoryOutputLocation() == null) {
+      final File history = new File(moduleDir, "history.bin");
+      LOG.info("Using daemon history " + history);
+      data.setHistoryInputLocation(history);
+      data.setHistoryOutputLocation(history);
+    }
+    if (data.getResultCacheLocation() == null) {
+      final File results = new File(moduleDir, "results");
+      LOG.info("Using daemon result cache " + results);
+      data.setResultCacheLocation(results);
+    }
+  }
+
+  /**
+   * Identifies a module by the paths of the code it mutates and the classes
+   * targeted
+   */
+  static String moduleKey(ReportOptions data) {
+    final List<String> parts = new ArrayList<>();
+    parts.addAll(data.getCodePaths() != null ? data.getCodePaths()
+        : data.getClassPathElements());
+    parts.addAll(data.getTargetClasses());
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      for (final String each : parts) {
+        md.update(each.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+      }
+      return String.format("%064x", new BigInteger(1, md.digest()))
+          .substring(0, 16);
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Submits a run to a {@link MutationCoverageDaemon} on the local machine. All
+ * arguments after the port are passed to the daemon unchanged and take the
+ * same form as those for {@link MutationCoverageReport}. The daemon's token is
+ * read from the file it wrote on starting.
+ *
+ * Usage : MutationCoverageDaemonClient port [options]
+ */
+public class MutationCoverageDaemonClient {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage : MutationCoverageDaemonClient port [options]");
+      System.exit(1);
+    }
+    final int port = Integer.parseInt(args[0]);
+    final String[] runArgs = Arrays.copyOfRange(args, 1, args.length);
+    final String token = new String(Files.readAllBytes(
+        MutationCoverageDaemon.tokenFile(port).toPath()),
+        StandardCharsets.UTF_8).trim();
+
+    try (Socket s = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          s.getOutputStream());
+      dos.writeString(token);
+      dos.writeString(System.getProperty("user.dir"));
+      dos.writeInt(runArgs.length);
+      for (final String each : runArgs) {
+        dos.writeString(each);
+      }
+      dos.flush();
+
+      final SafeDataInputStream dis = new SafeDataInputStream(
+          s.getInputStream());
+      final boolean ok = dis.readBoolean();
+      final String message = dis.readString();
+      if (!ok) {
+        throw new RuntimeException(message);
+      }
+      System.out.println(message);
+    }
+  }
+
+}
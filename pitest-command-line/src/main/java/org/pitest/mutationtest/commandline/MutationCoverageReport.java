@@ -44,17 +44,21 @@ public class MutationCoverageReport {
 
       final CombinedStatistics stats = runReport(data, plugins);
 
-      throwErrorIfScoreBelowCoverageThreshold(stats.getCoverageSummary(),
-          data.getCoverageThreshold());
-      throwErrorIfScoreBelowTestStrengthThreshold(stats.getMutationStatistics(),
-              data.getTestStrengthThreshold());
-      throwErrorIfScoreBelowMutationThreshold(stats.getMutationStatistics(),
-          data.getMutationThreshold());
-      throwErrorIfMoreThanMaxSurvivingMutants(stats.getMutationStatistics(), data.getMaximumAllowedSurvivors());
+      checkThresholds(stats, data);
     }
 
   }
 
+  static void checkThresholds(CombinedStatistics stats, ReportOptions data) {
+    throwErrorIfScoreBelowCoverageThreshold(stats.getCoverageSummary(),
+        data.getCoverageThreshold());
+    throwErrorIfScoreBelowTestStrengthThreshold(stats.getMutationStatistics(),
+            data.getTestStrengthThreshold());
+    throwErrorIfScoreBelowMutationThreshold(stats.getMutationStatistics(),
+        data.getMutationThreshold());
+    throwErrorIfMoreThanMaxSurvivingMutants(stats.getMutationStatistics(), data.getMaximumAllowedSurvivors());
+  }
+
   private static void throwErrorIfScoreBelowCoverageThreshold(
       CoverageSummary stats, int threshold) {
     if ((threshold != 0) && (stats.getCoverage() < threshold)) {
@@ -42,6 +42,7 @@ import java.util.Properties;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import static org.pitest.mutationtest.config.ConfigOption.ADAPTIVE_TIMEOUTS;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
@@ -54,6 +55,7 @@ import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_TIMELINE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
@@ -65,12 +67,19 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPA
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.INSTRUMENTATION_CACHE_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.INSTRUMENTATION_CACHE_MAX_SIZE;
+import static org.pitest.mutationtest.config.ConfigOption.RESULT_SPILL_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_MEMORY_BUDGET;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.REMOTE_AGENTS;
+import static org.pitest.mutationtest.config.ConfigOption.RESULT_CACHE_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.RESULT_CACHE_MAX_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
@@ -82,6 +91,7 @@ import static org.pitest.mutationtest.config.ConfigOption.THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
+import static org.pitest.mutationtest.config.ConfigOption.SPLIT_CLASS_FIXTURES;
 import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
@@ -132,11 +142,21 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Integer> maxSurvivingSpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportTimelineSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> adaptiveTimeoutsSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> useClasspathJarSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> splitClassFixturesSpec;
+  private final OptionSpec<String>                   remoteAgentsSpec;
+  private final OptionSpec<File>                     resultCacheLocationSpec;
+  private final OptionSpec<Long>                     resultCacheMaxSizeSpec;
+  private final OptionSpec<Long>                     minionMemoryBudgetSpec;
+  private final OptionSpec<File>                     instrumentationCacheLocationSpec;
+  private final OptionSpec<Long>                     instrumentationCacheMaxSizeSpec;
+  private final OptionSpec<File>                     resultSpillLocationSpec;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
 
@@ -263,10 +283,34 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.exportTimelineSpec = parserAccepts(EXPORT_TIMELINE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to write a json timeline of the run to disk");
+
+    this.adaptiveTimeoutsSpec = parserAccepts(ADAPTIVE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to derive timeouts from test durations recorded in history");
+
     this.useClasspathJarSpec = parserAccepts(USE_CLASSPATH_JAR)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
         .describedAs("support large classpaths by creating a classpath jar");
+
+    this.splitClassFixturesSpec = parserAccepts(SPLIT_CLASS_FIXTURES)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("run only the covering methods of JUnit 4 classes with class level fixtures");
     
+    this.remoteAgentsSpec = parserAccepts(REMOTE_AGENTS).withRequiredArg()
+        .ofType(String.class).withValuesSeparatedBy(',')
+        .describedAs("comma separated list of host:port addresses of remote agents to run minions on."
+            + " Remote minions accept only -Xmx, -Xms, -Xss, -XX:MaxMetaspaceSize,"
+            + " -XX:MaxDirectMemorySize and -Djava.awt.headless=true as jvm arguments");
+
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
         .describedAs("whether or not to analyse launch classpath");    
@@ -335,6 +379,33 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.resultCacheLocationSpec = parserAccepts(RESULT_CACHE_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to cache mutation results by content");
+
+    this.resultCacheMaxSizeSpec = parserAccepts(RESULT_CACHE_MAX_SIZE)
+        .withRequiredArg().ofType(Long.class)
+        .describedAs("Maximum size of the result cache in megabytes")
+        .defaultsTo(RESULT_CACHE_MAX_SIZE.getDefault(Long.class));
+
+    this.minionMemoryBudgetSpec = parserAccepts(MINION_MEMORY_BUDGET)
+        .withRequiredArg().ofType(Long.class)
+        .describedAs("Megabytes of memory minions may reserve between them")
+        .defaultsTo(MINION_MEMORY_BUDGET.getDefault(Long.class));
+
+    this.instrumentationCacheLocationSpec = parserAccepts(INSTRUMENTATION_CACHE_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to cache classes instrumented for coverage");
+
+    this.instrumentationCacheMaxSizeSpec = parserAccepts(INSTRUMENTATION_CACHE_MAX_SIZE)
+        .withRequiredArg().ofType(Long.class)
+        .describedAs("Maximum size of the instrumentation cache in megabytes")
+        .defaultsTo(INSTRUMENTATION_CACHE_MAX_SIZE.getDefault(Long.class));
+
+    this.resultSpillLocationSpec = parserAccepts(RESULT_SPILL_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to spill results until reports are written");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -414,6 +485,9 @@ public class OptionsParser {
         .valueOf(this.includeLaunchClasspathSpec));
 
     data.setUseClasspathJar(userArgs.valueOf(useClasspathJarSpec));
+    data.setSplitClassFixtures(userArgs.has(this.splitClassFixturesSpec)
+        && userArgs.valueOf(this.splitClassFixturesSpec));
+    data.setRemoteAgents(this.remoteAgentsSpec.values(userArgs));
     
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
@@ -435,6 +509,12 @@ public class OptionsParser {
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setResultCacheLocation(this.resultCacheLocationSpec.value(userArgs));
+    data.setResultCacheMaxSize(this.resultCacheMaxSizeSpec.value(userArgs));
+    data.setMinionMemoryBudget(this.minionMemoryBudgetSpec.value(userArgs));
+    data.setInstrumentationCacheLocation(this.instrumentationCacheLocationSpec.value(userArgs));
+    data.setInstrumentationCacheMaxSize(this.instrumentationCacheMaxSizeSpec.value(userArgs));
+    data.setResultSpillLocation(this.resultSpillLocationSpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setTestStrengthThreshold(this.testStrengthThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
@@ -445,6 +525,10 @@ public class OptionsParser {
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
         && userArgs.valueOf(this.exportLineCoverageSpec));
+    data.setExportTimeline(userArgs.has(this.exportTimelineSpec)
+        && userArgs.valueOf(this.exportTimelineSpec));
+    data.setAdaptiveTimeouts(userArgs.has(this.adaptiveTimeoutsSpec)
+        && userArgs.valueOf(this.adaptiveTimeoutsSpec));
 
     setClassPath(userArgs, data);
 
@@ -0,0 +1,201 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MutationCoverageDaemonTest {
+
+  @Rule
+  public TemporaryFolder         folder = new TemporaryFolder();
+
+  private static final String    TOKEN  = "secret";
+
+  private ServerSocket           socket;
+  private MutationCoverageDaemon testee;
+
+  @Before
+  public void setUp() throws Exception {
+    this.socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    this.testee = new MutationCoverageDaemon(this.socket,
+        PluginServices.makeForContextLoader(), TOKEN, this.folder.getRoot());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    this.socket.close();
+  }
+
+  @Test
+  public void shouldUseHistoryWithinStorageDirectoryWhenNoneSupplied() {
+    final ReportOptions data = someOptions("com.example.*");
+    this.testee.useDaemonStorage(data);
+
+    assertThat(data.getHistoryInputLocation())
+        .isEqualTo(data.getHistoryOutputLocation());
+    assertThat(data.getHistoryInputLocation().getAbsolutePath())
+        .startsWith(this.folder.getRoot().getAbsolutePath());
+    assertThat(data.getResultCacheLocation().getAbsolutePath())
+        .startsWith(this.folder.getRoot().getAbsolutePath());
+  }
+
+  @Test
+  public void shouldNotReplaceSuppliedHistory() {
+    final ReportOptions data = someOptions("com.example.*");
+    final File history = new File("supplied");
+    data.setHistoryInputLocation(history);
+    this.testee.useDaemonStorage(data);
+
+    assertThat(data.getHistoryInputLocation()).isEqualTo(history);
+    assertThat(data.getHistoryOutputLocation()).isNull();
+  }
+
+  @Test
+  public void shouldNotStoreAnythingWithoutStorageDirectory() {
+    final ReportOptions data = someOptions("com.example.*");
+    new MutationCoverageDaemon(this.socket,
+        PluginServices.makeForContextLoader(), TOKEN).useDaemonStorage(data);
+
+    assertThat(data.getHistoryInputLocation()).isNull();
+    assertThat(data.getHistoryOutputLocation()).isNull();
+    assertThat(data.getResultCacheLocation()).isNull();
+  }
+
+  @Test
+  public void shouldResolveRelativePathsAgainstClientBaseDirectory() {
+    final File baseDir = this.folder.getRoot();
+    final ReportOptions data = someOptions("com.example.*");
+    data.setReportDir("target/pit-reports");
+    data.setSourceDirs(Collections.singletonList(new File("src/main/java")));
+    data.setCodePaths(Collections.singletonList("target/classes"));
+    data.setHistoryInputLocation(new File("history.bin"));
+    data.setResultCacheLocation(new File("target/results"));
+
+    MutationCoverageDaemon.resolvePaths(baseDir, data);
+
+    assertThat(data.getReportDir())
+        .isEqualTo(new File(baseDir, "target/pit-reports").getPath());
+    assertThat(data.getSourceDirs())
+        .containsExactly(new File(baseDir, "src/main/java"));
+    assertThat(data.getClassPathElements())
+        .containsExactly(new File(baseDir, "target/classes").getPath());
+    assertThat(data.getCodePaths())
+        .containsExactly(new File(baseDir, "target/classes").getPath());
+    assertThat(data.getHistoryInputLocation())
+        .isEqualTo(new File(baseDir, "history.bin"));
+    assertThat(data.getHistoryOutputLocation()).isNull();
+    assertThat(data.getResultCacheLocation())
+        .isEqualTo(new File(baseDir, "target/results"));
+  }
+
+  @Test
+  public void shouldLeaveAbsolutePathsUnchanged() {
+    final File absolute = new File(this.folder.getRoot(), "classes");
+    final ReportOptions data = someOptions("com.example.*");
+    data.setClassPathElements(Arrays.asList(absolute.getPath()));
+
+    MutationCoverageDaemon.resolvePaths(new File("elsewhere"), data);
+
+    assertThat(data.getClassPathElements())
+        .containsExactly(absolute.getPath());
+  }
+
+  @Test
+  public void shouldGiveDifferentModulesDifferentKeys() {
+    assertThat(MutationCoverageDaemon.moduleKey(someOptions("com.example.*")))
+        .isEqualTo(MutationCoverageDaemon.moduleKey(someOptions("com.example.*")))
+        .isNotEqualTo(MutationCoverageDaemon.moduleKey(someOptions("com.other.*")));
+  }
+
+  @Test
+  public void shouldReportInvalidRequestsToClient() throws Exception {
+    startDaemon();
+
+    try (Socket s = new Socket(InetAddress.getLoopbackAddress(),
+        this.socket.getLocalPort())) {
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          s.getOutputStream());
+      dos.writeString(TOKEN);
+      dos.writeString(this.folder.getRoot().getAbsolutePath());
+      dos.writeInt(1);
+      dos.writeString("--notAnOption");
+      dos.flush();
+
+      final SafeDataInputStream dis = new SafeDataInputStream(
+          s.getInputStream());
+      assertThat(dis.readBoolean()).isFalse();
+      assertThat(dis.readString()).contains("notAnOption");
+    }
+  }
+
+  @Test
+  public void shouldRejectRequestsWithoutToken() throws Exception {
+    startDaemon();
+
+    try (Socket s = new Socket(InetAddress.getLoopbackAddress(),
+        this.socket.getLocalPort())) {
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          s.getOutputStream());
+      dos.writeString("guess");
+      dos.flush();
+
+      final SafeDataInputStream dis = new SafeDataInputStream(
+          s.getInputStream());
+      assertThat(dis.readBoolean()).isFalse();
+      assertThat(dis.readString()).contains("token");
+    }
+  }
+
+  @Test
+  public void shouldWriteTokenReadableOnlyByOwner() throws Exception {
+    final File file = new File(this.folder.getRoot(), "dir/daemon.token");
+    MutationCoverageDaemon.writeToken(file, "abc");
+
+    assertThat(file).hasContent("abc");
+    if (FileSystems.getDefault().supportedFileAttributeViews()
+        .contains("posix")) {
+      assertThat(Files.getPosixFilePermissions(file.toPath()))
+          .containsOnly(PosixFilePermission.OWNER_READ,
+              PosixFilePermission.OWNER_WRITE);
+    }
+  }
+
+  @Test
+  public void shouldGenerateDifferentTokens() {
+    assertThat(MutationCoverageDaemon.newToken())
+        .hasSize(64)
+        .isNotEqualTo(MutationCoverageDaemon.newToken());
+  }
+
+  private void startDaemon() {
+    final Thread daemon = new Thread(() -> this.testee.run());
+    daemon.setDaemon(true);
+    daemon.start();
+  }
+
+  private static ReportOptions someOptions(String targetClasses) {
+    final ReportOptions data = new ReportOptions();
+    data.setClassPathElements(Arrays.asList("target/classes"));
+    data.setTargetClasses(Collections.singletonList(targetClasses));
+    return data;
+  }
+
+}
@@ -476,6 +476,64 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldParseExportTimelineFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportTimeline");
+    assertTrue(actual.shouldExportTimeline());
+  }
+
+  @Test
+  public void shouldNotExportTimelineWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportTimeline());
+  }
+
+  @Test
+  public void shouldParseAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--adaptiveTimeouts");
+    assertTrue(actual.useAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldNotUseAdaptiveTimeoutsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldParseMinionMemoryBudget() {
+    final ReportOptions actual = parseAddingRequiredArgs("--minionMemoryBudget",
+        "4096");
+    assertEquals(4096L, actual.getMinionMemoryBudget());
+  }
+
+  @Test
+  public void shouldNotBudgetMinionMemoryByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0L, actual.getMinionMemoryBudget());
+  }
+
+  @Test
+  public void shouldParseInstrumentationCacheLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--instrumentationCacheLocation", "foo");
+    assertEquals(new File("foo"), actual.getInstrumentationCacheLocation());
+  }
+
+  @Test
+  public void shouldParseInstrumentationCacheMaxSize() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--instrumentationCacheMaxSize", "64");
+    assertEquals(64L, actual.getInstrumentationCacheMaxSize());
+  }
+
+  @Test
+  public void shouldParseResultSpillLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--resultSpillLocation", "foo");
+    assertEquals(new File("foo"), actual.getResultSpillLocation());
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -556,6 +614,18 @@ public class OptionsParserTest {
     final ReportOptions actual = parseAddingRequiredArgs("--fullMutationMatrix=true");
     assertTrue(actual.isFullMutationMatrix());
   }
+
+  @Test
+  public void shouldNotSplitClassFixturesByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.splitClassFixtures());
+  }
+
+  @Test
+  public void shouldParseSplitClassFixturesFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--splitClassFixtures");
+    assertTrue(actual.splitClassFixtures());
+  }
   
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
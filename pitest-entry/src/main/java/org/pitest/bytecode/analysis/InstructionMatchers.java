@@ -41,12 +41,12 @@ public class InstructionMatchers {
   }
   
   public static Match<AbstractInsnNode> opCode(final int opcode) {
-    return (c, a) -> a.getOpcode() == opcode;
+    return Match.of(a -> a.getOpcode() == opcode);
   }
 
   public static <T extends AbstractInsnNode> Match<AbstractInsnNode> isA(
       final Class<T> cls) {
-    return (c, a) -> a.getClass().isAssignableFrom(cls);
+    return Match.of(a -> a.getClass().isAssignableFrom(cls));
   }
 
   public static Match<AbstractInsnNode> incrementsVariable(final SlotRead<Integer> counterVariable) {
@@ -100,9 +100,9 @@ public class InstructionMatchers {
   }
 
   public static Match<AbstractInsnNode> aConditionalJump() {
-    return (c, t) -> (t instanceof JumpInsnNode)
+    return Match.of(t -> (t instanceof JumpInsnNode)
         && (t.getOpcode() != Opcodes.GOTO)
-        && (t.getOpcode() != Opcodes.JSR);
+        && (t.getOpcode() != Opcodes.JSR));
   }
 
   public static Match<AbstractInsnNode> aConditionalJumpTo(Slot<LabelNode> label) {
@@ -121,12 +121,12 @@ public class InstructionMatchers {
   }
 
   public static  Match<AbstractInsnNode> methodCallThatReturns(final ClassName type) {
-    return (c, t) -> {
+    return Match.of(t -> {
       if ( t instanceof MethodInsnNode ) {
         return ((MethodInsnNode) t).desc.endsWith(type.asInternalName() + ";");
       }
       return false;
-    };
+    });
   }
 
   public static  Match<AbstractInsnNode> methodCall() {
@@ -134,23 +134,23 @@ public class InstructionMatchers {
   }
   
   public static Match<AbstractInsnNode> methodCallNamed(String name) {
-    return (c, t) -> {
+    return Match.of(t -> {
       if ( t instanceof MethodInsnNode ) {
         final MethodInsnNode call = (MethodInsnNode) t;
         return call.name.equals(name);
       }
       return false;
-    };
+    });
   }
 
   public static  Match<AbstractInsnNode> methodCallTo(final ClassName owner, final String name) {
-    return (c, t) -> {
+    return Match.of(t -> {
       if ( t instanceof MethodInsnNode ) {
         final MethodInsnNode call = (MethodInsnNode) t;
         return call.name.equals(name) && call.owner.equals(owner.asInternalName());
       }
       return false;
-    };
+    });
   }
 
 
@@ -159,13 +159,13 @@ public class InstructionMatchers {
   }
 
   public static Match<AbstractInsnNode> getStatic(String owner, String field) {
-    return (c, t) -> {
+    return Match.of(t -> {
        if (t instanceof FieldInsnNode) {
          FieldInsnNode fieldNode = (FieldInsnNode) t;
          return t.getOpcode() == Opcodes.GETSTATIC && fieldNode.name.equals(field) && fieldNode.owner.equals(owner);
        }
        return false;
-    };
+    });
   }
 
   /**
@@ -0,0 +1,96 @@
+package org.pitest.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.util.Unchecked;
+
+/**
+ * Digest of the content of a classpath. Paths are not included, so copies
+ * of the same classpath in different locations or on different machines
+ * produce the same digest.
+ */
+public final class ClassPathDigest {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private ClassPathDigest() {
+  }
+
+  public static String digest(String classPath) {
+    return digest(classPath.split(File.pathSeparator));
+  }
+
+  public static String digest(String... elements) {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      for (final String each : elements) {
+        if (!each.isEmpty()) {
+          digestElement(md, new File(each).toPath());
+        }
+      }
+      return toHex(md.digest());
+    } catch (final NoSuchAlgorithmException | IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void digestElement(MessageDigest md, Path element)
+      throws IOException {
+    if (Files.isDirectory(element)) {
+      md.update((byte) 'd');
+      for (final Path each : filesBelow(element)) {
+        md.update(relativeName(element, each).getBytes(StandardCharsets.UTF_8));
+        digestContent(md, each);
+      }
+    } else if (Files.exists(element)) {
+      md.update((byte) 'f');
+      digestContent(md, element);
+    } else {
+      md.update((byte) 'm');
+    }
+  }
+
+  private static List<Path> filesBelow(Path dir) throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      return files.filter(Files::isRegularFile)
+          .sorted(Comparator.comparing(f -> relativeName(dir, f)))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static String relativeName(Path root, Path file) {
+    return root.relativize(file).toString().replace(File.separatorChar, '/');
+  }
+
+  private static void digestContent(MessageDigest md, Path file)
+      throws IOException {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream is = Files.newInputStream(file)) {
+      int read = is.read(buffer);
+      while (read != -1) {
+        md.update(buffer, 0, read);
+        read = is.read(buffer);
+      }
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    final StringBuilder sb = new StringBuilder(bytes.length * 2);
+    for (final byte each : bytes) {
+      sb.append(String.format("%02x", each));
+    }
+    return sb.toString();
+  }
+
+}
@@ -102,6 +102,11 @@ public class CoverageData implements CoverageDatabase {
     return failingTestDescriptions;
   }
 
+  @Override
+  public Set<Integer> getCoveredLines(final ClassName clazz) {
+    return legacyClassCoverage.getCoveredLines(clazz);
+  }
+
   @Override
   public Collection<ClassInfo> getClassInfo(final Collection<ClassName> classes) {
     return this.code.getClassInfo(classes);
@@ -76,6 +76,13 @@ public class LegacyClassCoverage implements ReportCoverage {
         }
     }
 
+    @Override
+    public Set<Integer> getCoveredLines(ClassName clazz) {
+        return getLineCoverageForClassName(clazz).keySet().stream()
+                .map(ClassLine::getLineNumber)
+                .collect(Collectors.toSet());
+    }
+
     public Collection<TestInfo> getTestsForClass(ClassName clazz) {
         return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap()).values().stream()
                 .flatMap(s -> s.stream())
@@ -6,6 +6,7 @@ import org.pitest.classinfo.ClassName;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 
 public class NoCoverage implements CoverageDatabase {
     @Override
@@ -33,6 +34,11 @@ public class NoCoverage implements CoverageDatabase {
         return Collections.emptyList();
     }
 
+    @Override
+    public Set<Integer> getCoveredLines(ClassName clazz) {
+        return Collections.emptySet();
+    }
+
     @Override
     public BigInteger getCoverageIdForClass(ClassName clazz) {
         return BigInteger.ZERO;
@@ -4,6 +4,7 @@ import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 
 import java.util.Collection;
+import java.util.Set;
 
 /**
  * Subset of coverage interface used by legacy html report
@@ -15,6 +16,11 @@ public interface ReportCoverage {
 
     Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
+    /**
+     * Lines of the class that were covered by at least one test
+     */
+    Set<Integer> getCoveredLines(ClassName clazz);
+
     Collection<ClassInfo> getClassesForFile(String sourceFile, String packageName);
 
 }
@@ -18,25 +18,37 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.dependency.ProjectDependencies;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.TestClassHistory;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.incremental.NullHistoryStore;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.testapi.Description;
@@ -60,11 +72,38 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final Verbosity        verbosity;
+  private final HistoryStore     history;
+  private final Function<ClassName, Set<ClassName>> projectDependencies;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, Verbosity verbosity) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, new NullHistoryStore());
+  }
+
+  /**
+   * Creates a generator that replays coverage recorded in the supplied
+   * history for test classes that, along with every class they cover and
+   * every project class they reach through calls and field accesses, are
+   * unchanged, and runs only the remaining tests.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, HistoryStore history) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, history, new ProjectDependencies(code)::dependenciesOf);
+  }
+
+  DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, HistoryStore history,
+      Function<ClassName, Set<ClassName>> projectDependencies) {
+    this.history = history;
+    this.projectDependencies = projectDependencies;
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -119,11 +158,107 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private void gatherCoverageData(final Collection<ClassInfo> tests,
       final CoverageData coverage) throws IOException, InterruptedException {
 
+    final Consumer<CoverageResult> handler = resultProcessor(coverage);
+
+    final Map<ClassName, TestClassHistory> previous = this.history
+        .getHistoricTestCoverage();
+    final Set<ClassName> codeUnderTest = this.code.getCodeUnderTestNames();
+    final List<TestClassHistory> reused = new ArrayList<>();
+    final List<ClassInfo> toRun = new ArrayList<>();
+    for (final ClassInfo each : tests) {
+      final TestClassHistory stored = previous.get(each.getName());
+      if (stored != null && isUnchanged(each, stored, codeUnderTest)) {
+        reused.add(stored);
+      } else {
+        toRun.add(each);
+      }
+    }
+
+    if (!reused.isEmpty()) {
+      LOG.info("Reusing stored coverage for " + reused.size() + " of "
+          + tests.size() + " test classes");
+    }
+    final Set<String> allTests = new HashSet<>();
+    final Consumer<CoverageResult> recordName = r -> allTests
+        .add(r.getTestUnitDescription().getQualifiedName());
+    for (final TestClassHistory each : reused) {
+      each.toCoverageResults().forEach(handler.andThen(recordName));
+    }
+
+    final List<CoverageResult> fresh = new ArrayList<>();
+    if (!toRun.isEmpty() || reused.isEmpty()) {
+      runCoverage(toRun, handler.andThen(fresh::add).andThen(recordName));
+    }
+
+    final List<TestClassHistory> current = new ArrayList<>(reused);
+    current.addAll(createHistory(toRun, fresh));
+    this.history.recordTestCoverage(current);
+    // only fresh results are new measurements, reused ones are already held
+    this.history.recordTestDurations(this.history.getTestDurations()
+        .retainTests(allTests).withSamples(fresh));
+  }
+
+  private boolean isUnchanged(final ClassInfo test,
+      final TestClassHistory stored, final Set<ClassName> codeUnderTest) {
+    if (!test.getHierarchicalId().equals(stored.getId())) {
+      return false;
+    }
+    for (final ClassIdentifier each : stored.getCoveredClasses()) {
+      if (!codeUnderTest.contains(each.getName()) || !isCurrent(each)) {
+        return false;
+      }
+    }
+    // while the test class and the classes it reaches are unchanged it can
+    // reach no others. Classes reached only by reflection, and resources, are
+    // not tracked.
+    return stored.getDependencies()
+        .map(d -> d.stream().allMatch(this::isCurrent))
+        .orElse(false);
+  }
+
+  private boolean isCurrent(final ClassIdentifier id) {
+    final Optional<ClassInfo> current = this.code.fetchClass(id.getName());
+    return current.isPresent() && current.get().getId().equals(id);
+  }
+
+  private List<TestClassHistory> createHistory(final List<ClassInfo> run,
+      final List<CoverageResult> results) {
+    final Map<ClassName, List<CoverageResult>> byTestClass = TestClassHistory
+        .groupByTestClass(results);
+    final Set<ClassName> runNames = FCollection.map(run, ClassInfo.toClassName())
+        .stream().collect(Collectors.toSet());
+
+    // if some results cannot be tied to a class we ran, we cannot be sure a
+    // class without results of its own really has no tests
+    final boolean allAttributed = runNames.containsAll(byTestClass.keySet());
+
+    final List<TestClassHistory> histories = new ArrayList<>();
+    for (final ClassInfo each : run) {
+      final List<CoverageResult> testResults = byTestClass.getOrDefault(
+          each.getName(), Collections.emptyList());
+      if (testResults.isEmpty() && !allAttributed) {
+        continue;
+      }
+      if (testResults.stream().allMatch(CoverageResult::isGreenTest)) {
+        final Collection<ClassIdentifier> covered = FCollection.map(
+            this.code.getClassInfo(TestClassHistory.coveredClassNames(testResults)),
+            ClassInfo::getId);
+        final Collection<ClassIdentifier> dependencies = FCollection.map(
+            this.code.getClassInfo(this.projectDependencies.apply(each.getName())),
+            ClassInfo::getId);
+        histories.add(TestClassHistory.create(each.getHierarchicalId(), covered,
+            dependencies, testResults));
+      }
+    }
+    return histories;
+  }
+
+  void runCoverage(final Collection<ClassInfo> tests,
+      final Consumer<CoverageResult> handler) throws IOException, InterruptedException {
+
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final Consumer<CoverageResult> handler = resultProcessor(coverage);
-
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
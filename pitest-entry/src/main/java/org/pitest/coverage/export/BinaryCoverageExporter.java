@@ -0,0 +1,62 @@
+package org.pitest.coverage.export;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.CompactOutput;
+import org.pitest.util.Unchecked;
+
+/**
+ * Exports block coverage to linecoverage.bin in the compact binary format
+ */
+public class BinaryCoverageExporter implements CoverageExporter {
+
+  public static final String         FILE_NAME = "linecoverage.bin";
+
+  static final int                   TYPE      = 2;
+  static final int                   VERSION   = 1;
+
+  private final BinaryResultOutputStrategy outputStrategy;
+
+  public BinaryCoverageExporter(
+      final BinaryResultOutputStrategy outputStrategy) {
+    this.outputStrategy = outputStrategy;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    try (CompactOutput out = new CompactOutput(
+        this.outputStrategy.createOutputStreamForFile(FILE_NAME), TYPE,
+        VERSION)) {
+      for (final BlockCoverage each : coverage) {
+        writeBlock(out, each);
+      }
+      out.endRecords();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void writeBlock(final CompactOutput out, final BlockCoverage each)
+      throws IOException {
+    final Location l = each.getBlock().getLocation();
+    out.startRecord();
+    out.writeString(l.getClassName().asJavaName());
+    out.writeString(l.getMethodName());
+    out.writeString(l.getMethodDesc());
+    out.writeInt(each.getBlock().getBlock());
+    out.writeInt(each.getBlock().getFirstInsnInBlock());
+    out.writeInt(each.getBlock().getLastInsnInBlock());
+    final List<String> tests = new ArrayList<>(each.getTests());
+    Collections.sort(tests);
+    out.writeStrings(tests);
+  }
+
+}
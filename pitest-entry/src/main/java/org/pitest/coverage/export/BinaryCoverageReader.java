@@ -0,0 +1,39 @@
+package org.pitest.coverage.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.CompactInput;
+
+/**
+ * Reads block coverage written by {@link BinaryCoverageExporter}
+ */
+public class BinaryCoverageReader {
+
+  public List<BlockCoverage> read(final InputStream stream) throws IOException {
+    final List<BlockCoverage> coverage = new ArrayList<>();
+    try (CompactInput in = new CompactInput(stream,
+        BinaryCoverageExporter.TYPE)) {
+      while (in.hasNext()) {
+        coverage.add(readBlock(in));
+      }
+    }
+    return coverage;
+  }
+
+  private BlockCoverage readBlock(final CompactInput in) throws IOException {
+    final Location location = new Location(
+        ClassName.fromString(in.readString()), in.readString(),
+        in.readString());
+    final BlockLocation block = new BlockLocation(location, in.readInt(),
+        in.readInt(), in.readInt());
+    return new BlockCoverage(block, in.readStrings());
+  }
+
+}
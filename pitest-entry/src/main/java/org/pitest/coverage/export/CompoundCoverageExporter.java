@@ -0,0 +1,23 @@
+package org.pitest.coverage.export;
+
+import java.util.Collection;
+
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageExporter;
+
+public class CompoundCoverageExporter implements CoverageExporter {
+
+  private final Iterable<CoverageExporter> children;
+
+  public CompoundCoverageExporter(final Iterable<CoverageExporter> children) {
+    this.children = children;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    for (final CoverageExporter each : this.children) {
+      each.recordCoverage(coverage);
+    }
+  }
+
+}
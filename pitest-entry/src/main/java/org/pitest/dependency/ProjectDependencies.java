@@ -0,0 +1,76 @@
+package org.pitest.dependency;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.util.Unchecked;
+
+/**
+ * Finds the classes of the project, in either the code or the test tree, that
+ * a class depends on through method calls and field accesses, following the
+ * dependencies of each project class reached. Library classes are assumed
+ * not to change, so are neither followed nor returned.
+ *
+ * The classes reachable from each class are remembered, so an instance should
+ * be shared for the run.
+ */
+public class ProjectDependencies {
+
+  private final CodeSource                  code;
+  private final DependencyExtractor         extractor;
+  private final Predicate<DependencyAccess> withinProject;
+  private volatile Set<String>              projectClasses;
+
+  public ProjectDependencies(final CodeSource code) {
+    this.code = code;
+    this.extractor = new DependencyExtractor(code, 0);
+    this.withinProject = a -> projectClasses()
+        .contains(a.getDest().getOwner());
+  }
+
+  /**
+   * The project classes the supplied class depends on, directly or
+   * indirectly, not including the class itself
+   */
+  public Set<ClassName> dependenciesOf(final ClassName clazz) {
+    try {
+      final Set<ClassName> dependencies = new TreeSet<>();
+      for (final String each : this.extractor.extractCallDependenciesForPackages(
+          clazz.asInternalName(), c -> true, this.withinProject)) {
+        dependencies.add(ClassName.fromString(each));
+      }
+      dependencies.remove(clazz);
+      return Collections.unmodifiableSet(dependencies);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Set<String> projectClasses() {
+    final Set<String> known = this.projectClasses;
+    if (known != null) {
+      return known;
+    }
+    synchronized (this) {
+      if (this.projectClasses != null) {
+        return this.projectClasses;
+      }
+      final Set<String> classes = new HashSet<>();
+      for (final ClassName each : this.code.getProjectPaths().code()) {
+        classes.add(each.asInternalName());
+      }
+      for (final ClassName each : this.code.getProjectPaths().testTree()) {
+        classes.add(each.asInternalName());
+      }
+      this.projectClasses = classes;
+      return classes;
+    }
+  }
+
+}
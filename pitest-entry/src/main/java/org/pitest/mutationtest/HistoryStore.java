@@ -16,8 +16,28 @@ public interface HistoryStore {
 
   void recordResult(MutationResult result);
 
+  void recordTestCoverage(Collection<TestClassHistory> coverage);
+
   Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults();
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  Map<ClassName, TestClassHistory> getHistoricTestCoverage();
+
+  void recordTestDurations(TestDurations durations);
+
+  /**
+   * The test durations most recently recorded, or those read from history if
+   * none have been recorded in this run.
+   */
+  TestDurations getTestDurations();
+
+  void recordMinionHeap(ClassName clazz, long peakBytes);
+
+  /**
+   * The peak heap most recently recorded for minions analysing each class in
+   * previous runs.
+   */
+  Map<ClassName, Long> getHistoricMinionHeaps();
+
 }
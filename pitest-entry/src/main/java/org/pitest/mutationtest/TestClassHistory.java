@@ -0,0 +1,182 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+
+/**
+ * Block coverage recorded for the tests of a single test class, together with
+ * the identities of the test class, of every class its tests touched and of
+ * the project classes, such as helpers and fixtures, the test class reaches
+ * through calls and field accesses. If none of these have changed the
+ * coverage can be replayed instead of re-run.
+ *
+ * Blocks are stored once per test class and referenced by index from each
+ * test, so the record stays small even when many tests cover the same code.
+ */
+public final class TestClassHistory implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int  INTS_PER_BLOCK   = 4;
+
+  private final HierarchicalClassId   testClass;
+  private final List<ClassIdentifier> coveredClasses;
+  // null in histories recorded before dependencies were tracked
+  private final List<ClassIdentifier> dependencies;
+  private final Location[]            locations;
+  // location index, block, first instruction, last instruction
+  private final int[]                 blocks;
+  private final List<TestRecord>      tests;
+
+  private TestClassHistory(HierarchicalClassId testClass,
+      List<ClassIdentifier> coveredClasses, List<ClassIdentifier> dependencies,
+      Location[] locations, int[] blocks, List<TestRecord> tests) {
+    this.testClass = testClass;
+    this.coveredClasses = coveredClasses;
+    this.dependencies = dependencies;
+    this.locations = locations;
+    this.blocks = blocks;
+    this.tests = tests;
+  }
+
+  public static TestClassHistory create(HierarchicalClassId testClass,
+      Collection<ClassIdentifier> coveredClasses,
+      Collection<CoverageResult> results) {
+    return create(testClass, coveredClasses, Collections.emptyList(), results);
+  }
+
+  public static TestClassHistory create(HierarchicalClassId testClass,
+      Collection<ClassIdentifier> coveredClasses,
+      Collection<ClassIdentifier> dependencies,
+      Collection<CoverageResult> results) {
+    final Map<Location, Integer> locationIndex = new LinkedHashMap<>();
+    final Map<BlockLocation, Integer> blockIndex = new LinkedHashMap<>();
+    final List<TestRecord> tests = new ArrayList<>(results.size());
+
+    for (final CoverageResult each : results) {
+      final int[] covered = new int[each.getCoverage().size()];
+      int i = 0;
+      for (final BlockLocation block : each.getCoverage()) {
+        locationIndex.putIfAbsent(block.getLocation(), locationIndex.size());
+        blockIndex.putIfAbsent(block, blockIndex.size());
+        covered[i] = blockIndex.get(block);
+        i++;
+      }
+      tests.add(new TestRecord(each.getTestUnitDescription(),
+          each.getExecutionTime(), each.isGreenTest(), covered));
+    }
+
+    final int[] blocks = new int[blockIndex.size() * INTS_PER_BLOCK];
+    int i = 0;
+    for (final BlockLocation each : blockIndex.keySet()) {
+      blocks[i] = locationIndex.get(each.getLocation());
+      blocks[i + 1] = each.getBlock();
+      blocks[i + 2] = each.getFirstInsnInBlock();
+      blocks[i + 3] = each.getLastInsnInBlock();
+      i = i + INTS_PER_BLOCK;
+    }
+
+    return new TestClassHistory(testClass,
+        new ArrayList<>(coveredClasses), new ArrayList<>(dependencies),
+        locationIndex.keySet().toArray(new Location[0]), blocks, tests);
+  }
+
+  public static Set<ClassName> coveredClassNames(
+      Collection<CoverageResult> results) {
+    return results.stream()
+        .flatMap(r -> r.getCoverage().stream())
+        .map(b -> b.getLocation().getClassName())
+        .collect(Collectors.toSet());
+  }
+
+  public HierarchicalClassId getId() {
+    return this.testClass;
+  }
+
+  public ClassName getName() {
+    return this.testClass.getName();
+  }
+
+  public List<ClassIdentifier> getCoveredClasses() {
+    return Collections.unmodifiableList(this.coveredClasses);
+  }
+
+  /**
+   * The project classes the test class depends on, if they were recorded
+   */
+  public Optional<List<ClassIdentifier>> getDependencies() {
+    return Optional.ofNullable(this.dependencies)
+        .map(Collections::unmodifiableList);
+  }
+
+  public List<CoverageResult> toCoverageResults() {
+    final List<BlockLocation> table = new ArrayList<>(
+        this.blocks.length / INTS_PER_BLOCK);
+    for (int i = 0; i != this.blocks.length; i = i + INTS_PER_BLOCK) {
+      table.add(new BlockLocation(this.locations[this.blocks[i]],
+          this.blocks[i + 1], this.blocks[i + 2], this.blocks[i + 3]));
+    }
+
+    final List<CoverageResult> results = new ArrayList<>(this.tests.size());
+    for (final TestRecord each : this.tests) {
+      final List<BlockLocation> covered = new ArrayList<>(each.blocks.length);
+      for (final int block : each.blocks) {
+        covered.add(table.get(block));
+      }
+      results.add(new CoverageResult(each.description, each.executionTime,
+          each.green, covered));
+    }
+    return results;
+  }
+
+  /**
+   * Groups coverage results by the test class that defines them
+   */
+  public static Map<ClassName, List<CoverageResult>> groupByTestClass(
+      Collection<CoverageResult> results) {
+    final Map<ClassName, List<CoverageResult>> grouped = new HashMap<>();
+    for (final CoverageResult each : results) {
+      final String testClass = each.getTestUnitDescription().getFirstTestClass();
+      if (testClass != null) {
+        grouped.computeIfAbsent(ClassName.fromString(testClass),
+            k -> new ArrayList<>()).add(each);
+      }
+    }
+    return grouped;
+  }
+
+  private static final class TestRecord implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Description description;
+    private final int         executionTime;
+    private final boolean     green;
+    private final int[]       blocks;
+
+    TestRecord(Description description, int executionTime, boolean green,
+        int[] blocks) {
+      this.description = description;
+      this.executionTime = executionTime;
+      this.green = green;
+      this.blocks = blocks;
+    }
+  }
+
+}
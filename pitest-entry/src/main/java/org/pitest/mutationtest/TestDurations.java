@@ -0,0 +1,107 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.pitest.coverage.CoverageResult;
+
+/**
+ * The most recent durations, in milliseconds, measured for each test in the
+ * coverage runs of this and previous analyses.
+ */
+public final class TestDurations implements Serializable {
+
+  private static final long  serialVersionUID = 1L;
+
+  static final int           MAX_SAMPLES      = 10;
+  static final int           MIN_SAMPLES      = 3;
+  static final long          MIN_MARGIN       = 500;
+  private static final int   NOISE_MULTIPLIER = 4;
+  private static final double PERCENTILE      = 0.9d;
+
+  // oldest sample first
+  private final Map<String, int[]> samples;
+
+  private TestDurations(final Map<String, int[]> samples) {
+    this.samples = samples;
+  }
+
+  public static TestDurations empty() {
+    return new TestDurations(new HashMap<>());
+  }
+
+  /**
+   * Adds the durations of the green tests in the supplied results to those
+   * already held, discarding the oldest once a test has the maximum number
+   * of samples.
+   */
+  public TestDurations withSamples(final Collection<CoverageResult> results) {
+    final Map<String, int[]> merged = new HashMap<>(this.samples);
+    for (final CoverageResult each : results) {
+      if (each.isGreenTest()) {
+        merged.merge(each.getTestUnitDescription().getQualifiedName(),
+            new int[] { each.getExecutionTime() }, TestDurations::append);
+      }
+    }
+    return new TestDurations(merged);
+  }
+
+  /**
+   * Discards the durations of tests other than those named, so those of
+   * removed tests are not held indefinitely
+   */
+  public TestDurations retainTests(final Set<String> tests) {
+    final Map<String, int[]> retained = new HashMap<>(this.samples);
+    retained.keySet().retainAll(tests);
+    return new TestDurations(retained);
+  }
+
+  private static int[] append(final int[] existing, final int[] sample) {
+    final int keep = Math.min(existing.length, MAX_SAMPLES - 1);
+    final int[] appended = Arrays.copyOfRange(existing,
+        existing.length - keep, existing.length + 1);
+    appended[keep] = sample[0];
+    return appended;
+  }
+
+  /**
+   * Calculates the time to allow each test that has enough samples. A test is
+   * allowed its 90th percentile duration scaled by the factor, plus a margin
+   * proportional to how far that percentile lies above its median. The margin
+   * is at least MIN_MARGIN and at most the constant, so consistently fast
+   * tests are allowed far less than the constant a single timing requires,
+   * while noisy tests keep a margin of up to the constant.
+   */
+  public Map<String, Long> allowedTimes(final float factor,
+      final long constant) {
+    final Map<String, Long> allowed = new HashMap<>();
+    for (final Entry<String, int[]> each : this.samples.entrySet()) {
+      if (each.getValue().length >= MIN_SAMPLES) {
+        allowed.put(each.getKey(), allowedTime(each.getValue(), factor,
+            constant));
+      }
+    }
+    return allowed;
+  }
+
+  private static long allowedTime(final int[] samples, final float factor,
+      final long constant) {
+    final int[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    final int high = sorted[(int) Math.ceil(PERCENTILE * sorted.length) - 1];
+    final int median = sorted[sorted.length / 2];
+    final long margin = Math.min(constant,
+        Math.max(MIN_MARGIN, (long) NOISE_MULTIPLIER * (high - median)));
+    return Math.round(high * factor) + margin;
+  }
+
+  public int size() {
+    return this.samples.size();
+  }
+
+}
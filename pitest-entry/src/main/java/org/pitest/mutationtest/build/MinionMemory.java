@@ -0,0 +1,201 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.MemoryBudget;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.incremental.NullHistoryStore;
+import org.pitest.process.MinionProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Sizes the heap of each minion from the live heap of earlier minions that
+ * analysed mutants of the same classes, whether earlier in this run or in a
+ * previous one recorded in history, and holds minions back until their memory
+ * fits within the budget.
+ *
+ * The live heap is measured after garbage collection so, unlike the peak
+ * usage, does not grow with the heap a minion is given. Sizing from it
+ * therefore settles rather than creeping up towards the maximum.
+ *
+ * Minions for classes with no recorded peak are given a default heap. When a
+ * minion runs out of memory the mutant it was running is treated as the cause,
+ * and the mutants it did not reach may be run once in a minion with double the
+ * heap. Only the live heap minions report is recorded, so a mutant that
+ * allocates without bound does not inflate the heap later minions are given.
+ */
+public class MinionMemory {
+
+  private static final Logger         LOG      = Log.getLogger();
+
+  static final long                   MB       = 1024 * 1024;
+  static final long                   MIN_HEAP = 128 * MB;
+  private static final double         HEADROOM = 2d;
+
+  private final HistoryStore          history;
+  private final MemoryBudget          budget;
+  private final long                  defaultHeap;
+  private final long                  maxHeap;
+  private final Map<ClassName, Long>  previous;
+  private final Map<ClassName, Long>  current  = new ConcurrentHashMap<>();
+
+  public MinionMemory(final HistoryStore history, final MemoryBudget budget,
+      final long defaultHeap, final long maxHeap) {
+    this.history = history;
+    this.budget = budget;
+    this.defaultHeap = defaultHeap;
+    this.maxHeap = maxHeap;
+    this.previous = history.getHistoricMinionHeaps();
+  }
+
+  /**
+   * Leaves minion heaps to the jvm arguments and starts minions without
+   * regard to memory.
+   */
+  public static MinionMemory unmanaged() {
+    return new MinionMemory(new NullHistoryStore(), null, 0, 0);
+  }
+
+  /**
+   * Shares the budget between the given number of concurrent minions. A heap
+   * size set in the jvm arguments is used for classes with no recorded peak
+   * and caps the heap any minion is given.
+   */
+  public static MinionMemory forBudget(final HistoryStore history,
+      final long budget, final int threads, final List<String> jvmArgs) {
+    final long requested = maxHeapFrom(jvmArgs);
+    final long maxHeap = requested > 0 ? Math.min(requested, budget) : budget;
+    final long share = (budget / Math.max(threads, 1))
+        - MemoryBudget.NON_HEAP_ALLOWANCE;
+    final long defaultHeap = requested > 0 ? maxHeap
+        : Math.min(maxHeap, Math.max(MIN_HEAP, share));
+    return new MinionMemory(history, MemoryBudget.shared(budget), defaultHeap,
+        maxHeap);
+  }
+
+  /**
+   * The maximum heap set by the last -Xmx option in the supplied jvm
+   * arguments, or 0 if none is set.
+   */
+  static long maxHeapFrom(final List<String> jvmArgs) {
+    long heap = 0;
+    for (final String each : jvmArgs) {
+      if (each.startsWith("-Xmx") && each.length() > 4) {
+        heap = parseSize(each.substring(4));
+      }
+    }
+    return heap;
+  }
+
+  private static long parseSize(final String size) {
+    final char unit = Character.toLowerCase(size.charAt(size.length() - 1));
+    final String digits = Character.isDigit(unit) ? size
+        : size.substring(0, size.length() - 1);
+    try {
+      final long value = Long.parseLong(digits);
+      switch (unit) {
+      case 'k':
+        return value * 1024;
+      case 'm':
+        return value * MB;
+      case 'g':
+        return value * MB * 1024;
+      default:
+        return value;
+      }
+    } catch (final NumberFormatException e) {
+      LOG.warning("Could not parse heap size " + size);
+      return 0;
+    }
+  }
+
+  /**
+   * The heap in bytes to give a minion analysing the supplied mutations, or
+   * 0 to leave it to the jvm arguments.
+   */
+  public long heapFor(final Collection<MutationDetails> mutations) {
+    if (this.maxHeap == 0) {
+      return 0;
+    }
+    long needed = 0;
+    for (final ClassName each : classesOf(mutations)) {
+      needed = Math.max(needed, knownPeak(each));
+    }
+    if (needed == 0) {
+      return this.defaultHeap;
+    }
+    final long heap = roundUpToMb((long) (needed * HEADROOM));
+    return Math.min(this.maxHeap, Math.max(MIN_HEAP, heap));
+  }
+
+  public MinionProcess budgeted(final MinionProcess process, final long heap) {
+    if (heap == 0) {
+      return process;
+    }
+    return this.budget.budgeted(process, heap);
+  }
+
+  /**
+   * Records the live heap the minion reported for the classes it analysed.
+   *
+   * @return true if the minion ran out of memory and a larger heap is
+   *         available for the mutants it did not reach
+   */
+  public boolean minionExited(final Collection<MutationDetails> mutations,
+      final MutationTestProcess process, final ExitCode exitCode) {
+    if (process.getMaxHeap() == 0) {
+      return false;
+    }
+    final long needed = process.getPeakHeap();
+    if (needed > 0) {
+      for (final ClassName each : classesOf(mutations)) {
+        final long peak = this.current.merge(each, needed, Math::max);
+        if (peak == needed) {
+          this.history.recordMinionHeap(each, peak);
+        }
+      }
+    }
+    return exitCode == ExitCode.OUT_OF_MEMORY
+        && process.getMaxHeap() < this.maxHeap;
+  }
+
+  /**
+   * The heap to give a minion retrying the mutants a minion with the supplied
+   * heap did not reach after running out of memory
+   */
+  public long largerHeap(final long heap) {
+    return Math.min(this.maxHeap, roundUpToMb(heap * 2));
+  }
+
+  private long knownPeak(final ClassName clazz) {
+    final Long peak = this.current.get(clazz);
+    if (peak != null) {
+      return peak;
+    }
+    return this.previous.getOrDefault(clazz, 0L);
+  }
+
+  private static Set<ClassName> classesOf(
+      final Collection<MutationDetails> mutations) {
+    final Set<ClassName> classes = new HashSet<>();
+    for (final MutationDetails each : mutations) {
+      classes.add(each.getClassName());
+    }
+    return classes;
+  }
+
+  private static long roundUpToMb(final long bytes) {
+    return ((bytes + MB - 1) / MB) * MB;
+  }
+
+}
@@ -64,19 +64,38 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
       throws IOException, InterruptedException {
+    // once a minion has run out of memory, the rest of the unit is run with a
+    // larger heap. The heap is enlarged at most once, as a mutant that
+    // allocates without bound would otherwise be given the maximum
+    long largerHeap = 0;
     while (mutations.hasUnrunMutations()) {
-      runTestInSeperateProcessForMutationRange(mutations);
+      final MutationTestProcess worker = runTestInSeperateProcessForMutationRange(
+          mutations, largerHeap);
+      if (largerHeap == 0 && worker != null) {
+        largerHeap = this.workerFactory.largerHeap(worker);
+        LOG.info("Minion ran out of memory with a heap of "
+            + (worker.getMaxHeap() / (1024 * 1024)) + " mb. Running "
+            + mutations.getUnrunMutations().size()
+            + " remaining mutations with a heap of "
+            + (largerHeap / (1024 * 1024)) + " mb");
+      }
     }
   }
 
-  private void runTestInSeperateProcessForMutationRange(
-      final MutationStatusMap mutations) throws IOException,
-      InterruptedException {
+  /**
+   * @return the worker if it ran out of memory and a larger heap is
+   *         available, otherwise null
+   */
+  private MutationTestProcess runTestInSeperateProcessForMutationRange(
+      final MutationStatusMap mutations, final long largerHeap)
+      throws IOException, InterruptedException {
 
     final Collection<MutationDetails> remainingMutations = mutations
         .getUnrunMutations();
-    final MutationTestProcess worker = this.workerFactory.createWorker(
-        remainingMutations, this.testClasses);
+    final MutationTestProcess worker = largerHeap == 0
+        ? this.workerFactory.createWorker(remainingMutations, this.testClasses)
+        : this.workerFactory.createWorker(remainingMutations, this.testClasses,
+            largerHeap);
     worker.start();
 
     setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(mutations,
@@ -85,7 +104,13 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForMinionToDie(worker);
     worker.results(mutations);
 
+    // the mutant running when the minion died is reported as its cause
     correctResultForProcessExitCode(mutations, exitCode);
+
+    if (this.workerFactory.minionExited(remainingMutations, worker, exitCode)) {
+      return worker;
+    }
+    return null;
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
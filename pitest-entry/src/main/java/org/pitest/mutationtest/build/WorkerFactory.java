@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -8,14 +9,20 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionLauncher;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
+import org.pitest.util.Timeline;
 import org.pitest.util.Verbosity;
 
 import java.io.File;
+import java.net.ServerSocket;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
@@ -30,6 +37,9 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionLauncher        launcher;
+  private final Timeline              timeline;
+  private final MinionMemory          memory;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -38,7 +48,13 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
-      final String classPath) {
+      final String classPath,
+      final MinionLauncher launcher,
+      final Timeline timeline,
+      final MinionMemory memory) {
+    this.launcher = launcher;
+    this.timeline = timeline;
+    this.memory = memory;
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbosity = verbosity;
@@ -52,18 +68,60 @@ public class WorkerFactory {
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    return createWorker(remainingMutations, testClasses,
+        this.memory.heapFor(remainingMutations));
+  }
+
+  /**
+   * Creates a worker with the supplied heap in bytes, or with the heap left
+   * to the jvm arguments if 0
+   */
+  public MutationTestProcess createWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses, final long heap) {
+    final Set<String> tests = new HashSet<>();
+    for (final MutationDetails each : remainingMutations) {
+      for (final TestInfo test : each.getTestsInOrder()) {
+        tests.add(test.getName());
+      }
+    }
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
-        testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
+        testClasses, this.config.getEngine().getName(), this.args,
+        this.timeoutStrategy.forTests(tests),
         Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(captureStdErrIfVerbose());
+    if (heap != 0) {
+      args.andMaxHeap(heap);
+    }
 
     final SocketFinder sf = new SocketFinder();
-    return new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+    final ServerSocket socket = sf.getNextAvailableServerSocket();
+    return new MutationTestProcess(socket, this.memory.budgeted(
+        this.launcher.launch(socket.getLocalPort(), args), heap), fileArgs,
+        this.timeline, heap);
+  }
+
+  /**
+   * Records the memory used by a minion.
+   *
+   * @return true if it ran out of memory and a larger heap is available for
+   *         the mutants it did not reach
+   */
+  public boolean minionExited(final Collection<MutationDetails> mutations,
+      final MutationTestProcess process, final ExitCode exitCode) {
+    return this.memory.minionExited(mutations, process, exitCode);
+  }
+
+  /**
+   * The heap for a minion retrying the mutants the supplied minion did not
+   * reach
+   */
+  public long largerHeap(final MutationTestProcess process) {
+    return this.memory.largerHeap(process.getMaxHeap());
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
@@ -25,6 +25,10 @@ public class CompoundTestListener implements MutationResultListener {
     this.children = children;
   }
 
+  public Iterable<MutationResultListener> children() {
+    return this.children;
+  }
+
   @Override
   public void runStart() {
     for (final MutationResultListener each : this.children) {
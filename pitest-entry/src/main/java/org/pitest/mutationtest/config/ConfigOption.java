@@ -230,7 +230,77 @@ public enum ConfigOption {
    * Allows very long classpaths that would otherwise exceed OS limits, but
    * may cause problems with some third party libraries.
    */
-  USE_CLASSPATH_JAR("useClasspathJar", false);
+  USE_CLASSPATH_JAR("useClasspathJar", false),
+
+  /**
+   * Addresses (host:port) of remote agents on which to run mutation test
+   * minions. When not supplied minions are run locally. Requests to agents
+   * are signed with the secret held in the PIT_AGENT_SECRET environment
+   * variable. The only jvm arguments remote minions accept are -Xmx, -Xms,
+   * -Xss, -XX:MaxMetaspaceSize, -XX:MaxDirectMemorySize and
+   * -Djava.awt.headless=true, and they accept no environment variables. The run fails if anything else is configured.
+   */
+  REMOTE_AGENTS("remoteAgents"),
+
+  /**
+   * Directory in which to cache mutation results keyed by the content of
+   * the mutant and its covering tests. May be shared between checkouts and
+   * concurrent runs.
+   */
+  RESULT_CACHE_LOCATION("resultCacheLocation"),
+
+  /**
+   * Size in megabytes above which the least recently used entries are
+   * removed from the result cache
+   */
+  RESULT_CACHE_MAX_SIZE("resultCacheMaxSize", 1024L),
+
+  /**
+   * Split JUnit 4 classes with class level fixtures into a unit per test
+   * method, running the methods that cover a mutant together so the fixture
+   * is set up once per mutant rather than running the whole class.
+   */
+  SPLIT_CLASS_FIXTURES("splitClassFixtures", false),
+
+  /**
+   * Write a json timeline of the phases, analysis units, minions and mutants
+   * of the run to the report directory
+   */
+  EXPORT_TIMELINE("exportTimeline", false),
+
+  /**
+   * Derive timeouts from the test durations recorded in the history file,
+   * falling back to the timeout factor and constant for tests without enough
+   * recorded durations
+   */
+  ADAPTIVE_TIMEOUTS("adaptiveTimeouts", false),
+
+  /**
+   * Megabytes of memory minions may reserve between them. When set, minion
+   * heaps are sized from the live heap recorded for the classes they analyse
+   * and minions wait to start until their heap fits within the budget. Zero
+   * leaves minion heaps to the jvm arguments.
+   */
+  MINION_MEMORY_BUDGET("minionMemoryBudget", 0L),
+
+  /**
+   * Directory in which to cache classes instrumented for coverage, keyed by
+   * the content of the original class, so that unchanged classes are not
+   * instrumented again in later runs
+   */
+  INSTRUMENTATION_CACHE_LOCATION("instrumentationCacheLocation"),
+
+  /**
+   * Size in megabytes above which the least recently used entries are
+   * removed from the instrumentation cache
+   */
+  INSTRUMENTATION_CACHE_MAX_SIZE("instrumentationCacheMaxSize", 1024L),
+
+  /**
+   * Directory in which to spill results to disk as they complete, so that
+   * only their totals are held in memory until the reports are written
+   */
+  RESULT_SPILL_LOCATION("resultSpillLocation");
 
   private final String       text;
   private final Serializable defaultValue;
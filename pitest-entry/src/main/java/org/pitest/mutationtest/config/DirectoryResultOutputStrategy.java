@@ -14,16 +14,19 @@
  */
 package org.pitest.mutationtest.config;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 
-import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.BinaryResultOutputStrategy;
 import org.pitest.util.Unchecked;
 
-public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
+public class DirectoryResultOutputStrategy implements BinaryResultOutputStrategy {
 
   private final File reportDir;
 
@@ -35,15 +38,7 @@ public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
   @Override
   public Writer createWriterForFile(final String file) {
     try {
-      final int fileSepIndex = file.lastIndexOf(File.separatorChar);
-      if (fileSepIndex > 0) {
-        final String directory = this.reportDir.getAbsolutePath()
-            + File.separatorChar + file.substring(0, fileSepIndex);
-        final File directoryFile = new File(directory);
-        if (!directoryFile.exists()) {
-          directoryFile.mkdirs();
-        }
-      }
+      createParentDirectory(file);
       return new BufferedWriter(new FileWriter(this.reportDir.getAbsolutePath()
           + File.separatorChar + file));
     } catch (final IOException ex) {
@@ -51,4 +46,27 @@ public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
     }
   }
 
+  @Override
+  public OutputStream createOutputStreamForFile(final String file) {
+    try {
+      createParentDirectory(file);
+      return new BufferedOutputStream(new FileOutputStream(
+          this.reportDir.getAbsolutePath() + File.separatorChar + file));
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private void createParentDirectory(final String file) {
+    final int fileSepIndex = file.lastIndexOf(File.separatorChar);
+    if (fileSepIndex > 0) {
+      final String directory = this.reportDir.getAbsolutePath()
+          + File.separatorChar + file.substring(0, fileSepIndex);
+      final File directoryFile = new File(directory);
+      if (!directoryFile.exists()) {
+        directoryFile.mkdirs();
+      }
+    }
+  }
+
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
+import org.pitest.util.ClassNameGlobs;
 import org.pitest.util.Glob;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
@@ -107,6 +108,9 @@ public class ReportOptions {
   private Verbosity                      verbosity                      = Verbosity.DEFAULT;
   private boolean                        failWhenNoMutations            = false;
   private boolean                        skipFailingTests               = false;
+  private boolean                        splitClassFixtures             = false;
+  private boolean                        exportTimeline                 = false;
+  private boolean                        adaptiveTimeouts               = false;
 
   private final Collection<String>       outputs                        = new LinkedHashSet<>();
 
@@ -139,6 +143,25 @@ public class ReportOptions {
   
   private boolean                        useClasspathJar;
 
+  private Collection<String>             remoteAgents                   = new ArrayList<>();
+
+  private File                           resultCacheLocation;
+
+  private int                            sharedMinionLimit;
+
+  private long                           minionMemoryBudget             = ConfigOption.MINION_MEMORY_BUDGET
+      .getDefault(Long.class);
+
+  private File                           instrumentationCacheLocation;
+
+  private long                           instrumentationCacheMaxSize    = ConfigOption.INSTRUMENTATION_CACHE_MAX_SIZE
+      .getDefault(Long.class);
+
+  private File                           resultSpillLocation;
+
+  private long                           resultCacheMaxSize             = ConfigOption.RESULT_CACHE_MAX_SIZE
+      .getDefault(Long.class);
+
 
   public Verbosity getVerbosity() {
     return this.verbosity;
@@ -249,8 +272,8 @@ public class ReportOptions {
 
 
   public Predicate<String> getTargetClassesFilter() {
-    final Predicate<String> filter = Prelude.and(or(Glob.toGlobPredicates(this.targetClasses)),
-        not(isBlackListed(Glob.toGlobPredicates(ReportOptions.this.excludedClasses))));
+    final Predicate<String> filter = Prelude.and(ClassNameGlobs.of(this.targetClasses),
+        not(ClassNameGlobs.of(ReportOptions.this.excludedClasses)));
     checkNotTryingToMutateSelf(filter);
     return filter;
   }
@@ -302,7 +325,7 @@ public class ReportOptions {
     if ((this.targetTests == null) || this.targetTests.isEmpty()) {
       // If target tests is not explicitly set we assume that the
       // target classes predicate covers both classes and tests
-      return Prelude.and(or(Glob.toGlobPredicates(this.targetClasses)),
+      return Prelude.and(ClassNameGlobs.of(this.targetClasses),
           not(isBlackListed(ReportOptions.this.excludedTestClasses)));
     } else {
       return Prelude.and(or(this.targetTests),
@@ -382,6 +405,30 @@ public class ReportOptions {
     this.skipFailingTests = skipFailingTests;
   }
 
+  public boolean splitClassFixtures() {
+    return this.splitClassFixtures;
+  }
+
+  public void setSplitClassFixtures(final boolean splitClassFixtures) {
+    this.splitClassFixtures = splitClassFixtures;
+  }
+
+  public boolean shouldExportTimeline() {
+    return this.exportTimeline;
+  }
+
+  public void setExportTimeline(final boolean exportTimeline) {
+    this.exportTimeline = exportTimeline;
+  }
+
+  public boolean useAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(final boolean adaptiveTimeouts) {
+    this.adaptiveTimeouts = adaptiveTimeouts;
+  }
+
   public ProjectClassPaths getMutationClassPaths() {
 
     return new ProjectClassPaths(this.getClassPath(), createClassesFilter(),
@@ -604,7 +651,8 @@ public class ReportOptions {
    */
   public TestPluginArguments createMinionSettings() {
     return new TestPluginArguments(this.getGroupConfig(), this.getExcludedRunners(),
-            this.getIncludedTestMethods(), this.skipFailingTests());
+            this.getIncludedTestMethods(), this.skipFailingTests(),
+            this.splitClassFixtures());
   }
 
   public boolean useClasspathJar() {
@@ -615,6 +663,82 @@ public class ReportOptions {
     this.useClasspathJar = useClasspathJar;
   }
 
+  public Collection<String> getRemoteAgents() {
+    return this.remoteAgents;
+  }
+
+  public void setRemoteAgents(Collection<String> remoteAgents) {
+    this.remoteAgents = remoteAgents;
+  }
+
+  public File getResultCacheLocation() {
+    return this.resultCacheLocation;
+  }
+
+  public void setResultCacheLocation(File resultCacheLocation) {
+    this.resultCacheLocation = resultCacheLocation;
+  }
+
+  /**
+   * Maximum size of the result cache in megabytes
+   */
+  public long getResultCacheMaxSize() {
+    return this.resultCacheMaxSize;
+  }
+
+  public void setResultCacheMaxSize(long resultCacheMaxSize) {
+    this.resultCacheMaxSize = resultCacheMaxSize;
+  }
+
+  /**
+   * Limit on live minions shared with every other analysis in this JVM
+   * configured with the same limit. Zero if minions are limited only by the
+   * number of threads.
+   */
+  public int getSharedMinionLimit() {
+    return this.sharedMinionLimit;
+  }
+
+  public void setSharedMinionLimit(int sharedMinionLimit) {
+    this.sharedMinionLimit = sharedMinionLimit;
+  }
+
+  /**
+   * Memory in megabytes that minions may reserve between them. Zero if minion
+   * heaps are left to the jvm arguments.
+   */
+  public long getMinionMemoryBudget() {
+    return this.minionMemoryBudget;
+  }
+
+  public void setMinionMemoryBudget(long minionMemoryBudget) {
+    this.minionMemoryBudget = minionMemoryBudget;
+  }
+
+  public File getInstrumentationCacheLocation() {
+    return this.instrumentationCacheLocation;
+  }
+
+  public void setInstrumentationCacheLocation(File instrumentationCacheLocation) {
+    this.instrumentationCacheLocation = instrumentationCacheLocation;
+  }
+
+  public long getInstrumentationCacheMaxSize() {
+    return this.instrumentationCacheMaxSize;
+  }
+
+  public void setInstrumentationCacheMaxSize(long instrumentationCacheMaxSize) {
+    this.instrumentationCacheMaxSize = instrumentationCacheMaxSize;
+  }
+
+  public File getResultSpillLocation() {
+    return this.resultSpillLocation;
+  }
+
+  public void setResultSpillLocation(File resultSpillLocation) {
+    this.resultSpillLocation = resultSpillLocation;
+  }
+
   @Override
   public String toString() {
     return "ReportOptions [targetClasses=" + targetClasses
@@ -641,7 +765,18 @@ public class ReportOptions {
         + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
         + excludedRunners + ", includedTestMethods=" + includedTestMethods
         + ", testPlugin=" + testPlugin + ", useClasspathJar=" + useClasspathJar
-        + ", skipFailingTests=" + skipFailingTests + "]";
+        + ", remoteAgents=" + remoteAgents
+        + ", resultCacheLocation=" + resultCacheLocation
+        + ", resultCacheMaxSize=" + resultCacheMaxSize
+        + ", sharedMinionLimit=" + sharedMinionLimit
+        + ", minionMemoryBudget=" + minionMemoryBudget
+        + ", instrumentationCacheLocation=" + instrumentationCacheLocation
+        + ", instrumentationCacheMaxSize=" + instrumentationCacheMaxSize
+        + ", resultSpillLocation=" + resultSpillLocation
+        + ", skipFailingTests=" + skipFailingTests
+        + ", splitClassFixtures=" + splitClassFixtures
+        + ", exportTimeline=" + exportTimeline
+        + ", adaptiveTimeouts=" + adaptiveTimeouts + "]";
   }
 
 
@@ -2,6 +2,8 @@ package org.pitest.mutationtest.config;
 
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.CompoundCoverageExporter;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
@@ -21,6 +23,8 @@ import org.pitest.plugin.ProvidesFeature;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.Log;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 
@@ -34,9 +38,12 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.logging.Logger;
 
 public class SettingsFactory {
 
+  private static final Logger LOG = Log.getLogger();
+
   private final ReportOptions  options;
   private final PluginServices plugins;
 
@@ -51,11 +58,40 @@ public class SettingsFactory {
   }
 
   public CoverageExporter createCoverageExporter() {
-    if (this.options.shouldExportLineCoverage()) {
-      return new DefaultCoverageExporter(getOutputStrategy());
-    } else {
+    if (!this.options.shouldExportLineCoverage()) {
+      return new NullCoverageExporter();
+    }
+
+    // coverage is exported in binary alongside the binary report, and as xml
+    // unless only the binary report was requested
+    final boolean binary = hasOutputFormat("BINARY");
+    final boolean xml = !binary || hasOutputFormat("XML");
+    final List<CoverageExporter> exporters = new ArrayList<>();
+    if (xml) {
+      exporters.add(new DefaultCoverageExporter(getOutputStrategy()));
+    }
+    if (binary) {
+      final ResultOutputStrategy strategy = getOutputStrategy();
+      if (strategy instanceof BinaryResultOutputStrategy) {
+        exporters.add(new BinaryCoverageExporter(
+            (BinaryResultOutputStrategy) strategy));
+      } else {
+        LOG.warning("Output strategy cannot write binary files, so "
+            + BinaryCoverageExporter.FILE_NAME + " will not be written");
+      }
+    }
+    if (exporters.isEmpty()) {
       return new NullCoverageExporter();
     }
+    if (exporters.size() == 1) {
+      return exporters.get(0);
+    }
+    return new CompoundCoverageExporter(exporters);
+  }
+
+  private boolean hasOutputFormat(final String format) {
+    return this.options.getOutputFormats().stream()
+        .anyMatch(f -> f.equalsIgnoreCase(format));
   }
 
   public MutationEngineFactory createEngine() {
@@ -136,7 +172,8 @@ public class SettingsFactory {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
         this.options.createMinionSettings(), this.options.getVerbosity(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance(),
+        this.options.getInstrumentationCacheLocation());
   }
 
   public CompoundInterceptorFactory getInterceptor() {
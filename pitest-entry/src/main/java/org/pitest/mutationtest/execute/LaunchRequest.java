@@ -0,0 +1,154 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.pitest.util.PitError;
+
+/**
+ * Request sent from the parent to a {@link MutationTestAgent} asking it to
+ * launch a minion that will connect back to the parent.
+ *
+ * Requests are written field by field rather than serialized, and are signed
+ * with a secret shared by the parent and the agent over a nonce chosen by the
+ * agent, so that only a holder of the secret can launch a minion and a signed
+ * request cannot be replayed.
+ *
+ * The only jvm arguments a request may carry are those sizing the minion's
+ * memory. Anything else would allow the request to run arbitrary code on the
+ * agent's host.
+ */
+final class LaunchRequest {
+
+  /**
+   * Environment variable holding the secret shared by parent and agents
+   */
+  static final String          SECRET_VARIABLE = "PIT_AGENT_SECRET";
+
+  static final int             NONCE_BYTES     = 32;
+
+  static final int             MAX_BYTES       = 64 * 1024;
+
+  private static final int     MAX_JVM_ARGS    = 16;
+
+  private static final String  MAC_ALGORITHM   = "HmacSHA256";
+
+  static final String          PERMITTED_ARGS_DESCRIPTION = "-Xmx, -Xms, -Xss,"
+      + " -XX:MaxMetaspaceSize, -XX:MaxDirectMemorySize and"
+      + " -Djava.awt.headless=true";
+
+  private static final Pattern PERMITTED_ARG   = Pattern.compile(
+      "-X(mx|ms|ss)\\d+[kKmMgG]?|-XX:(MaxMetaspaceSize|MaxDirectMemorySize)=\\d+[kKmMgG]?"
+      + "|-Djava\\.awt\\.headless=true");
+
+  final String                 classPathDigest;
+  final String                 host;
+  final int                    port;
+  final List<String>           jvmArgs;
+
+  LaunchRequest(String classPathDigest, String host, int port,
+      List<String> jvmArgs) {
+    this.classPathDigest = classPathDigest;
+    this.host = host;
+    this.port = port;
+    this.jvmArgs = Collections.unmodifiableList(new ArrayList<>(jvmArgs));
+  }
+
+  static boolean isPermitted(String jvmArg) {
+    return PERMITTED_ARG.matcher(jvmArg).matches();
+  }
+
+  /**
+   * The secret shared by parent and agents, read from the environment
+   */
+  static byte[] secretFromEnvironment() {
+    final String secret = System.getenv(SECRET_VARIABLE);
+    if (secret == null || secret.isEmpty()) {
+      throw new PitError("The environment variable " + SECRET_VARIABLE
+          + " must hold the secret shared with remote agents");
+    }
+    return secret.getBytes(StandardCharsets.UTF_8);
+  }
+
+  static byte[] nonce() {
+    final byte[] nonce = new byte[NONCE_BYTES];
+    new SecureRandom().nextBytes(nonce);
+    return nonce;
+  }
+
+  static byte[] sign(byte[] secret, byte[] nonce, byte[] request) {
+    try {
+      final Mac mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(new SecretKeySpec(secret, MAC_ALGORITHM));
+      mac.update(nonce);
+      return mac.doFinal(request);
+    } catch (final GeneralSecurityException e) {
+      throw new PitError(MAC_ALGORITHM + " not available", e);
+    }
+  }
+
+  static boolean verify(byte[] secret, byte[] nonce, byte[] request,
+      byte[] signature) {
+    return MessageDigest.isEqual(sign(secret, nonce, request), signature);
+  }
+
+  byte[] toBytes() {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (DataOutputStream dos = new DataOutputStream(bos)) {
+      dos.writeUTF(this.classPathDigest);
+      dos.writeUTF(this.host);
+      dos.writeInt(this.port);
+      dos.writeInt(this.jvmArgs.size());
+      for (final String each : this.jvmArgs) {
+        dos.writeUTF(each);
+      }
+    } catch (final IOException e) {
+      throw new PitError("Could not write launch request", e);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Reads a request, rejecting any that carry jvm arguments that are not
+   * permitted
+   */
+  static LaunchRequest fromBytes(byte[] bytes) throws IOException {
+    final DataInputStream dis = new DataInputStream(
+        new ByteArrayInputStream(bytes));
+    final String digest = dis.readUTF();
+    final String host = dis.readUTF();
+    final int port = dis.readInt();
+    final int argCount = dis.readInt();
+    if (argCount < 0 || argCount > MAX_JVM_ARGS) {
+      throw new IOException("Too many jvm arguments in launch request");
+    }
+    final List<String> jvmArgs = new ArrayList<>(argCount);
+    for (int i = 0; i != argCount; i++) {
+      final String arg = dis.readUTF();
+      if (!isPermitted(arg)) {
+        throw new IOException("jvm argument " + arg
+            + " is not permitted in launch request");
+      }
+      jvmArgs.add(arg);
+    }
+    if (port <= 0 || port > 0xFFFF) {
+      throw new IOException("Invalid callback port " + port);
+    }
+    return new LaunchRequest(digest, host, port, jvmArgs);
+  }
+
+}
@@ -0,0 +1,17 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+
+/**
+ * Launches minions as child processes of the parent JVM
+ */
+public class LocalMinionLauncher implements MinionLauncher {
+
+  @Override
+  public MinionProcess launch(int port, ProcessArgs args) {
+    return new WrappingProcess(port, args, MutationTestMinion.class);
+  }
+
+}
@@ -0,0 +1,123 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import org.pitest.process.MinionProcess;
+
+/**
+ * Limits the memory reserved by live minions. A minion reserves its maximum
+ * heap plus an allowance for the memory a jvm commits outside the heap, and
+ * only starts once that fits within the budget alongside the minions already
+ * running. A minion that would not fit even in an empty budget is started
+ * once no other minion is running.
+ *
+ * Minions are started in the order they ask to be, so those needing large
+ * heaps are not starved by a stream of smaller ones.
+ *
+ * A budget obtained from {@link #shared(long)} is shared by every analysis
+ * within the JVM.
+ */
+public class MemoryBudget {
+
+  public static final long              NON_HEAP_ALLOWANCE = 64 * 1024 * 1024;
+
+  private static final Map<Long, MemoryBudget> SHARED      = new HashMap<>();
+
+  private final long                    budget;
+  private final Queue<Object>           waiting            = new ArrayDeque<>();
+  private long                          reserved;
+
+  public MemoryBudget(final long budget) {
+    this.budget = budget;
+  }
+
+  public static synchronized MemoryBudget shared(final long budget) {
+    return SHARED.computeIfAbsent(budget, MemoryBudget::new);
+  }
+
+  public MinionProcess budgeted(final MinionProcess process,
+      final long maxHeap) {
+    return new BudgetedProcess(process, this, maxHeap + NON_HEAP_ALLOWANCE);
+  }
+
+  synchronized void reserve(final long bytes) throws InterruptedException {
+    final Object ticket = new Object();
+    this.waiting.add(ticket);
+    try {
+      while (this.waiting.peek() != ticket || !fits(bytes)) {
+        wait();
+      }
+      this.reserved = this.reserved + bytes;
+    } finally {
+      this.waiting.remove(ticket);
+      notifyAll();
+    }
+  }
+
+  synchronized void release(final long bytes) {
+    this.reserved = this.reserved - bytes;
+    notifyAll();
+  }
+
+  synchronized long reserved() {
+    return this.reserved;
+  }
+
+  private boolean fits(final long bytes) {
+    return this.reserved == 0 || this.reserved + bytes <= this.budget;
+  }
+
+  private static class BudgetedProcess implements MinionProcess {
+    private final MinionProcess process;
+    private final MemoryBudget  budget;
+    private final long          bytes;
+    private boolean             holdsReservation;
+
+    BudgetedProcess(final MinionProcess process, final MemoryBudget budget,
+        final long bytes) {
+      this.process = process;
+      this.budget = budget;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+      try {
+        this.budget.reserve(this.bytes);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(
+            "Interrupted waiting for memory to start minion");
+      }
+      this.holdsReservation = true;
+      try {
+        this.process.start();
+      } catch (final IOException | RuntimeException e) {
+        release();
+        throw e;
+      }
+    }
+
+    @Override
+    public synchronized void destroy() {
+      try {
+        this.process.destroy();
+      } finally {
+        release();
+      }
+    }
+
+    private void release() {
+      if (this.holdsReservation) {
+        this.holdsReservation = false;
+        this.budget.release(this.bytes);
+      }
+    }
+  }
+
+}
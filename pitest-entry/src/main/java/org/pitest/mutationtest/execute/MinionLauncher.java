@@ -0,0 +1,15 @@
+package org.pitest.mutationtest.execute;
+
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+
+/**
+ * Decides where mutation test minions run. Whatever the launcher, the minion
+ * connects back to the supplied port on the parent and receives its work
+ * from there.
+ */
+public interface MinionLauncher {
+
+  MinionProcess launch(int port, ProcessArgs args);
+
+}
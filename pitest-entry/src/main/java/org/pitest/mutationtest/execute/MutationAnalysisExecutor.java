@@ -2,6 +2,7 @@ package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -15,6 +16,7 @@ import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.util.Log;
+import org.pitest.util.Timeline;
 import org.pitest.util.Unchecked;
 
 public class MutationAnalysisExecutor {
@@ -23,10 +25,21 @@ public class MutationAnalysisExecutor {
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final Timeline                     timeline;
+  private final long[]                       listenerNanos;
+  private final int[]                        listenerCalls;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, new Timeline(false));
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, Timeline timeline) {
     this.listeners = listeners;
+    this.timeline = timeline;
+    this.listenerNanos = new long[listeners.size()];
+    this.listenerCalls = new int[listeners.size()];
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
         Executors.defaultThreadFactory());
@@ -43,7 +56,7 @@ public class MutationAnalysisExecutor {
         testUnits.size());
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.add(this.executor.submit(timed(unit)));
     }
 
     this.executor.shutdown();
@@ -58,14 +71,41 @@ public class MutationAnalysisExecutor {
 
   }
 
+  private Callable<MutationMetaData> timed(final MutationAnalysisUnit unit) {
+    if (!this.timeline.isEnabled()) {
+      return unit;
+    }
+    final long queued = System.nanoTime();
+    return () -> {
+      final long start = System.nanoTime();
+      this.timeline.record("queue", unitName(unit), queued, start);
+      try {
+        return unit.call();
+      } finally {
+        this.timeline.record("unit", unitName(unit), start, System.nanoTime(),
+            Timeline.attributes("priority", unit.priority()));
+      }
+    };
+  }
+
+  private static String unitName(final MutationAnalysisUnit unit) {
+    return unit.getClass().getSimpleName();
+  }
+
   private void processResult(List<Future<MutationMetaData>> results)
       throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
-      for (final MutationResultListener l : this.listeners) {
+    for (int u = 0; u != results.size(); u++) {
+      final MutationMetaData r = results.get(u).get();
+      // do not hold handled results until the run ends
+      results.set(u, null);
+      for (int i = 0; i != this.listeners.size(); i++) {
+        final MutationResultListener l = this.listeners.get(i);
+        final long start = System.nanoTime();
         for (final ClassMutationResults cr : r.toClassResults()) {
           l.handleMutationResult(cr);
+          this.listenerCalls[i]++;
         }
+        this.listenerNanos[i] += System.nanoTime() - start;
       }
     }
   }
@@ -74,8 +114,18 @@ public class MutationAnalysisExecutor {
     this.listeners.forEach(MutationResultListener::runStart);
   }
 
+  // time spent handling results is attributed to the run end event of each
+  // listener, as it is spread across the run
   private void signalRunEndToAllListeners() {
-    this.listeners.forEach(MutationResultListener::runEnd);
+    for (int i = 0; i != this.listeners.size(); i++) {
+      final MutationResultListener l = this.listeners.get(i);
+      final long start = System.nanoTime();
+      l.runEnd();
+      this.timeline.record("listener", l.getClass().getSimpleName(), start,
+          System.nanoTime(), Timeline.attributes(
+              "results", this.listenerCalls[i],
+              "handleResultsMs", this.listenerNanos[i] / 1000000));
+    }
   }
 
 }
@@ -0,0 +1,234 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.ClassPathDigest;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Runs on a worker machine holding a copy of the classpath being analysed,
+ * launching mutation test minions on request from a parent. The minions
+ * connect directly back to the parent, so the agent only starts and stops
+ * them.
+ *
+ * The agent listens on the loopback interface unless given an address to
+ * bind to. Each request must be signed with the secret held in the
+ * PIT_AGENT_SECRET environment variable of both agent and parent, and may
+ * only size the memory of the minion it launches. Minions are otherwise
+ * launched with the agent's own environment.
+ *
+ * Usage : MutationTestAgent port classpath [maxMinions [bindAddress]]
+ */
+public class MutationTestAgent {
+
+  private static final Logger LOG                  = Log.getLogger();
+
+  // time allowed for a parent to authenticate and send its request
+  private static final int    HANDSHAKE_TIMEOUT_MS = 30000;
+
+  private final ServerSocket  socket;
+  private final String        classPath;
+  private final String        classPathDigest;
+  private final Semaphore     slots;
+  private final JavaAgent     javaAgent;
+  private final File          workingDir;
+  private final byte[]        secret;
+
+  public MutationTestAgent(ServerSocket socket, String classPath,
+      int maxMinions, JavaAgent javaAgent, File workingDir, byte[] secret) {
+    this.socket = socket;
+    this.secret = secret.clone();
+    this.classPath = classPath;
+    this.classPathDigest = ClassPathDigest.digest(classPath);
+    this.slots = new Semaphore(maxMinions, true);
+    this.javaAgent = javaAgent;
+    this.workingDir = workingDir;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage : MutationTestAgent port classpath [maxMinions [bindAddress]]");
+      System.exit(1);
+    }
+    final byte[] secret = LaunchRequest.secretFromEnvironment();
+    final int port = Integer.parseInt(args[0]);
+    final String classPath = args[1];
+    final int maxMinions = args.length > 2 ? Integer.parseInt(args[2])
+        : Runtime.getRuntime().availableProcessors();
+    final InetAddress bindAddress = args.length > 3
+        ? InetAddress.getByName(args[3]) : InetAddress.getLoopbackAddress();
+
+    final ClassPath cp = new ClassPath(Arrays.stream(
+        classPath.split(File.pathSeparator)).map(File::new)
+        .collect(Collectors.toList()));
+    final JavaAgent javaAgent = new JarCreatingJarFinder(
+        new ClassPathByteArraySource(cp));
+    try (ServerSocket socket = new ServerSocket()) {
+      socket.bind(new InetSocketAddress(bindAddress, port));
+      final MutationTestAgent agent = new MutationTestAgent(socket, classPath,
+          maxMinions, javaAgent, new File(System.getProperty("user.dir")),
+          secret);
+      LOG.info("Agent listening on " + socket.getLocalSocketAddress()
+          + " for up to " + maxMinions + " minions");
+      agent.run();
+    } finally {
+      javaAgent.close();
+    }
+  }
+
+  /**
+   * Accepts launch requests until the server socket is closed
+   */
+  public void run() {
+    while (!this.socket.isClosed()) {
+      try {
+        final Socket connection = this.socket.accept();
+        final Thread thread = new Thread(() -> handle(connection));
+        thread.setDaemon(true);
+        thread.setName("pit agent connection");
+        thread.start();
+      } catch (final IOException e) {
+        if (!this.socket.isClosed()) {
+          LOG.log(Level.WARNING, "Error accepting connection", e);
+        }
+      }
+    }
+  }
+
+  public String getClassPathDigest() {
+    return this.classPathDigest;
+  }
+
+  private void handle(Socket connection) {
+    try (Socket s = connection) {
+      s.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+      final DataInputStream dis = new DataInputStream(s.getInputStream());
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          s.getOutputStream());
+
+      final byte[] nonce = LaunchRequest.nonce();
+      dos.writeBytes(nonce);
+      dos.flush();
+      final byte[] requestBytes = readBounded(dis);
+      final byte[] signature = readBounded(dis);
+      if (!LaunchRequest.verify(this.secret, nonce, requestBytes, signature)) {
+        LOG.warning("Rejecting unauthenticated request from "
+            + s.getInetAddress());
+        reply(dos, false, "request was not signed with the agent's secret");
+        return;
+      }
+
+      final LaunchRequest request;
+      try {
+        request = LaunchRequest.fromBytes(requestBytes);
+      } catch (final IOException e) {
+        LOG.warning("Rejecting request from " + s.getInetAddress() + " : "
+            + e.getMessage());
+        reply(dos, false, e.getMessage());
+        return;
+      }
+
+      if (!this.classPathDigest.equals(request.classPathDigest)) {
+        LOG.warning("Rejecting request from " + s.getInetAddress()
+            + " as its classpath does not match this agent's");
+        reply(dos, false, "classpath digest " + request.classPathDigest
+            + " does not match agent classpath digest " + this.classPathDigest);
+        return;
+      }
+
+      s.setSoTimeout(0);
+      this.slots.acquire();
+      try {
+        runMinion(s.getInputStream(), dos, request);
+      } finally {
+        this.slots.release();
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Error handling launch request", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static byte[] readBounded(DataInputStream dis) throws IOException {
+    final int length = dis.readInt();
+    if (length < 0 || length > LaunchRequest.MAX_BYTES) {
+      throw new IOException("Launch request of " + length + " bytes refused");
+    }
+    final byte[] data = new byte[length];
+    dis.readFully(data);
+    return data;
+  }
+
+  private void runMinion(InputStream fromParent, SafeDataOutputStream dos,
+      LaunchRequest request) throws IOException {
+    final WrappingProcess minion = new WrappingProcess(request.host,
+        request.port, processArgs(request), MutationTestMinion.class);
+    minion.start();
+    try {
+      reply(dos, true, "");
+      // parent closes the connection once it no longer needs the minion
+      while (fromParent.read() != -1) {
+        // nothing is expected from the parent
+      }
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Lost connection to parent", e);
+    } finally {
+      minion.destroy();
+    }
+  }
+
+  private ProcessArgs processArgs(LaunchRequest request) {
+    final LaunchOptions launchOptions = new LaunchOptions(this.javaAgent,
+        new DefaultJavaExecutableLocator(), request.jvmArgs,
+        withoutSecret());
+    return ProcessArgs.withClassPath(this.classPath)
+        .andLaunchOptions(launchOptions)
+        .andBaseDir(this.workingDir)
+        .andStdout(log("stdout "))
+        .andStderr(log("stderr "));
+  }
+
+  // minions inherit the agent's environment, but must not see its secret
+  private static Map<String, String> withoutSecret() {
+    final Map<String, String> environment = new HashMap<>();
+    environment.put(LaunchRequest.SECRET_VARIABLE, "");
+    return environment;
+  }
+
+  private static Consumer<String> log(String prefix) {
+    return a -> LOG.fine(prefix + a);
+  }
+
+  private static void reply(SafeDataOutputStream dos, boolean launched,
+      String message) {
+    dos.writeBoolean(launched);
+    dos.writeString(message);
+    dos.flush();
+  }
+
+}
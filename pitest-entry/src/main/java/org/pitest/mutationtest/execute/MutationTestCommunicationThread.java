@@ -14,8 +14,10 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -23,11 +25,13 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.CommunicationThread;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Timeline;
 
 public class MutationTestCommunicationThread extends CommunicationThread {
 
@@ -35,24 +39,102 @@ public class MutationTestCommunicationThread extends CommunicationThread {
 
   private static class SendData implements Consumer<SafeDataOutputStream> {
     private final MinionArguments arguments;
+    private final MinionTimings   timings;
 
-    SendData(final MinionArguments arguments) {
+    SendData(final MinionArguments arguments, final MinionTimings timings) {
       this.arguments = arguments;
+      this.timings = timings;
     }
 
     @Override
     public void accept(final SafeDataOutputStream dos) {
+      this.timings.connected();
       dos.write(this.arguments);
       dos.flush();
     }
   }
 
+  /**
+   * Records the minion's start up and the time between the describe and
+   * report messages for each mutant. Other than launched, all methods are
+   * called from the communication thread.
+   */
+  private static class MinionTimings {
+
+    private final Timeline     timeline;
+    private long               launched;
+    private long               connected;
+    private MutationIdentifier current;
+    private long               currentStart;
+    private int                reported;
+
+    MinionTimings(final Timeline timeline) {
+      this.timeline = timeline;
+    }
+
+    void launched() {
+      this.launched = System.nanoTime();
+    }
+
+    void connected() {
+      this.connected = System.nanoTime();
+      this.timeline.record("minion", "connect", this.launched, this.connected);
+    }
+
+    void describe(final MutationIdentifier mutation) {
+      final long now = System.nanoTime();
+      if (this.reported == 0 && this.current == null) {
+        this.timeline.record("minion", "setup", this.connected, now);
+      }
+      this.current = mutation;
+      this.currentStart = now;
+    }
+
+    void report(final MutationIdentifier mutation,
+        final MutationStatusTestPair status) {
+      if (this.timeline.isEnabled() && mutation.equals(this.current)) {
+        recordMutant(status.getStatus(), status.getNumberOfTestsRun());
+      }
+      this.current = null;
+      this.reported++;
+    }
+
+    void exited(final ExitCode exitCode) {
+      if (!this.timeline.isEnabled()) {
+        return;
+      }
+      // the mutant in progress when a minion dies is never reported
+      if (this.current != null) {
+        recordMutant(DetectionStatus.getForErrorExitCode(exitCode), 0);
+      }
+      this.timeline.record("minion", "exit", this.launched, System.nanoTime(),
+          Timeline.attributes("exitCode", exitCode.name(),
+              "mutants", this.reported));
+    }
+
+    private void recordMutant(final DetectionStatus status, final int testsRun) {
+      this.timeline.record("mutant", this.current.getClassName().asJavaName()
+          + "::" + this.current.getLocation().getMethodName(),
+          this.currentStart, System.nanoTime(), Timeline.attributes(
+              "mutator", this.current.getMutator(),
+              "indexes", this.current.getIndexes().toString(),
+              "status", status.name(),
+              "testsRun", testsRun));
+    }
+  }
+
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final MinionTimings                                   timings;
+    private final AtomicLong                                      peakHeap;
+    private final ReportReader                                    reader = new ReportReader();
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final MinionTimings timings, final AtomicLong peakHeap) {
       this.idMap = idMap;
+      this.timings = timings;
+      this.peakHeap = peakHeap;
     }
 
     @Override
@@ -61,17 +143,23 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.DESCRIBE:
         handleDescribe(is);
         break;
+      case Id.TEST:
+        this.reader.readTest(is);
+        break;
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.HEAP:
+        this.peakHeap.set(is.readLong());
+        break;
       }
     }
 
     private void handleReport(final SafeDataInputStream is) {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+      final MutationStatusTestPair value = this.reader.readStatus(is);
       this.idMap.put(mutation, value);
+      this.timings.report(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
@@ -79,21 +167,69 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
           DetectionStatus.STARTED));
+      this.timings.describe(mutation);
     }
 
   }
 
   private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+  private final MinionTimings                                   timings;
+  private final AtomicLong                                      peakHeap;
 
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, new Timeline(false));
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final Timeline timeline) {
+    this(socket, arguments, idMap, new MinionTimings(timeline));
+  }
+
+  private MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final MinionTimings timings) {
+    this(socket, arguments, idMap, timings, new AtomicLong());
+  }
+
+  private MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final MinionTimings timings, final AtomicLong peakHeap) {
+    super(socket, new SendData(arguments, timings), new Receive(idMap, timings,
+        peakHeap));
     this.idMap = idMap;
+    this.timings = timings;
+    this.peakHeap = peakHeap;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.timings.launched();
+    super.start();
+  }
+
+  @Override
+  public ExitCode waitToFinish() {
+    final ExitCode exitCode = super.waitToFinish();
+    this.timings.exited(exitCode);
+    return exitCode;
   }
 
   public MutationStatusTestPair getStatus(final MutationIdentifier id) {
     return this.idMap.get(id);
   }
 
+  /**
+   * The live heap reported by the minion, or 0 if it did not report one or
+   * ran no garbage collection.
+   */
+  public long getPeakHeap() {
+    return this.peakHeap.get();
+  }
+
 }
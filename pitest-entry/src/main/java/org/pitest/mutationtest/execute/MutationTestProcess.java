@@ -7,21 +7,42 @@ import java.util.HashMap;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.process.MinionProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.Timeline;
 
 public class MutationTestProcess {
 
-  private final WrappingProcess                 process;
+  private final MinionProcess                   process;
   private final MutationTestCommunicationThread thread;
+  private final long                            maxHeap;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
-        MutationTestMinion.class);
+    this(socket, new WrappingProcess(socket.getLocalPort(), processArgs,
+        MutationTestMinion.class), arguments);
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final MinionProcess process, final MinionArguments arguments) {
+    this(socket, process, arguments, new Timeline(false));
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final MinionProcess process, final MinionArguments arguments,
+      final Timeline timeline) {
+    this(socket, process, arguments, timeline, 0);
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final MinionProcess process, final MinionArguments arguments,
+      final Timeline timeline, final long maxHeap) {
+    this.process = process;
+    this.maxHeap = maxHeap;
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-            new HashMap<>());
+            new HashMap<>(), timeline);
 
   }
 
@@ -41,6 +62,18 @@ public class MutationTestProcess {
 
   }
 
+  /**
+   * The maximum heap the minion was launched with, or 0 if it was left to
+   * the jvm arguments.
+   */
+  public long getMaxHeap() {
+    return this.maxHeap;
+  }
+
+  public long getPeakHeap() {
+    return this.thread.getPeakHeap();
+  }
+
   public ExitCode waitToDie() {
     try {
       return this.thread.waitToFinish();
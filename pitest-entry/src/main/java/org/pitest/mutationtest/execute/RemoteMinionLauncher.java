@@ -0,0 +1,118 @@
+package org.pitest.mutationtest.execute;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.pitest.classpath.ClassPathDigest;
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.PitError;
+
+/**
+ * Launches minions on remote machines via {@link MutationTestAgent}s. Each
+ * agent must hold a copy of the parent's classpath, this is checked by digest
+ * before any minion is launched. Minions are spread across agents by the
+ * number currently running on each.
+ *
+ * Requests are signed with a secret shared with the agents, by default read
+ * from the PIT_AGENT_SECRET environment variable.
+ *
+ * Only jvm arguments sizing memory can be passed to a remote minion, and no
+ * environment variables. A run configured with anything else fails rather
+ * than run remote minions differently to local ones.
+ */
+public class RemoteMinionLauncher implements MinionLauncher {
+
+  private final Map<InetSocketAddress, Integer> running = new LinkedHashMap<>();
+  private final Map<String, String>             digests = new ConcurrentHashMap<>();
+  private final byte[]                          secret;
+
+  public RemoteMinionLauncher(Collection<String> agents) {
+    this(agents, LaunchRequest.secretFromEnvironment());
+  }
+
+  public RemoteMinionLauncher(Collection<String> agents, byte[] secret) {
+    this.secret = secret.clone();
+    for (final String each : agents) {
+      this.running.put(parseAddress(each), 0);
+    }
+    if (this.running.isEmpty()) {
+      throw new PitError("No remote agents supplied");
+    }
+  }
+
+  /**
+   * Fails if the supplied jvm arguments or environment variables cannot be
+   * passed to remote minions
+   */
+  public static void checkSupported(List<String> jvmArgs,
+      Map<String, String> environment) {
+    final List<String> rejected = unsupportedJvmArgs(jvmArgs);
+    if (!rejected.isEmpty()) {
+      throw new PitError("Remote minions accept only "
+          + LaunchRequest.PERMITTED_ARGS_DESCRIPTION
+          + " as jvm arguments, but " + rejected + " were supplied");
+    }
+    if (environment != null && !environment.isEmpty()) {
+      throw new PitError("Environment variables cannot be passed to remote"
+          + " minions, but " + environment.keySet() + " were supplied");
+    }
+  }
+
+  static List<String> unsupportedJvmArgs(List<String> jvmArgs) {
+    return jvmArgs.stream().filter(a -> !LaunchRequest.isPermitted(a))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public MinionProcess launch(int port, ProcessArgs args) {
+    checkSupported(args.getJvmArgs(), args.getEnvironmentVariables());
+    final String digest = this.digests.computeIfAbsent(
+        args.getLaunchClassPath(), ClassPathDigest::digest);
+    return new RemoteMinionProcess(this::claimLeastBusyAgent, this::release,
+        digest, this.secret, port, args);
+  }
+
+  List<InetSocketAddress> agents() {
+    return new ArrayList<>(this.running.keySet());
+  }
+
+  synchronized int runningOn(InetSocketAddress agent) {
+    return this.running.get(agent);
+  }
+
+  synchronized InetSocketAddress claimLeastBusyAgent() {
+    InetSocketAddress best = null;
+    for (final Map.Entry<InetSocketAddress, Integer> each : this.running.entrySet()) {
+      if (best == null || each.getValue() < this.running.get(best)) {
+        best = each.getKey();
+      }
+    }
+    this.running.put(best, this.running.get(best) + 1);
+    return best;
+  }
+
+  private synchronized void release(InetSocketAddress agent) {
+    this.running.put(agent, this.running.get(agent) - 1);
+  }
+
+  static InetSocketAddress parseAddress(String agent) {
+    final int colon = agent.lastIndexOf(':');
+    if (colon <= 0 || colon == agent.length() - 1) {
+      throw new PitError("Remote agent " + agent + " must be given as host:port");
+    }
+    try {
+      return new InetSocketAddress(agent.substring(0, colon),
+          Integer.parseInt(agent.substring(colon + 1)));
+    } catch (final IllegalArgumentException e) {
+      throw new PitError("Remote agent " + agent + " must be given as host:port", e);
+    }
+  }
+
+}
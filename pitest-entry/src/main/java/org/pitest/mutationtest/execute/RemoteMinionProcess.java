@@ -0,0 +1,119 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A minion running under a {@link MutationTestAgent}. The connection to the
+ * agent is held open for the life of the minion, closing it causes the agent
+ * to destroy the minion.
+ *
+ * A slot on an agent is claimed when the minion starts and released exactly
+ * once, when the minion is destroyed or fails to start.
+ */
+class RemoteMinionProcess implements MinionProcess {
+
+  private static final Logger                  LOG                = Log.getLogger();
+
+  private static final int                     CONNECT_TIMEOUT_MS = 10000;
+
+  private final Supplier<InetSocketAddress>    claimAgent;
+  private final Consumer<InetSocketAddress>    releaseAgent;
+  private final String                         classPathDigest;
+  private final byte[]                         secret;
+  private final int                            port;
+  private final ProcessArgs                    args;
+  private final AtomicBoolean                  released           = new AtomicBoolean();
+
+  private InetSocketAddress                    agent;
+  private Socket                               socket;
+
+  RemoteMinionProcess(Supplier<InetSocketAddress> claimAgent,
+      Consumer<InetSocketAddress> releaseAgent, String classPathDigest,
+      byte[] secret, int port, ProcessArgs args) {
+    this.claimAgent = claimAgent;
+    this.releaseAgent = releaseAgent;
+    this.classPathDigest = classPathDigest;
+    this.secret = secret;
+    this.port = port;
+    this.args = args;
+  }
+
+  @Override
+  public void start() throws IOException {
+    this.agent = this.claimAgent.get();
+    try {
+      launch();
+    } catch (final IOException | RuntimeException e) {
+      destroy();
+      throw e;
+    }
+  }
+
+  private void launch() throws IOException {
+    this.socket = new Socket();
+    this.socket.connect(this.agent, CONNECT_TIMEOUT_MS);
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        this.socket.getInputStream());
+    final byte[] nonce = readNonce(this.socket);
+
+    // the address the agent was reached on is the one it can reach us on
+    final String callbackHost = this.socket.getLocalAddress().getHostAddress();
+    final byte[] request = new LaunchRequest(this.classPathDigest,
+        callbackHost, this.port, this.args.getJvmArgs()).toBytes();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(
+        this.socket.getOutputStream());
+    dos.writeBytes(request);
+    dos.writeBytes(LaunchRequest.sign(this.secret, nonce, request));
+    dos.flush();
+
+    // blocks until the agent has capacity to launch the minion
+    final boolean launched = dis.readBoolean();
+    final String message = dis.readString();
+    if (!launched) {
+      throw new PitError("Agent at " + this.agent
+          + " could not launch minion: " + message);
+    }
+  }
+
+  private byte[] readNonce(Socket s) throws IOException {
+    final DataInputStream dis = new DataInputStream(s.getInputStream());
+    final int length = dis.readInt();
+    if (length != LaunchRequest.NONCE_BYTES) {
+      throw new IOException("Unexpected handshake from " + this.agent);
+    }
+    final byte[] nonce = new byte[length];
+    dis.readFully(nonce);
+    return nonce;
+  }
+
+  @Override
+  public void destroy() {
+    if (this.socket != null) {
+      try {
+        this.socket.close();
+      } catch (final IOException e) {
+        LOG.log(Level.FINE, "Could not close connection to " + this.agent, e);
+      }
+    }
+    if (this.agent != null && this.released.compareAndSet(false, true)) {
+      this.releaseAgent.accept(this.agent);
+    }
+  }
+
+}
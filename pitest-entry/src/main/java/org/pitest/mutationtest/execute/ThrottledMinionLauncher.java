@@ -0,0 +1,85 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+
+/**
+ * Limits the number of live minions launched through it. Minions only start
+ * once a slot is free and hold it until they are destroyed.
+ *
+ * Slots obtained from {@link #sharedSlots(int)} are shared by every analysis
+ * within the JVM, allowing several analyses run side by side (e.g. the
+ * modules of a parallel maven build) to keep to one global limit.
+ */
+public class ThrottledMinionLauncher implements MinionLauncher {
+
+  private static final Map<Integer, Semaphore> SHARED = new HashMap<>();
+
+  private final MinionLauncher child;
+  private final Semaphore      slots;
+
+  public ThrottledMinionLauncher(MinionLauncher child, Semaphore slots) {
+    this.child = child;
+    this.slots = slots;
+  }
+
+  public static synchronized Semaphore sharedSlots(int limit) {
+    return SHARED.computeIfAbsent(limit, l -> new Semaphore(l, true));
+  }
+
+  @Override
+  public MinionProcess launch(int port, ProcessArgs args) {
+    return new ThrottledProcess(this.child.launch(port, args), this.slots);
+  }
+
+  private static class ThrottledProcess implements MinionProcess {
+    private final MinionProcess process;
+    private final Semaphore     slots;
+    private boolean             holdsSlot;
+
+    ThrottledProcess(MinionProcess process, Semaphore slots) {
+      this.process = process;
+      this.slots = slots;
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+      try {
+        this.slots.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted waiting for minion slot");
+      }
+      this.holdsSlot = true;
+      try {
+        this.process.start();
+      } catch (final IOException | RuntimeException e) {
+        release();
+        throw e;
+      }
+    }
+
+    @Override
+    public synchronized void destroy() {
+      try {
+        this.process.destroy();
+      } finally {
+        release();
+      }
+    }
+
+    private void release() {
+      if (this.holdsSlot) {
+        this.holdsSlot = false;
+        this.slots.release();
+      }
+    }
+  }
+
+}
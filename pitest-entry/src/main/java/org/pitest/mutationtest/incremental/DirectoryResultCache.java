@@ -0,0 +1,109 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.CacheDirectory;
+import org.pitest.util.Log;
+
+/**
+ * Result cache held as one file per result below a directory, named by the
+ * mutant's digest. The directory may be shared by concurrent runs, as entries
+ * are written to a temporary file then moved into place.
+ *
+ * Reading an entry updates its modification time. When the cache is closed the
+ * least recently used entries are removed until it fits within its size
+ * limit.
+ */
+public class DirectoryResultCache implements ResultCache {
+
+  private static final Logger               LOG       = Log.getLogger();
+
+  // timeouts depend on the speed of the machine and the timeout settings, so
+  // are not reused
+  private static final Set<DetectionStatus> CACHEABLE = EnumSet.of(
+      DetectionStatus.KILLED, DetectionStatus.SURVIVED,
+      DetectionStatus.NON_VIABLE);
+
+  private final Path             dir;
+  private final long             maxBytes;
+  private final MutationDigester digester;
+
+  public DirectoryResultCache(final Path dir, final long maxBytes,
+      final MutationDigester digester) {
+    this.dir = dir;
+    this.maxBytes = maxBytes;
+    this.digester = digester;
+  }
+
+  @Override
+  public Optional<MutationStatusTestPair> getResult(
+      final MutationDetails mutation) {
+    final Path entry = entryFor(this.digester.digest(mutation));
+    if (!Files.exists(entry)) {
+      return Optional.empty();
+    }
+    try (InputStream is = Files.newInputStream(entry);
+        ObjectInputStream ois = new ObjectInputStream(is)) {
+      final MutationStatusTestPair result = (MutationStatusTestPair) ois
+          .readObject();
+      CacheDirectory.touch(entry);
+      return Optional.of(result);
+    } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+      LOG.log(Level.FINE, "Could not read cached result " + entry, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+    if (!CACHEABLE.contains(result.getStatus())
+        || result.getDetails().getTestsInOrder().isEmpty()) {
+      return;
+    }
+
+    final Path entry = entryFor(this.digester.digest(result.getDetails()));
+    if (Files.exists(entry)) {
+      return;
+    }
+    try {
+      Files.createDirectories(entry.getParent());
+      final Path tmp = Files.createTempFile(entry.getParent(), "result",
+          ".tmp");
+      try (OutputStream os = Files.newOutputStream(tmp);
+          ObjectOutputStream oos = new ObjectOutputStream(os)) {
+        oos.writeObject(result.getStatusTestPair());
+      }
+      Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not write cached result " + entry, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    CacheDirectory.trim(this.dir, this.maxBytes);
+  }
+
+  Path entryFor(final String digest) {
+    return this.dir.resolve(digest.substring(0, 2))
+        .resolve(digest.substring(2));
+  }
+
+}
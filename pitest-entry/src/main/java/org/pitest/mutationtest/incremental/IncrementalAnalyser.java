@@ -28,12 +28,19 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
   private final CodeHistory                history;
   private final CoverageDatabase           coverage;
+  private final ResultCache                cache;
   private final Map<DetectionStatus, Long> preAnalysed = new EnumMap<>(DetectionStatus.class);
 
   public IncrementalAnalyser(final CodeHistory history,
       final CoverageDatabase coverage) {
+    this(history, coverage, new NullResultCache());
+  }
+
+  public IncrementalAnalyser(final CodeHistory history,
+      final CoverageDatabase coverage, final ResultCache cache) {
     this.history = history;
     this.coverage = coverage;
+    this.cache = cache;
   }
 
   @Override
@@ -127,6 +134,15 @@ public class IncrementalAnalyser implements MutationAnalyser {
   }
 
   private MutationResult analyseFromScratch(final MutationDetails mutation) {
+    if (!mutation.getTestsInOrder().isEmpty()) {
+      final Optional<MutationStatusTestPair> cached = this.cache
+          .getResult(mutation);
+      if (cached.isPresent()) {
+        final MutationStatusTestPair result = cached.get();
+        return makeResult(mutation, result.getStatus(),
+            result.getKillingTests(), result.getSucceedingTests());
+      }
+    }
     return makeResult(mutation, DetectionStatus.NOT_STARTED);
   }
 
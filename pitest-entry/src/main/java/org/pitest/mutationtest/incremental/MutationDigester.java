@@ -0,0 +1,170 @@
+package org.pitest.mutationtest.incremental;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.dependency.ProjectDependencies;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Unchecked;
+
+/**
+ * Creates content based keys for mutants.
+ *
+ * The key covers the pitest version and the settings that affect how mutants
+ * are created and run, the bytes of the mutated class and the mutation's
+ * identifier (which together determine the mutant's bytecode), the names of
+ * the covering tests, and the bytes of the test classes, their super classes,
+ * every project class they depend on and every class under test the covering
+ * tests execute. Classes on library jars are assumed not to change.
+ */
+public class MutationDigester {
+
+  private static final String                       FORMAT_VERSION = "2";
+
+  private final CodeSource                          code;
+  private final CoverageDatabase                    coverage;
+  private final String                              configuration;
+  private final Function<ClassName, Set<ClassName>> projectDependencies;
+  private final Map<ClassName, String>              classDigests   = new HashMap<>();
+  private Map<String, Set<ClassName>>               classesByTest;
+
+  public MutationDigester(final CodeSource code,
+      final CoverageDatabase coverage, final String configuration) {
+    this(code, coverage, configuration,
+        new ProjectDependencies(code)::dependenciesOf);
+  }
+
+  MutationDigester(final CodeSource code, final CoverageDatabase coverage,
+      final String configuration,
+      final Function<ClassName, Set<ClassName>> projectDependencies) {
+    this.code = code;
+    this.coverage = coverage;
+    this.configuration = configuration;
+    this.projectDependencies = projectDependencies;
+  }
+
+  /**
+   * The settings that change which mutants are created or how they are run.
+   * Timeouts are not included as timed out results are not cached.
+   */
+  public static String configurationOf(final ReportOptions data) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("engine=").append(data.getMutationEngine());
+    sb.append(";mutators=").append(data.getMutators());
+    sb.append(";features=").append(data.getFeatures());
+    sb.append(";jvmArgs=").append(data.getJvmArgs());
+    sb.append(";excludedMethods=").append(data.getExcludedMethods());
+    sb.append(";excludedRunners=").append(data.getExcludedRunners());
+    sb.append(";includedTestMethods=").append(data.getIncludedTestMethods());
+    sb.append(";groups=").append(data.getGroupConfig());
+    sb.append(";skipFailingTests=").append(data.skipFailingTests());
+    sb.append(";splitClassFixtures=").append(data.splitClassFixtures());
+    if (data.getFreeFormProperties() != null) {
+      sb.append(";properties=")
+          .append(new TreeMap<>(data.getFreeFormProperties()));
+    }
+    return sb.toString();
+  }
+
+  public synchronized String digest(final MutationDetails mutation) {
+    final MessageDigest md = sha256();
+    update(md, FORMAT_VERSION);
+    update(md, pitestVersion());
+    update(md, this.configuration);
+
+    final MutationIdentifier id = mutation.getId();
+    update(md, classDigest(id.getClassName()));
+    update(md, id.getMutator());
+    update(md, id.getLocation().getMethodName());
+    update(md, id.getLocation().getMethodDesc());
+    update(md, id.getIndexes().toString());
+
+    final Set<String> tests = new TreeSet<>();
+    final Set<ClassName> dependencies = new TreeSet<>();
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      tests.add(each.getName());
+      final ClassName testClass = TestInfo.toDefiningClassName().apply(each);
+      addWithSuperClasses(testClass, dependencies);
+      dependencies.addAll(this.projectDependencies.apply(testClass));
+      dependencies.addAll(classesCoveredBy(each.getName()));
+    }
+
+    for (final String each : tests) {
+      update(md, each);
+    }
+    for (final ClassName each : dependencies) {
+      update(md, each.asInternalName());
+      update(md, classDigest(each));
+    }
+
+    return toHex(md.digest());
+  }
+
+  private void addWithSuperClasses(final ClassName clazz,
+      final Set<ClassName> dependencies) {
+    Optional<ClassInfo> current = this.code.fetchClass(clazz);
+    while (current.isPresent() && dependencies.add(current.get().getName())) {
+      current = current.get().getSuperClass();
+    }
+  }
+
+  private Set<ClassName> classesCoveredBy(final String test) {
+    if (this.classesByTest == null) {
+      this.classesByTest = new HashMap<>();
+      for (final ClassName each : this.code.getCodeUnderTestNames()) {
+        for (final TestInfo t : this.coverage.getTestsForClass(each)) {
+          this.classesByTest.computeIfAbsent(t.getName(), k -> new TreeSet<>())
+              .add(each);
+        }
+      }
+    }
+    return this.classesByTest.getOrDefault(test, new TreeSet<>());
+  }
+
+  private String classDigest(final ClassName clazz) {
+    return this.classDigests.computeIfAbsent(clazz,
+        c -> this.code.fetchClassBytes(c)
+            .map(bytes -> toHex(sha256().digest(bytes)))
+            .orElse("missing"));
+  }
+
+  private static String pitestVersion() {
+    final String version = MutationDigester.class.getPackage()
+        .getImplementationVersion();
+    return version != null ? version : "dev";
+  }
+
+  private static void update(final MessageDigest md, final String value) {
+    md.update(value.getBytes(StandardCharsets.UTF_8));
+    md.update((byte) 0);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static String toHex(final byte[] bytes) {
+    return String.format("%064x", new BigInteger(1, bytes));
+  }
+
+}
@@ -11,6 +11,8 @@ import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestClassHistory;
+import org.pitest.mutationtest.TestDurations;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class NullHistoryStore implements HistoryStore {
@@ -25,6 +27,11 @@ public class NullHistoryStore implements HistoryStore {
 
   }
 
+  @Override
+  public void recordTestCoverage(final Collection<TestClassHistory> coverage) {
+
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return Collections.emptyMap();
@@ -35,6 +42,31 @@ public class NullHistoryStore implements HistoryStore {
     return Collections.emptyMap();
   }
 
+  @Override
+  public Map<ClassName, TestClassHistory> getHistoricTestCoverage() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void recordTestDurations(final TestDurations durations) {
+
+  }
+
+  @Override
+  public TestDurations getTestDurations() {
+    return TestDurations.empty();
+  }
+
+  @Override
+  public void recordMinionHeap(final ClassName clazz, final long peakBytes) {
+
+  }
+
+  @Override
+  public Map<ClassName, Long> getHistoricMinionHeaps() {
+    return Collections.emptyMap();
+  }
+
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class NullResultCache implements ResultCache {
+
+  @Override
+  public Optional<MutationStatusTestPair> getResult(
+      final MutationDetails mutation) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+
+  }
+
+  @Override
+  public void close() {
+
+  }
+
+}
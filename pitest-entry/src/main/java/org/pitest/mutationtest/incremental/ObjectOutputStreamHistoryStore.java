@@ -9,7 +9,10 @@ import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,11 +23,17 @@ import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestClassHistory;
+import org.pitest.mutationtest.TestDurations;
+import org.pitest.mutationtest.TestIdList;
+import org.pitest.mutationtest.TestNames;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
+import org.pitest.util.PackedInts;
 import org.pitest.util.Unchecked;
 
 public class ObjectOutputStreamHistoryStore implements HistoryStore {
@@ -35,6 +44,16 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<ClassName, TestClassHistory>                previousCoverage  = new HashMap<>();
+  private final Collection<TestClassHistory>                    currentCoverage   = new ArrayList<>();
+  private TestDurations                                         previousDurations = TestDurations.empty();
+  private TestDurations                                         currentDurations;
+  private final Map<ClassName, Long>                            previousHeaps     = new HashMap<>();
+  // ids of the tests whose names have been written, and the ids in this run
+  // of the tests named in the file read
+  private final TestNames                                       testNames         = TestNames.shared();
+  private final BitSet                                          writtenTests      = new BitSet();
+  private int[]                                                 readTests         = new int[0];
 
   public ObjectOutputStreamHistoryStore(final WriterFactory output,
       final Optional<Reader> input) {
@@ -57,17 +76,84 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
           coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
       output.println(serialize(coverage));
     }
+    // test coverage is gathered before the class path is known, so is held
+    // until now to keep the class path at the head of the file
+    for (final TestClassHistory each : this.currentCoverage) {
+      output.println(serialize(each));
+    }
+    if (this.currentDurations != null) {
+      output.println(serialize(this.currentDurations));
+    }
+    // carry forward the heaps of classes whose mutants may not be rerun
+    for (final HierarchicalClassId each : ids) {
+      final Long heap = this.previousHeaps.get(each.getName());
+      if (heap != null) {
+        output.println(serialize(new MinionHeap(each.getName(), heap)));
+      }
+    }
+    output.flush();
+  }
+
+  @Override
+  public void recordTestCoverage(final Collection<TestClassHistory> coverage) {
+    this.currentCoverage.addAll(coverage);
+  }
+
+  @Override
+  public void recordTestDurations(final TestDurations durations) {
+    this.currentDurations = durations;
+  }
+
+  @Override
+  public TestDurations getTestDurations() {
+    if (this.currentDurations != null) {
+      return this.currentDurations;
+    }
+    return this.previousDurations;
+  }
+
+  /**
+   * Results refer to tests by id, each test's name being written once before
+   * the first result that refers to it. The ids of the killing and
+   * succeeding tests are held as separate packed columns.
+   */
+  @Override
+  public synchronized void recordResult(final MutationResult result) {
+    final PrintWriter output = this.outputFactory.create();
+    final MutationStatusTestPair status = result.getStatusTestPair();
+    final int[] killing = this.testNames.idsOf(status.getKillingTests());
+    final int[] succeeding = this.testNames
+        .idsOf(status.getSucceedingTests());
+    writeTestNames(output, killing);
+    writeTestNames(output, succeeding);
+    output.println(serialize(new IdResult(result.getDetails().getId(),
+        status.getNumberOfTestsRun(), status.getStatus(),
+        PackedInts.pack(killing), PackedInts.pack(succeeding))));
     output.flush();
   }
 
+  private void writeTestNames(final PrintWriter output, final int[] ids) {
+    for (final int each : ids) {
+      if (!this.writtenTests.get(each)) {
+        output.println(serialize(new TestName(each,
+            this.testNames.nameOf(each))));
+        this.writtenTests.set(each);
+      }
+    }
+  }
+
   @Override
-  public void recordResult(final MutationResult result) {
+  public void recordMinionHeap(final ClassName clazz, final long peakBytes) {
     final PrintWriter output = this.outputFactory.create();
-    output.println(serialize(new ObjectOutputStreamHistoryStore.IdResult(
-        result.getDetails().getId(), result.getStatusTestPair())));
+    output.println(serialize(new MinionHeap(clazz, peakBytes)));
     output.flush();
   }
 
+  @Override
+  public Map<ClassName, Long> getHistoricMinionHeaps() {
+    return this.previousHeaps;
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return this.previousResults;
@@ -78,6 +164,11 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public Map<ClassName, TestClassHistory> getHistoricTestCoverage() {
+    return this.previousCoverage;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
@@ -96,8 +187,23 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = deserialize(line, IdResult.class);
-        this.previousResults.put(result.id, result.status);
+        final Object entry = deserialize(line, Object.class);
+        if (entry instanceof TestClassHistory) {
+          final TestClassHistory coverage = (TestClassHistory) entry;
+          this.previousCoverage.put(coverage.getName(), coverage);
+        } else if (entry instanceof TestDurations) {
+          this.previousDurations = (TestDurations) entry;
+        } else if (entry instanceof MinionHeap) {
+          final MinionHeap heap = (MinionHeap) entry;
+          this.previousHeaps.put(heap.clazz, heap.peakBytes);
+        } else if (entry instanceof TestName) {
+          readTestName((TestName) entry);
+        } else {
+          final IdResult result = (IdResult) entry;
+          this.previousResults.put(result.id, new MutationStatusTestPair(
+              result.testsRun, result.status, readTests(result.killing),
+              readTests(result.succeeding)));
+        }
         line = this.input.readLine();
       }
     } catch (final IOException e) {
@@ -105,6 +211,22 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     }
   }
 
+  private void readTestName(final TestName name) {
+    if (name.id >= this.readTests.length) {
+      this.readTests = Arrays.copyOf(this.readTests,
+          Math.max(name.id + 1, this.readTests.length * 2));
+    }
+    this.readTests[name.id] = this.testNames.idOf(name.name);
+  }
+
+  private TestIdList readTests(final byte[] packed) {
+    final int[] ids = PackedInts.unpack(packed);
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = this.readTests[ids[i]];
+    }
+    return TestIdList.ofIds(this.testNames, ids);
+  }
+
   private void restoreClassPath() {
     try {
       final long classPathSize = Long.parseLong(this.input.readLine());
@@ -143,15 +265,47 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   }
 
   private static class IdResult implements Serializable {
-    private static final long    serialVersionUID = 1L;
-    final MutationIdentifier     id;
-    final MutationStatusTestPair status;
+    private static final long serialVersionUID = 2L;
+    final MutationIdentifier  id;
+    final int                 testsRun;
+    final DetectionStatus     status;
+    final byte[]              killing;
+    final byte[]              succeeding;
 
-    IdResult(final MutationIdentifier id, final MutationStatusTestPair status) {
+    IdResult(final MutationIdentifier id, final int testsRun,
+        final DetectionStatus status, final byte[] killing,
+        final byte[] succeeding) {
       this.id = id;
+      this.testsRun = testsRun;
       this.status = status;
+      this.killing = killing;
+      this.succeeding = succeeding;
+    }
+
+  }
+
+  private static class TestName implements Serializable {
+    private static final long serialVersionUID = 1L;
+    final int                 id;
+    final String              name;
+
+    TestName(final int id, final String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+  }
+
+  private static class MinionHeap implements Serializable {
+    private static final long serialVersionUID = 1L;
+    final ClassName           clazz;
+    final long                peakBytes;
+
+    MinionHeap(final ClassName clazz, final long peakBytes) {
+      this.clazz = clazz;
+      this.peakBytes = peakBytes;
     }
 
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Store of mutation results keyed by the content of the mutant and of the
+ * tests that cover it, rather than by location. Results can therefore be
+ * shared between branches, checkouts and concurrent runs.
+ */
+public interface ResultCache {
+
+  Optional<MutationStatusTestPair> getResult(MutationDetails mutation);
+
+  void recordResult(MutationResult result);
+
+  void close();
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+
+public class ResultCacheListener implements MutationResultListener {
+
+  private final ResultCache cache;
+
+  public ResultCacheListener(final ResultCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults metaData) {
+    for (final MutationResult each : metaData.getMutations()) {
+      this.cache.recordResult(each);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    this.cache.close();
+  }
+
+}
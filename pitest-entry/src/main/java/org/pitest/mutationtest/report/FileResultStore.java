@@ -0,0 +1,147 @@
+package org.pitest.mutationtest.report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Spills results to an append only file as they arrive, holding only the
+ * offset of each class's results on the heap. Results are read back from the
+ * file a package at a time.
+ *
+ * The file is created in the supplied directory and deleted when the store
+ * is closed.
+ */
+public class FileResultStore implements ResultStore {
+
+  private static final Logger           LOG     = Log.getLogger();
+
+  private final Path                    file;
+  private final DataOutputStream        out;
+  private final Map<String, List<Long>> offsets = new TreeMap<>();
+  private long                          length;
+
+  public FileResultStore(final Path dir) {
+    try {
+      Files.createDirectories(dir);
+      this.file = Files.createTempFile(dir, "results", ".bin");
+      this.out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(this.file)));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public synchronized void add(final ClassMutationResults results) {
+    final byte[] record = toBytes(results);
+    try {
+      this.out.writeInt(record.length);
+      this.out.write(record);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    this.offsets.computeIfAbsent(results.getPackageName(),
+        k -> new ArrayList<>()).add(this.length);
+    this.length = this.length + 4 + record.length;
+  }
+
+  @Override
+  public synchronized Collection<String> packages() {
+    return new ArrayList<>(this.offsets.keySet());
+  }
+
+  @Override
+  public synchronized List<ClassMutationResults> resultsFor(
+      final String packageName) {
+    final List<Long> recordOffsets = this.offsets.get(packageName);
+    final List<ClassMutationResults> results = new ArrayList<>();
+    if (recordOffsets == null) {
+      return results;
+    }
+    try {
+      this.out.flush();
+      try (RandomAccessFile in = new RandomAccessFile(this.file.toFile(), "r")) {
+        for (final long each : recordOffsets) {
+          in.seek(each);
+          final byte[] record = new byte[in.readInt()];
+          in.readFully(record);
+          results.add(fromBytes(record));
+        }
+      }
+    } catch (final IOException | ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return results;
+  }
+
+  @Override
+  public synchronized void release(final String packageName) {
+    this.offsets.remove(packageName);
+  }
+
+  @Override
+  public synchronized void close() {
+    this.offsets.clear();
+    try {
+      this.out.close();
+      Files.deleteIfExists(this.file);
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not delete " + this.file, e);
+    }
+  }
+
+  Path getFile() {
+    return this.file;
+  }
+
+  private static byte[] toBytes(final ClassMutationResults results) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeInt(results.getMutations().size());
+      for (final MutationResult each : results.getMutations()) {
+        oos.writeObject(each.getDetails());
+        oos.writeObject(each.getStatusTestPair());
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return bos.toByteArray();
+  }
+
+  private static ClassMutationResults fromBytes(final byte[] record)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new ByteArrayInputStream(record))) {
+      final int count = ois.readInt();
+      final List<MutationResult> mutations = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        mutations.add(new MutationResult((MutationDetails) ois.readObject(),
+            (MutationStatusTestPair) ois.readObject()));
+      }
+      return new ClassMutationResults(mutations);
+    }
+  }
+
+}
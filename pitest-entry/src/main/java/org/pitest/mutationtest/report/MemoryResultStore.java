@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.report;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.pitest.mutationtest.ClassMutationResults;
+
+/**
+ * Holds results on the heap
+ */
+public class MemoryResultStore implements ResultStore {
+
+  private final Map<String, List<ClassMutationResults>> results = new TreeMap<>();
+
+  @Override
+  public void add(final ClassMutationResults results) {
+    this.results.computeIfAbsent(results.getPackageName(),
+        k -> new ArrayList<>()).add(results);
+  }
+
+  @Override
+  public Collection<String> packages() {
+    return new ArrayList<>(this.results.keySet());
+  }
+
+  @Override
+  public List<ClassMutationResults> resultsFor(final String packageName) {
+    return this.results.getOrDefault(packageName, Collections.emptyList());
+  }
+
+  @Override
+  public void release(final String packageName) {
+    this.results.remove(packageName);
+  }
+
+  @Override
+  public void close() {
+    this.results.clear();
+  }
+
+}
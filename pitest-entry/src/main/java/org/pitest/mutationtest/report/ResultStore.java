@@ -0,0 +1,33 @@
+package org.pitest.mutationtest.report;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.mutationtest.ClassMutationResults;
+
+/**
+ * Holds the results of a run until report listeners are ready to write them,
+ * so that they can be read back a package at a time.
+ */
+public interface ResultStore {
+
+  void add(ClassMutationResults results);
+
+  /**
+   * The packages holding results, in name order
+   */
+  Collection<String> packages();
+
+  List<ClassMutationResults> resultsFor(String packageName);
+
+  /**
+   * Discards the results held for a package
+   */
+  void release(String packageName);
+
+  /**
+   * Discards all results and any resources used to hold them
+   */
+  void close();
+
+}
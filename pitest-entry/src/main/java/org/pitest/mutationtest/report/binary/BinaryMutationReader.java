@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.report.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.CompactInput;
+
+/**
+ * Reads mutation results written by {@link BinaryReportListener}
+ */
+public class BinaryMutationReader {
+
+  public List<MutationResult> read(final InputStream stream)
+      throws IOException {
+    final List<MutationResult> results = new ArrayList<>();
+    try (CompactInput in = new CompactInput(stream,
+        BinaryReportListener.TYPE)) {
+      while (in.hasNext()) {
+        results.add(readResult(in));
+      }
+    }
+    return results;
+  }
+
+  private MutationResult readResult(final CompactInput in) throws IOException {
+    final String file = in.readString();
+    final ClassName clazz = ClassName.fromString(in.readString());
+    final String method = in.readString();
+    final String methodDesc = in.readString();
+    final int line = in.readInt();
+    final String mutator = in.readString();
+    final int numberOfIndexes = in.readInt();
+    final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+    for (int i = 0; i != numberOfIndexes; i++) {
+      indexes.add(in.readInt());
+    }
+    final int block = in.readInt();
+    final String description = in.readString();
+    final DetectionStatus status = DetectionStatus.valueOf(in.readString());
+    final int testsRun = in.readInt();
+    final List<String> killingTests = in.readStrings();
+    final List<String> succeedingTests = in.readStrings();
+
+    final MutationIdentifier id = new MutationIdentifier(
+        new Location(clazz, method, methodDesc), indexes, mutator);
+    return new MutationResult(
+        new MutationDetails(id, file, description, line, block),
+        new MutationStatusTestPair(testsRun, status, killingTests,
+            succeedingTests));
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.pitest.mutationtest.report.binary;
+
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.Log;
+import org.pitest.util.ResultOutputStrategy;
+
+public class BinaryReportFactory implements MutationResultListenerFactory {
+
+  private static final Logger LOG = Log.getLogger();
+
+  @Override
+  public MutationResultListener getListener(Properties props,
+      final ListenerArguments args) {
+    final ResultOutputStrategy strategy = args.getOutputStrategy();
+    if (strategy instanceof BinaryResultOutputStrategy) {
+      return new BinaryReportListener((BinaryResultOutputStrategy) strategy);
+    }
+    LOG.warning("Output strategy cannot write binary files, so "
+        + BinaryReportListener.FILE_NAME + " will not be written");
+    return new NoReportListener();
+  }
+
+  @Override
+  public String name() {
+    return "BINARY";
+  }
+
+  @Override
+  public String description() {
+    return "Compact binary report plugin";
+  }
+
+  private static class NoReportListener implements MutationResultListener {
+
+    @Override
+    public void runStart() {
+
+    }
+
+    @Override
+    public void handleMutationResult(final ClassMutationResults results) {
+
+    }
+
+    @Override
+    public void runEnd() {
+
+    }
+
+  }
+
+}
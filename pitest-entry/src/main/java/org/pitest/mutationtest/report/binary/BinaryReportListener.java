@@ -0,0 +1,87 @@
+package org.pitest.mutationtest.report.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.BinaryResultOutputStrategy;
+import org.pitest.util.CompactOutput;
+import org.pitest.util.Unchecked;
+
+/**
+ * Writes mutation results to mutations.bin in the compact binary format. Unlike
+ * the xml report, all killing and succeeding tests are always recorded.
+ */
+public class BinaryReportListener implements MutationResultListener {
+
+  public static final String FILE_NAME = "mutations.bin";
+
+  static final int           TYPE      = 1;
+  static final int           VERSION   = 1;
+
+  private final CompactOutput out;
+
+  public BinaryReportListener(
+      final BinaryResultOutputStrategy outputStrategy) {
+    this(outputStrategy.createOutputStreamForFile(FILE_NAME));
+  }
+
+  public BinaryReportListener(final OutputStream out) {
+    try {
+      this.out = new CompactOutput(out, TYPE, VERSION);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults metaData) {
+    try {
+      for (final MutationResult each : metaData.getMutations()) {
+        write(each);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void write(final MutationResult result) throws IOException {
+    final MutationDetails details = result.getDetails();
+    this.out.startRecord();
+    this.out.writeString(details.getFilename());
+    this.out.writeString(details.getClassName().asJavaName());
+    this.out.writeString(details.getMethod());
+    this.out.writeString(details.getId().getLocation().getMethodDesc());
+    this.out.writeInt(details.getLineNumber());
+    this.out.writeString(details.getMutator());
+    this.out.writeInt(details.getId().getIndexes().size());
+    for (final int index : details.getId().getIndexes()) {
+      this.out.writeInt(index);
+    }
+    this.out.writeInt(details.getBlock());
+    this.out.writeString(details.getDescription());
+    this.out.writeString(result.getStatus().name());
+    this.out.writeInt(result.getNumberOfTestsRun());
+    this.out.writeStrings(result.getKillingTests());
+    this.out.writeStrings(result.getSucceedingTests());
+  }
+
+  @Override
+  public void runEnd() {
+    try {
+      this.out.endRecords();
+      this.out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Timeline;
 import org.pitest.util.Timings;
 
 import java.io.File;
@@ -102,16 +103,17 @@ public class EntryPoint {
 
     final CodeSource code = new CodeSource(cps);
 
-    final Timings timings = new Timings();
-    final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-        baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, data.getVerbosity());
-
-
     final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
     WriterFactory historyWriter = maybeWriter.orElse(new NullWriterFactory());
     final HistoryStore history = makeHistoryStore(data, maybeWriter);
 
+    final Timings timings = new Timings(
+        new Timeline(data.shouldExportTimeline()));
+    final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
+        baseDir, coverageOptions, launchOptions, code,
+        settings.createCoverageExporter(), timings, data.getVerbosity(),
+        history);
+
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
         reportOutput);
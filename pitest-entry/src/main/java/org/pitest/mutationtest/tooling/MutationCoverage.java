@@ -25,6 +25,7 @@ import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageSummary;
+import org.pitest.coverage.DirectoryInstrumentedClassCache;
 import org.pitest.coverage.NoCoverage;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
@@ -36,7 +37,10 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
 import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MinionMemory;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
@@ -45,28 +49,42 @@ import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
+import org.pitest.mutationtest.config.CompoundTestListener;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.LocalMinionLauncher;
+import org.pitest.mutationtest.execute.MinionLauncher;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.RemoteMinionLauncher;
+import org.pitest.mutationtest.execute.ThrottledMinionLauncher;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
+import org.pitest.mutationtest.incremental.DirectoryResultCache;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
+import org.pitest.mutationtest.incremental.MutationDigester;
 import org.pitest.mutationtest.incremental.NullHistoryStore;
+import org.pitest.mutationtest.incremental.NullResultCache;
+import org.pitest.mutationtest.incremental.ResultCache;
+import org.pitest.mutationtest.incremental.ResultCacheListener;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
 import org.pitest.util.Log;
 import org.pitest.util.StringUtil;
+import org.pitest.util.Timeline;
 import org.pitest.util.Timings;
+import org.pitest.util.Unchecked;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -79,6 +97,8 @@ public class MutationCoverage {
 
   private static final int         MB  = 1024 * 1024;
 
+  private static final String      TIMELINE_FILE = "timeline.json";
+
   private static final Logger      LOG = Log.getLogger();
   private final ReportOptions      data;
 
@@ -146,8 +166,13 @@ public class MutationCoverage {
   }
 
   private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine) {
-    CoverageDatabase coverageData = coverage().calculateCoverage();
     HistoryStore history =  this.strategies.history();
+    // history must be read before coverage is calculated, as the coverage
+    // generator may reuse the test coverage it holds
+    history.initialize();
+
+    CoverageDatabase coverageData = coverage().calculateCoverage();
+    trimInstrumentationCache();
 
     LOG.fine("Used memory after coverage calculation "
         + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
@@ -156,11 +181,11 @@ public class MutationCoverage {
 
     final MutationStatisticsListener stats = new MutationStatisticsListener();
 
-    history.initialize();
+    final ResultCache cache = resultCache(coverageData);
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
+            cache, engine, args, allInterceptors());
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -173,13 +198,15 @@ public class MutationCoverage {
         + " mb");
 
     final List<MutationResultListener> config = createConfig(t0, coverageData, history,
-                stats, engine);
+                cache, stats, engine);
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
+        numberOfThreads(), config, this.timings.timeline());
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
     mae.run(tus);
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
+    writeTimeline();
+
     LOG.info("Completed in " + timeSpan(t0));
 
     CombinedStatistics combined = new CombinedStatistics(stats.getStatistics(),
@@ -190,6 +217,17 @@ public class MutationCoverage {
     return combined;
   }
 
+  private void writeTimeline() {
+    final Timeline timeline = this.timings.timeline();
+    if (timeline.isEnabled()) {
+      try (Writer out = this.strategies.output().createWriterForFile(TIMELINE_FILE)) {
+        timeline.writeJson(out);
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+  }
+
   private Predicate<MutationInterceptor> allInterceptors() {
     return i -> true;
   }
@@ -202,7 +240,8 @@ public class MutationCoverage {
     // an initial run here we are able to skip coverage generation when no mutants
     // are found, e.g if pitest is being run against diffs.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
-    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(), engine, args, noReports());
+    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(),
+        new NullResultCache(), engine, args, noReports());
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
     return mutants;
   }
@@ -232,6 +271,7 @@ public class MutationCoverage {
   private List<MutationResultListener> createConfig(long t0,
                                                     CoverageDatabase coverageData,
                                                     HistoryStore history,
+                                                    ResultCache cache,
                                                     MutationStatisticsListener stats,
                                                     MutationEngine engine) {
     final List<MutationResultListener> ls = new ArrayList<>();
@@ -245,8 +285,14 @@ public class MutationCoverage {
     final MutationResultListener mutationReportListener = this.strategies
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
 
-    ls.add(mutationReportListener);
+    // reports are added individually so that the time each takes is recorded
+    if (mutationReportListener instanceof CompoundTestListener) {
+      ((CompoundTestListener) mutationReportListener).children().forEach(ls::add);
+    } else {
+      ls.add(mutationReportListener);
+    }
     ls.add(new HistoryListener(history));
+    ls.add(new ResultCacheListener(cache));
 
     if (this.data.getVerbosity().showSpinner()) {
       ls.add(new SpinnerListener(System.out));
@@ -308,6 +354,7 @@ public class MutationCoverage {
 
   private List<MutationAnalysisUnit> buildMutationTests(CoverageDatabase coverageData,
                                                         HistoryStore history,
+                                                        ResultCache cache,
                                                         MutationEngine engine,
                                                         EngineArguments args,
                                                         Predicate<MutationInterceptor> interceptorFilter) {
@@ -329,13 +376,13 @@ public class MutationCoverage {
     final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history), coverageData);
+        new DefaultCodeHistory(this.code, history), coverageData, cache);
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+        timeoutStrategy(history), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(), minionLauncher(),
+        this.timings.timeline(), minionMemory(history));
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
@@ -346,6 +393,66 @@ public class MutationCoverage {
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private TimeoutLengthStrategy timeoutStrategy(HistoryStore history) {
+    final TimeoutLengthStrategy fixed = new PercentAndConstantTimeoutStrategy(
+        this.data.getTimeoutFactor(), this.data.getTimeoutConstant());
+    if (!this.data.useAdaptiveTimeouts()) {
+      return fixed;
+    }
+    final Map<String, Long> allowances = history.getTestDurations()
+        .allowedTimes(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant());
+    LOG.fine("Adaptive timeouts available for " + allowances.size() + " tests");
+    return new AdaptiveTimeoutStrategy(fixed, allowances);
+  }
+
+  private MinionMemory minionMemory(HistoryStore history) {
+    if (this.data.getMinionMemoryBudget() <= 0) {
+      return MinionMemory.unmanaged();
+    }
+    return MinionMemory.forBudget(history,
+        this.data.getMinionMemoryBudget() * MB, numberOfThreads(),
+        this.data.getJvmArgs());
+  }
+
+  private void trimInstrumentationCache() {
+    if (this.data.getInstrumentationCacheLocation() != null) {
+      new DirectoryInstrumentedClassCache(
+          this.data.getInstrumentationCacheLocation().toPath(),
+          this.data.getInstrumentationCacheMaxSize() * MB).close();
+    }
+  }
+
+  private ResultCache resultCache(CoverageDatabase coverageData) {
+    if (this.data.getResultCacheLocation() == null) {
+      return new NullResultCache();
+    }
+    return new DirectoryResultCache(this.data.getResultCacheLocation().toPath(),
+        this.data.getResultCacheMaxSize() * MB,
+        new MutationDigester(this.code, coverageData,
+            MutationDigester.configurationOf(this.data)));
+  }
+
+  private MinionLauncher minionLauncher() {
+    final MinionLauncher launcher = this.data.getRemoteAgents().isEmpty()
+        ? new LocalMinionLauncher()
+        : remoteMinionLauncher();
+    if (this.data.getSharedMinionLimit() > 0) {
+      return new ThrottledMinionLauncher(launcher,
+          ThrottledMinionLauncher.sharedSlots(this.data.getSharedMinionLimit()));
+    }
+    return launcher;
+  }
+
+  private MinionLauncher remoteMinionLauncher() {
+    // fail before any minion starts rather than run remote minions in a
+    // different configuration to local ones
+    RemoteMinionLauncher.checkSupported(
+        coverage().getLaunchOptions().getChildJVMArgs(),
+        coverage().getLaunchOptions().getEnvironmentVariables());
+    return new RemoteMinionLauncher(this.data.getRemoteAgents());
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
@@ -15,57 +15,228 @@
 package org.pitest.mutationtest.tooling;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.function.Function;
-
-import org.pitest.functional.FArray;
-import org.pitest.functional.FCollection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.util.Log;
 
+/**
+ * Locates source files beneath a set of roots, allowing the package
+ * directories to start up to MAX_DEPTH + 1 levels below a root.
+ *
+ * The roots are walked once when the locator is created to build an index of
+ * file name to location, so locating a file does not touch the file system
+ * until it is opened. The index is not modified after construction so the
+ * locator may be shared between threads.
+ *
+ * Only source files are indexed. Hidden directories, and build output
+ * directories beside the build file that creates them, are not walked, and
+ * links are only followed if requested.
+ */
 public class SmartSourceLocator implements SourceLocator {
 
-  private static final int                MAX_DEPTH = 4;
+  private static final Logger                LOG       = Log.getLogger();
 
-  private final Collection<SourceLocator> children;
+  private static final int                   MAX_DEPTH = 4;
 
-  public SmartSourceLocator(final Collection<File> roots) {
-    final Collection<File> childDirs = FCollection.flatMap(roots,
-        collectChildren(0));
-    childDirs.addAll(roots);
+  private static final Set<String>           SOURCE_EXTENSIONS = new HashSet<>(
+      Arrays.asList(".java", ".kt", ".groovy", ".scala"));
+
+  // build output directories, and the files beside them that identify them
+  private static final Map<String, List<String>> OUTPUT_DIRECTORIES = new HashMap<>();
+
+  static {
+    OUTPUT_DIRECTORIES.put("target", Arrays.asList("pom.xml", "build.sbt"));
+    OUTPUT_DIRECTORIES.put("build",
+        Arrays.asList("build.gradle", "build.gradle.kts"));
+    OUTPUT_DIRECTORIES.put("node_modules", Arrays.asList("package.json"));
+  }
+
+  private final Map<String, List<SourceFile>> files    = new HashMap<>();
 
-    this.children = FCollection.map(childDirs, DirectorySourceLocator::new);
+  public SmartSourceLocator(final Collection<File> roots) {
+    this(roots, false);
   }
 
-  private Function<File, Collection<File>> collectChildren(final int depth) {
-    return a -> collectDirectories(a, depth);
+  public SmartSourceLocator(final Collection<File> roots,
+      final boolean followLinks) {
+    for (final File each : roots) {
+      index(each.toPath(), followLinks);
+    }
   }
 
-  private Collection<File> collectDirectories(final File root, final int depth) {
-    final Collection<File> childDirs = listFirstLevelDirectories(root);
-    if (depth < MAX_DEPTH) {
-      childDirs.addAll(FCollection.flatMap(childDirs,
-          collectChildren(depth + 1)));
+  private void index(final Path root, final boolean followLinks) {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+    final Set<FileVisitOption> options = followLinks
+        ? EnumSet.of(FileVisitOption.FOLLOW_LINKS)
+        : EnumSet.noneOf(FileVisitOption.class);
+    try {
+      Files.walkFileTree(root, options, Integer.MAX_VALUE,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir,
+                final BasicFileAttributes attrs) {
+              if (!dir.equals(root) && isSkipped(dir)) {
+                return FileVisitResult.SKIP_SUBTREE;
+              }
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file,
+                final BasicFileAttributes attrs) {
+              if (attrs.isRegularFile() && isSource(file)) {
+                SmartSourceLocator.this.files
+                    .computeIfAbsent(file.getFileName().toString(),
+                        k -> new ArrayList<>())
+                    .add(new SourceFile(file, root.relativize(file)));
+              }
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file,
+                final IOException exc) {
+              LOG.log(Level.FINE, "Could not index " + file, exc);
+              return FileVisitResult.CONTINUE;
+            }
+          });
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Error indexing source root " + root, e);
     }
-    return childDirs;
+  }
 
+  private static boolean isSkipped(final Path dir) {
+    final String name = dir.getFileName().toString();
+    if (name.startsWith(".")) {
+      return true;
+    }
+    // a package may share a name with a build directory, so only skip those
+    // beside the build file that would create them
+    final List<String> buildFiles = OUTPUT_DIRECTORIES.get(name);
+    if (buildFiles == null) {
+      return false;
+    }
+    for (final String each : buildFiles) {
+      if (Files.exists(dir.resolveSibling(each))) {
+        return true;
+      }
+    }
+    return false;
   }
 
-  private static Collection<File> listFirstLevelDirectories(final File root) {
-    return FArray.filter(root.listFiles(), File::isDirectory);
+  private static boolean isSource(final Path file) {
+    final String name = file.getFileName().toString();
+    final int dot = name.lastIndexOf('.');
+    return dot != -1 && SOURCE_EXTENSIONS.contains(name.substring(dot));
   }
 
   @Override
   public Optional<Reader> locate(final Collection<String> classes,
       final String fileName) {
-    for (final SourceLocator each : this.children) {
-      final Optional<Reader> reader = each.locate(classes, fileName);
-      if (reader.isPresent()) {
-        return reader;
+    final List<SourceFile> candidates = this.files.getOrDefault(fileName,
+        Collections.emptyList());
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    for (final String each : classes) {
+      final int packageDepth = packageDepth(each);
+      final String packagePath = packagePath(each);
+      for (final SourceFile candidate : candidates) {
+        if (candidate.matches(packagePath, packageDepth)) {
+          final Optional<Reader> reader = candidate.open();
+          if (reader.isPresent()) {
+            return reader;
+          }
+        }
       }
     }
     return Optional.empty();
   }
 
+  private static int packageDepth(final String className) {
+    int depth = 0;
+    for (int i = 0; i != className.length(); i++) {
+      if (className.charAt(i) == '.') {
+        depth++;
+      }
+    }
+    return depth;
+  }
+
+  private static String packagePath(final String className) {
+    final int lastDot = className.lastIndexOf('.');
+    if (lastDot == -1) {
+      return "";
+    }
+    return className.substring(0, lastDot).replace('.', '/');
+  }
+
+  private static class SourceFile {
+    private final Path   file;
+    // path of parent directory relative to root, using / as separator
+    private final String directory;
+    private final int    depth;
+
+    SourceFile(final Path file, final Path relative) {
+      this.file = file;
+      final Path parent = relative.getParent();
+      this.depth = parent == null ? 0 : parent.getNameCount();
+      final StringBuilder sb = new StringBuilder();
+      if (parent != null) {
+        for (final Path each : parent) {
+          if (sb.length() != 0) {
+            sb.append('/');
+          }
+          sb.append(each.toString());
+        }
+      }
+      this.directory = sb.toString();
+    }
+
+    boolean matches(final String packagePath, final int packageDepth) {
+      final int prefixDepth = this.depth - packageDepth;
+      if (prefixDepth < 0 || prefixDepth > MAX_DEPTH + 1) {
+        return false;
+      }
+      if (packagePath.isEmpty()) {
+        return true;
+      }
+      return this.directory.equals(packagePath)
+          || this.directory.endsWith("/" + packagePath);
+    }
+
+    Optional<Reader> open() {
+      try {
+        return Optional.of(new FileReader(this.file.toFile()));
+      } catch (final FileNotFoundException e) {
+        return Optional.empty();
+      }
+    }
+  }
+
 }
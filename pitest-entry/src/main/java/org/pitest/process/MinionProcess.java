@@ -0,0 +1,16 @@
+package org.pitest.process;
+
+import java.io.IOException;
+
+/**
+ * A child process that runs a minion. Once started the minion connects back
+ * to the parent and communicates over a socket, so the parent needs only to
+ * be able to start and stop it.
+ */
+public interface MinionProcess {
+
+  void start() throws IOException;
+
+  void destroy();
+
+}
@@ -18,6 +18,7 @@ import static org.pitest.functional.prelude.Prelude.println;
 import static org.pitest.functional.prelude.Prelude.printlnTo;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,17 @@ public final class ProcessArgs {
     return this;
   }
 
+  /**
+   * Overrides any maximum heap size set by the launch options. Must be called
+   * after the launch options are set.
+   */
+  public ProcessArgs andMaxHeap(final long bytes) {
+    final List<String> args = new ArrayList<>(this.jvmArgs);
+    args.add("-Xmx" + (bytes / 1024) + "k");
+    this.jvmArgs = args;
+    return this;
+  }
+
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
@@ -8,6 +8,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,26 +17,39 @@ import java.util.function.Predicate;
 import org.pitest.functional.FCollection;
 import org.pitest.util.ManifestUtils;
 
-public class WrappingProcess {
+public class WrappingProcess implements MinionProcess {
 
-  private final int         port;
-  private final ProcessArgs processArgs;
-  private final Class<?>    minionClass;
+  private final List<String> programArgs;
+  private final ProcessArgs  processArgs;
+  private final Class<?>     minionClass;
 
-  private JavaProcess       process;
+  private JavaProcess        process;
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
-    this.port = port;
+    this(Collections.singletonList("" + port), args, minionClass);
+  }
+
+  /**
+   * Creates a process for a minion that must connect back to a parent on a
+   * host other than localhost
+   */
+  public WrappingProcess(String host, int port, ProcessArgs args,
+      Class<?> minionClass) {
+    this(Arrays.asList("" + port, host), args, minionClass);
+  }
+
+  private WrappingProcess(List<String> programArgs, ProcessArgs args,
+      Class<?> minionClass) {
+    this.programArgs = programArgs;
     this.processArgs = args;
     this.minionClass = minionClass;
   }
 
+  @Override
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
-
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
-        this.minionClass, Arrays.asList(args),
+        this.minionClass, this.programArgs,
         this.processArgs.getJavaAgentFinder(),
         this.processArgs.getLaunchClassPath());
 
@@ -69,6 +83,7 @@ public class WrappingProcess {
     }
   }
 
+  @Override
   public void destroy() {
     this.process.destroy();
   }
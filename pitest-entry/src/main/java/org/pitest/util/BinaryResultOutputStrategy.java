@@ -0,0 +1,13 @@
+package org.pitest.util;
+
+import java.io.OutputStream;
+
+/**
+ * An output strategy that can also write binary files, such as the compact
+ * binary report and coverage export
+ */
+public interface BinaryResultOutputStrategy extends ResultOutputStrategy {
+
+  OutputStream createOutputStreamForFile(String sourceFile);
+
+}
@@ -0,0 +1,99 @@
+package org.pitest.util;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads data written by {@link CompactOutput}
+ */
+public class CompactInput implements Closeable {
+
+  private final DataInputStream in;
+  private final List<String>    strings = new ArrayList<>();
+  private final int             version;
+
+  public CompactInput(final InputStream in, final int expectedType)
+      throws IOException {
+    this.in = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(in)));
+    if (this.in.readInt() != CompactOutput.MAGIC) {
+      throw new IOException("Not a compact pitest data file");
+    }
+    final int type = readInt();
+    if (type != expectedType) {
+      throw new IOException("Expected data of type " + expectedType
+          + " but found " + type);
+    }
+    this.version = readInt();
+  }
+
+  public int getVersion() {
+    return this.version;
+  }
+
+  public int readInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift = shift + 7) {
+      final int b = this.in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  public boolean readBoolean() throws IOException {
+    return this.in.readBoolean();
+  }
+
+  public String readString() throws IOException {
+    final int index = readInt();
+    if (index == 0) {
+      return null;
+    }
+    if (index == 1) {
+      final String value = this.in.readUTF();
+      this.strings.add(value);
+      return value;
+    }
+    if (index - 2 >= this.strings.size()) {
+      throw new IOException("Unknown string " + index);
+    }
+    return this.strings.get(index - 2);
+  }
+
+  public List<String> readStrings() throws IOException {
+    final int size = readInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(readString());
+    }
+    return values;
+  }
+
+  /**
+   * Reads the marker written before each record, returning false once the
+   * end of the data is reached
+   */
+  public boolean hasNext() throws IOException {
+    try {
+      return readBoolean();
+    } catch (final EOFException e) {
+      throw new IOException("Data ended without end marker", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.in.close();
+  }
+
+}
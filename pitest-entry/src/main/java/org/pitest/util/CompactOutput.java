@@ -0,0 +1,94 @@
+package org.pitest.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the gzipped binary format used by the compact report outputs.
+ *
+ * Integers are written as unsigned varints. Strings are written in full the
+ * first time they are seen and afterwards as an index into a table built up by
+ * both the writer and the reader, so repeated class, method and test names
+ * cost a byte or two each.
+ */
+public class CompactOutput implements Closeable {
+
+  public static final int            MAGIC   = 0x50495442; // PITB
+
+  private final DataOutputStream     out;
+  private final Map<String, Integer> strings = new HashMap<>();
+
+  public CompactOutput(final OutputStream out, final int type,
+      final int version) throws IOException {
+    this.out = new DataOutputStream(new BufferedOutputStream(
+        new GZIPOutputStream(out)));
+    this.out.writeInt(MAGIC);
+    writeInt(type);
+    writeInt(version);
+  }
+
+  public void writeInt(final int value) throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      this.out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    this.out.writeByte(remaining);
+  }
+
+  public void writeBoolean(final boolean value) throws IOException {
+    this.out.writeBoolean(value);
+  }
+
+  /**
+   * Writes a possibly null string
+   */
+  public void writeString(final String value) throws IOException {
+    if (value == null) {
+      writeInt(0);
+      return;
+    }
+    final Integer index = this.strings.get(value);
+    if (index != null) {
+      writeInt(index + 2);
+    } else {
+      writeInt(1);
+      this.out.writeUTF(value);
+      this.strings.put(value, this.strings.size());
+    }
+  }
+
+  public void writeStrings(final Collection<String> values) throws IOException {
+    writeInt(values.size());
+    for (final String each : values) {
+      writeString(each);
+    }
+  }
+
+  /**
+   * Marks the start of a record, read by {@link CompactInput#hasNext()}
+   */
+  public void startRecord() throws IOException {
+    writeBoolean(true);
+  }
+
+  /**
+   * Marks the end of the records
+   */
+  public void endRecords() throws IOException {
+    writeBoolean(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.out.close();
+  }
+
+}
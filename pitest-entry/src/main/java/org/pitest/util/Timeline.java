@@ -0,0 +1,174 @@
+package org.pitest.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread safe record of timed events within a run, written as json so the
+ * cost of each phase, analysis unit, minion and mutant can be examined after
+ * the run. Nothing is recorded when the timeline is disabled.
+ */
+public class Timeline {
+
+  private static final double NANOS_PER_MILLI = 1000000d;
+
+  private final boolean       enabled;
+  private final long          origin;
+  private final Queue<Event>  events          = new ConcurrentLinkedQueue<>();
+
+  public Timeline(final boolean enabled) {
+    this.enabled = enabled;
+    this.origin = System.nanoTime();
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void record(final String category, final String name,
+      final long startNanos, final long endNanos) {
+    record(category, name, startNanos, endNanos,
+        Collections.<String, Object> emptyMap());
+  }
+
+  /**
+   * Records an event with times taken from {@link System#nanoTime()}.
+   * Attribute values are written as json numbers if they are {@link Number}s
+   * and as strings otherwise.
+   */
+  public void record(final String category, final String name,
+      final long startNanos, final long endNanos,
+      final Map<String, ?> attributes) {
+    if (this.enabled) {
+      this.events.add(new Event(category, name,
+          Thread.currentThread().getName(), startNanos, endNanos, attributes));
+    }
+  }
+
+  public static Map<String, Object> attributes(final Object... keysAndValues) {
+    final Map<String, Object> attributes = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i = i + 2) {
+      attributes.put(String.valueOf(keysAndValues[i]), keysAndValues[i + 1]);
+    }
+    return attributes;
+  }
+
+  public int size() {
+    return this.events.size();
+  }
+
+  public void writeJson(final Writer out) throws IOException {
+    final List<Event> sorted = new ArrayList<>(this.events);
+    sorted.sort(Comparator.comparingLong(e -> e.start));
+    out.write("{\"events\":[");
+    String separator = "\n";
+    for (final Event each : sorted) {
+      out.write(separator);
+      writeEvent(out, each);
+      separator = ",\n";
+    }
+    out.write("\n]}\n");
+  }
+
+  private void writeEvent(final Writer out, final Event event)
+      throws IOException {
+    out.write("{\"category\":");
+    writeString(out, event.category);
+    out.write(",\"name\":");
+    writeString(out, event.name);
+    out.write(",\"thread\":");
+    writeString(out, event.thread);
+    out.write(",\"startMs\":");
+    out.write(millis(event.start - this.origin));
+    out.write(",\"durationMs\":");
+    out.write(millis(event.end - event.start));
+    if (!event.attributes.isEmpty()) {
+      out.write(",\"attributes\":{");
+      String separator = "";
+      for (final Entry<String, ?> each : event.attributes.entrySet()) {
+        out.write(separator);
+        writeString(out, each.getKey());
+        out.write(':');
+        writeValue(out, each.getValue());
+        separator = ",";
+      }
+      out.write('}');
+    }
+    out.write('}');
+  }
+
+  private static String millis(final long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+  }
+
+  private static void writeValue(final Writer out, final Object value)
+      throws IOException {
+    if (value instanceof Number) {
+      out.write(value.toString());
+    } else {
+      writeString(out, String.valueOf(value));
+    }
+  }
+
+  private static void writeString(final Writer out, final String value)
+      throws IOException {
+    out.write('"');
+    for (int i = 0; i != value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+      case '"':
+        out.write("\\\"");
+        break;
+      case '\\':
+        out.write("\\\\");
+        break;
+      case '\n':
+        out.write("\\n");
+        break;
+      case '\r':
+        out.write("\\r");
+        break;
+      case '\t':
+        out.write("\\t");
+        break;
+      default:
+        if (c < 0x20) {
+          out.write(String.format("\\u%04x", (int) c));
+        } else {
+          out.write(c);
+        }
+      }
+    }
+    out.write('"');
+  }
+
+  private static final class Event {
+    private final String         category;
+    private final String         name;
+    private final String         thread;
+    private final long           start;
+    private final long           end;
+    private final Map<String, ?> attributes;
+
+    Event(final String category, final String name, final String thread,
+        final long start, final long end, final Map<String, ?> attributes) {
+      this.category = category;
+      this.name = name;
+      this.thread = thread;
+      this.start = start;
+      this.end = end;
+      this.attributes = attributes;
+    }
+  }
+
+}
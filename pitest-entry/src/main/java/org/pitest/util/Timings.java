@@ -41,14 +41,31 @@ public class Timings {
   }
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<Stage, Long>     starts  = new LinkedHashMap<>();
+  private final Timeline             timeline;
+
+  public Timings() {
+    this(new Timeline(false));
+  }
+
+  public Timings(final Timeline timeline) {
+    this.timeline = timeline;
+  }
+
+  public Timeline timeline() {
+    return this.timeline;
+  }
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
+    this.starts.put(stage, System.nanoTime());
   }
 
   public void registerEnd(final Stage stage) {
     final long end = System.currentTimeMillis();
     this.timings.get(stage).setEnd(end);
+    this.timeline.record("stage", stage.toString(), this.starts.get(stage),
+        System.nanoTime());
   }
 
   public void report(final PrintStream ps) {
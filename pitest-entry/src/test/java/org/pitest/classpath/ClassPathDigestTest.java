@@ -0,0 +1,65 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassPathDigestTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldGiveSameDigestForCopiesInDifferentLocations() throws IOException {
+    final File a = createRoot("a", "foo/Foo.class", "foo");
+    final File b = createRoot("b", "foo/Foo.class", "foo");
+    assertThat(ClassPathDigest.digest(a.getAbsolutePath()))
+        .isEqualTo(ClassPathDigest.digest(b.getAbsolutePath()));
+  }
+
+  @Test
+  public void shouldGiveDifferentDigestWhenContentDiffers() throws IOException {
+    final File a = createRoot("a", "foo/Foo.class", "foo");
+    final File b = createRoot("b", "foo/Foo.class", "bar");
+    assertThat(ClassPathDigest.digest(a.getAbsolutePath()))
+        .isNotEqualTo(ClassPathDigest.digest(b.getAbsolutePath()));
+  }
+
+  @Test
+  public void shouldGiveDifferentDigestWhenFileNamesDiffer() throws IOException {
+    final File a = createRoot("a", "foo/Foo.class", "foo");
+    final File b = createRoot("b", "foo/Bar.class", "foo");
+    assertThat(ClassPathDigest.digest(a.getAbsolutePath()))
+        .isNotEqualTo(ClassPathDigest.digest(b.getAbsolutePath()));
+  }
+
+  @Test
+  public void shouldBeSensitiveToClassPathOrder() throws IOException {
+    final File a = createRoot("a", "foo/Foo.class", "foo");
+    final File b = createRoot("b", "foo/Foo.class", "bar");
+    assertThat(ClassPathDigest.digest(a.getAbsolutePath(), b.getAbsolutePath()))
+        .isNotEqualTo(ClassPathDigest.digest(b.getAbsolutePath(), a.getAbsolutePath()));
+  }
+
+  @Test
+  public void shouldDistinguishMissingElements() throws IOException {
+    final File a = createRoot("a", "foo/Foo.class", "foo");
+    assertThat(ClassPathDigest.digest(a.getAbsolutePath()))
+        .isNotEqualTo(ClassPathDigest.digest(a.getAbsolutePath(), "doesNotExist"));
+  }
+
+  private File createRoot(String name, String file, String content) throws IOException {
+    final File root = this.folder.newFolder(name);
+    final File f = new File(root, file);
+    f.getParentFile().mkdirs();
+    Files.write(f.toPath(), content.getBytes("UTF-8"));
+    return root;
+  }
+
+}
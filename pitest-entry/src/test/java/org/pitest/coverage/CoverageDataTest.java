@@ -126,6 +126,21 @@ public class CoverageDataTest {
         .singletonList(this.foo)));
   }
 
+  @Test
+  public void shouldReportCoveredLinesOfClass() {
+    final BlockLocationBuilder block = aBlockLocation().withLocation(
+        aLocation().withClass(this.foo));
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(
+        makeCoverageMapForBlock(block, 101, 300));
+
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        block.build(1)).build());
+
+    assertThat(this.testee.getCoveredLines(this.foo)).containsOnly(101, 300);
+    assertThat(this.testee.getCoveredLines(ClassName.fromString("bar")))
+        .isEmpty();
+  }
+
   @Test
   public void shouldReturnNotTestsWhenNoTestsCoverClass() {
     assertTrue(this.testee.getTestsForClass(this.foo).isEmpty());
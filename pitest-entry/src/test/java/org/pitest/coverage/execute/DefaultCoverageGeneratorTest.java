@@ -0,0 +1,147 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.TestClassHistory;
+import org.pitest.mutationtest.TestDurations;
+import org.pitest.testapi.Description;
+import org.pitest.util.Timings;
+import org.pitest.util.Verbosity;
+
+public class DefaultCoverageGeneratorTest {
+
+  private static final ClassName       FOO_TEST = ClassName.fromString("com.example.FooTest");
+  private static final ClassName       HELPER   = ClassName.fromString("com.example.Helper");
+  private static final ClassName       FOO      = ClassName.fromString("com.example.Foo");
+
+  private final CodeSource             code     = mock(CodeSource.class);
+  private final HistoryStore           history  = mock(HistoryStore.class);
+  private final Map<ClassName, ClassInfo> classes = new HashMap<>();
+  private final List<ClassName>        ran      = new ArrayList<>();
+
+  private TestClassHistory             stored;
+
+  @Before
+  public void setUp() {
+    setHash(FOO_TEST, 1);
+    setHash(HELPER, 2);
+    setHash(FOO, 3);
+
+    when(this.code.getTests()).thenAnswer(
+        i -> Collections.singletonList(this.classes.get(FOO_TEST)));
+    when(this.code.getCodeUnderTestNames())
+        .thenReturn(Collections.singleton(FOO));
+    when(this.code.fetchClass(any(ClassName.class))).thenAnswer(
+        i -> Optional.ofNullable(this.classes.get(i.<ClassName>getArgument(0))));
+    when(this.code.getClassInfo(anyCollection())).thenAnswer(
+        i -> i.<Collection<ClassName>>getArgument(0).stream()
+            .map(this.classes::get).collect(Collectors.toList()));
+    when(this.history.getTestDurations()).thenReturn(TestDurations.empty());
+
+    this.stored = TestClassHistory.create(
+        this.classes.get(FOO_TEST).getHierarchicalId(),
+        Collections.singletonList(this.classes.get(FOO).getId()),
+        Collections.singletonList(this.classes.get(HELPER).getId()),
+        Collections.singletonList(aGreenResult()));
+    when(this.history.getHistoricTestCoverage())
+        .thenReturn(Collections.singletonMap(FOO_TEST, this.stored));
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenNothingHasChanged() {
+    makeTestee().calculateCoverage();
+    assertThat(this.ran).isEmpty();
+    assertThat(recordedHistory()).containsExactly(this.stored);
+  }
+
+  @Test
+  public void shouldRerunTestWhenTestClassChanges() {
+    setHash(FOO_TEST, 42);
+    makeTestee().calculateCoverage();
+    assertThat(this.ran).containsExactly(FOO_TEST);
+  }
+
+  @Test
+  public void shouldRerunTestWhenHelperClassChanges() {
+    setHash(HELPER, 42);
+    makeTestee().calculateCoverage();
+    assertThat(this.ran).containsExactly(FOO_TEST);
+  }
+
+  @Test
+  public void shouldRerunTestWhenCoveredClassChanges() {
+    setHash(FOO, 42);
+    makeTestee().calculateCoverage();
+    assertThat(this.ran).containsExactly(FOO_TEST);
+  }
+
+  @Test
+  public void shouldRecordDependenciesOfTestsThatWereRun() {
+    setHash(HELPER, 42);
+    makeTestee().calculateCoverage();
+    assertThat(recordedHistory()).hasSize(1);
+    assertThat(recordedHistory().get(0).getDependencies())
+        .contains(Collections.singletonList(this.classes.get(HELPER).getId()));
+  }
+
+  private List<TestClassHistory> recordedHistory() {
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Collection<TestClassHistory>> captor = ArgumentCaptor
+        .forClass(Collection.class);
+    verify(this.history).recordTestCoverage(captor.capture());
+    return new ArrayList<>(captor.getValue());
+  }
+
+  private DefaultCoverageGenerator makeTestee() {
+    return new DefaultCoverageGenerator(new File("."), null, null, this.code,
+        mock(CoverageExporter.class), new Timings(), Verbosity.QUIET,
+        this.history, c -> Collections.singleton(HELPER)) {
+      @Override
+      void runCoverage(final Collection<ClassInfo> tests,
+          final Consumer<CoverageResult> handler) {
+        for (final ClassInfo each : tests) {
+          DefaultCoverageGeneratorTest.this.ran.add(each.getName());
+          handler.accept(aGreenResult());
+        }
+      }
+    };
+  }
+
+  private void setHash(final ClassName clazz, final long hash) {
+    this.classes.put(clazz,
+        ClassInfoMother.make(new ClassIdentifier(hash, clazz)));
+  }
+
+  private static CoverageResult aGreenResult() {
+    return new CoverageResult(new Description("aTest", FOO_TEST.asJavaName()),
+        1, true, Collections.emptyList());
+  }
+
+}
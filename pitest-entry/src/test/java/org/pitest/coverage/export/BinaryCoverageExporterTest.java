@@ -0,0 +1,76 @@
+package org.pitest.coverage.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.util.BinaryResultOutputStrategy;
+
+public class BinaryCoverageExporterTest {
+
+  private final ByteArrayOutputStream out    = new ByteArrayOutputStream();
+
+  private final BinaryCoverageExporter testee = new BinaryCoverageExporter(
+      createOutputStrategy());
+
+  private BinaryResultOutputStrategy createOutputStrategy() {
+    return new BinaryResultOutputStrategy() {
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        throw new AssertionError();
+      }
+
+      @Override
+      public OutputStream createOutputStreamForFile(
+          final String sourceFile) {
+        return BinaryCoverageExporterTest.this.out;
+      }
+    };
+  }
+
+  @Test
+  public void shouldReadNoCoverageWhenNoneExported() throws IOException {
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+    assertThat(read()).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripExportedCoverage() throws IOException {
+    final LocationBuilder loc = aLocation().withMethod("method");
+    final BlockLocationBuilder block = aBlockLocation().withBlock(42);
+    final BlockCoverage foo = new BlockCoverage(block.withLocation(
+        loc.withClass(ClassName.fromString("Foo"))).build(), Arrays.asList(
+            "Test2", "Test1"));
+    final BlockCoverage bar = new BlockCoverage(block.withLocation(
+        loc.withClass(ClassName.fromString("Bar"))).build(), Arrays.asList(
+            "Test3"));
+    this.testee.recordCoverage(Arrays.asList(foo, bar));
+
+    final List<BlockCoverage> actual = read();
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getBlock()).isEqualTo(foo.getBlock());
+    assertThat(actual.get(0).getTests()).containsExactly("Test1", "Test2");
+    assertThat(actual.get(1).getBlock()).isEqualTo(bar.getBlock());
+    assertThat(actual.get(1).getTests()).containsExactly("Test3");
+  }
+
+  private List<BlockCoverage> read() throws IOException {
+    return new BinaryCoverageReader()
+        .read(new ByteArrayInputStream(this.out.toByteArray()));
+  }
+
+}
@@ -0,0 +1,90 @@
+package org.pitest.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.classpath.ProjectClassPaths;
+
+public class ProjectDependenciesTest {
+
+  private final ClassPathByteArraySource bytes = new ClassPathByteArraySource();
+
+  private ProjectDependencies            testee;
+
+  public static class ATest {
+    public void test() {
+      new Helper().help();
+    }
+  }
+
+  public static class Helper {
+    void help() {
+      new Fixture();
+      new Library();
+    }
+  }
+
+  public static class Fixture {
+    Under under = new Under();
+  }
+
+  public static class Under {
+
+  }
+
+  public static class Library {
+    Beyond beyond = new Beyond();
+  }
+
+  public static class Beyond {
+
+  }
+
+  @Before
+  public void setUp() {
+    final ProjectClassPaths paths = mock(ProjectClassPaths.class);
+    when(paths.code()).thenReturn(Collections.singletonList(name(Under.class)));
+    when(paths.testTree()).thenReturn(Arrays.asList(name(ATest.class),
+        name(Helper.class), name(Fixture.class)));
+
+    final CodeSource code = mock(CodeSource.class);
+    when(code.getProjectPaths()).thenReturn(paths);
+    when(code.getBytes(anyString()))
+        .thenAnswer(i -> this.bytes.getBytes(i.getArgument(0)));
+
+    this.testee = new ProjectDependencies(code);
+  }
+
+  @Test
+  public void shouldFindTestTreeAndCodeClassesReachedIndirectly() {
+    assertThat(this.testee.dependenciesOf(name(ATest.class)))
+        .contains(name(Helper.class), name(Fixture.class), name(Under.class));
+  }
+
+  @Test
+  public void shouldNotIncludeSuppliedClass() {
+    assertThat(this.testee.dependenciesOf(name(ATest.class)))
+        .doesNotContain(name(ATest.class));
+  }
+
+  @Test
+  public void shouldNotFollowClassesOutsideTheProject() {
+    assertThat(this.testee.dependenciesOf(name(ATest.class)))
+        .doesNotContain(name(Beyond.class));
+  }
+
+  private static ClassName name(Class<?> clazz) {
+    return ClassName.fromClass(clazz);
+  }
+
+}
@@ -0,0 +1,79 @@
+package org.pitest.mutationtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+
+public class TestClassHistoryTest {
+
+  private static final ClassName FOO = ClassName.fromString("com.example.Foo");
+
+  private final HierarchicalClassId testId = new HierarchicalClassId(
+      new ClassIdentifier(1, ClassName.fromString("com.example.FooTest")), "1");
+
+  @Test
+  public void shouldRecreateRecordedCoverageResults() {
+    final BlockLocation a = new BlockLocation(Location.location(FOO, "a", "()V"), 0, 1, 4);
+    final BlockLocation b = new BlockLocation(Location.location(FOO, "b", "()V"), 2, 5, 9);
+    final CoverageResult one = new CoverageResult(
+        new Description("one", "com.example.FooTest"), 10, true, Arrays.asList(a, b));
+    final CoverageResult two = new CoverageResult(
+        new Description("two", "com.example.FooTest"), 20, false, Collections.singletonList(b));
+
+    final TestClassHistory testee = TestClassHistory.create(this.testId,
+        Collections.singletonList(new ClassIdentifier(2, FOO)), Arrays.asList(one, two));
+
+    final List<CoverageResult> actual = testee.toCoverageResults();
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getTestUnitDescription()).isEqualTo(one.getTestUnitDescription());
+    assertThat(actual.get(0).getExecutionTime()).isEqualTo(10);
+    assertThat(actual.get(0).isGreenTest()).isTrue();
+    assertThat(actual.get(0).getCoverage()).containsExactly(a, b);
+    assertThat(actual.get(1).isGreenTest()).isFalse();
+    assertThat(actual.get(1).getCoverage()).containsExactly(b);
+    assertThat(actual.get(1).getCoverage().iterator().next().getLastInsnInBlock()).isEqualTo(9);
+  }
+
+  @Test
+  public void shouldRecordDependenciesOfTestClass() {
+    final ClassIdentifier helper = new ClassIdentifier(3,
+        ClassName.fromString("com.example.Helper"));
+    final TestClassHistory testee = TestClassHistory.create(this.testId,
+        Collections.emptyList(), Collections.singletonList(helper),
+        Collections.emptyList());
+    assertThat(testee.getDependencies()).contains(Collections.singletonList(helper));
+  }
+
+  @Test
+  public void shouldGroupResultsByDefiningTestClass() {
+    final CoverageResult one = new CoverageResult(
+        new Description("one", "com.example.FooTest"), 10, true, Collections.emptyList());
+    final CoverageResult two = new CoverageResult(
+        new Description("two", "com.example.BarTest"), 20, true, Collections.emptyList());
+
+    assertThat(TestClassHistory.groupByTestClass(Arrays.asList(one, two)))
+        .containsEntry(ClassName.fromString("com.example.FooTest"), Collections.singletonList(one))
+        .containsEntry(ClassName.fromString("com.example.BarTest"), Collections.singletonList(two));
+  }
+
+  @Test
+  public void shouldListClassesCoveredByResults() {
+    final BlockLocation a = new BlockLocation(Location.location(FOO, "a", "()V"), 0, 1, 4);
+    final CoverageResult one = new CoverageResult(
+        new Description("one", "com.example.FooTest"), 10, true, Collections.singletonList(a));
+    assertThat(TestClassHistory.coveredClassNames(Collections.singletonList(one)))
+        .containsExactly(FOO);
+  }
+
+}
@@ -0,0 +1,85 @@
+package org.pitest.mutationtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.Description;
+
+public class TestDurationsTest {
+
+  private static final String FOO = "foo";
+
+  @Test
+  public void shouldNotAllowTimeForTestsWithTooFewSamples() {
+    final TestDurations testee = samples(FOO, 100, 100);
+    assertThat(testee.size()).isEqualTo(1);
+    assertThat(testee.allowedTimes(1.25f, 4000)).isEmpty();
+  }
+
+  @Test
+  public void shouldAllowConsistentlyFastTestsTheMinimumMargin() {
+    final TestDurations testee = samples(FOO, 100, 100, 100);
+    final Map<String, Long> actual = testee.allowedTimes(1.25f, 4000);
+    assertThat(actual).containsEntry(FOO, 125 + TestDurations.MIN_MARGIN);
+  }
+
+  @Test
+  public void shouldNotAllowMarginGreaterThanConstantForNoisyTests() {
+    final TestDurations testee = samples(FOO, 100, 100, 100, 3000);
+    final Map<String, Long> actual = testee.allowedTimes(1f, 4000);
+    assertThat(actual).containsEntry(FOO, 3000L + 4000L);
+  }
+
+  @Test
+  public void shouldWidenMarginForVariableTests() {
+    final TestDurations testee = samples(FOO, 100, 300, 500);
+    final Map<String, Long> actual = testee.allowedTimes(1f, 4000);
+    assertThat(actual).containsEntry(FOO, 500L + (4 * 200L));
+  }
+
+  @Test
+  public void shouldKeepOnlyMostRecentSamples() {
+    TestDurations testee = samples(FOO, 10000, 10000);
+    for (int i = 0; i != TestDurations.MAX_SAMPLES; i++) {
+      testee = testee.withSamples(Collections.singletonList(result(FOO, 100,
+          true)));
+    }
+    assertThat(testee.allowedTimes(1f, 4000)).containsEntry(FOO,
+        100 + TestDurations.MIN_MARGIN);
+  }
+
+  @Test
+  public void shouldIgnoreDurationsOfFailingTests() {
+    final TestDurations testee = TestDurations.empty()
+        .withSamples(Collections.singletonList(result(FOO, 100, false)));
+    assertThat(testee.size()).isZero();
+  }
+
+  @Test
+  public void shouldDiscardDurationsOfTestsNotRetained() {
+    final TestDurations testee = samples(FOO, 100, 100, 100)
+        .retainTests(Collections.singleton("bar"));
+    assertThat(testee.size()).isZero();
+  }
+
+  private static TestDurations samples(final String test,
+      final int... durations) {
+    TestDurations durationsSoFar = TestDurations.empty();
+    for (final int each : durations) {
+      durationsSoFar = durationsSoFar.withSamples(Collections
+          .singletonList(result(test, each, true)));
+    }
+    return durationsSoFar;
+  }
+
+  private static CoverageResult result(final String test, final int time,
+      final boolean green) {
+    return new CoverageResult(new Description(test), time, green,
+        Collections.emptyList());
+  }
+
+}
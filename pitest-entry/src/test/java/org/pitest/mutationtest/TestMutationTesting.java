@@ -23,6 +23,10 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,6 +44,7 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.SystemTest;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.PathFilter;
@@ -54,6 +59,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.build.CompoundMutationInterceptor;
 import org.pitest.mutationtest.build.DefaultGrouper;
 import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.MinionMemory;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
@@ -65,7 +71,11 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.LocalMinionLauncher;
+import org.pitest.mutationtest.execute.MinionLauncher;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.MutationTestAgent;
+import org.pitest.mutationtest.execute.RemoteMinionLauncher;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
@@ -73,6 +83,7 @@ import org.pitest.process.LaunchOptions;
 import org.pitest.simpletest.SimpleTestPlugin;
 import org.pitest.simpletest.TestAnnotationForTesting;
 import org.pitest.util.IsolationUtils;
+import org.pitest.util.Timeline;
 import org.pitest.util.Timings;
 
 import com.example.MutationsInNestedClasses;
@@ -87,6 +98,8 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private MinionLauncher           launcher = new LocalMinionLauncher();
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -300,6 +313,35 @@ public class TestMutationTesting {
     verifyResults(SURVIVED, SURVIVED);
   }
 
+  @Test
+  public void shouldRunMutationsOnRemoteAgents() throws IOException {
+    final JavaAgent agent = new JarCreatingJarFinder();
+    final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+    final List<ServerSocket> sockets = Arrays.asList(new ServerSocket(0),
+        new ServerSocket(0));
+    try {
+      for (final ServerSocket each : sockets) {
+        final MutationTestAgent remote = new MutationTestAgent(each,
+            new ClassPath().getLocalClassPath(), 1, agent,
+            new File(System.getProperty("user.dir")), secret);
+        final Thread t = new Thread(remote::run);
+        t.setDaemon(true);
+        t.start();
+      }
+      this.launcher = new RemoteMinionLauncher(FCollection.map(sockets,
+          s -> "localhost:" + s.getLocalPort()), secret);
+
+      run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+          "RETURN_VALS");
+      verifyResults(SURVIVED, KILLED, KILLED);
+    } finally {
+      for (final ServerSocket each : sockets) {
+        each.close();
+      }
+      agent.close();
+    }
+  }
+
   @Test
   @Ignore("too brittle")
   public void shouldRecordCorrectLineNumberForMutations() {
@@ -382,7 +424,8 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.getVerbosity(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), this.launcher, new Timeline(false),
+        MinionMemory.unmanaged());
 
 
 
@@ -0,0 +1,198 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.build.MinionMemory.MB;
+import static org.pitest.mutationtest.build.MinionMemory.MIN_HEAP;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+import org.pitest.mutationtest.execute.MemoryBudget;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.process.MinionProcess;
+import org.pitest.util.ExitCode;
+
+public class MinionMemoryTest {
+
+  private static final ClassName FOO = ClassName.fromString("com.example.Foo");
+  private static final ClassName BAR = ClassName.fromString("com.example.Bar");
+
+  private HistoryStore           history;
+  private Map<ClassName, Long>   historicHeaps;
+  private MinionMemory           testee;
+
+  @Before
+  public void setUp() {
+    this.history = mock(HistoryStore.class);
+    this.historicHeaps = new HashMap<>();
+    when(this.history.getHistoricMinionHeaps()).thenReturn(this.historicHeaps);
+    this.testee = new MinionMemory(this.history, new MemoryBudget(4096 * MB),
+        512 * MB, 2048 * MB);
+  }
+
+  @Test
+  public void shouldGiveDefaultHeapToClassesWithoutRecordedPeak() {
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(512 * MB);
+  }
+
+  @Test
+  public void shouldSizeHeapFromPeakRecordedInHistory() {
+    this.historicHeaps.put(FOO, 200 * MB);
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(400 * MB);
+  }
+
+  @Test
+  public void shouldNotGiveLessThanMinimumHeap() {
+    this.historicHeaps.put(FOO, 10 * MB);
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(MIN_HEAP);
+  }
+
+  @Test
+  public void shouldNotGiveMoreThanMaximumHeap() {
+    this.historicHeaps.put(FOO, 4000 * MB);
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(2048 * MB);
+  }
+
+  @Test
+  public void shouldSizeHeapForLargestPeakOfClassesAnalysed() {
+    this.historicHeaps.put(FOO, 200 * MB);
+    this.historicHeaps.put(BAR, 400 * MB);
+    assertThat(this.testee.heapFor(mutationsOf(FOO, BAR)))
+        .isEqualTo(800 * MB);
+  }
+
+  @Test
+  public void shouldLearnPeakFromMinionsInThisRun() {
+    this.historicHeaps.put(FOO, 1000 * MB);
+    final boolean retry = this.testee.minionExited(mutationsOf(FOO),
+        minion(512 * MB, 100 * MB), ExitCode.OK);
+    assertThat(retry).isFalse();
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(200 * MB);
+    verify(this.history).recordMinionHeap(FOO, 100 * MB);
+  }
+
+  @Test
+  public void shouldSettleOnHeapWhenLiveHeapDoesNotDependOnHeapGiven() {
+    final long live = 150 * MB;
+    doAnswer(i -> this.historicHeaps.put(i.getArgument(0), i.getArgument(1)))
+        .when(this.history).recordMinionHeap(any(ClassName.class), anyLong());
+    final List<Long> heaps = new ArrayList<>();
+    for (int run = 0; run != 5; run++) {
+      final MinionMemory memory = new MinionMemory(this.history,
+          new MemoryBudget(4096 * MB), 512 * MB, 2048 * MB);
+      final long heap = memory.heapFor(mutationsOf(FOO));
+      heaps.add(heap);
+      memory.minionExited(mutationsOf(FOO), minion(heap, live), ExitCode.OK);
+    }
+    assertThat(heaps).containsExactly(512 * MB, 300 * MB, 300 * MB, 300 * MB,
+        300 * MB);
+  }
+
+  @Test
+  public void shouldOfferLargerHeapWhenMinionRunsOutOfMemory() {
+    final boolean retry = this.testee.minionExited(mutationsOf(FOO),
+        minion(512 * MB, 460 * MB), ExitCode.OUT_OF_MEMORY);
+    assertThat(retry).isTrue();
+    assertThat(this.testee.largerHeap(512 * MB)).isEqualTo(1024 * MB);
+  }
+
+  @Test
+  public void shouldNotOfferMoreThanMaximumHeap() {
+    assertThat(this.testee.largerHeap(1536 * MB)).isEqualTo(2048 * MB);
+  }
+
+  @Test
+  public void shouldRecordOnlyLiveHeapOfMinionsThatRunOutOfMemory() {
+    this.testee.minionExited(mutationsOf(FOO), minion(512 * MB, 100 * MB),
+        ExitCode.OUT_OF_MEMORY);
+    verify(this.history).recordMinionHeap(FOO, 100 * MB);
+    assertThat(this.testee.heapFor(mutationsOf(FOO))).isEqualTo(200 * MB);
+  }
+
+  @Test
+  public void shouldNotRetryWhenMinionWithMaximumHeapRunsOutOfMemory() {
+    final boolean retry = this.testee.minionExited(mutationsOf(FOO),
+        minion(2048 * MB, 2000 * MB), ExitCode.OUT_OF_MEMORY);
+    assertThat(retry).isFalse();
+  }
+
+  @Test
+  public void shouldNotRecordPeakOfMinionsLeftToJvmArguments() {
+    final boolean retry = MinionMemory.unmanaged().minionExited(
+        mutationsOf(FOO), minion(0, 100 * MB), ExitCode.OUT_OF_MEMORY);
+    assertThat(retry).isFalse();
+    verify(this.history, never()).recordMinionHeap(any(ClassName.class),
+        anyLong());
+  }
+
+  @Test
+  public void shouldLeaveHeapToJvmArgumentsWhenUnmanaged() {
+    final MinionMemory unmanaged = MinionMemory.unmanaged();
+    final MinionProcess process = mock(MinionProcess.class);
+    assertThat(unmanaged.heapFor(mutationsOf(FOO))).isZero();
+    assertThat(unmanaged.budgeted(process, 0)).isSameAs(process);
+  }
+
+  @Test
+  public void shouldShareBudgetBetweenThreadsWhenNoHeapIsSet() {
+    final MinionMemory actual = MinionMemory.forBudget(this.history,
+        4096 * MB, 4, Collections.<String> emptyList());
+    assertThat(actual.heapFor(mutationsOf(FOO))).isEqualTo(
+        1024 * MB - MemoryBudget.NON_HEAP_ALLOWANCE);
+  }
+
+  @Test
+  public void shouldUseHeapSetInJvmArgumentsAsDefaultAndMaximum() {
+    final MinionMemory actual = MinionMemory.forBudget(this.history,
+        4096 * MB, 4, Arrays.asList("-Xmx256m"));
+    assertThat(actual.heapFor(mutationsOf(FOO))).isEqualTo(256 * MB);
+    this.historicHeaps.put(BAR, 1000 * MB);
+    assertThat(actual.heapFor(mutationsOf(BAR))).isEqualTo(256 * MB);
+  }
+
+  @Test
+  public void shouldParseLastMaximumHeapInJvmArguments() {
+    assertThat(MinionMemory.maxHeapFrom(Arrays.asList("-Xmx1g", "-Xss1m",
+        "-Xmx512m"))).isEqualTo(512 * MB);
+    assertThat(MinionMemory.maxHeapFrom(Arrays.asList("-Xmx2048k")))
+        .isEqualTo(2 * MB);
+    assertThat(MinionMemory.maxHeapFrom(Collections.<String> emptyList()))
+        .isZero();
+  }
+
+  private static Collection<MutationDetails> mutationsOf(
+      final ClassName... classes) {
+    final Collection<MutationDetails> mutations = new ArrayList<>();
+    for (final ClassName each : classes) {
+      mutations.add(MutationDetailsMother.makeMutation(each));
+    }
+    return mutations;
+  }
+
+  private static MutationTestProcess minion(final long maxHeap,
+      final long peakHeap) {
+    final MutationTestProcess process = mock(MutationTestProcess.class);
+    when(process.getMaxHeap()).thenReturn(maxHeap);
+    when(process.getPeakHeap()).thenReturn(peakHeap);
+    return process;
+  }
+
+}
@@ -1,17 +1,29 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -23,9 +35,13 @@ import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.LocalMinionLauncher;
+import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Timeline;
 import org.pitest.util.Verbosity;
 
 public class MutationTestUnitTest {
@@ -57,7 +73,8 @@ public class MutationTestUnitTest {
     this.tests = new ArrayList<>();
     this.testee = new MutationTestUnit(this.mutations, this.tests,
         new WorkerFactory(null, TestPluginArguments.defaults(), this.mutationConfig, EngineArguments.arguments(), this.timeout,
-            Verbosity.DEFAULT, false, null));
+            Verbosity.DEFAULT, false, null, new LocalMinionLauncher(),
+            new Timeline(false), MinionMemory.unmanaged()));
 
   }
 
@@ -79,6 +96,42 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldEnlargeHeapOnceWhenMinionsRunOutOfMemory()
+      throws Exception {
+    for (int i = 0; i != 3; i++) {
+      this.mutations.add(aMutationDetail().withId(aMutationId().withIndex(i))
+          .withTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+              "FooTest.aTest", 1, Optional.empty(), 1)))
+          .build());
+    }
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    final MutationTestProcess small = outOfMemoryWorker();
+    final MutationTestProcess large = outOfMemoryWorker();
+    when(factory.createWorker(anyCollection(), anyCollection()))
+        .thenReturn(small);
+    when(factory.createWorker(anyCollection(), anyCollection(), anyLong()))
+        .thenReturn(large);
+    when(factory.minionExited(anyCollection(), any(), any())).thenReturn(true);
+    when(factory.largerHeap(small)).thenReturn(1024L);
+
+    final MutationMetaData actual = new MutationTestUnit(this.mutations,
+        this.tests, factory).call();
+
+    verify(factory, times(1)).createWorker(anyCollection(), anyCollection());
+    verify(factory, times(2)).createWorker(anyCollection(), anyCollection(),
+        eq(1024L));
+    verify(factory, times(1)).largerHeap(any());
+    assertThat(actual.getMutations()).extracting(MutationResult::getStatus)
+        .containsOnly(DetectionStatus.MEMORY_ERROR);
+  }
+
+  private static MutationTestProcess outOfMemoryWorker() {
+    final MutationTestProcess worker = mock(MutationTestProcess.class);
+    when(worker.waitToDie()).thenReturn(ExitCode.OUT_OF_MEMORY);
+    return worker;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
@@ -1,14 +1,20 @@
 package org.pitest.mutationtest.config;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.CompoundCoverageExporter;
+import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.PitError;
+import org.pitest.util.ResultOutputStrategy;
 
 import java.io.File;
 import java.util.Arrays;
@@ -25,6 +31,9 @@ import static org.mockito.Mockito.verify;
 
 public class SettingsFactoryTest {
 
+  @Rule
+  public TemporaryFolder       folder  = new TemporaryFolder();
+
   private final ReportOptions  options = new ReportOptions();
 
   private final PluginServices plugins = PluginServices.makeForContextLoader();
@@ -43,6 +52,44 @@ public class SettingsFactoryTest {
     assertTrue(this.testee.createCoverageExporter() instanceof NullCoverageExporter);
   }
 
+  @Test
+  public void shouldExportCoverageAsXmlByDefault() {
+    this.options.setExportLineCoverage(true);
+    this.options.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.options.addOutputFormats(Arrays.asList("HTML"));
+    assertTrue(this.testee.createCoverageExporter() instanceof DefaultCoverageExporter);
+  }
+
+  @Test
+  public void shouldExportCoverageAsBinaryWhenBinaryOutputRequested() {
+    this.options.setExportLineCoverage(true);
+    this.options.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.options.addOutputFormats(Arrays.asList("binary"));
+    assertTrue(this.testee.createCoverageExporter() instanceof BinaryCoverageExporter);
+  }
+
+  @Test
+  public void shouldNotExportBinaryCoverageWhenOutputStrategyCannotWriteBinaryFiles() {
+    this.options.setExportLineCoverage(true);
+    this.options.addOutputFormats(Arrays.asList("XML", "BINARY"));
+    final ResultOutputStrategy writersOnly = sourceFile -> null;
+    this.testee = new SettingsFactory(this.options, this.plugins) {
+      @Override
+      public ResultOutputStrategy getOutputStrategy() {
+        return writersOnly;
+      }
+    };
+    assertTrue(this.testee.createCoverageExporter() instanceof DefaultCoverageExporter);
+  }
+
+  @Test
+  public void shouldExportCoverageInBothFormatsWhenXmlAndBinaryRequested() {
+    this.options.setExportLineCoverage(true);
+    this.options.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.options.addOutputFormats(Arrays.asList("XML", "BINARY"));
+    assertTrue(this.testee.createCoverageExporter() instanceof CompoundCoverageExporter);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
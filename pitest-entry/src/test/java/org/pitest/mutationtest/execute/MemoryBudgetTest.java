@@ -0,0 +1,107 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.pitest.process.MinionProcess;
+
+public class MemoryBudgetTest {
+
+  private static final long MB       = 1024 * 1024;
+  private static final long RESERVED = 100 * MB
+      + MemoryBudget.NON_HEAP_ALLOWANCE;
+
+  private final MemoryBudget testee = new MemoryBudget(2 * RESERVED);
+
+  @Test
+  public void shouldReserveHeapAndNonHeapAllowanceWhileMinionIsAlive()
+      throws Exception {
+    final MinionProcess process = mock(MinionProcess.class);
+    final MinionProcess minion = this.testee.budgeted(process, 100 * MB);
+    minion.start();
+    verify(process).start();
+    assertThat(this.testee.reserved()).isEqualTo(RESERVED);
+
+    minion.destroy();
+    minion.destroy();
+    verify(process, times(2)).destroy();
+    assertThat(this.testee.reserved()).isZero();
+  }
+
+  @Test
+  public void shouldStartMinionsThatFitWithinBudgetTogether()
+      throws Exception {
+    budgeted(100).start();
+    budgeted(100).start();
+    assertThat(this.testee.reserved()).isEqualTo(2 * RESERVED);
+  }
+
+  @Test
+  public void shouldStartMinionLargerThanBudgetWhenNothingElseIsRunning()
+      throws Exception {
+    budgeted(1000).start();
+    assertThat(this.testee.reserved()).isEqualTo(1000 * MB
+        + MemoryBudget.NON_HEAP_ALLOWANCE);
+  }
+
+  @Test
+  public void shouldWaitForMemoryBeforeStartingMinion() throws Exception {
+    final MinionProcess first = budgeted(150);
+    first.start();
+
+    final Thread t = startInThread(budgeted(100));
+    t.join(200);
+    assertThat(t.isAlive()).isTrue();
+
+    first.destroy();
+    t.join(5000);
+    assertThat(t.isAlive()).isFalse();
+    assertThat(this.testee.reserved()).isEqualTo(RESERVED);
+  }
+
+  @Test
+  public void shouldNotLetSmallerMinionsOvertakeOneThatIsWaiting()
+      throws Exception {
+    final MinionProcess first = budgeted(100);
+    first.start();
+
+    final Thread large = startInThread(budgeted(200));
+    large.join(200);
+    final Thread small = startInThread(budgeted(10));
+    small.join(200);
+    assertThat(small.isAlive()).isTrue();
+
+    first.destroy();
+    large.join(5000);
+    assertThat(large.isAlive()).isFalse();
+  }
+
+  @Test
+  public void shouldShareBudgetForSameSize() {
+    assertThat(MemoryBudget.shared(3 * MB)).isSameAs(MemoryBudget.shared(3 * MB))
+        .isNotSameAs(MemoryBudget.shared(4 * MB));
+  }
+
+  private MinionProcess budgeted(final long heapMb) {
+    return this.testee.budgeted(mock(MinionProcess.class), heapMb * MB);
+  }
+
+  private static Thread startInThread(final MinionProcess minion) {
+    final Thread t = new Thread(() -> {
+      try {
+        minion.start();
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    t.setDaemon(true);
+    t.start();
+    return t;
+  }
+
+}
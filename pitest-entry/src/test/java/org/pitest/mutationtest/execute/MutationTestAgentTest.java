@@ -0,0 +1,147 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classpath.ClassPath;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.NullJavaAgent;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MutationTestAgentTest {
+
+  private static final String CLASSPATH = new ClassPath().getLocalClassPath();
+
+  static final byte[]         SECRET    = "secret".getBytes(StandardCharsets.UTF_8);
+
+  private final JavaAgent     hotSwapAgent = new JarCreatingJarFinder();
+
+  private ServerSocket        agentSocket;
+  private MutationTestAgent   testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.agentSocket = new ServerSocket(0);
+    this.testee = new MutationTestAgent(this.agentSocket, CLASSPATH, 1,
+        this.hotSwapAgent, new File(System.getProperty("user.dir")), SECRET);
+    final Thread t = new Thread(() -> this.testee.run());
+    t.setDaemon(true);
+    t.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    this.agentSocket.close();
+    this.hotSwapAgent.close();
+  }
+
+  @Test
+  public void shouldRefuseToLaunchMinionsForDifferentClassPath() throws IOException {
+    final MinionProcess process = new RemoteMinionProcess(this::agentAddress,
+        a -> { }, "not the digest", SECRET, 1, processArgs());
+    try {
+      process.start();
+      fail("expected agent to refuse launch");
+    } catch (final PitError e) {
+      assertThat(e.getMessage()).contains("does not match");
+    }
+  }
+
+  @Test
+  public void shouldRefuseRequestsNotSignedWithItsSecret() throws IOException {
+    final MinionProcess process = new RemoteMinionProcess(this::agentAddress,
+        a -> { }, this.testee.getClassPathDigest(),
+        "wrong".getBytes(StandardCharsets.UTF_8), 1, processArgs());
+    try {
+      process.start();
+      fail("expected agent to refuse launch");
+    } catch (final PitError e) {
+      assertThat(e.getMessage()).contains("secret");
+    }
+  }
+
+  @Test
+  public void shouldRefuseRequestsCarryingJvmArgumentsOtherThanMemorySettings()
+      throws IOException {
+    final LaunchRequest request = new LaunchRequest(
+        this.testee.getClassPathDigest(), "localhost", 1,
+        Arrays.asList("-Xmx256m", "-XX:OnOutOfMemoryError=touch /tmp/owned"));
+    try (Socket s = new Socket("localhost", this.agentSocket.getLocalPort())) {
+      final DataInputStream in = new DataInputStream(s.getInputStream());
+      final byte[] nonce = new byte[in.readInt()];
+      in.readFully(nonce);
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          s.getOutputStream());
+      final byte[] bytes = request.toBytes();
+      out.writeBytes(bytes);
+      out.writeBytes(LaunchRequest.sign(SECRET, nonce, bytes));
+      out.flush();
+
+      final SafeDataInputStream reply = new SafeDataInputStream(in);
+      assertThat(reply.readBoolean()).isFalse();
+      assertThat(reply.readString()).contains("not permitted");
+    }
+  }
+
+  @Test
+  public void shouldOnlyPermitMemorySettings() {
+    assertThat(LaunchRequest.isPermitted("-Xmx2g")).isTrue();
+    assertThat(LaunchRequest.isPermitted("-Xss512k")).isTrue();
+    assertThat(LaunchRequest.isPermitted("-XX:MaxMetaspaceSize=256m")).isTrue();
+    assertThat(LaunchRequest.isPermitted("-javaagent:evil.jar")).isFalse();
+    assertThat(LaunchRequest.isPermitted("-XX:OnOutOfMemoryError=sh")).isFalse();
+    assertThat(LaunchRequest.isPermitted("-Dfoo=bar")).isFalse();
+  }
+
+  @Test
+  public void shouldLaunchMinionThatConnectsBackToParent() throws IOException {
+    try (ServerSocket parent = new ServerSocket(0)) {
+      parent.setSoTimeout(60000);
+      final MinionProcess process = new RemoteMinionProcess(
+          this::agentAddress, a -> { }, this.testee.getClassPathDigest(),
+          SECRET, parent.getLocalPort(), processArgs());
+      process.start();
+      try (Socket minion = parent.accept()) {
+        assertThat(minion.isConnected()).isTrue();
+      } finally {
+        process.destroy();
+      }
+    }
+  }
+
+  static ProcessArgs processArgs() {
+    final LaunchOptions launchOptions = new LaunchOptions(NullJavaAgent.instance(),
+        new DefaultJavaExecutableLocator(), Collections.emptyList(),
+        new HashMap<>());
+    return ProcessArgs.withClassPath(CLASSPATH)
+        .andLaunchOptions(launchOptions)
+        .andStdout(a -> { })
+        .andStderr(a -> { });
+  }
+
+  private InetSocketAddress agentAddress() {
+    return new InetSocketAddress("localhost", this.agentSocket.getLocalPort());
+  }
+
+}
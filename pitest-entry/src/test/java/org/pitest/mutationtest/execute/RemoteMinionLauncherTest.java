@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.process.MinionProcess;
+import org.pitest.util.PitError;
+
+public class RemoteMinionLauncherTest {
+
+  @Test
+  public void shouldParseHostAndPort() {
+    final InetSocketAddress actual = RemoteMinionLauncher.parseAddress("localhost:8123");
+    assertThat(actual.getHostString()).isEqualTo("localhost");
+    assertThat(actual.getPort()).isEqualTo(8123);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectAddressesWithoutPort() {
+    RemoteMinionLauncher.parseAddress("localhost");
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectNonNumericPorts() {
+    RemoteMinionLauncher.parseAddress("localhost:foo");
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRequireAtLeastOneAgent() {
+    new RemoteMinionLauncher(Collections.emptyList(),
+        MutationTestAgentTest.SECRET);
+  }
+
+  @Test
+  public void shouldSpreadMinionsAcrossAgents() {
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:1", "localhost:2"),
+        MutationTestAgentTest.SECRET);
+    final InetSocketAddress a = testee.agents().get(0);
+    final InetSocketAddress b = testee.agents().get(1);
+
+    testee.claimLeastBusyAgent();
+    testee.claimLeastBusyAgent();
+
+    assertThat(testee.runningOn(a)).isEqualTo(1);
+    assertThat(testee.runningOn(b)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotClaimAgentUntilMinionStarts() {
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList("localhost:1"), MutationTestAgentTest.SECRET);
+    testee.launch(0, MutationTestAgentTest.processArgs());
+    assertThat(testee.runningOn(testee.agents().get(0))).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReleaseAgentOnceWhenMinionFailsToStart() {
+    final RemoteMinionLauncher testee = new RemoteMinionLauncher(
+        Arrays.asList(unusedAddress()), MutationTestAgentTest.SECRET);
+    final MinionProcess process = testee.launch(0,
+        MutationTestAgentTest.processArgs());
+    try {
+      process.start();
+      fail("expected connection to fail");
+    } catch (final IOException e) {
+      // expected
+    }
+    process.destroy();
+    assertThat(testee.runningOn(testee.agents().get(0))).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldAcceptMemorySettings() {
+    RemoteMinionLauncher.checkSupported(Arrays.asList("-Xmx2g", "-Xss1m"),
+        Collections.emptyMap());
+  }
+
+  @Test
+  public void shouldAcceptDefaultChildJvmArguments() {
+    RemoteMinionLauncher.checkSupported(ReportOptions.DEFAULT_CHILD_JVM_ARGS,
+        Collections.emptyMap());
+  }
+
+  @Test
+  public void shouldFailNamingJvmArgumentsRemoteMinionsCannotAccept() {
+    try {
+      RemoteMinionLauncher.checkSupported(
+          Arrays.asList("-Xmx2g", "-Dfoo=bar", "--add-opens=java.base/java.lang=ALL-UNNAMED"),
+          Collections.emptyMap());
+      fail("expected unsupported arguments to be rejected");
+    } catch (final PitError e) {
+      assertThat(e.getMessage()).contains("-Dfoo=bar")
+          .contains("--add-opens=java.base/java.lang=ALL-UNNAMED")
+          .doesNotContain("-Xmx2g");
+    }
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldFailWhenEnvironmentVariablesSupplied() {
+    RemoteMinionLauncher.checkSupported(Collections.emptyList(),
+        Collections.singletonMap("FOO", "bar"));
+  }
+
+  private static String unusedAddress() {
+    try (ServerSocket s = new ServerSocket(0)) {
+      return "localhost:" + s.getLocalPort();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.process.MinionProcess;
+import org.pitest.process.ProcessArgs;
+
+public class ThrottledMinionLauncherTest {
+
+  private final Semaphore  slots = new Semaphore(1);
+  private MinionLauncher   child;
+  private MinionProcess    process;
+  private ThrottledMinionLauncher testee;
+
+  @Before
+  public void setUp() {
+    this.child = mock(MinionLauncher.class);
+    this.process = mock(MinionProcess.class);
+    when(this.child.launch(anyInt(), any(ProcessArgs.class)))
+        .thenReturn(this.process);
+    this.testee = new ThrottledMinionLauncher(this.child, this.slots);
+  }
+
+  @Test
+  public void shouldHoldSlotWhileMinionIsAlive() throws Exception {
+    final MinionProcess minion = launch();
+    minion.start();
+    verify(this.process).start();
+    assertThat(this.slots.availablePermits()).isEqualTo(0);
+
+    minion.destroy();
+    verify(this.process).destroy();
+    assertThat(this.slots.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseSlotOnlyOnce() throws Exception {
+    final MinionProcess minion = launch();
+    minion.start();
+    minion.destroy();
+    minion.destroy();
+    assertThat(this.slots.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotTakeSlotForMinionThatWasNeverStarted() {
+    launch().destroy();
+    assertThat(this.slots.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseSlotWhenMinionFailsToStart() throws Exception {
+    doThrow(new IOException()).when(this.process).start();
+    try {
+      launch().start();
+    } catch (final IOException e) {
+      // expected
+    }
+    assertThat(this.slots.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldWaitForSlotBeforeStartingMinion() throws Exception {
+    final MinionProcess first = launch();
+    first.start();
+
+    final MinionProcess second = launch();
+    final Thread t = new Thread(() -> {
+      try {
+        second.start();
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    t.start();
+    t.join(200);
+    assertThat(t.isAlive()).isTrue();
+
+    first.destroy();
+    t.join(5000);
+    assertThat(t.isAlive()).isFalse();
+    assertThat(this.slots.availablePermits()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldShareSlotsForSameLimit() {
+    assertThat(ThrottledMinionLauncher.sharedSlots(3))
+        .isSameAs(ThrottledMinionLauncher.sharedSlots(3))
+        .isNotSameAs(ThrottledMinionLauncher.sharedSlots(4));
+  }
+
+  private MinionProcess launch() {
+    return this.testee.launch(0, ProcessArgs.withClassPath(""));
+  }
+
+}
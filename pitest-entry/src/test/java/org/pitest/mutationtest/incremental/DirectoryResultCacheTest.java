@@ -0,0 +1,147 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class DirectoryResultCacheTest {
+
+  private static final String DIGEST_A = "aa00000000000000000000000000000000000000000000000000000000000000";
+  private static final String DIGEST_B = "bb00000000000000000000000000000000000000000000000000000000000000";
+
+  @Rule
+  public TemporaryFolder      folder   = new TemporaryFolder();
+
+  private MutationDigester    digester;
+  private File                dir;
+
+  @Before
+  public void setUp() throws Exception {
+    this.digester = mock(MutationDigester.class);
+    when(this.digester.digest(any(MutationDetails.class))).thenReturn(DIGEST_A);
+    this.dir = this.folder.newFolder();
+  }
+
+  @Test
+  public void shouldReturnNoResultWhenNothingCached() {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    assertThat(testee.getResult(aCoveredMutation())).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnRecordedResult() {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    final MutationStatusTestPair status = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, Arrays.asList("aTest"),
+        Arrays.asList("anotherTest"));
+
+    testee.recordResult(new MutationResult(aCoveredMutation(), status));
+
+    assertThat(testee.getResult(aCoveredMutation())).contains(status);
+  }
+
+  @Test
+  public void shouldShareResultsBetweenInstancesUsingSameDirectory() {
+    final MutationStatusTestPair status = MutationStatusTestPair.notAnalysed(1,
+        DetectionStatus.SURVIVED);
+    makeCache(Long.MAX_VALUE)
+        .recordResult(new MutationResult(aCoveredMutation(), status));
+
+    assertThat(makeCache(Long.MAX_VALUE).getResult(aCoveredMutation()))
+        .contains(status);
+  }
+
+  @Test
+  public void shouldNotRecordResultsThatDidNotRunToCompletion() {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    testee.recordResult(new MutationResult(aCoveredMutation(),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.MEMORY_ERROR)));
+    testee.recordResult(new MutationResult(aCoveredMutation(),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR)));
+
+    assertThat(testee.getResult(aCoveredMutation())).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecordTimedOutResults() {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    testee.recordResult(new MutationResult(aCoveredMutation(),
+        MutationStatusTestPair.notAnalysed(1, DetectionStatus.TIMED_OUT)));
+
+    assertThat(testee.getResult(aCoveredMutation())).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRecordResultsForMutationsWithoutTests() {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    final MutationDetails uncovered = aMutationDetail().build();
+    testee.recordResult(new MutationResult(uncovered,
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.SURVIVED)));
+
+    assertThat(testee.getResult(aCoveredMutation())).isEmpty();
+  }
+
+  @Test
+  public void shouldTreatUnreadableEntriesAsMisses() throws Exception {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    final Path entry = testee.entryFor(DIGEST_A);
+    Files.createDirectories(entry.getParent());
+    Files.write(entry, new byte[] { 1, 2, 3 });
+
+    assertThat(testee.getResult(aCoveredMutation())).isEmpty();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntriesWhenLargerThanLimit()
+      throws Exception {
+    final DirectoryResultCache testee = makeCache(Long.MAX_VALUE);
+    final MutationStatusTestPair status = MutationStatusTestPair.notAnalysed(1,
+        DetectionStatus.SURVIVED);
+    testee.recordResult(new MutationResult(aCoveredMutation(), status));
+    when(this.digester.digest(any(MutationDetails.class))).thenReturn(DIGEST_B);
+    testee.recordResult(new MutationResult(aCoveredMutation(), status));
+
+    final Path a = testee.entryFor(DIGEST_A);
+    final Path b = testee.entryFor(DIGEST_B);
+    Files.setLastModifiedTime(a, FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(b, FileTime.fromMillis(2000));
+
+    makeCache(Files.size(b)).close();
+
+    assertThat(a).doesNotExist();
+    assertThat(b).exists();
+  }
+
+  private DirectoryResultCache makeCache(long maxBytes) {
+    return new DirectoryResultCache(this.dir.toPath(), maxBytes,
+        this.digester);
+  }
+
+  private MutationDetails aCoveredMutation() {
+    return aMutationDetail()
+        .withTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+            "FooTest.aTest", 1, Optional.empty(), 1)))
+        .build();
+  }
+
+}
@@ -34,6 +34,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
@@ -94,6 +95,24 @@ public class IncrementalAnalyserTest {
             ));
   }
 
+  @Test
+  public void shouldUseCachedResultsForNewMutationsWithTests() {
+    final ResultCache cache = Mockito.mock(ResultCache.class);
+    this.testee = new IncrementalAnalyser(this.history, this.coverage, cache);
+    final MutationDetails md = makeMutation("foo");
+    md.addTestsInOrder(singletonList(new TestInfo("TEST_CLASS", "TEST_NAME",
+        0, Optional.empty(), 0)));
+    when(this.history.getPreviousResult(any(MutationIdentifier.class)))
+    .thenReturn(Optional.empty());
+    when(cache.getResult(md)).thenReturn(Optional.of(
+        new MutationStatusTestPair(1, KILLED, singletonList("TEST_NAME"),
+            emptyList())));
+
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(allOf(withStatus(KILLED), withKillingTest("TEST_NAME"))));
+  }
+
   @Test
   public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenCoverageHasChanged() {
     final MutationDetails md = makeMutation("foo");
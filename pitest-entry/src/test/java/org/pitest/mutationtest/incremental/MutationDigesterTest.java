@@ -0,0 +1,163 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationDigesterTest {
+
+  private static final ClassName FOO      = ClassName.fromString("Foo");
+  private static final ClassName BAR      = ClassName.fromString("Bar");
+  private static final ClassName FOO_TEST = ClassName.fromString("FooTest");
+  private static final ClassName HELPER   = ClassName.fromString("TestHelper");
+
+  @Mock
+  private CodeSource             code;
+
+  @Mock
+  private CoverageDatabase       coverage;
+
+  private final TestInfo         aTest    = new TestInfo("FooTest",
+      "FooTest.aTest", 1, Optional.empty(), 1);
+
+  private Set<ClassName>         testDependencies;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(this.code.fetchClass(any(ClassName.class)))
+        .thenReturn(Optional.empty());
+    when(this.code.getCodeUnderTestNames())
+        .thenReturn(new HashSet<>(Arrays.asList(FOO, BAR)));
+    when(this.coverage.getTestsForClass(FOO))
+        .thenReturn(Collections.singletonList(this.aTest));
+    when(this.coverage.getTestsForClass(BAR))
+        .thenReturn(Collections.singletonList(this.aTest));
+    setBytes(FOO, 1);
+    setBytes(BAR, 2);
+    setBytes(FOO_TEST, 3);
+    setBytes(HELPER, 4);
+    this.testDependencies = Collections.singleton(HELPER);
+  }
+
+  @Test
+  public void shouldProduceSameDigestForSameInputs() {
+    assertThat(digest(mutation("aMethod", this.aTest)))
+        .isEqualTo(digest(mutation("aMethod", this.aTest)));
+  }
+
+  @Test
+  public void shouldProduceHexDigests() {
+    assertThat(digest(mutation("aMethod", this.aTest)))
+        .matches("[0-9a-f]{64}");
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsForDifferentMutations() {
+    assertThat(digest(mutation("aMethod", this.aTest)))
+        .isNotEqualTo(digest(mutation("anotherMethod", this.aTest)));
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsWhenMutatedClassChanges() {
+    final String before = digest(mutation("aMethod", this.aTest));
+    setBytes(FOO, 42);
+    assertThat(digest(mutation("aMethod", this.aTest))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsWhenOtherCoveredClassChanges() {
+    final String before = digest(mutation("aMethod", this.aTest));
+    setBytes(BAR, 42);
+    assertThat(digest(mutation("aMethod", this.aTest))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsWhenCoveringTestsChange() {
+    final TestInfo anotherTest = new TestInfo("FooTest", "FooTest.anotherTest",
+        1, Optional.empty(), 1);
+    assertThat(digest(mutation("aMethod", this.aTest)))
+        .isNotEqualTo(digest(mutation("aMethod", this.aTest, anotherTest)));
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsWhenTestHelperChanges() {
+    final String before = digest(mutation("aMethod", this.aTest));
+    setBytes(HELPER, 42);
+    assertThat(digest(mutation("aMethod", this.aTest))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsWhenTestDependsOnAnotherClass() {
+    when(this.coverage.getTestsForClass(BAR))
+        .thenReturn(Collections.emptyList());
+    final String before = digest(mutation("aMethod", this.aTest));
+    this.testDependencies = new HashSet<>(Arrays.asList(HELPER, BAR));
+    assertThat(digest(mutation("aMethod", this.aTest))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldProduceDifferentDigestsForDifferentConfiguration() {
+    final MutationDetails mutation = mutation("aMethod", this.aTest);
+    assertThat(digest(mutation, "mutators=[DEFAULTS]"))
+        .isNotEqualTo(digest(mutation, "mutators=[ALL]"));
+  }
+
+  @Test
+  public void shouldDescribeMutatorsAndJvmArgsInConfiguration() {
+    final ReportOptions data = new ReportOptions();
+    data.setMutators(Arrays.asList("DEFAULTS"));
+    final String defaults = MutationDigester.configurationOf(data);
+    data.setMutators(Arrays.asList("ALL"));
+    final String all = MutationDigester.configurationOf(data);
+    data.addChildJVMArgs(Arrays.asList("-Dfoo=bar"));
+    final String withArgs = MutationDigester.configurationOf(data);
+
+    assertThat(defaults).isNotEqualTo(all);
+    assertThat(withArgs).isNotEqualTo(all);
+  }
+
+  private String digest(MutationDetails mutation) {
+    return digest(mutation, "");
+  }
+
+  private String digest(MutationDetails mutation, String configuration) {
+    return new MutationDigester(this.code, this.coverage, configuration,
+        c -> this.testDependencies).digest(mutation);
+  }
+
+  private void setBytes(ClassName clazz, int content) {
+    when(this.code.fetchClassBytes(clazz))
+        .thenReturn(Optional.of(new byte[] { (byte) content }));
+  }
+
+  private static MutationDetails mutation(String method, TestInfo... tests) {
+    final List<TestInfo> testList = Arrays.asList(tests);
+    return aMutationDetail()
+        .withId(aMutationId()
+            .withLocation(aLocation(FOO.asJavaName()).withMethod(method)))
+        .withTestsInOrder(testList).build();
+  }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -15,6 +16,7 @@ import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,13 +28,18 @@ import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestClassHistory;
+import org.pitest.mutationtest.TestDurations;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.testapi.Description;
 
 public class ObjectOutputStreamHistoryStoreTest {
 
@@ -108,6 +115,136 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricResults());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveFullMutationMatrix() {
+        recordClassPathWithTestee(new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), ""));
+        final MutationResult first = new MutationResult(
+            MutationTestResultMother.createDetails("foo"),
+            new MutationStatusTestPair(3, DetectionStatus.KILLED,
+                Arrays.asList("aTest", "bTest"), Arrays.asList("cTest")));
+        final MutationResult second = new MutationResult(
+            new MutationDetails(aMutationId().withIndex(2).build(), "bar",
+                "desc", 42, 0),
+            new MutationStatusTestPair(3, DetectionStatus.SURVIVED,
+                Collections.emptyList(), Arrays.asList("cTest", "bTest", "aTest")));
+
+        this.testee.recordResult(first);
+        this.testee.recordResult(second);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+        assertEquals(first.getStatusTestPair(), this.testee.getHistoricResults()
+            .get(first.getDetails().getId()));
+        assertEquals(second.getStatusTestPair(), this.testee.getHistoricResults()
+            .get(second.getDetails().getId()));
+    }
+
+    @Test
+    public void shouldRecordAndRetrieveTestDurations() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.<Reader> empty());
+        TestDurations durations = TestDurations.empty();
+        for (int i = 0; i != 3; i++) {
+            durations = durations.withSamples(Collections.singletonList(
+                new CoverageResult(new Description("fooTest"), 100, true,
+                    Collections.emptyList())));
+        }
+        this.testee.recordTestDurations(durations);
+        this.testee.recordClassPath(Arrays.asList(foo), this.coverage);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(durations.allowedTimes(1f, 1000),
+            this.testee.getTestDurations().allowedTimes(1f, 1000));
+        assertEquals(1, this.testee.getHistoricClassPath().size());
+    }
+
+    @Test
+    public void shouldRecordAndRetrieveMinionHeaps() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId bar = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("bar")), "");
+        recordClassPathWithTestee(foo, bar);
+        this.testee.recordMinionHeap(foo.getName(), 100);
+        this.testee.recordMinionHeap(foo.getName(), 200);
+        this.testee.recordMinionHeap(bar.getName(), 300);
+
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(new StringReader(this.output.toString())));
+        this.testee.initialize();
+
+        final Map<ClassName, Long> expected = new HashMap<>();
+        expected.put(foo.getName(), 200L);
+        expected.put(bar.getName(), 300L);
+        assertEquals(expected, this.testee.getHistoricMinionHeaps());
+    }
+
+    @Test
+    public void shouldCarryForwardMinionHeapsOfClassesStillOnClassPath() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId bar = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("bar")), "");
+        recordClassPathWithTestee(foo, bar);
+        this.testee.recordMinionHeap(foo.getName(), 100);
+        this.testee.recordMinionHeap(bar.getName(), 300);
+
+        final String firstRun = this.output.toString();
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(new StringReader(firstRun)));
+        this.testee.initialize();
+        this.testee.recordClassPath(Arrays.asList(foo), this.coverage);
+
+        final String secondRun = this.output.toString()
+            .substring(firstRun.length());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(new StringReader(secondRun)));
+        this.testee.initialize();
+
+        assertEquals(Collections.singletonMap(foo.getName(), 100L),
+            this.testee.getHistoricMinionHeaps());
+    }
+
+    @Test
+    public void shouldRecordAndRetrieveTestCoverage() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(1, ClassName.fromString("fooTest")), "");
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.<Reader> empty());
+        this.testee.recordTestCoverage(Collections.singletonList(TestClassHistory
+            .create(fooTest, Collections.singletonList(foo.getId()),
+                Collections.emptyList())));
+        this.testee.recordClassPath(Arrays.asList(foo), this.coverage);
+
+        final MutationResult mr = new MutationResult(
+            MutationTestResultMother.createDetails("foo"),
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+        this.testee.recordResult(mr);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(fooTest, this.testee.getHistoricTestCoverage()
+            .get(fooTest.getName()).getId());
+        assertEquals(Collections.singletonList(foo.getId()), this.testee
+            .getHistoricTestCoverage().get(fooTest.getName()).getCoveredClasses());
+        assertEquals(1, this.testee.getHistoricResults().size());
+        assertEquals(1, this.testee.getHistoricClassPath().size());
+    }
+
     @Test
     public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
         try {
@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class FileResultStoreTest {
+
+  @Rule
+  public TemporaryFolder  folder = new TemporaryFolder();
+
+  private FileResultStore testee;
+
+  @Before
+  public void setUp() throws Exception {
+    this.testee = new FileResultStore(this.folder.getRoot().toPath());
+  }
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldReadBackResultsByPackage() {
+    final ClassMutationResults foo = resultsFor("com.example.Foo", 1);
+    final ClassMutationResults bar = resultsFor("org.example.Bar", 2);
+    final ClassMutationResults baz = resultsFor("com.example.Baz", 3);
+    this.testee.add(foo);
+    this.testee.add(bar);
+    this.testee.add(baz);
+
+    assertThat(this.testee.packages()).containsExactly("com.example",
+        "org.example");
+    assertThat(this.testee.resultsFor("com.example")).containsExactly(foo,
+        baz);
+    assertThat(this.testee.resultsFor("org.example")).containsExactly(bar);
+  }
+
+  @Test
+  public void shouldReadResultsAddedAfterEarlierReads() {
+    final ClassMutationResults foo = resultsFor("com.example.Foo", 1);
+    final ClassMutationResults baz = resultsFor("com.example.Baz", 2);
+    this.testee.add(foo);
+    assertThat(this.testee.resultsFor("com.example")).containsExactly(foo);
+    this.testee.add(baz);
+    assertThat(this.testee.resultsFor("com.example")).containsExactly(foo,
+        baz);
+  }
+
+  @Test
+  public void shouldForgetReleasedPackages() {
+    this.testee.add(resultsFor("com.example.Foo", 1));
+    this.testee.release("com.example");
+    assertThat(this.testee.packages()).isEmpty();
+    assertThat(this.testee.resultsFor("com.example")).isEmpty();
+  }
+
+  @Test
+  public void shouldDeleteFileWhenClosed() {
+    this.testee.add(resultsFor("com.example.Foo", 1));
+    this.testee.close();
+    assertThat(Files.exists(this.testee.getFile())).isFalse();
+  }
+
+  private ClassMutationResults resultsFor(final String clazz,
+      final int index) {
+    final MutationDetails details = new MutationDetails(
+        aMutationId().withLocation(aLocation(clazz)).withIndex(index).build(),
+        "Foo.java", "desc", 42, 0);
+    return MutationTestResultMother.createClassResults(new MutationResult(
+        details, new MutationStatusTestPair(1, DetectionStatus.KILLED,
+            "aTest")));
+  }
+
+}
@@ -0,0 +1,65 @@
+package org.pitest.mutationtest.report.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class BinaryReportListenerTest {
+
+  private ByteArrayOutputStream out;
+
+  private BinaryReportListener  testee;
+
+  @Before
+  public void setup() {
+    this.out = new ByteArrayOutputStream();
+    this.testee = new BinaryReportListener(this.out);
+  }
+
+  @Test
+  public void shouldReadNoResultsWhenNoneWritten() throws IOException {
+    this.testee.runStart();
+    this.testee.runEnd();
+    assertThat(read()).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripMutationResults() throws IOException {
+    final MutationResult killed = new MutationResult(
+        MutationTestResultMother.createDetails(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED,
+            Arrays.asList("foo", "bar"), Arrays.asList("baz")));
+    final MutationResult survived = new MutationResult(
+        MutationTestResultMother.createDetails("otherFile"),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED,
+            Collections.emptyList(), Arrays.asList("baz")));
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(
+        MutationTestResultMother.createClassResults(killed, survived));
+    this.testee.runEnd();
+
+    final List<MutationResult> actual = read();
+    assertThat(actual).containsExactly(killed, survived);
+    assertThat(actual.get(0).getKillingTests()).containsExactly("foo", "bar");
+    assertThat(actual.get(0).getSucceedingTests()).containsExactly("baz");
+  }
+
+  private List<MutationResult> read() throws IOException {
+    return new BinaryMutationReader()
+        .read(new ByteArrayInputStream(this.out.toByteArray()));
+  }
+
+}
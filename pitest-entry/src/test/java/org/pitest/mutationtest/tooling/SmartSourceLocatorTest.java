@@ -0,0 +1,181 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SmartSourceLocatorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldLocateSourceForClassesInNamedPackages() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "com/example/Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(read(testee.locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")))
+            .isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldLocateSourceForClassesInDefaultPackage() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(read(testee.locate(Collections.singletonList("Foo"),
+        "Foo.java"))).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldLocateSourceInDirectoriesBelowRoot() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "module/src/main/java/com/example/Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(read(testee.locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")))
+            .isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldNotLocateSourceMoreThanFiveDirectoriesBelowRoot()
+      throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "a/b/c/d/e/f/com/example/Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"),
+        "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLocateSourceInWrongPackage() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "com/other/Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"),
+        "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldNotMatchPartialPackageDirectoryNames() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "notcom/example/Foo.java", "foo");
+    final SmartSourceLocator testee = locatorFor(root);
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"),
+        "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldSearchEachRoot() throws IOException {
+    final File one = this.folder.newFolder("one");
+    final File two = this.folder.newFolder("two");
+    write(two, "com/example/Foo.java", "foo");
+    final SmartSourceLocator testee = new SmartSourceLocator(
+        Arrays.asList(one, two));
+    assertThat(read(testee.locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")))
+            .isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldIgnoreMissingRoots() {
+    final SmartSourceLocator testee = locatorFor(new File(
+        this.folder.getRoot(), "missing"));
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"),
+        "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldLocateKotlinSource() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "com/example/Foo.kt", "foo");
+    assertThat(read(locatorFor(root).locate(
+        Collections.singletonList("com.example.Foo"), "Foo.kt")))
+            .isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldNotIndexFilesThatAreNotSource() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "com/example/Foo.class", "foo");
+    assertThat(locatorFor(root).locate(
+        Collections.singletonList("com.example.Foo"), "Foo.class")).isEmpty();
+  }
+
+  @Test
+  public void shouldNotIndexHiddenDirectories() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, ".git/com/example/Foo.java", "foo");
+    assertThat(locatorFor(root).locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldNotIndexBuildOutputBesideBuildFile() throws IOException {
+    final File root = this.folder.newFolder("project");
+    write(root, "pom.xml", "<project/>");
+    write(root, "target/generated/com/example/Foo.java", "foo");
+    assertThat(locatorFor(root).locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldIndexPackagesNamedLikeBuildOutput() throws IOException {
+    final File root = this.folder.newFolder("src");
+    write(root, "com/example/target/Foo.java", "foo");
+    assertThat(read(locatorFor(root).locate(
+        Collections.singletonList("com.example.target.Foo"), "Foo.java")))
+            .isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldNotFollowLinksUnlessAsked() throws IOException {
+    final File elsewhere = this.folder.newFolder("elsewhere");
+    write(elsewhere, "com/example/Foo.java", "foo");
+    final File root = this.folder.newFolder("src");
+    try {
+      Files.createSymbolicLink(root.toPath().resolve("linked"),
+          elsewhere.toPath());
+    } catch (final UnsupportedOperationException | IOException e) {
+      return;
+    }
+    assertThat(locatorFor(root).locate(
+        Collections.singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+    assertThat(read(new SmartSourceLocator(Collections.singletonList(root),
+        true).locate(Collections.singletonList("com.example.Foo"),
+            "Foo.java"))).isEqualTo("foo");
+  }
+
+  private SmartSourceLocator locatorFor(File root) {
+    return new SmartSourceLocator(Collections.singletonList(root));
+  }
+
+  private static void write(File root, String path, String content)
+      throws IOException {
+    final Path file = root.toPath().resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String read(Optional<Reader> reader) throws IOException {
+    assertThat(reader).isPresent();
+    try (BufferedReader r = new BufferedReader(reader.get())) {
+      return r.readLine();
+    }
+  }
+
+}
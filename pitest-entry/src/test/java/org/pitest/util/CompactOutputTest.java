@@ -0,0 +1,99 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CompactOutputTest {
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+  @Test
+  public void shouldRoundTripIntegersOfAllSizes() throws IOException {
+    try (CompactOutput out = new CompactOutput(this.bytes, 1, 1)) {
+      out.writeInt(0);
+      out.writeInt(127);
+      out.writeInt(128);
+      out.writeInt(Integer.MAX_VALUE);
+      out.writeInt(-1);
+    }
+
+    try (CompactInput in = read(1)) {
+      assertThat(in.readInt()).isEqualTo(0);
+      assertThat(in.readInt()).isEqualTo(127);
+      assertThat(in.readInt()).isEqualTo(128);
+      assertThat(in.readInt()).isEqualTo(Integer.MAX_VALUE);
+      assertThat(in.readInt()).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  public void shouldRoundTripRepeatedAndNullStrings() throws IOException {
+    try (CompactOutput out = new CompactOutput(this.bytes, 1, 1)) {
+      out.writeString("foo");
+      out.writeString(null);
+      out.writeString("bar");
+      out.writeString("foo");
+      out.writeStrings(Arrays.asList("bar", "baz"));
+    }
+
+    try (CompactInput in = read(1)) {
+      assertThat(in.readString()).isEqualTo("foo");
+      assertThat(in.readString()).isNull();
+      assertThat(in.readString()).isEqualTo("bar");
+      assertThat(in.readString()).isEqualTo("foo");
+      assertThat(in.readStrings()).containsExactly("bar", "baz");
+    }
+  }
+
+  @Test
+  public void shouldReadRecordMarkers() throws IOException {
+    try (CompactOutput out = new CompactOutput(this.bytes, 1, 1)) {
+      out.startRecord();
+      out.writeInt(42);
+      out.endRecords();
+    }
+
+    try (CompactInput in = read(1)) {
+      assertThat(in.hasNext()).isTrue();
+      assertThat(in.readInt()).isEqualTo(42);
+      assertThat(in.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldReadVersion() throws IOException {
+    new CompactOutput(this.bytes, 1, 3).close();
+    try (CompactInput in = read(1)) {
+      assertThat(in.getVersion()).isEqualTo(3);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectDataOfUnexpectedType() throws IOException {
+    new CompactOutput(this.bytes, 1, 1).close();
+    read(2);
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldReportTruncatedData() throws IOException {
+    try (CompactOutput out = new CompactOutput(this.bytes, 1, 1)) {
+      out.startRecord();
+    }
+    try (CompactInput in = read(1)) {
+      in.hasNext();
+      in.hasNext();
+    }
+  }
+
+  private CompactInput read(final int type) throws IOException {
+    return new CompactInput(new ByteArrayInputStream(this.bytes.toByteArray()),
+        type);
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class TimelineTest {
+
+  private final StringWriter out = new StringWriter();
+
+  @Test
+  public void shouldRecordNothingWhenDisabled() {
+    final Timeline testee = new Timeline(false);
+    testee.record("stage", "foo", 0, 1);
+    assertThat(testee.size()).isZero();
+  }
+
+  @Test
+  public void shouldWriteEmptyTimeline() throws IOException {
+    new Timeline(true).writeJson(this.out);
+    assertThat(this.out.toString()).isEqualTo("{\"events\":[\n]}\n");
+  }
+
+  @Test
+  public void shouldWriteEventsInOrderOfStart() throws IOException {
+    final Timeline testee = new Timeline(true);
+    final long now = System.nanoTime();
+    testee.record("unit", "second", now + 2000000, now + 3000000);
+    testee.record("unit", "first", now, now + 1500000);
+    testee.writeJson(this.out);
+
+    final String actual = this.out.toString();
+    assertThat(actual.indexOf("\"first\"")).isLessThan(
+        actual.indexOf("\"second\""));
+    assertThat(actual).contains("\"durationMs\":1.500");
+  }
+
+  @Test
+  public void shouldWriteNumericAndStringAttributes() throws IOException {
+    final Timeline testee = new Timeline(true);
+    testee.record("mutant", "com.example.Foo::bar", 0, 0,
+        Timeline.attributes("status", "KILLED", "testsRun", 3));
+    testee.writeJson(this.out);
+
+    assertThat(this.out.toString()).contains(
+        "\"attributes\":{\"status\":\"KILLED\",\"testsRun\":3}");
+  }
+
+  @Test
+  public void shouldEscapeStrings() throws IOException {
+    final Timeline testee = new Timeline(true);
+    testee.record("stage", "a \"quoted\"\\name\n", 0, 0);
+    testee.writeJson(this.out);
+
+    assertThat(this.out.toString()).contains(
+        "\"name\":\"a \\\"quoted\\\"\\\\name\\n\"");
+  }
+
+}
@@ -0,0 +1,25 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+import org.pitest.util.Timings.Stage;
+
+public class TimingsTest {
+
+  @Test
+  public void shouldRecordStagesInTimeline() throws IOException {
+    final Timings testee = new Timings(new Timeline(true));
+    testee.registerStart(Stage.SCAN_CLASS_PATH);
+    testee.registerEnd(Stage.SCAN_CLASS_PATH);
+
+    final StringWriter out = new StringWriter();
+    testee.timeline().writeJson(out);
+    assertThat(out.toString()).contains(
+        "\"category\":\"stage\",\"name\":\"scan classpath\"");
+  }
+
+}
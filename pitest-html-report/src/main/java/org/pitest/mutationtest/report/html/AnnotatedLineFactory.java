@@ -15,7 +15,6 @@
 package org.pitest.mutationtest.report.html;
 
 import org.pitest.classinfo.ClassInfo;
-import org.pitest.coverage.ClassLine;
 import org.pitest.coverage.ReportCoverage;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationResult;
@@ -26,21 +25,15 @@ import java.io.Reader;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public class AnnotatedLineFactory {
 
-  private final Collection<MutationResult>         mutations;
-  private final ReportCoverage                     statistics;
-  private final Collection<ClassInfo>              classesInFile;
+  private final LineIndex index;
 
   public AnnotatedLineFactory(
       final Collection<MutationResult> mutations,
       final ReportCoverage statistics, final Collection<ClassInfo> classes) {
-    this.mutations = mutations;
-    this.statistics = statistics;
-    this.classesInFile = classes;
+    this.index = new LineIndex(mutations, statistics, classes);
   }
 
   public List<Line> convert(final Reader source) throws IOException {
@@ -60,8 +53,9 @@ public class AnnotatedLineFactory {
       @Override
       public Line apply(final String a) {
         final Line l = new Line(this.lineNumber,
-            StringUtil.escapeBasicHtmlChars(a), lineCovered(this.lineNumber),
-            getMutationsForLine(this.lineNumber));
+            StringUtil.escapeBasicHtmlChars(a),
+            AnnotatedLineFactory.this.index.getLineStatus(this.lineNumber),
+            AnnotatedLineFactory.this.index.getMutationsForLine(this.lineNumber));
         this.lineNumber++;
         return l;
       }
@@ -69,38 +63,4 @@ public class AnnotatedLineFactory {
     };
   }
 
-  private List<MutationResult> getMutationsForLine(final int lineNumber) {
-    return this.mutations.stream()
-        .filter(isAtLineNumber(lineNumber))
-        .collect(Collectors.toList());
-  }
-
-  private Predicate<MutationResult> isAtLineNumber(final int lineNumber) {
-    return result -> result.getDetails().getLineNumber() == lineNumber;
-  }
-
-  private LineStatus lineCovered(final int line) {
-
-    if (!isCodeLine(line)) {
-      return LineStatus.NotApplicable;
-    } else {
-      if (isLineCovered(line)) {
-        return LineStatus.Covered;
-      } else {
-        return LineStatus.NotCovered;
-      }
-    }
-  }
-
-  private boolean isCodeLine(final int line) {
-    return FCollection.contains(this.classesInFile, a -> a.isCodeLine(line));
-  }
-
-  private boolean isLineCovered(final int line) {
-    final Predicate<ClassInfo> predicate = a -> !AnnotatedLineFactory.this.statistics.getTestsForClassLine(
-        new ClassLine(a.getName().asInternalName(), line)).isEmpty();
-    return FCollection.contains(this.classesInFile, predicate);
-
-  }
-
 }
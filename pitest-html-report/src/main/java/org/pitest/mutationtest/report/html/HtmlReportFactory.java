@@ -18,7 +18,11 @@ package org.pitest.mutationtest.report.html;
 import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.report.FileResultStore;
+import org.pitest.mutationtest.report.MemoryResultStore;
+import org.pitest.mutationtest.report.ResultStore;
 
+import java.io.File;
 import java.util.Properties;
 
 public class HtmlReportFactory implements MutationResultListenerFactory {
@@ -28,7 +32,16 @@ public class HtmlReportFactory implements MutationResultListenerFactory {
       ListenerArguments args) {
     return new MutationHtmlReportListener(args.getCoverage(),
         args.getOutputStrategy(), args.getEngine().getMutatorNames(),
-        args.getLocator());
+        resultStore(args), args.getLocator());
+  }
+
+  private ResultStore resultStore(ListenerArguments args) {
+    final File spillLocation = args.data() != null
+        ? args.data().getResultSpillLocation() : null;
+    if (spillLocation == null) {
+      return new MemoryResultStore();
+    }
+    return new FileResultStore(spillLocation.toPath());
   }
 
   @Override
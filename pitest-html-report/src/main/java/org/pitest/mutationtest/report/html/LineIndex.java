@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.report.html;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.coverage.ReportCoverage;
+import org.pitest.mutationtest.MutationResult;
+
+/**
+ * Mutations, code lines and covered lines for a single source file, indexed
+ * by line number so each line can be annotated without rescanning the
+ * mutations or querying coverage.
+ */
+public class LineIndex {
+
+  private final Map<Integer, List<MutationResult>> mutations = new HashMap<>();
+  private final BitSet                             codeLines = new BitSet();
+  private final BitSet                             coveredLines = new BitSet();
+
+  public LineIndex(final Collection<MutationResult> mutations,
+      final ReportCoverage coverage, final Collection<ClassInfo> classes) {
+    for (final MutationResult each : mutations) {
+      this.mutations.computeIfAbsent(each.getDetails().getLineNumber(),
+          k -> new ArrayList<>()).add(each);
+    }
+    for (final ClassInfo each : classes) {
+      set(this.codeLines, each.getCodeLines());
+      set(this.coveredLines, coverage.getCoveredLines(each.getName()));
+    }
+  }
+
+  private static void set(final BitSet bits, final Collection<Integer> lines) {
+    for (final int line : lines) {
+      if (line >= 0) {
+        bits.set(line);
+      }
+    }
+  }
+
+  public List<MutationResult> getMutationsForLine(final int line) {
+    return this.mutations.getOrDefault(line, Collections.emptyList());
+  }
+
+  public LineStatus getLineStatus(final int line) {
+    if (!this.codeLines.get(line)) {
+      return LineStatus.NotApplicable;
+    } else if (this.coveredLines.get(line)) {
+      return LineStatus.Covered;
+    } else {
+      return LineStatus.NotCovered;
+    }
+  }
+
+}
@@ -22,10 +22,13 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.report.MemoryResultStore;
+import org.pitest.mutationtest.report.ResultStore;
 import org.pitest.util.FileUtil;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
 
 import java.io.File;
 import java.io.IOException;
@@ -39,9 +42,26 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.logging.Level;
 
+/**
+ * Accumulates results for each source file as they arrive, then renders every
+ * annotated source page exactly once when the run ends. Pages are independent
+ * so are rendered on a pool of threads sharing a single template group, which
+ * caches the parsed templates.
+ *
+ * Results are held in a {@link ResultStore} and read back a package at a time
+ * to render its pages, while only the totals needed by the index pages are
+ * kept on the heap.
+ *
+ * Callers that feed results a package at a time can call packageComplete to
+ * render that package early and release its results.
+ */
 public class MutationHtmlReportListener implements MutationResultListener {
 
   private final ResultOutputStrategy      outputStrategy;
@@ -53,14 +73,44 @@ public class MutationHtmlReportListener implements MutationResultListener {
   private final Set<String>               mutatorNames;
 
   private final String                    css;
+  private final StringTemplateGroup       templates = new StringTemplateGroup("mutation_test");
+  private final int                       threads;
+  private final Set<String>               completePackages = new HashSet<>();
+  private final ResultStore               results;
 
   public MutationHtmlReportListener(final ReportCoverage coverage,
       final ResultOutputStrategy outputStrategy,
       Collection<String> mutatorNames, final SourceLocator... locators) {
+    this(coverage, outputStrategy, mutatorNames, new MemoryResultStore(),
+        locators);
+  }
+
+  public MutationHtmlReportListener(final ReportCoverage coverage,
+      final ResultOutputStrategy outputStrategy,
+      Collection<String> mutatorNames, final ResultStore results,
+      final SourceLocator... locators) {
+    this(coverage, outputStrategy, mutatorNames,
+        Runtime.getRuntime().availableProcessors(), results, locators);
+  }
+
+  public MutationHtmlReportListener(final ReportCoverage coverage,
+      final ResultOutputStrategy outputStrategy,
+      Collection<String> mutatorNames, int threads,
+      final SourceLocator... locators) {
+    this(coverage, outputStrategy, mutatorNames, threads,
+        new MemoryResultStore(), locators);
+  }
+
+  public MutationHtmlReportListener(final ReportCoverage coverage,
+      final ResultOutputStrategy outputStrategy,
+      Collection<String> mutatorNames, int threads, final ResultStore results,
+      final SourceLocator... locators) {
     this.coverage = coverage;
+    this.results = results;
     this.outputStrategy = outputStrategy;
     this.sourceRoots = new HashSet<>(Arrays.asList(locators));
     this.mutatorNames = new HashSet<>(mutatorNames);
+    this.threads = Math.max(1, threads);
     this.css = loadCss();
   }
 
@@ -83,10 +133,8 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
     try (Writer writer = this.outputStrategy.createWriterForFile(fileName)) {
 
-      final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-      final StringTemplate st = group
+      final StringTemplate st = this.templates
           .getInstanceOf("templates/mutation/mutation_report");
-      st.setAttribute("css", this.css);
 
       st.setAttribute("tests", mutationMetaData.getTests());
 
@@ -109,8 +157,11 @@ public class MutationHtmlReportListener implements MutationResultListener {
       final ClassMutationResults mutationMetaData) {
     final String packageName = mutationMetaData.getPackageName();
 
-    return this.packageSummaryData.update(packageName,
-        createSummaryData(this.coverage, mutationMetaData));
+    this.results.add(mutationMetaData);
+    final MutationTestSummaryData totals = createSummaryData(this.coverage,
+        mutationMetaData);
+    totals.release();
+    return this.packageSummaryData.update(packageName, totals);
   }
 
   public MutationTestSummaryData createSummaryData(
@@ -173,8 +224,65 @@ public class MutationHtmlReportListener implements MutationResultListener {
   }
 
   public void onRunEnd() {
-    createIndexPages();
-    createCssFile();
+    try {
+      createSourcePages();
+      createIndexPages();
+      createCssFile();
+    } finally {
+      this.results.close();
+    }
+  }
+
+  /**
+   * Renders the source pages of a package, then releases the results they were
+   * built from. Must only be called once all results for the package have been
+   * handled.
+   */
+  public void packageComplete(final String packageName) {
+    if (this.packageSummaryData.get(packageName) != null) {
+      createSourcePages(packageName);
+      this.completePackages.add(packageName);
+    }
+  }
+
+  private void createSourcePages() {
+    for (final String each : this.results.packages()) {
+      if (!this.completePackages.contains(each)) {
+        createSourcePages(each);
+      }
+    }
+  }
+
+  private void createSourcePages(final String packageName) {
+    final PackageSummaryData pages = new PackageSummaryData(packageName);
+    for (final ClassMutationResults each : this.results
+        .resultsFor(packageName)) {
+      pages.addSummaryData(createSummaryData(this.coverage, each));
+    }
+    this.results.release(packageName);
+    createSourcePages(pages.getSummaryData());
+  }
+
+  private void createSourcePages(final List<MutationTestSummaryData> files) {
+    final ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+    try {
+      final List<Future<?>> pages = new ArrayList<>();
+      for (final MutationTestSummaryData each : files) {
+        pages.add(executor.submit(() -> {
+          generateAnnotatedSourceFile(each);
+          each.release();
+        }));
+      }
+      for (final Future<?> each : pages) {
+        each.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   private void createCssFile() {
@@ -189,8 +297,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   private void createIndexPages() {
 
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.templates
         .getInstanceOf("templates/mutation/mutation_package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile("index.html");
@@ -216,8 +323,7 @@ public class MutationHtmlReportListener implements MutationResultListener {
   }
 
   private void createPackageIndexPage(final PackageSummaryData psData) {
-    final StringTemplateGroup group = new StringTemplateGroup("mutation_test");
-    final StringTemplate st = group
+    final StringTemplate st = this.templates
         .getInstanceOf("templates/mutation/package_index");
 
     final Writer writer = this.outputStrategy.createWriterForFile(psData
@@ -240,17 +346,12 @@ public class MutationHtmlReportListener implements MutationResultListener {
 
   @Override
   public void runEnd() {
-    createIndexPages();
-    createCssFile();
+    onRunEnd();
   }
 
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
-    final PackageSummaryData packageData = collectPackageSummaries(metaData);
-
-    generateAnnotatedSourceFile(packageData.getForSourceFile(metaData
-        .getFileName()));
-
+    collectPackageSummaries(metaData);
   }
 
 }
\ No newline at end of file
@@ -34,11 +34,16 @@ public class MutationTestSummaryData {
 
   private final String                     fileName;
   private final Set<String>                mutators  = new TreeSet<>();
-  private final Collection<MutationResult> mutations = new ArrayList<>();
+  private Collection<MutationResult>       mutations = new ArrayList<>();
   private final Set<ClassInfo>             classes   = new HashSet<>();
 
   private long                             numberOfCoveredLines;
 
+  // counts for results dropped by release
+  private long                             releasedMutations;
+  private long                             releasedDetected;
+  private long                             releasedWithCoverage;
+
   public MutationTestSummaryData(final String fileName,
       final Collection<MutationResult> results,
       final Collection<String> mutators, final Collection<ClassInfo> classes,
@@ -53,14 +58,27 @@ public class MutationTestSummaryData {
   public MutationTotals getTotals() {
     final MutationTotals mt = new MutationTotals();
     mt.addFiles(1);
-    mt.addMutations(this.getNumberOfMutations());
-    mt.addMutationsDetetcted(this.getNumberOfMutationsDetected());
+    mt.addMutations(this.getNumberOfMutations() + this.releasedMutations);
+    mt.addMutationsDetetcted(this.getNumberOfMutationsDetected()
+        + this.releasedDetected);
     mt.addLines(getNumberOfLines());
     mt.addLinesCovered(this.numberOfCoveredLines);
-    mt.addMutationsWithCoverage(this.getNumberOfMutationsWithCoverage());
+    mt.addMutationsWithCoverage(this.getNumberOfMutationsWithCoverage()
+        + this.releasedWithCoverage);
     return mt;
   }
 
+  /**
+   * Drops the results held for this file once its page has been written,
+   * keeping only the counts needed by the index pages.
+   */
+  public void release() {
+    this.releasedMutations += getNumberOfMutations();
+    this.releasedDetected += getNumberOfMutationsDetected();
+    this.releasedWithCoverage += getNumberOfMutationsWithCoverage();
+    this.mutations = new ArrayList<>();
+  }
+
   private long getNumberOfMutationsWithCoverage() {
     return this.mutations.stream()
             .filter(it -> it.getStatus().hasCoverage())
@@ -84,6 +102,9 @@ public class MutationTestSummaryData {
 
   public void add(final MutationTestSummaryData data) {
     this.mutations.addAll(data.mutations);
+    this.releasedMutations += data.releasedMutations;
+    this.releasedDetected += data.releasedDetected;
+    this.releasedWithCoverage += data.releasedWithCoverage;
     this.mutators.addAll(data.getMutators());
     final int classesBefore = this.classes.size();
     this.classes.addAll(data.classes);
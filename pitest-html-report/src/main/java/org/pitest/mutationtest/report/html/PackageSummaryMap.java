@@ -26,6 +26,10 @@ public class PackageSummaryMap {
     return psd;
   }
 
+  public PackageSummaryData get(final String packageName) {
+    return this.packageSummaryData.get(packageName);
+  }
+
   public Collection<PackageSummaryData> values() {
     return this.packageSummaryData.values();
   }
@@ -0,0 +1,86 @@
+package org.pitest.mutationtest.report.html;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.ReportCoverage;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class LineIndexTest {
+
+  private static final ClassName FOO = ClassName.fromString("com.example.Foo");
+
+  @Mock
+  private ReportCoverage coverage;
+
+  @Mock
+  private ClassInfo      classInfo;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(this.classInfo.getName()).thenReturn(FOO);
+    when(this.classInfo.getCodeLines())
+        .thenReturn(new HashSet<>(Arrays.asList(1, 2, 5)));
+    when(this.coverage.getCoveredLines(FOO))
+        .thenReturn(new HashSet<>(Arrays.asList(1, 5)));
+  }
+
+  @Test
+  public void shouldMarkLinesWithoutCodeAsNotApplicable() {
+    final LineIndex testee = indexOf();
+    assertThat(testee.getLineStatus(3)).isEqualTo(LineStatus.NotApplicable);
+    assertThat(testee.getLineStatus(1000)).isEqualTo(LineStatus.NotApplicable);
+  }
+
+  @Test
+  public void shouldMarkCodeLinesAsCoveredWhenAnyTestCoversThem() {
+    final LineIndex testee = indexOf();
+    assertThat(testee.getLineStatus(1)).isEqualTo(LineStatus.Covered);
+    assertThat(testee.getLineStatus(5)).isEqualTo(LineStatus.Covered);
+  }
+
+  @Test
+  public void shouldMarkUncoveredCodeLinesAsNotCovered() {
+    final LineIndex testee = indexOf();
+    assertThat(testee.getLineStatus(2)).isEqualTo(LineStatus.NotCovered);
+  }
+
+  @Test
+  public void shouldGroupMutationsByLineInOriginalOrder() {
+    final MutationResult a = resultAtLine(2);
+    final MutationResult b = resultAtLine(5);
+    final MutationResult c = resultAtLine(2);
+    final LineIndex testee = indexOf(a, b, c);
+    assertThat(testee.getMutationsForLine(2)).containsExactly(a, c);
+    assertThat(testee.getMutationsForLine(5)).containsExactly(b);
+    assertThat(testee.getMutationsForLine(1)).isEmpty();
+  }
+
+  private LineIndex indexOf(MutationResult... results) {
+    return new LineIndex(Arrays.asList(results), this.coverage,
+        Collections.singleton(this.classInfo));
+  }
+
+  private MutationResult resultAtLine(int line) {
+    final MutationDetails md = MutationTestResultMother.createDetails();
+    return new MutationResult(new MutationDetails(md.getId(), md.getFilename(),
+        md.getDescription(), line, md.getBlock()),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+  }
+
+}
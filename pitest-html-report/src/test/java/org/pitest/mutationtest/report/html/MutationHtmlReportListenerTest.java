@@ -14,18 +14,24 @@
  */
 package org.pitest.mutationtest.report.html;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassInfo;
@@ -36,11 +42,15 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.SourceLocator;
+import org.pitest.mutationtest.report.FileResultStore;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 import org.pitest.util.ResultOutputStrategy;
 
 public class MutationHtmlReportListenerTest {
 
+  @Rule
+  public TemporaryFolder             folder = new TemporaryFolder();
+
   private MutationHtmlReportListener testee;
 
   @Mock
@@ -94,7 +104,71 @@ public class MutationHtmlReportListenerTest {
         .thenReturn(Optional.<Reader> empty());
     this.testee.handleMutationResult(MutationTestResultMother
         .createClassResults(mr));
+    this.testee.runEnd();
     verify(this.sourceLocator).locate(any(Collection.class), eq(fileName));
   }
 
+  @Test
+  public void shouldRenderEachSourceFileOnceWhenRunEnds() {
+    final String fileName = "foo.java";
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(fileName),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Optional.<Reader> empty());
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    verify(this.sourceLocator, never()).locate(any(Collection.class),
+        any(String.class));
+
+    this.testee.runEnd();
+    verify(this.sourceLocator, times(1)).locate(any(Collection.class),
+        eq(fileName));
+    verify(this.outputStrategy, times(1)).createWriterForFile(
+        "default" + File.separator + fileName + ".html");
+  }
+
+  @Test
+  public void shouldRenderPackageWhenComplete() {
+    final String fileName = "foo.java";
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(fileName),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Optional.<Reader> empty());
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+
+    this.testee.packageComplete("default");
+    verify(this.outputStrategy).createWriterForFile(
+        "default" + File.separator + fileName + ".html");
+
+    this.testee.runEnd();
+    verify(this.outputStrategy, times(1)).createWriterForFile(
+        "default" + File.separator + fileName + ".html");
+  }
+
+  @Test
+  public void shouldRenderResultsSpilledToDisk() {
+    this.testee = new MutationHtmlReportListener(this.coverageDb,
+        this.outputStrategy, Collections.<String>emptyList(),
+        new FileResultStore(this.folder.getRoot().toPath()),
+        this.sourceLocator);
+    final String fileName = "foo.java";
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(fileName),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    when(this.sourceLocator.locate(any(Collection.class), any(String.class)))
+        .thenReturn(Optional.<Reader> empty());
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+
+    this.testee.runEnd();
+    verify(this.outputStrategy, times(1)).createWriterForFile(
+        "default" + File.separator + fileName + ".html");
+    assertThat(this.folder.getRoot().list()).isEmpty();
+  }
+
 }
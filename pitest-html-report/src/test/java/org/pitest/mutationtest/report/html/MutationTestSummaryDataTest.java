@@ -137,6 +137,46 @@ public class MutationTestSummaryDataTest {
     assertEquals(75, this.testee.getTotals().getTestStrength());
   }
 
+  @Test
+  public void shouldKeepTotalsWhenResultsReleased() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(100),
+            aMutationResult(DetectionStatus.NO_COVERAGE),
+            aMutationResult(DetectionStatus.KILLED),
+            aMutationResult(DetectionStatus.SURVIVED)
+    );
+    this.testee.release();
+    assertEquals(3, this.testee.getTotals().getNumberOfMutations());
+    assertEquals(1, this.testee.getTotals().getNumberOfMutationsDetected());
+    assertEquals(2, this.testee.getTotals().getNumberOfMutationsWithCoverage());
+    assertEquals(0, this.testee.getResults().list().size());
+  }
+
+  @Test
+  public void shouldCombineReleasedTotalsWithLaterResults() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(100),
+            aMutationResult(DetectionStatus.KILLED)
+    );
+    this.testee.release();
+    this.testee.add(buildSummaryDataWithMutationResults(makeClass(100),
+            aMutationResult(DetectionStatus.SURVIVED)));
+    assertEquals(2, this.testee.getTotals().getNumberOfMutations());
+    assertEquals(1, this.testee.getTotals().getNumberOfMutationsDetected());
+  }
+
+  @Test
+  public void shouldCombineTotalsReleasedFromAddedData() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(100),
+            aMutationResult(DetectionStatus.KILLED)
+    );
+    final MutationTestSummaryData released = buildSummaryDataWithMutationResults(
+            makeClass(100), aMutationResult(DetectionStatus.SURVIVED));
+    released.release();
+    this.testee.add(released);
+    assertEquals(2, this.testee.getTotals().getNumberOfMutations());
+    assertEquals(1, this.testee.getTotals().getNumberOfMutationsDetected());
+    assertEquals(2, this.testee.getTotals().getNumberOfMutationsWithCoverage());
+  }
+
   @Test
   public void shouldReturnSortedListOfMutators() {
     this.testee = buildSummaryDataMutators();
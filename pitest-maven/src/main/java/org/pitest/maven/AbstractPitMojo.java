@@ -121,6 +121,16 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "1", property = "threads")
   private int                         threads;
 
+  /**
+   * Number of minions that may run at once across all modules of the
+   * reactor. When set, each module may use up to this many threads, with
+   * modules drawing from one shared pool of minion slots so that a parallel
+   * build neither oversubscribes the machine nor leaves it idle while the
+   * last modules finish. Disabled when 0.
+   */
+  @Parameter(defaultValue = "0", property = "reactorThreads")
+  private int                         reactorThreads;
+
   /**
    * Detect inlined code
    */
@@ -152,6 +162,14 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "3000", property = "timeoutConstant")
   private long                        timeoutConstant;
 
+  /**
+   * Derive timeouts from the test durations recorded in the history file.
+   * Tests without enough recorded durations use the timeout factor and
+   * constant.
+   */
+  @Parameter(defaultValue = "false", property = "adaptiveTimeouts")
+  private boolean                     adaptiveTimeouts;
+
   /**
    * Maximum number of mutations to allow per class
    */
@@ -231,6 +249,13 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "exportLineCoverage")
   private boolean                     exportLineCoverage;
 
+  /**
+   * Write a json timeline of the run, recording the time spent in each phase,
+   * analysis unit, minion and mutant
+   */
+  @Parameter(defaultValue = "false", property = "exportTimeline")
+  private boolean                     exportTimeline;
+
   /**
    * Mutation score threshold at which to fail build
    */
@@ -362,6 +387,70 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "useClasspathJar", defaultValue = "false")
   private boolean                     useClasspathJar;
 
+  /**
+   * Split JUnit 4 test classes with class level fixtures (BeforeClass,
+   * AfterClass or ClassRule) into a unit per method. Only the methods
+   * covering a mutant are then run, sharing a single set up of the fixture.
+   */
+  @Parameter(property = "splitClassFixtures", defaultValue = "false")
+  private boolean                     splitClassFixtures;
+
+  /**
+   * Addresses, formatted as "host:port", of remote agents on which mutation
+   * test minions should be run. Each agent must hold a copy of the classpath,
+   * and share the secret held in the PIT_AGENT_SECRET environment variable.
+   * The only jvmArgs remote minions accept are -Xmx, -Xms, -Xss,
+   * -XX:MaxMetaspaceSize, -XX:MaxDirectMemorySize and -Djava.awt.headless=true,
+   * and they accept no environmentVariables. The build fails if anything else is configured.
+   */
+  @Parameter(property = "remoteAgents")
+  private ArrayList<String>           remoteAgents;
+
+  /**
+   * Directory in which to cache mutation results, keyed by the content of
+   * each mutant and of the tests that cover it. May be shared between
+   * checkouts, branches and concurrent builds.
+   */
+  @Parameter(property = "resultCacheLocation")
+  private File                        resultCacheLocation;
+
+  /**
+   * Size in megabytes above which least recently used entries are removed
+   * from the result cache
+   */
+  @Parameter(property = "resultCacheMaxSize", defaultValue = "1024")
+  private long                        resultCacheMaxSize;
+
+  /**
+   * Megabytes of memory minions may reserve between them. When set, minion
+   * heaps are sized from the live heap recorded for the classes they analyse
+   * and minions wait to start until they fit within the budget.
+   */
+  @Parameter(property = "minionMemoryBudget", defaultValue = "0")
+  private long                        minionMemoryBudget;
+
+  /**
+   * Directory in which to cache classes instrumented for coverage, keyed by
+   * the content of each class, so that classes unchanged since an earlier
+   * build are not instrumented again
+   */
+  @Parameter(property = "instrumentationCacheLocation")
+  private File                        instrumentationCacheLocation;
+
+  /**
+   * Size in megabytes above which least recently used entries are removed
+   * from the instrumentation cache
+   */
+  @Parameter(property = "instrumentationCacheMaxSize", defaultValue = "1024")
+  private long                        instrumentationCacheMaxSize;
+
+  /**
+   * Directory in which to spill results to disk as they complete, so that
+   * only their totals are held in memory until the reports are written
+   */
+  @Parameter(property = "resultSpillLocation")
+  private File                        resultSpillLocation;
+
   /**
    * Amount of debug information/noise to output. The boolean
    * verbose flag overrides this value when it is set to true.
@@ -550,6 +639,10 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.threads;
   }
 
+  public int getReactorThreads() {
+    return this.reactorThreads;
+  }
+
   public List<String> getMutators() {
     return withoutNulls(this.mutators);
   }
@@ -562,6 +655,10 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.timeoutConstant;
   }
 
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
   public ArrayList<String> getExcludedTestClasses() {
     return withoutNulls(excludedTestClasses);
   }
@@ -638,6 +735,10 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.exportLineCoverage;
   }
 
+  public boolean isExportTimeline() {
+    return this.exportTimeline;
+  }
+
 
   protected RunDecision shouldRun() {
     RunDecision decision = new RunDecision();
@@ -709,6 +810,38 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.useClasspathJar;
   }
 
+  public boolean isSplitClassFixtures() {
+    return this.splitClassFixtures;
+  }
+
+  public ArrayList<String> getRemoteAgents() {
+    return withoutNulls(this.remoteAgents);
+  }
+
+  public File getResultCacheLocation() {
+    return this.resultCacheLocation;
+  }
+
+  public long getResultCacheMaxSize() {
+    return this.resultCacheMaxSize;
+  }
+
+  public long getMinionMemoryBudget() {
+    return this.minionMemoryBudget;
+  }
+
+  public File getInstrumentationCacheLocation() {
+    return this.instrumentationCacheLocation;
+  }
+
+  public long getInstrumentationCacheMaxSize() {
+    return this.instrumentationCacheMaxSize;
+  }
+
+  public File getResultSpillLocation() {
+    return this.resultSpillLocation;
+  }
+
   public String getVerbosity() {
     return verbosity;
   }
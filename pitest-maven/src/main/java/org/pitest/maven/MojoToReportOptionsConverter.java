@@ -95,6 +95,16 @@ public class MojoToReportOptionsConverter {
     }
 
     data.setUseClasspathJar(this.mojo.isUseClasspathJar());
+    data.setSplitClassFixtures(this.mojo.isSplitClassFixtures());
+    if (this.mojo.getRemoteAgents() != null) {
+      data.setRemoteAgents(this.mojo.getRemoteAgents());
+    }
+    data.setResultCacheLocation(this.mojo.getResultCacheLocation());
+    data.setResultCacheMaxSize(this.mojo.getResultCacheMaxSize());
+    data.setMinionMemoryBudget(this.mojo.getMinionMemoryBudget());
+    data.setInstrumentationCacheLocation(this.mojo.getInstrumentationCacheLocation());
+    data.setInstrumentationCacheMaxSize(this.mojo.getInstrumentationCacheMaxSize());
+    data.setResultSpillLocation(this.mojo.getResultSpillLocation());
     data.setClassPathElements(classPath);
     data.setDependencyAnalysisMaxDistance(this.mojo.getMaxDependencyDistance());
     data.setFailWhenNoMutations(shouldFailWhenNoMutations());
@@ -108,6 +118,11 @@ public class MojoToReportOptionsConverter {
     data.setExcludedTestClasses(globStringsToPredicates(this.mojo
         .getExcludedTestClasses()));
     data.setNumberOfThreads(this.mojo.getThreads());
+    if (this.mojo.getReactorThreads() > 0) {
+      data.setSharedMinionLimit(this.mojo.getReactorThreads());
+      data.setNumberOfThreads(Math.max(this.mojo.getThreads(),
+          this.mojo.getReactorThreads()));
+    }
     data.setExcludedRunners(this.mojo.getExcludedRunners());
 
     data.setReportDir(this.mojo.getReportsDirectory().getAbsolutePath());
@@ -120,6 +135,7 @@ public class MojoToReportOptionsConverter {
     data.setFeatures(determineFeatures());
     data.setTimeoutConstant(this.mojo.getTimeoutConstant());
     data.setTimeoutFactor(this.mojo.getTimeoutFactor());
+    data.setAdaptiveTimeouts(this.mojo.isAdaptiveTimeouts());
     if (hasValue(this.mojo.getAvoidCallsTo())) {
       data.setLoggingClasses(this.mojo.getAvoidCallsTo());
     }
@@ -143,6 +159,7 @@ public class MojoToReportOptionsConverter {
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setExportTimeline(this.mojo.isExportTimeline());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
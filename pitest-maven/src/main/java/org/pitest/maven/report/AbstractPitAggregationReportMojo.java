@@ -28,6 +28,8 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
   private static final String REPORT_DIR_RELATIVE_TO_PROJECT = "target/pit-reports";
   private static final String MUTATION_RESULT_FILTER = "mutations.xml";
   private static final String LINECOVERAGE_FILTER = "linecoverage.xml";
+  private static final String BINARY_MUTATION_RESULT_FILTER = "mutations.bin";
+  private static final String BINARY_LINECOVERAGE_FILTER = "linecoverage.bin";
 
   /**
    * The projects in the reactor.
@@ -76,12 +78,13 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
       final ReportAggregator.Builder reportAggregationBuilder,
       final MavenProject proj) throws Exception {
     final File projectBaseDir = proj.getBasedir();
-    List<File> files = getProjectFilesByFilter(projectBaseDir,
-        MUTATION_RESULT_FILTER);
+    List<File> files = getPreferredProjectFiles(projectBaseDir,
+        BINARY_MUTATION_RESULT_FILTER, MUTATION_RESULT_FILTER);
     for (final File file : files) {
       reportAggregationBuilder.addMutationResultsFile(file);
     }
-    files = getProjectFilesByFilter(projectBaseDir, LINECOVERAGE_FILTER);
+    files = getPreferredProjectFiles(projectBaseDir,
+        BINARY_LINECOVERAGE_FILTER, LINECOVERAGE_FILTER);
     for (final File file : files) {
       reportAggregationBuilder.addLineCoverageFile(file);
     }
@@ -105,6 +108,19 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
     return FCollection.map(roots, File::new);
   }
 
+  /**
+   * Binary files are smaller and faster to read than xml, so are used in
+   * preference when a report was written in both formats.
+   */
+  private List<File> getPreferredProjectFiles(final File projectBaseDir,
+      final String preferred, final String fallback) throws IOException {
+    final List<File> files = getProjectFilesByFilter(projectBaseDir, preferred);
+    if (!files.isEmpty()) {
+      return files;
+    }
+    return getProjectFilesByFilter(projectBaseDir, fallback);
+  }
+
   private List<File> getProjectFilesByFilter(final File projectBaseDir,
                                              final String filter) throws IOException {
 
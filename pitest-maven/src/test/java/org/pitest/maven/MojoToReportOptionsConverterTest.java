@@ -143,6 +143,18 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(42, actual.getNumberOfThreads());
   }
 
+  public void testSharesMinionsAcrossReactorWhenReactorThreadsSet() {
+    final ReportOptions actual = parseConfig("<threads>2</threads><reactorThreads>8</reactorThreads>");
+    assertEquals(8, actual.getSharedMinionLimit());
+    assertEquals(8, actual.getNumberOfThreads());
+  }
+
+  public void testDoesNotShareMinionsByDefault() {
+    final ReportOptions actual = parseConfig("<threads>2</threads>");
+    assertEquals(0, actual.getSharedMinionLimit());
+    assertEquals(2, actual.getNumberOfThreads());
+  }
+
   public void testParsesTimeOutFactor() {
     final ReportOptions actual = parseConfig("<timeoutFactor>1.32</timeoutFactor>");
     assertEquals(1.32f, actual.getTimeoutFactor(), 0.1);
@@ -348,6 +360,36 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesTimelineExportFlag() {
+    final ReportOptions actual = parseConfig("<exportTimeline>true</exportTimeline>");
+    assertTrue(actual.shouldExportTimeline());
+  }
+
+  public void testParsesAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>true</adaptiveTimeouts>");
+    assertTrue(actual.useAdaptiveTimeouts());
+  }
+
+  public void testParsesMinionMemoryBudget() {
+    final ReportOptions actual = parseConfig("<minionMemoryBudget>4096</minionMemoryBudget>");
+    assertEquals(4096L, actual.getMinionMemoryBudget());
+  }
+
+  public void testParsesInstrumentationCacheLocation() {
+    final ReportOptions actual = parseConfig("<instrumentationCacheLocation>foo</instrumentationCacheLocation>");
+    assertEquals(new File("foo"), actual.getInstrumentationCacheLocation());
+  }
+
+  public void testParsesInstrumentationCacheMaxSize() {
+    final ReportOptions actual = parseConfig("<instrumentationCacheMaxSize>64</instrumentationCacheMaxSize>");
+    assertEquals(64L, actual.getInstrumentationCacheMaxSize());
+  }
+
+  public void testParsesResultSpillLocation() {
+    final ReportOptions actual = parseConfig("<resultSpillLocation>foo</resultSpillLocation>");
+    assertEquals(new File("foo"), actual.getResultSpillLocation());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
@@ -0,0 +1,88 @@
+package org.pitest.bytecode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.analysis.Block;
+import org.pitest.coverage.analysis.ControlFlowAnalyser;
+import org.pitest.mutationtest.engine.Location;
+
+/**
+ * The parsed tree of a class, together with analyses derived from it, for
+ * sharing between the consumers of the same class bytes.
+ *
+ * The tree is shared, so must be treated as read only.
+ */
+public final class ClassAnalysis {
+
+  private final ClassName                        name;
+  private final byte[]                           bytes;
+  private final ClassNode                        node;
+  private Map<BlockLocation, Set<Integer>>       lines;
+
+  ClassAnalysis(ClassName name, byte[] bytes) {
+    this.name = name;
+    this.bytes = bytes;
+    this.node = new ClassNode();
+    new ClassReader(bytes).accept(this.node, ClassReader.EXPAND_FRAMES);
+  }
+
+  boolean isFor(byte[] bytes) {
+    return this.bytes == bytes || Arrays.equals(this.bytes, bytes);
+  }
+
+  public ClassName getName() {
+    return this.name;
+  }
+
+  /**
+   * The tree read from the class bytes with expanded frames
+   */
+  public ClassNode node() {
+    return this.node;
+  }
+
+  /**
+   * Replays the class to the visitor, as a reader of the bytes would with
+   * expanded frames.
+   */
+  public synchronized void accept(ClassVisitor visitor) {
+    this.node.accept(visitor);
+  }
+
+  /**
+   * The lines of each block of each method
+   */
+  public synchronized Map<BlockLocation, Set<Integer>> lines() {
+    if (this.lines == null) {
+      this.lines = Collections.unmodifiableMap(mapLines());
+    }
+    return this.lines;
+  }
+
+  private Map<BlockLocation, Set<Integer>> mapLines() {
+    final Map<BlockLocation, Set<Integer>> map = new HashMap<>();
+    for (final MethodNode mn : this.node.methods) {
+      final Location l = Location.location(this.name, mn.name, mn.desc);
+      final List<Block> blocks = ControlFlowAnalyser.analyze(mn);
+      for (int i = 0; i != blocks.size(); i++) {
+        final Block each = blocks.get(i);
+        final BlockLocation bl = new BlockLocation(l, i,
+            each.getFirstInstruction(), each.getLastInstruction());
+        map.put(bl, each.getLines());
+      }
+    }
+    return map;
+  }
+
+}
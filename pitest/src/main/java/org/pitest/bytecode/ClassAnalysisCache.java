@@ -0,0 +1,80 @@
+package org.pitest.bytecode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Bounded cache of the analyses of recently used classes, so that finding
+ * mutations, reading class info and mapping coverage lines for a class parse
+ * its bytes once between them. Interceptors in pitest-entry build their own
+ * trees, as asm is relocated in the pitest jar.
+ *
+ * An analysis is reused only for bytes identical to those it was made from.
+ * The least recently used analysis is discarded once the capacity is reached.
+ */
+public final class ClassAnalysisCache {
+
+  static final int                         DEFAULT_CAPACITY = 64;
+
+  private static final ClassAnalysisCache  SHARED = new ClassAnalysisCache(
+      DEFAULT_CAPACITY);
+
+  private final Map<ClassName, ClassAnalysis> analyses;
+
+  public ClassAnalysisCache(final int capacity) {
+    this.analyses = new LinkedHashMap<ClassName, ClassAnalysis>(16, 0.75f,
+        true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<ClassName, ClassAnalysis> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * The cache shared by every consumer within this JVM
+   */
+  public static ClassAnalysisCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * The analysis of the supplied bytes, parsing them if not already cached
+   */
+  public ClassAnalysis analyse(final ClassName name, final byte[] bytes) {
+    final Optional<ClassAnalysis> known = cached(name, bytes);
+    if (known.isPresent()) {
+      return known.get();
+    }
+    // parse outside of the lock so other classes are not held up
+    final ClassAnalysis analysis = new ClassAnalysis(name, bytes);
+    synchronized (this) {
+      this.analyses.put(name, analysis);
+    }
+    return analysis;
+  }
+
+  /**
+   * The analysis of the supplied bytes if already cached. For consumers that
+   * can read bytes more cheaply than they could build the full tree.
+   */
+  public synchronized Optional<ClassAnalysis> cached(final ClassName name,
+      final byte[] bytes) {
+    final ClassAnalysis analysis = this.analyses.get(name);
+    if (analysis != null && analysis.isFor(bytes)) {
+      return Optional.of(analysis);
+    }
+    return Optional.empty();
+  }
+
+  synchronized int size() {
+    return this.analyses.size();
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.classinfo;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.pitest.util.PitError;
+
+/**
+ * Thread safe index of the super class, interfaces and kind of each class or
+ * interface that {@link ComputeClassWriter} computes frames against. Each
+ * class header is read once, from the first source asked for it, and is then
+ * shared by every writer using the index.
+ *
+ * Headers are keyed by internal name alone, so where two class loaders
+ * define a name differently the first definition read is used.
+ */
+public final class ClassHierarchy {
+
+  private static final ClassHierarchy        SHARED  = new ClassHierarchy();
+
+  private final ConcurrentMap<String, Header> headers = new ConcurrentHashMap<>();
+
+  /**
+   * The index shared by every writer within this JVM
+   */
+  public static ClassHierarchy shared() {
+    return SHARED;
+  }
+
+  int size() {
+    return this.headers.size();
+  }
+
+  /**
+   * The header of the supplied type, read from the source if not yet
+   * indexed.
+   */
+  Header header(final String type, final ClassByteArraySource source) {
+    final Header known = this.headers.get(type);
+    if (known != null) {
+      return known;
+    }
+    // read outside of the map so a slow source does not block other types
+    final Optional<byte[]> maybeBytes = source.getBytes(type);
+    if (!maybeBytes.isPresent()) {
+      throw new PitError("Could not find class defintiion for " + type);
+    }
+    final Header header = new Header(new ClassReader(maybeBytes.get()));
+    final Header raced = this.headers.putIfAbsent(type, header);
+    return raced != null ? raced : header;
+  }
+
+  /**
+   * Describes the super class, interfaces and kind of the supplied type, so
+   * that output computed from its header can be checked against the current
+   * definition.
+   */
+  public String describe(final String type, final ClassByteArraySource source) {
+    final Header header = header(type, source);
+    return header.getSuperName() + ";"
+        + String.join(",", header.getInterfaces()) + ";"
+        + header.isInterface();
+  }
+
+  static final class Header {
+    private final String   superName;
+    private final String[] interfaces;
+    private final boolean  isInterface;
+
+    Header(final ClassReader reader) {
+      this.superName = reader.getSuperName();
+      this.interfaces = reader.getInterfaces();
+      this.isInterface = (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0;
+    }
+
+    String getSuperName() {
+      return this.superName;
+    }
+
+    String[] getInterfaces() {
+      return this.interfaces;
+    }
+
+    boolean isInterface() {
+      return this.isInterface;
+    }
+  }
+
+}
@@ -17,6 +17,7 @@ package org.pitest.classinfo;
 import java.lang.annotation.Annotation;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -59,6 +60,10 @@ public class ClassInfo {
     return this.codeLines.contains(line);
   }
 
+  public Set<Integer> getCodeLines() {
+    return Collections.unmodifiableSet(this.codeLines);
+  }
+
   public ClassIdentifier getId() {
     return this.id;
   }
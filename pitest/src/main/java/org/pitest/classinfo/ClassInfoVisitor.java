@@ -16,6 +16,7 @@ package org.pitest.classinfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassReader;
@@ -24,6 +25,8 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 import org.pitest.bytecode.ASMVersion;
+import org.pitest.bytecode.ClassAnalysis;
+import org.pitest.bytecode.ClassAnalysisCache;
 import org.pitest.bytecode.NullVisitor;
 
 public final class ClassInfoVisitor extends MethodFilteringAdapter {
@@ -38,12 +41,20 @@ public final class ClassInfoVisitor extends MethodFilteringAdapter {
 
   public static ClassInfoBuilder getClassInfo(final ClassName name,
       final byte[] bytes, final long hash) {
-    final ClassReader reader = new ClassReader(bytes);
     final ClassVisitor writer = new NullVisitor();
 
     final ClassInfoBuilder info = new ClassInfoBuilder();
     info.id = new ClassIdentifier(hash, name);
-    reader.accept(new ClassInfoVisitor(info, writer), 0);
+    final ClassInfoVisitor visitor = new ClassInfoVisitor(info, writer);
+    // reuse the tree if the class has already been analysed, but do not
+    // build one as a read of the bytes is cheaper
+    final Optional<ClassAnalysis> analysis = ClassAnalysisCache.shared()
+        .cached(name, bytes);
+    if (analysis.isPresent()) {
+      analysis.get().accept(visitor);
+    } else {
+      new ClassReader(bytes).accept(visitor, 0);
+    }
     return info;
   }
 
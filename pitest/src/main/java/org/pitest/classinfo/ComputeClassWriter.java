@@ -31,13 +31,14 @@
  */
 package org.pitest.classinfo;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
-import org.objectweb.asm.Opcodes;
-import java.util.Optional;
-import org.pitest.util.PitError;
+import org.pitest.classinfo.ClassHierarchy.Header;
 
 /**
  * A ClassWriter that computes the common super class of two classes without
@@ -45,40 +46,58 @@ import org.pitest.util.PitError;
  *
  * @author Eric Bruneton
  *
- *         Modified to match behaviour of default ClassWriter and cache already
- *         calculated values
+ *         Modified to match behaviour of default ClassWriter and to read each
+ *         class header once into a shared {@link ClassHierarchy}
  */
 public class ComputeClassWriter extends ClassWriter {
 
   private final ClassByteArraySource bytes;
-  private final Map<String, String>  cache;
+  private final ClassHierarchy       hierarchy;
+  private final Set<String>          consulted = new LinkedHashSet<>();
 
-  public ComputeClassWriter(final ClassByteArraySource bytes,
-      final Map<String, String> cache, final int flags) {
+  public ComputeClassWriter(final ClassByteArraySource bytes, final int flags) {
     super(flags);
     this.bytes = bytes;
-    this.cache = cache;
+    this.hierarchy = ClassHierarchy.shared();
   }
 
-  @Override
-  protected String getCommonSuperClass(final String type1, final String type2) {
-    final String key = type1 + "!_!" + type2;
-    final String previous = this.cache.get(key);
-    if (previous != null) {
-      return previous;
-    }
+  /**
+   * @deprecated the common super classes are no longer cached, the class
+   *             headers they are computed from are held in the shared
+   *             {@link ClassHierarchy} instead
+   */
+  @Deprecated
+  public ComputeClassWriter(final ClassByteArraySource bytes,
+      final Map<String, String> cache, final int flags) {
+    this(bytes, flags);
+  }
 
-    final ClassReader info1 = typeInfo(type1);
-    final ClassReader info2 = typeInfo(type2);
+  /**
+   * Creates a writer that shares the constant pool of the supplied reader, so
+   * that methods passed to it unaltered by the reader are copied as is
+   * rather than being rewritten, and have no frames computed.
+   */
+  public ComputeClassWriter(final ClassReader original,
+      final ClassByteArraySource bytes, final int flags) {
+    super(original, flags);
+    this.bytes = bytes;
+    this.hierarchy = ClassHierarchy.shared();
+  }
 
-    final String result = getCommonSuperClass(type1, info1, type2, info2);
-    this.cache.put(key, result);
-    return result;
+  /**
+   * The types whose headers the computed frames depend on
+   */
+  public Set<String> getConsultedTypes() {
+    return Collections.unmodifiableSet(this.consulted);
+  }
 
+  @Override
+  protected String getCommonSuperClass(final String type1, final String type2) {
+    return getCommonSuperClass(type1, typeInfo(type1), type2, typeInfo(type2));
   }
 
   private String getCommonSuperClass(final String type1,
-      final ClassReader info1, final String type2, final ClassReader info2) {
+      final Header info1, final String type2, final Header info2) {
     if (isInterface(info1)) {
       if (typeImplements(type2, info2, type1)) {
         return type1;
@@ -119,8 +138,8 @@ public class ComputeClassWriter extends ClassWriter {
 
   }
 
-  private static boolean isInterface(final ClassReader info1) {
-    return (info1.getAccess() & Opcodes.ACC_INTERFACE) != 0;
+  private static boolean isInterface(final Header info1) {
+    return info1.isInterface();
   }
 
   /**
@@ -129,14 +148,14 @@ public class ComputeClassWriter extends ClassWriter {
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the header of 'type'.
    * @return a StringBuilder containing the ancestor classes of 'type',
    *         separated by ';'. The returned string has the following format:
    *         ";type1;type2 ... ;typeN", where type1 is 'type', and typeN is a
    *         direct subclass of Object. If 'type' is Object, the returned string
    *         is empty.
    */
-  private StringBuilder typeAncestors(String type, ClassReader info) {
+  private StringBuilder typeAncestors(String type, Header info) {
     final StringBuilder b = new StringBuilder();
     while (!"java/lang/Object".equals(type)) {
       b.append(';').append(type);
@@ -152,12 +171,12 @@ public class ComputeClassWriter extends ClassWriter {
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the header of 'type'.
    * @param itf
    *          the internal name of a interface.
    * @return true if 'type' implements directly or indirectly 'itf'
    */
-  private boolean typeImplements(String type, ClassReader info, final String itf) {
+  private boolean typeImplements(String type, Header info, final String itf) {
     final String cleanItf = itf.replace(".", "/");
     while (!"java/lang/Object".equals(type)) {
       final String[] itfs = info.getInterfaces();
@@ -178,17 +197,14 @@ public class ComputeClassWriter extends ClassWriter {
   }
 
   /**
-   * Returns a ClassReader corresponding to the given class or interface.
+   * Returns the header of the given class or interface.
    *
    * @param type
    *          the internal name of a class or interface.
-   * @return the ClassReader corresponding to 'type'.
+   * @return the header of 'type'.
    */
-  private ClassReader typeInfo(final String type) {
-    final Optional<byte[]> maybeBytes = this.bytes.getBytes(type);
-    if (!maybeBytes.isPresent()) {
-      throw new PitError("Could not find class defintiion for " + type);
-    }
-    return new ClassReader(maybeBytes.get());
+  private Header typeInfo(final String type) {
+    this.consulted.add(type);
+    return this.hierarchy.header(type, this.bytes);
   }
 }
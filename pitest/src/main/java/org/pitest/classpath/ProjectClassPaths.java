@@ -51,6 +51,16 @@ public class ProjectClassPaths {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Every class in the test tree, whether or not it is a test to run
+   */
+  public Collection<ClassName> testTree() {
+    return this.classPath.getComponent(this.pathFilter.getTestFilter())
+        .findClasses(c -> true).stream()
+        .map(ClassName.stringToClassName())
+        .collect(Collectors.toList());
+  }
+
   public ClassPath getClassPath() {
     return this.classPath;
   }
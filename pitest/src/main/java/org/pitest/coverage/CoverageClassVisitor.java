@@ -17,12 +17,17 @@
 
 package org.pitest.coverage;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.pitest.classinfo.BridgeMethodFilter;
 import org.pitest.classinfo.MethodFilteringAdapter;
+import org.pitest.coverage.analysis.Block;
 import org.pitest.coverage.analysis.CoverageAnalyser;
 import sun.pitest.CodeCoverageStore;
 
@@ -42,6 +47,8 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
   private boolean   foundClinit;
   private boolean   isInterface;
 
+  private final List<InstrumentedClass.Method> methods = new ArrayList<>();
+
   public CoverageClassVisitor(final int classId, final ClassWriter writer) {
     super(writer, BridgeMethodFilter.INSTANCE);
     this.classId = classId;
@@ -51,6 +58,23 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
     this.probeCount = this.probeCount + number;
   }
 
+  /**
+   * Registers the probes of a method with the coverage store, and records
+   * them so they can be registered again when the class is replayed from an
+   * {@link InstrumentedClassCache}.
+   */
+  public void registerMethod(final String name, final String desc,
+      final int firstProbe, final int lastProbe, final List<Block> blocks) {
+    CodeCoverageStore.registerMethod(this.classId, name, desc, firstProbe,
+        lastProbe, blocks);
+    this.methods.add(new InstrumentedClass.Method(name, desc, firstProbe,
+        lastProbe, blocks));
+  }
+
+  public List<InstrumentedClass.Method> getRegisteredMethods() {
+    return Collections.unmodifiableList(this.methods);
+  }
+
   @Override
   public void visit(int version, int access, String name, String signature,
       String superName, String[] interfaces) {
@@ -107,7 +131,8 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
           .visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
       clinitMv.visitCode();
 
-      pushConstant(clinitMv, this.classId);
+      // pushed from the constant pool so it can be patched when cached
+      clinitMv.visitLdcInsn(this.classId);
       pushConstant(clinitMv, this.probeCount);
       clinitMv
           .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
@@ -1,25 +1,33 @@
 package org.pitest.coverage;
 
 import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassHierarchy;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import sun.pitest.CodeCoverageStore;
 
 import java.lang.instrument.ClassFileTransformer;
 import java.security.ProtectionDomain;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public class CoverageTransformer implements ClassFileTransformer {
 
-  private final Predicate<String>   filter;
-  private final Map<String, String> computeCache = new ConcurrentHashMap<>();
+  private final Predicate<String>      filter;
+  private final InstrumentedClassCache cache;
 
   public CoverageTransformer(final Predicate<String> filter) {
+    this(filter, new NullInstrumentedClassCache());
+  }
+
+  public CoverageTransformer(final Predicate<String> filter,
+      final InstrumentedClassCache cache) {
     this.filter = filter;
+    this.cache = cache;
   }
 
   @Override
@@ -42,6 +50,16 @@ public class CoverageTransformer implements ClassFileTransformer {
 
   private byte[] transformBytes(final ClassLoader loader,
       final String className, final byte[] classfileBuffer) {
+    final ClassByteArraySource source = new ClassloaderByteArraySource(loader);
+    final int id = CodeCoverageStore.registerClass(className);
+
+    final Optional<InstrumentedClass> cached = this.cache
+        .get(className, classfileBuffer)
+        .filter(c -> c.hierarchyMatches(ClassHierarchy.shared(), source));
+    if (cached.isPresent()) {
+      return cached.get().replay(id);
+    }
+
     final ClassReader reader = new ClassReader(classfileBuffer);
 
     /*
@@ -50,18 +68,36 @@ public class CoverageTransformer implements ClassFileTransformer {
     would try to redefine a class (that we already added coverage tracking to),
     in which case we will just allow that previous coverage tracking to stand.
      */
-    final ClassWriter writer = new ComputeClassWriter(
-        new ClassloaderByteArraySource(loader), this.computeCache,
+    final ComputeClassWriter writer = new ComputeClassWriter(source,
         FrameOptions.pickFlags(classfileBuffer));
 
-    final int id = CodeCoverageStore.registerClass(className);
+    final CoverageClassVisitor visitor = new CoverageClassVisitor(id, writer);
     try {
-      reader.accept(new CoverageClassVisitor(id, writer),
-          ClassReader.EXPAND_FRAMES);
-      return writer.toByteArray();
+      reader.accept(visitor, ClassReader.EXPAND_FRAMES);
     } catch (AlreadyInstrumentedException ex) {
       return null;
     }
+    final byte[] instrumented = writer.toByteArray();
+    store(className, classfileBuffer, instrumented, id, visitor, writer,
+        source);
+    return instrumented;
+  }
+
+  private void store(final String className, final byte[] original,
+      final byte[] instrumented, final int id,
+      final CoverageClassVisitor visitor, final ComputeClassWriter writer,
+      final ClassByteArraySource source) {
+    final int offset = InstrumentedClass.findClassIdOffset(original,
+        instrumented, id);
+    if (offset == -1) {
+      return;
+    }
+    final Map<String, String> hierarchy = new LinkedHashMap<>();
+    for (final String each : writer.getConsultedTypes()) {
+      hierarchy.put(each, ClassHierarchy.shared().describe(each, source));
+    }
+    this.cache.put(className, original, new InstrumentedClass(instrumented,
+        offset, visitor.getRegisteredMethods(), hierarchy));
   }
 
   private boolean shouldInclude(final String className) {
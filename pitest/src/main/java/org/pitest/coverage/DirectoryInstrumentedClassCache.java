@@ -0,0 +1,202 @@
+package org.pitest.coverage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.coverage.analysis.Block;
+import org.pitest.util.CacheDirectory;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * Instrumented class cache held as one file per class below a directory,
+ * named by a digest of the original class bytes and of the version of the
+ * instrumentation. The directory may be shared by concurrent runs, as
+ * entries are written to a temporary file then moved into place.
+ *
+ * Reading an entry updates its modification time. When the cache is closed the
+ * least recently used entries are removed until it fits within its size
+ * limit.
+ */
+public class DirectoryInstrumentedClassCache implements InstrumentedClassCache {
+
+  private static final Logger LOG                     = Log.getLogger();
+
+  /**
+   * Must be changed whenever the instrumentation or the format of entries
+   * changes, so that entries written by other versions are not read.
+   */
+  static final int            INSTRUMENTATION_VERSION = 1;
+
+  private final Path          dir;
+  private final long          maxBytes;
+
+  public DirectoryInstrumentedClassCache(final Path dir) {
+    this(dir, Long.MAX_VALUE);
+  }
+
+  public DirectoryInstrumentedClassCache(final Path dir, final long maxBytes) {
+    this.dir = dir;
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public Optional<InstrumentedClass> get(final String className,
+      final byte[] original) {
+    final Path entry = entryFor(digest(className, original));
+    if (!Files.exists(entry)) {
+      return Optional.empty();
+    }
+    try (DataInputStream dis = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(entry)))) {
+      final InstrumentedClass cached = read(dis);
+      CacheDirectory.touch(entry);
+      return Optional.of(cached);
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not read cached class " + entry, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(final String className, final byte[] original,
+      final InstrumentedClass instrumented) {
+    final Path entry = entryFor(digest(className, original));
+    if (Files.exists(entry)) {
+      return;
+    }
+    try {
+      Files.createDirectories(entry.getParent());
+      final Path tmp = Files.createTempFile(entry.getParent(), "class",
+          ".tmp");
+      try (DataOutputStream dos = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        write(dos, instrumented);
+      }
+      Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not write cached class " + entry, e);
+    }
+  }
+
+  /**
+   * Removes the least recently used entries until the cache fits within its
+   * size limit
+   */
+  public void close() {
+    CacheDirectory.trim(this.dir, this.maxBytes);
+  }
+
+  Path entryFor(final String digest) {
+    return this.dir.resolve(digest.substring(0, 2))
+        .resolve(digest.substring(2));
+  }
+
+  static String digest(final String className, final byte[] original) {
+    try {
+      final MessageDigest md = MessageDigest.getInstance("SHA-256");
+      md.update((INSTRUMENTATION_VERSION + ":" + pitestVersion() + ":"
+          + className + ":").getBytes(StandardCharsets.UTF_8));
+      md.update(original);
+      final StringBuilder sb = new StringBuilder();
+      for (final byte each : md.digest()) {
+        sb.append(String.format("%02x", each));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new PitError("SHA-256 not available", e);
+    }
+  }
+
+  private static String pitestVersion() {
+    final String version = InstrumentedClass.class.getPackage()
+        .getImplementationVersion();
+    return version != null ? version : "dev";
+  }
+
+  private static void write(final DataOutputStream dos,
+      final InstrumentedClass instrumented) throws IOException {
+    dos.writeInt(instrumented.getHierarchy().size());
+    for (final Entry<String, String> each : instrumented.getHierarchy()
+        .entrySet()) {
+      dos.writeUTF(each.getKey());
+      dos.writeUTF(each.getValue());
+    }
+    dos.writeInt(instrumented.getMethods().size());
+    for (final InstrumentedClass.Method each : instrumented.getMethods()) {
+      dos.writeUTF(each.getName());
+      dos.writeUTF(each.getDesc());
+      dos.writeInt(each.getFirstProbe());
+      dos.writeInt(each.getLastProbe());
+      dos.writeInt(each.getBlocks().size());
+      for (final Block block : each.getBlocks()) {
+        dos.writeInt(block.getFirstInstruction());
+        dos.writeInt(block.getLastInstruction());
+        dos.writeInt(block.getLines().size());
+        for (final int line : block.getLines()) {
+          dos.writeInt(line);
+        }
+      }
+    }
+    dos.writeInt(instrumented.getClassIdOffset());
+    dos.writeInt(instrumented.getBytes().length);
+    dos.write(instrumented.getBytes());
+  }
+
+  private static InstrumentedClass read(final DataInputStream dis)
+      throws IOException {
+    final int types = dis.readInt();
+    final Map<String, String> hierarchy = new LinkedHashMap<>(types);
+    for (int i = 0; i != types; i++) {
+      hierarchy.put(dis.readUTF(), dis.readUTF());
+    }
+    final int methodCount = dis.readInt();
+    final List<InstrumentedClass.Method> methods = new ArrayList<>(
+        methodCount);
+    for (int i = 0; i != methodCount; i++) {
+      final String name = dis.readUTF();
+      final String desc = dis.readUTF();
+      final int firstProbe = dis.readInt();
+      final int lastProbe = dis.readInt();
+      final int blockCount = dis.readInt();
+      final List<Block> blocks = new ArrayList<>(blockCount);
+      for (int b = 0; b != blockCount; b++) {
+        final int first = dis.readInt();
+        final int last = dis.readInt();
+        final int lineCount = dis.readInt();
+        final Set<Integer> lines = new HashSet<>(lineCount);
+        for (int l = 0; l != lineCount; l++) {
+          lines.add(dis.readInt());
+        }
+        blocks.add(new Block(first, last, lines));
+      }
+      methods.add(new InstrumentedClass.Method(name, desc, firstProbe,
+          lastProbe, blocks));
+    }
+    final int classIdOffset = dis.readInt();
+    final byte[] bytes = new byte[dis.readInt()];
+    dis.readFully(bytes);
+    return new InstrumentedClass(bytes, classIdOffset, methods, hierarchy);
+  }
+
+}
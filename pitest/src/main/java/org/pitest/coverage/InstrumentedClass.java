@@ -0,0 +1,164 @@
+package org.pitest.coverage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassHierarchy;
+import org.pitest.coverage.analysis.Block;
+import org.pitest.util.PitError;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * A class instrumented for coverage, held independently of the id it was
+ * registered with so that it can be replayed under a new id in a later run.
+ *
+ * The instrumented bytes load the class id from a single constant pool entry,
+ * which is patched with the new id, and the probes of each method are
+ * registered again as they were when the class was instrumented. The headers
+ * of the types its frames were computed against are held so that it is not
+ * replayed once they change.
+ */
+public final class InstrumentedClass {
+
+  private static final int          CONSTANT_INTEGER = 3;
+
+  private final byte[]              bytes;
+  private final int                 classIdOffset;
+  private final List<Method>        methods;
+  private final Map<String, String> hierarchy;
+
+  public InstrumentedClass(final byte[] bytes, final int classIdOffset,
+      final List<Method> methods, final Map<String, String> hierarchy) {
+    this.bytes = bytes;
+    this.classIdOffset = classIdOffset;
+    this.methods = methods;
+    this.hierarchy = hierarchy;
+  }
+
+  /**
+   * Finds the offset within the instrumented bytes of the constant holding
+   * the class id, or -1 if the class id shares its constant with the original
+   * code and so cannot be patched.
+   */
+  public static int findClassIdOffset(final byte[] original,
+      final byte[] instrumented, final int classId) {
+    if (!integerConstantsOf(original, classId).isEmpty()) {
+      return -1;
+    }
+    final List<Integer> offsets = integerConstantsOf(instrumented, classId);
+    return offsets.size() == 1 ? offsets.get(0) : -1;
+  }
+
+  private static List<Integer> integerConstantsOf(final byte[] bytes,
+      final int value) {
+    final ClassReader reader = new ClassReader(bytes);
+    final List<Integer> offsets = new ArrayList<>(1);
+    for (int i = 1; i != reader.getItemCount(); i++) {
+      final int offset = reader.getItem(i);
+      // the second slot of long and double constants has no offset
+      if (offset != 0 && bytes[offset - 1] == CONSTANT_INTEGER
+          && reader.readInt(offset) == value) {
+        offsets.add(offset);
+      }
+    }
+    return offsets;
+  }
+
+  /**
+   * True if the types the frames were computed against are unchanged in the
+   * supplied source
+   */
+  public boolean hierarchyMatches(final ClassHierarchy current,
+      final ClassByteArraySource source) {
+    try {
+      for (final Entry<String, String> each : this.hierarchy.entrySet()) {
+        if (!current.describe(each.getKey(), source).equals(each.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    } catch (final PitError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Registers the probes of each method with the coverage store under the
+   * supplied id and returns the instrumented bytes patched to use it
+   */
+  public byte[] replay(final int classId) {
+    for (final Method each : this.methods) {
+      CodeCoverageStore.registerMethod(classId, each.name, each.desc,
+          each.firstProbe, each.lastProbe, each.blocks);
+    }
+    final byte[] patched = this.bytes.clone();
+    patched[this.classIdOffset] = (byte) (classId >>> 24);
+    patched[this.classIdOffset + 1] = (byte) (classId >>> 16);
+    patched[this.classIdOffset + 2] = (byte) (classId >>> 8);
+    patched[this.classIdOffset + 3] = (byte) classId;
+    return patched;
+  }
+
+  byte[] getBytes() {
+    return this.bytes;
+  }
+
+  int getClassIdOffset() {
+    return this.classIdOffset;
+  }
+
+  List<Method> getMethods() {
+    return this.methods;
+  }
+
+  Map<String, String> getHierarchy() {
+    return this.hierarchy;
+  }
+
+  /**
+   * The probes of a method, as registered with the coverage store
+   */
+  public static final class Method {
+    private final String      name;
+    private final String      desc;
+    private final int         firstProbe;
+    private final int         lastProbe;
+    private final List<Block> blocks;
+
+    public Method(final String name, final String desc, final int firstProbe,
+        final int lastProbe, final List<Block> blocks) {
+      this.name = name;
+      this.desc = desc;
+      this.firstProbe = firstProbe;
+      this.lastProbe = lastProbe;
+      this.blocks = Collections.unmodifiableList(blocks);
+    }
+
+    String getName() {
+      return this.name;
+    }
+
+    String getDesc() {
+      return this.desc;
+    }
+
+    int getFirstProbe() {
+      return this.firstProbe;
+    }
+
+    int getLastProbe() {
+      return this.lastProbe;
+    }
+
+    List<Block> getBlocks() {
+      return this.blocks;
+    }
+  }
+
+}
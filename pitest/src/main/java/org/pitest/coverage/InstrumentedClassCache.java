@@ -0,0 +1,16 @@
+package org.pitest.coverage;
+
+import java.util.Optional;
+
+/**
+ * Store of classes instrumented for coverage, keyed by the name and bytes of
+ * the original class, so that classes unchanged since an earlier run need not
+ * be instrumented again.
+ */
+public interface InstrumentedClassCache {
+
+  Optional<InstrumentedClass> get(String className, byte[] original);
+
+  void put(String className, byte[] original, InstrumentedClass instrumented);
+
+}
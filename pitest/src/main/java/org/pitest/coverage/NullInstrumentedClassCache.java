@@ -0,0 +1,19 @@
+package org.pitest.coverage;
+
+import java.util.Optional;
+
+public class NullInstrumentedClassCache implements InstrumentedClassCache {
+
+  @Override
+  public Optional<InstrumentedClass> get(final String className,
+      final byte[] original) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void put(final String className, final byte[] original,
+      final InstrumentedClass instrumented) {
+
+  }
+
+}
@@ -88,6 +88,14 @@ abstract class AbstractCoverageStrategy extends AdviceAdapter {
     }
   }
 
+  /**
+   * Pushes the class id as a constant pool entry, rather than inline, so that
+   * it can be patched in cached instrumented bytes.
+   */
+  protected void pushClassId() {
+    this.mv.visitLdcInsn(this.classId);
+  }
+
   @Override
   public void visitFrame(final int type, final int nLocal,
       final Object[] local, final int nStack, final Object[] stack) {
@@ -88,7 +88,7 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
   @Override
   void prepare() {
     if (getName().equals("<clinit>")) {
-        pushConstant(this.classId);
+        pushClassId();
         this.mv.visitFieldInsn(Opcodes.GETSTATIC, this.className, CodeCoverageStore.PROBE_LENGTH_FIELD_NAME,"I");
         this.mv
             .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
@@ -109,7 +109,7 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
     //if not then initialise
     this.mv.visitInsn(POP); //gte rid of null on top of stack
-    pushConstant(this.classId);
+    pushClassId();
     this.mv.visitFieldInsn(Opcodes.GETSTATIC, this.className, CodeCoverageStore.PROBE_LENGTH_FIELD_NAME,"I");
     this.mv
             .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
@@ -8,7 +8,6 @@ import org.pitest.bytecode.ASMVersion;
 import org.pitest.coverage.CoverageClassVisitor;
 import org.pitest.mutationtest.engine.gregor.analysis.DefaultInstructionCounter;
 import org.pitest.mutationtest.engine.gregor.analysis.InstructionTrackingMethodVisitor;
-import sun.pitest.CodeCoverageStore;
 
 /**
  * Need to count the number of blocks in the method. Storing method as a tree
@@ -39,8 +38,8 @@ public class CoverageAnalyser extends MethodNode {
 
     this.parent.registerProbes(blocks.size());
 
-    CodeCoverageStore.registerMethod(this.classId, this.name, this.desc,
-        this.probeOffset, (this.probeOffset + blocks.size()) - 1, blocks);
+    this.parent.registerMethod(this.name, this.desc, this.probeOffset,
+        (this.probeOffset + blocks.size()) - 1, blocks);
 
     final DefaultInstructionCounter counter = new DefaultInstructionCounter();
     accept(new InstructionTrackingMethodVisitor(
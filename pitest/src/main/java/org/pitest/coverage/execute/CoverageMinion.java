@@ -19,6 +19,9 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.CoverageTransformer;
+import org.pitest.coverage.DirectoryInstrumentedClassCache;
+import org.pitest.coverage.InstrumentedClassCache;
+import org.pitest.coverage.NullInstrumentedClassCache;
 import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.PitHelpError;
@@ -41,7 +44,6 @@ import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -76,8 +78,10 @@ public class CoverageMinion {
 
       CodeCoverageStore.init(invokeQueue);
 
+      // the filter accepts the internal names the jvm supplies
       HotSwapAgent.addTransformer(new CoverageTransformer(
-          convertToJVMClassFilter(paramsFromParent.getFilter())));
+          paramsFromParent.getFilter(),
+          instrumentationCache(paramsFromParent)));
 
       final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent);
 
@@ -119,9 +123,13 @@ public class CoverageMinion {
         JavassistInputStreamInterceptorAdapater.inputStreamAdapterSupplier(JavassistCoverageInterceptor.class)));
   }
 
-  private static Predicate<String> convertToJVMClassFilter(
-      final Predicate<String> child) {
-    return a -> child.test(a.replace("/", "."));
+  private static InstrumentedClassCache instrumentationCache(
+      final CoverageOptions paramsFromParent) {
+    if (paramsFromParent.getInstrumentationCacheLocation() == null) {
+      return new NullInstrumentedClassCache();
+    }
+    return new DirectoryInstrumentedClassCache(
+        paramsFromParent.getInstrumentationCacheLocation().toPath());
   }
 
   private static List<TestUnit> getTestsFromParent(
@@ -1,5 +1,6 @@
 package org.pitest.coverage.execute;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
 
@@ -23,8 +24,8 @@ import java.util.function.Predicate;
 
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.util.ClassNameGlobs;
 import org.pitest.util.Verbosity;
-import org.pitest.util.Glob;
 
 public class CoverageOptions implements Serializable {
 
@@ -35,21 +36,29 @@ public class CoverageOptions implements Serializable {
   private final Verbosity verbosity;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  private final File              instrumentationCacheLocation;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final Verbosity verbose,
       final int maxDependencyDistance) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance, null);
+  }
+
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final Verbosity verbose,
+      final int maxDependencyDistance, final File instrumentationCacheLocation) {
     Objects.requireNonNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbosity = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.instrumentationCacheLocation = instrumentationCacheLocation;
   }
 
   public Predicate<String> getFilter() {
-    return Prelude.and(Prelude.or(Glob.toGlobPredicates(this.include)),
-        Prelude.not(Prelude.or(Glob.toGlobPredicates(this.exclude))),
+    return Prelude.and(ClassNameGlobs.of(this.include),
+        Prelude.not(ClassNameGlobs.of(this.exclude)),
         Prelude.not(commonClasses()));
   }
 
@@ -65,17 +74,21 @@ public class CoverageOptions implements Serializable {
     return this.maxDependencyDistance;
   }
 
-  private static Predicate<String> commonClasses() {
-    return Prelude.or(
-        glob("java/*"),
-        glob("sun/*"),
-        glob("org/pitest/coverage/*"),
-        glob("org/pitest/reloc/*"),
-        glob("org/pitest/boot/*"));
+  /**
+   * Directory in which instrumented classes are cached between runs, or null
+   * if they are not cached
+   */
+  public File getInstrumentationCacheLocation() {
+    return this.instrumentationCacheLocation;
   }
 
-  private static Glob glob(String match) {
-    return new Glob(match);
+  private static Predicate<String> commonClasses() {
+    return ClassNameGlobs.of(
+        "java/*",
+        "sun/*",
+        "org/pitest/coverage/*",
+        "org/pitest/reloc/*",
+        "org/pitest/boot/*");
   }
 
 }
@@ -30,13 +30,9 @@ import sun.pitest.CodeCoverageStore;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public final class JavassistCoverageInterceptor {
 
-  private static final Map<String, String> COMPUTE_CACHE = new ConcurrentHashMap<>();
-
   private JavassistCoverageInterceptor() {
 
   }
@@ -69,7 +65,7 @@ public final class JavassistCoverageInterceptor {
       final String className, final byte[] classfileBuffer) {
     final ClassReader reader = new ClassReader(classfileBuffer);
     final ClassWriter writer = new ComputeClassWriter(
-        new ClassloaderByteArraySource(loader), COMPUTE_CACHE,
+        new ClassloaderByteArraySource(loader),
         FrameOptions.pickFlags(classfileBuffer));
 
     // The transformed classes will be given a different id than the one already loaded.
@@ -0,0 +1,102 @@
+package org.pitest.dependency;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The classes each class directly depends on through accesses passing a
+ * filter, read once per class and shared by every reachability query.
+ *
+ * Each level of a query is expanded in parallel once it is wide enough to
+ * be worth it, so the source of the accesses must support concurrent reads.
+ */
+class DependencyGraph {
+
+  private static final int                       PARALLEL_THRESHOLD = 8;
+
+  private final Function<String, List<DependencyAccess>> accesses;
+  private final Predicate<DependencyAccess>      filter;
+  private final int                              maxDistance;
+  private final ConcurrentMap<String, Set<String>> direct    = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Set<String>> reachable = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxDistance
+   *          the most steps to take from a class, or 0 for no limit
+   */
+  DependencyGraph(final Function<String, List<DependencyAccess>> accesses,
+      final Predicate<DependencyAccess> filter, final int maxDistance) {
+    this.accesses = accesses;
+    this.filter = filter;
+    this.maxDistance = maxDistance == 0 ? Integer.MAX_VALUE
+        : Math.max(maxDistance, 1);
+  }
+
+  /**
+   * The classes reachable from the supplied class within the maximum
+   * distance
+   */
+  Set<String> reachableFrom(final String clazz) {
+    final Set<String> known = this.reachable.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    final Set<String> found = search(clazz);
+    final Set<String> raced = this.reachable.putIfAbsent(clazz, found);
+    return raced != null ? raced : found;
+  }
+
+  private Set<String> search(final String clazz) {
+    final Set<String> found = new HashSet<>();
+    Set<String> frontier = Collections.singleton(clazz);
+    int distance = 0;
+    while (!frontier.isEmpty() && distance < this.maxDistance) {
+      final Set<String> next = new HashSet<>();
+      for (final Set<String> each : directDependencies(frontier)) {
+        for (final String dependency : each) {
+          if (found.add(dependency)) {
+            next.add(dependency);
+          }
+        }
+      }
+      frontier = next;
+      distance++;
+    }
+    return Collections.unmodifiableSet(found);
+  }
+
+  private List<Set<String>> directDependencies(final Set<String> classes) {
+    if (classes.size() < PARALLEL_THRESHOLD) {
+      return classes.stream().map(this::directDependencies)
+          .collect(Collectors.toList());
+    }
+    return classes.parallelStream().map(this::directDependencies)
+        .collect(Collectors.toList());
+  }
+
+  Set<String> directDependencies(final String clazz) {
+    final Set<String> known = this.direct.get(clazz);
+    if (known != null) {
+      return known;
+    }
+    // read outside of the map so other classes may be read concurrently
+    final Set<String> dependencies = new HashSet<>();
+    for (final DependencyAccess each : this.accesses.apply(clazz)) {
+      final String owner = each.getDest().getOwner();
+      if (!owner.equals(clazz) && this.filter.test(each)) {
+        dependencies.add(owner);
+      }
+    }
+    final Set<String> unmodifiable = Collections.unmodifiableSet(dependencies);
+    final Set<String> raced = this.direct.putIfAbsent(clazz, unmodifiable);
+    return raced != null ? raced : unmodifiable;
+  }
+
+}
@@ -19,7 +19,7 @@ import java.util.Collection;
 import java.util.function.Predicate;
 
 import org.pitest.functional.prelude.Prelude;
-import org.pitest.util.Glob;
+import org.pitest.util.ClassNameGlobs;
 
 public class IgnoreCoreClasses implements Predicate<DependencyAccess> {
 
@@ -31,13 +31,12 @@ public class IgnoreCoreClasses implements Predicate<DependencyAccess> {
       "org.jmock.*", "com.sun.*");
 
   IgnoreCoreClasses() {
-    this.impl = Prelude.not(Prelude.or(Glob.toGlobPredicates(this.filtered)));
+    this.impl = Prelude.not(ClassNameGlobs.of(this.filtered));
   }
 
   @Override
   public boolean test(final DependencyAccess a) {
-    final String owner = a.getDest().getOwner().replace("/", ".");
-    return this.impl.test(owner);
+    return this.impl.test(a.getDest().getOwner());
   }
 
 }
@@ -32,15 +32,22 @@ public class JUnitCompatibleConfiguration implements Configuration {
   private final TestGroupConfig config;
   private final Collection<String> excludedRunners;
   private final Collection<String> includedTestMethods;
+  private final boolean splitClassFixtures;
 
   private static final JUnitVersion MIN_JUNIT_VERSION = JUnitVersion.parse("4.6");
 
   public JUnitCompatibleConfiguration(TestGroupConfig config, Collection<String> excludedRunners,
                                       Collection<String> includedTestMethods) {
+    this(config, excludedRunners, includedTestMethods, false);
+  }
+
+  public JUnitCompatibleConfiguration(TestGroupConfig config, Collection<String> excludedRunners,
+                                      Collection<String> includedTestMethods, boolean splitClassFixtures) {
     Objects.requireNonNull(config);
     this.config = config;
     this.excludedRunners = excludedRunners;
     this.includedTestMethods = includedTestMethods;
+    this.splitClassFixtures = splitClassFixtures;
   }
 
   @Override
@@ -52,7 +59,8 @@ public class JUnitCompatibleConfiguration implements Configuration {
   @Override
   public TestUnitFinder testUnitFinder() {
     return new CompoundTestUnitFinder(Arrays.asList(
-        new JUnitCustomRunnerTestUnitFinder(this.config, this.excludedRunners, this.includedTestMethods),
+        new JUnitCustomRunnerTestUnitFinder(this.config, this.excludedRunners, this.includedTestMethods,
+            this.splitClassFixtures),
         new ParameterisedJUnitTestFinder()));
   }
 
@@ -39,6 +39,7 @@ import org.junit.runner.manipulation.Filterable;
 import org.junit.runners.Parameterized;
 import org.pitest.functional.FCollection;
 import org.pitest.junit.adapter.AdaptedJUnitTestUnit;
+import org.pitest.junit.adapter.ClassFixtureJUnitTestUnit;
 import org.pitest.reflection.IsAnnotatedWith;
 import org.pitest.reflection.Reflection;
 import org.pitest.testapi.TestGroupConfig;
@@ -49,19 +50,31 @@ import org.pitest.util.IsolationUtils;
 public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
 
   @SuppressWarnings("rawtypes")
-  private static final Optional<Class> CLASS_RULE = findClassRuleClass();
+  private static final Optional<Class> CLASS_RULE = findClass("org.junit.ClassRule");
+
+  // not present before JUnit 4.11
+  @SuppressWarnings("rawtypes")
+  private static final Optional<Class> FIX_METHOD_ORDER = findClass("org.junit.FixMethodOrder");
 
 
   private final TestGroupConfig config;
   private final Collection<String> excludedRunners;
   private final Collection<String> includedTestMethods;
+  private final boolean splitClassFixtures;
 
   JUnitCustomRunnerTestUnitFinder(TestGroupConfig config, final Collection<String> excludedRunners,
                                   final Collection<String> includedTestMethods) {
+    this(config, excludedRunners, includedTestMethods, false);
+  }
+
+  JUnitCustomRunnerTestUnitFinder(TestGroupConfig config, final Collection<String> excludedRunners,
+                                  final Collection<String> includedTestMethods,
+                                  final boolean splitClassFixtures) {
     Objects.requireNonNull(config);
     this.config = config;
     this.excludedRunners = excludedRunners;
     this.includedTestMethods = includedTestMethods;
+    this.splitClassFixtures = splitClassFixtures;
   }
 
   @Override
@@ -77,6 +90,9 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
         && !shouldTreatAsOneUnit(clazz, runner)) {
       final List<TestUnit> filteredUnits = splitIntoFilteredUnits(runner.getDescription());
       return filterUnitsByMethod(filteredUnits);
+    } else if (canSplitClassFixture(clazz, runner)) {
+      return filterUnitsByMethod(splitIntoClassFixtureUnits(clazz,
+          runner.getDescription()));
     } else {
       return Collections.singletonList(new AdaptedJUnitTestUnit(
           clazz, Optional.empty()));
@@ -159,6 +175,30 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
         || hasClassRuleAnnotations(clazz, methods);
   }
 
+  /**
+   * Tests sharing class level fixtures can be split when the runner can be
+   * filtered and the tests do not declare a dependence on their order
+   */
+  private boolean canSplitClassFixture(final Class<?> clazz, final Runner runner) {
+    return this.splitClassFixtures
+        && Filterable.class.isAssignableFrom(runner.getClass())
+        && !runnerCannotBeSplit(runner)
+        && !hasFixedMethodOrder(clazz)
+        && runner.getDescription().getChildren().stream().allMatch(Description::isTest);
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean hasFixedMethodOrder(final Class<?> clazz) {
+    return FIX_METHOD_ORDER.filter(a -> clazz.getAnnotation(a) != null).isPresent();
+  }
+
+  private List<TestUnit> splitIntoClassFixtureUnits(final Class<?> clazz,
+      final Description description) {
+    return description.getChildren().stream()
+        .map(d -> new ClassFixtureJUnitTestUnit(clazz, d.toString()))
+        .collect(Collectors.toList());
+  }
+
   private boolean hasClassRuleAnnotations(final Class<?> clazz,
       final Set<Method> methods) {
     return CLASS_RULE.filter(aClass -> hasAnnotation(methods, aClass)
@@ -214,9 +254,9 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
   }
 
   @SuppressWarnings("rawtypes")
-  private static Optional<Class> findClassRuleClass() {
+  private static Optional<Class> findClass(final String name) {
     try {
-      return Optional.ofNullable(Class.forName("org.junit.ClassRule"));
+      return Optional.ofNullable(Class.forName(name));
     } catch (final ClassNotFoundException ex) {
       return Optional.empty();
     }
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.testapi.Configuration;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestPluginFactory;
@@ -38,6 +39,14 @@ public class JUnitTestPlugin implements TestPluginFactory {
     return new JUnitCompatibleConfiguration(config, excludedRunners, includedTestMethods);
   }
 
+  @Override
+  public Configuration createTestFrameworkConfiguration(
+      TestPluginArguments args, ClassByteArraySource source) {
+    return new JUnitCompatibleConfiguration(args.getGroupConfig(),
+        args.getExcludedRunners(), args.getIncludedTestMethods(),
+        args.splitClassFixtures());
+  }
+
   @Override
   public String name() {
     return NAME;
@@ -1,5 +1,7 @@
 package org.pitest.junit.adapter;
 
+import java.util.function.Function;
+
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
@@ -8,19 +10,29 @@ import org.pitest.testapi.ResultCollector;
 
 class AdaptingRunListener extends RunListener {
 
-  private final org.pitest.testapi.Description description;
+  private final Function<Description, org.pitest.testapi.Description> descriptions;
   private final ResultCollector                rc;
   private boolean                              failed = false;
 
   AdaptingRunListener(final org.pitest.testapi.Description description,
       final ResultCollector rc) {
-    this.description = description;
+    this(d -> description, rc);
+  }
+
+  /**
+   * Reports each JUnit test under the description supplied for it
+   */
+  AdaptingRunListener(
+      final Function<Description, org.pitest.testapi.Description> descriptions,
+      final ResultCollector rc) {
+    this.descriptions = descriptions;
     this.rc = rc;
   }
 
   @Override
   public void testFailure(final Failure failure) {
-    this.rc.notifyEnd(this.description, failure.getException());
+    this.rc.notifyEnd(this.descriptions.apply(failure.getDescription()),
+        failure.getException());
     this.failed = true;
   }
 
@@ -32,7 +44,7 @@ class AdaptingRunListener extends RunListener {
 
   @Override
   public void testIgnored(final Description description) {
-    this.rc.notifySkipped(this.description);
+    this.rc.notifySkipped(this.descriptions.apply(description));
   }
 
   @Override
@@ -45,13 +57,13 @@ class AdaptingRunListener extends RunListener {
       // This is apparently the junit way.
       throw new StoppedByUserException();
     }
-    this.rc.notifyStart(this.description);
+    this.rc.notifyStart(this.descriptions.apply(description));
   }
 
   @Override
   public void testFinished(final Description description) {
     if (!this.failed) {
-      this.rc.notifyEnd(this.description);
+      this.rc.notifyEnd(this.descriptions.apply(description));
     }
 
   }
@@ -0,0 +1,127 @@
+package org.pitest.junit.adapter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.SharedFixtureTestUnit;
+import org.pitest.testapi.TestUnit;
+import org.pitest.util.Log;
+
+/**
+ * Runs one or more tests of a JUnit class that has class level fixtures
+ * (BeforeClass, AfterClass or ClassRule). The class runner is filtered down to
+ * the requested tests, so the fixture is set up once however many of the
+ * tests are run.
+ *
+ * Each test is reported under the description of the unit that would run it
+ * alone, so results match those recorded during coverage.
+ */
+public class ClassFixtureJUnitTestUnit extends AbstractTestUnit implements
+    SharedFixtureTestUnit {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final Class<?>      clazz;
+  private final Set<String>   tests;
+
+  public ClassFixtureJUnitTestUnit(final Class<?> clazz, final String test) {
+    this(clazz, new LinkedHashSet<>(Collections.singleton(test)),
+        test);
+  }
+
+  private ClassFixtureJUnitTestUnit(final Class<?> clazz,
+      final Set<String> tests, final String name) {
+    super(new org.pitest.testapi.Description(name, clazz));
+    this.clazz = clazz;
+    this.tests = tests;
+  }
+
+  @Override
+  public String fixture() {
+    return this.clazz.getName();
+  }
+
+  @Override
+  public TestUnit combine(final List<SharedFixtureTestUnit> others) {
+    final Set<String> combined = new LinkedHashSet<>(this.tests);
+    final List<String> names = new ArrayList<>();
+    names.add(getDescription().getName());
+    for (final SharedFixtureTestUnit each : others) {
+      final ClassFixtureJUnitTestUnit other = (ClassFixtureJUnitTestUnit) each;
+      combined.addAll(other.tests);
+      names.add(other.getDescription().getName());
+    }
+    return new ClassFixtureJUnitTestUnit(this.clazz, combined,
+        String.join(", ", names));
+  }
+
+  @Override
+  public void execute(final ResultCollector rc) {
+    final Runner runner = AdaptedJUnitTestUnit.createRunner(this.clazz);
+    if (!(runner instanceof Filterable)) {
+      LOG.warning("Not able to filter " + runner.getDescription()
+          + ". Mutation may have prevented JUnit from constructing test");
+      return;
+    }
+
+    try {
+      ((Filterable) runner).filter(new TestsFilter(this.tests));
+    } catch (final NoTestsRemainException e) {
+      rc.notifySkipped(getDescription());
+      return;
+    }
+
+    final RunNotifier rn = new RunNotifier();
+    rn.addFirstListener(new AdaptingRunListener(this::describe, rc));
+    runner.run(rn);
+  }
+
+  private org.pitest.testapi.Description describe(final Description test) {
+    return new org.pitest.testapi.Description(test.toString(), this.clazz);
+  }
+
+  @Override
+  public String toString() {
+    return "ClassFixtureJUnitTestUnit [clazz=" + this.clazz + ", tests="
+        + this.tests + "]";
+  }
+
+  private static class TestsFilter extends Filter {
+    private final Set<String> tests;
+
+    TestsFilter(final Set<String> tests) {
+      this.tests = tests;
+    }
+
+    @Override
+    public boolean shouldRun(final Description description) {
+      if (description.isTest()) {
+        return this.tests.contains(description.toString());
+      }
+      for (final Description each : description.getChildren()) {
+        if (shouldRun(each)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String describe() {
+      return String.join(", ", this.tests);
+    }
+  }
+
+}
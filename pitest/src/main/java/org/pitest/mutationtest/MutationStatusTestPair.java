@@ -43,10 +43,16 @@ public final class MutationStatusTestPair implements Serializable {
       final DetectionStatus status, final List<String> killingTests,
       final List<String> succeedingTests) {
     this.status = status;
-    this.killingTests = killingTests;
-    this.succeedingTests = succeedingTests;
+    this.killingTests = TestIdList.of(killingTests);
+    this.succeedingTests = TestIdList.of(succeedingTests);
     this.numberOfTestsRun = numberOfTestsRun;
   }
+
+  // pairs serialized by earlier versions hold their tests as plain lists
+  private Object readResolve() {
+    return new MutationStatusTestPair(this.numberOfTestsRun, this.status,
+        this.killingTests, this.succeedingTests);
+  }
   
   private static List<String> killingTestToList(String killingTest) {
     if (killingTest == null) {
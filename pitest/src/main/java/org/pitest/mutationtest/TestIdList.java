@@ -0,0 +1,183 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of test names held as ids into a {@link TestNames} table,
+ * which the list keeps alive.
+ *
+ * Ids in ascending order, as the tests run against a mutant usually are once
+ * their names have been seen, are held as a bitset when that is smaller than
+ * an array of ids, so a list of most of the tests in a large suite costs
+ * little more than a bit per test. The order of the names is always that
+ * they were supplied in.
+ *
+ * Lists are serialized as the names they hold.
+ */
+public final class TestIdList extends AbstractList<String>
+    implements RandomAccess, Serializable {
+
+  private static final long       serialVersionUID = 1L;
+
+  private static final TestIdList EMPTY            = new TestIdList(null,
+      new int[0], null, null, 0);
+
+  private final transient TestNames table;
+  // either the ids in order, or a bitset of ids with the number of ids held
+  // in the words before each word
+  private final transient int[]   ids;
+  private final transient long[]  words;
+  private final transient int[]   ranks;
+  private final transient int     size;
+
+  private TestIdList(final TestNames table, final int[] ids,
+      final long[] words, final int[] ranks, final int size) {
+    this.table = table;
+    this.ids = ids;
+    this.words = words;
+    this.ranks = ranks;
+    this.size = size;
+  }
+
+  public static TestIdList of(final List<String> names) {
+    if (names instanceof TestIdList) {
+      return (TestIdList) names;
+    }
+    if (names.isEmpty()) {
+      return EMPTY;
+    }
+    final TestNames table = TestNames.shared();
+    return ofIds(table, table.idsOf(names));
+  }
+
+  /**
+   * The list of the tests with the supplied ids into the supplied table
+   */
+  public static TestIdList ofIds(final TestNames table, final int[] ids) {
+    if (ids.length == 0) {
+      return EMPTY;
+    }
+    if (!isAscending(ids) || !bitsetIsSmaller(ids)) {
+      return new TestIdList(table, ids.clone(), null, null, ids.length);
+    }
+    final long[] words = new long[(ids[ids.length - 1] >> 6) + 1];
+    for (final int each : ids) {
+      words[each >> 6] |= 1L << each;
+    }
+    final int[] ranks = new int[words.length];
+    int rank = 0;
+    for (int i = 0; i != words.length; i++) {
+      ranks[i] = rank;
+      rank = rank + Long.bitCount(words[i]);
+    }
+    return new TestIdList(table, null, words, ranks, ids.length);
+  }
+
+  boolean isIn(final TestNames names) {
+    return this.table == names;
+  }
+
+  int[] ids() {
+    if (this.ids != null) {
+      return this.ids.clone();
+    }
+    final int[] expanded = new int[this.size];
+    int i = 0;
+    for (int w = 0; w != this.words.length; w++) {
+      long word = this.words[w];
+      while (word != 0) {
+        expanded[i++] = (w << 6) + Long.numberOfTrailingZeros(word);
+        word = word & (word - 1);
+      }
+    }
+    return expanded;
+  }
+
+  @Override
+  public String get(final int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+          + this.size);
+    }
+    return this.table.nameOf(idAt(index));
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj instanceof TestIdList && ((TestIdList) obj).table == this.table) {
+      final TestIdList other = (TestIdList) obj;
+      return this.size == other.size && Arrays.equals(ids(), other.ids());
+    }
+    return super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  private int idAt(final int index) {
+    if (this.ids != null) {
+      return this.ids[index];
+    }
+    // the last word with fewer ids before it than the index holds it
+    int low = 0;
+    int high = this.ranks.length - 1;
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (this.ranks[mid] <= index) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    long word = this.words[low];
+    for (int skip = index - this.ranks[low]; skip != 0; skip--) {
+      word = word & (word - 1);
+    }
+    return (low << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  private static boolean isAscending(final int[] ids) {
+    for (int i = 1; i != ids.length; i++) {
+      if (ids[i] <= ids[i - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean bitsetIsSmaller(final int[] ids) {
+    final long words = (ids[ids.length - 1] >> 6) + 1;
+    // a long and a rank per word against an int per id
+    return words * 12 < ids.length * 4L;
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(toArray(new String[0]));
+  }
+
+  private static final class SerializedForm implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String[]    names;
+
+    SerializedForm(final String[] names) {
+      this.names = names;
+    }
+
+    private Object readResolve() {
+      return of(Arrays.asList(this.names));
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+package org.pitest.mutationtest;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of test names, so that the tests killing or surviving each mutant can
+ * be held as ids into it rather than as lists of strings. Ids are allocated in
+ * the order names are first seen and are never reused within a table.
+ *
+ * Everything holding ids, such as a {@link TestIdList}, holds the table they
+ * refer to. The shared table is only weakly held, so once the results of a
+ * run are released its table is too, and the next run starts a new one.
+ */
+public final class TestNames {
+
+  private static WeakReference<TestNames> shared = new WeakReference<>(null);
+
+  private final Map<String, Integer>      ids    = new ConcurrentHashMap<>();
+  // written under lock, elements are published by the volatile write
+  private volatile String[]               names  = new String[64];
+  private int                             size;
+
+  TestNames() {
+  }
+
+  /**
+   * The table currently shared within this JVM. Callers must hold on to the
+   * table for as long as they hold ids into it.
+   */
+  public static synchronized TestNames shared() {
+    TestNames table = shared.get();
+    if (table == null) {
+      table = new TestNames();
+      shared = new WeakReference<>(table);
+    }
+    return table;
+  }
+
+  /**
+   * The ids in this table of the supplied names
+   */
+  public int[] idsOf(final List<String> names) {
+    if (names instanceof TestIdList && ((TestIdList) names).isIn(this)) {
+      return ((TestIdList) names).ids();
+    }
+    final int[] ids = new int[names.size()];
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = idOf(names.get(i));
+    }
+    return ids;
+  }
+
+  public int idOf(final String name) {
+    final Integer id = this.ids.get(name);
+    if (id != null) {
+      return id;
+    }
+    return add(name);
+  }
+
+  public String nameOf(final int id) {
+    return this.names[id];
+  }
+
+  public synchronized int size() {
+    return this.size;
+  }
+
+  private synchronized int add(final String name) {
+    final Integer raced = this.ids.get(name);
+    if (raced != null) {
+      return raced;
+    }
+    String[] current = this.names;
+    if (this.size == current.length) {
+      current = Arrays.copyOf(current, current.length * 2);
+    }
+    current[this.size] = name;
+    this.names = current;
+    this.ids.put(name, this.size);
+    return this.size++;
+  }
+
+}
@@ -16,9 +16,26 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 public interface TimeoutLengthStrategy extends Serializable {
 
   long getAllowedTime(long normalDuration);
 
+  /**
+   * Allowed time for a unit running the named tests, whose combined duration
+   * when unmutated was normalDuration.
+   */
+  default long getAllowedTime(Collection<String> tests, long normalDuration) {
+    return getAllowedTime(normalDuration);
+  }
+
+  /**
+   * Returns a strategy that need only support the named tests, so that no
+   * more state than required is sent to each minion.
+   */
+  default TimeoutLengthStrategy forTests(Collection<String> tests) {
+    return this;
+  }
+
 }
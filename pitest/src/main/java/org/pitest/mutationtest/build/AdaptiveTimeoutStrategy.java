@@ -0,0 +1,76 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * Allows each test the time learnt from its recorded durations in previous
+ * runs. Units containing a test without an allowance, or a test that has not
+ * yet run in this JVM and so may pay for class loading and JIT compilation,
+ * are given the time allowed by the fallback strategy.
+ */
+public class AdaptiveTimeoutStrategy implements TimeoutLengthStrategy {
+
+  private static final long             serialVersionUID = 1L;
+
+  private final TimeoutLengthStrategy   fallback;
+  private final Map<String, Long>       allowances;
+
+  // tests already run in this minion
+  private transient Set<String>         warm;
+
+  public AdaptiveTimeoutStrategy(final TimeoutLengthStrategy fallback,
+      final Map<String, Long> allowances) {
+    this.fallback = fallback;
+    this.allowances = allowances;
+  }
+
+  @Override
+  public long getAllowedTime(final long normalDuration) {
+    return this.fallback.getAllowedTime(normalDuration);
+  }
+
+  @Override
+  public long getAllowedTime(final Collection<String> tests,
+      final long normalDuration) {
+    final boolean cold = markWarm(tests);
+    if (tests.isEmpty() || cold || !this.allowances.keySet().containsAll(tests)) {
+      return this.fallback.getAllowedTime(normalDuration);
+    }
+
+    long allowed = 0;
+    for (final String each : tests) {
+      allowed = allowed + this.allowances.get(each);
+    }
+    return allowed;
+  }
+
+  @Override
+  public TimeoutLengthStrategy forTests(final Collection<String> tests) {
+    final Map<String, Long> required = new HashMap<>();
+    for (final String each : tests) {
+      final Long allowance = this.allowances.get(each);
+      if (allowance != null) {
+        required.put(each, allowance);
+      }
+    }
+    return new AdaptiveTimeoutStrategy(this.fallback, required);
+  }
+
+  private boolean markWarm(final Collection<String> tests) {
+    if (this.warm == null) {
+      this.warm = new HashSet<>();
+    }
+    boolean cold = false;
+    for (final String each : tests) {
+      cold = this.warm.add(each) || cold;
+    }
+    return cold;
+  }
+
+}
@@ -29,10 +29,7 @@ public class MinionSettings {
 
   public Configuration getTestFrameworkPlugin(TestPluginArguments options, ClassByteArraySource source) {
     List<Configuration> configurations = this.plugins.findTestFrameworkPlugins().stream()
-            .map(p -> p.createTestFrameworkConfiguration(options.getGroupConfig(),
-                    source,
-                    options.getExcludedRunners(),
-                    options.getIncludedTestMethods()))
+            .map(p -> p.createTestFrameworkConfiguration(options, source))
             .collect(Collectors.toList());
 
     return new PrioritisingTestConfiguration(configurations);
@@ -15,17 +15,28 @@ public class TestPluginArguments implements Serializable {
   private final Collection<String> includedTestMethods;
   private final Collection<String> excludedRunners;
   private final boolean skipFailingTests;
+  private final boolean splitClassFixtures;
 
   public TestPluginArguments(TestGroupConfig groupConfig,
       Collection<String> excludedRunners,
       Collection<String> includedTestMethods,
       boolean skipFailingTests) {
+    this(groupConfig, excludedRunners, includedTestMethods, skipFailingTests,
+        false);
+  }
+
+  public TestPluginArguments(TestGroupConfig groupConfig,
+      Collection<String> excludedRunners,
+      Collection<String> includedTestMethods,
+      boolean skipFailingTests,
+      boolean splitClassFixtures) {
     Objects.requireNonNull(groupConfig);
     Objects.requireNonNull(excludedRunners);
     this.groupConfig = groupConfig;
     this.excludedRunners = excludedRunners;
     this.includedTestMethods = includedTestMethods;
     this.skipFailingTests = skipFailingTests;
+    this.splitClassFixtures = splitClassFixtures;
   }
 
   public static TestPluginArguments defaults() {
@@ -34,7 +45,8 @@ public class TestPluginArguments implements Serializable {
   }
 
   public TestPluginArguments withTestPlugin(String plugin) {
-    return new TestPluginArguments(this.groupConfig, this.excludedRunners, this.includedTestMethods, this.skipFailingTests);
+    return new TestPluginArguments(this.groupConfig, this.excludedRunners, this.includedTestMethods, this.skipFailingTests,
+        this.splitClassFixtures);
   }
 
   public TestGroupConfig getGroupConfig() {
@@ -53,4 +65,13 @@ public class TestPluginArguments implements Serializable {
     return this.skipFailingTests;
   }
 
+  /**
+   * Whether tests in classes with class level fixtures should be split into
+   * units per method, with the methods covering a mutant run together so the
+   * fixture is set up once per mutant.
+   */
+  public boolean splitClassFixtures() {
+    return this.splitClassFixtures;
+  }
+
 }
@@ -0,0 +1,127 @@
+package org.pitest.mutationtest.engine;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.pitest.coverage.TestInfo;
+
+/**
+ * Pools the values that many mutants share, so that however many mutants
+ * refer to them a JVM holds one copy of each location, description, file
+ * name, mutator name and ordered list of covering tests.
+ *
+ * Values are held weakly, and so are released once no mutant refers to them.
+ */
+final class MutantTable {
+
+  private static final Pool<Location>  LOCATIONS = new Pool<>();
+  private static final Pool<String>    STRINGS   = new Pool<>();
+  private static final Pool<TestOrder> TESTS     = new Pool<>();
+
+  private MutantTable() {
+  }
+
+  static Location location(final Location location) {
+    return LOCATIONS.intern(location);
+  }
+
+  static String string(final String value) {
+    if (value == null) {
+      return null;
+    }
+    return STRINGS.intern(value);
+  }
+
+  static TestOrder tests(final Collection<TestInfo> tests) {
+    if (tests.isEmpty()) {
+      return TestOrder.EMPTY;
+    }
+    return TESTS.intern(new TestOrder(tests.toArray(new TestInfo[0])));
+  }
+
+  /**
+   * An ordered list of tests.
+   *
+   * Lists are equal only when they hold the same test instances, so that a
+   * list is never shared between mutants assigned different instances of a
+   * test, which may carry different timings.
+   */
+  static final class TestOrder implements Serializable {
+
+    private static final long                serialVersionUID = 1L;
+
+    static final TestOrder                   EMPTY            = new TestOrder(
+        new TestInfo[0]);
+
+    private final TestInfo[]                 tests;
+    private final transient List<TestInfo>   view;
+
+    private TestOrder(final TestInfo[] tests) {
+      this.tests = tests;
+      this.view = Collections.unmodifiableList(Arrays.asList(tests));
+    }
+
+    List<TestInfo> asList() {
+      return this.view;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 1;
+      for (final TestInfo each : this.tests) {
+        hash = (31 * hash) + System.identityHashCode(each);
+      }
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      final TestOrder other = (TestOrder) obj;
+      if (this.tests.length != other.tests.length) {
+        return false;
+      }
+      for (int i = 0; i != this.tests.length; i++) {
+        if (this.tests[i] != other.tests[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private Object readResolve() {
+      return MutantTable.tests(Arrays.asList(this.tests));
+    }
+  }
+
+  /**
+   * Weakly held canonical instances of a type
+   */
+  private static final class Pool<T> {
+    private final Map<T, WeakReference<T>> values = new WeakHashMap<>();
+
+    synchronized T intern(final T value) {
+      final WeakReference<T> existing = this.values.get(value);
+      if (existing != null) {
+        final T canonical = existing.get();
+        if (canonical != null) {
+          return canonical;
+        }
+      }
+      this.values.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+
+}
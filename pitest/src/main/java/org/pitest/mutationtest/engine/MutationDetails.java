@@ -27,23 +27,27 @@ import org.pitest.util.StringUtil;
 
 /**
  * Captures all data relating to a mutant.
+ *
+ * The location, file name, description and covering tests of a mutant are
+ * usually shared with many others, so are held as shared instances from the
+ * {@link MutantTable}.
  */
 public final class MutationDetails implements Serializable {
 
-  private static final long serialVersionUID = 1L;
+  private static final long serialVersionUID = 2L;
 
   private final MutationIdentifier  id;
   private final String              filename;
   private final int                 block;
   private final int                 lineNumber;
   private final String              description;
-  private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
+  private MutantTable.TestOrder     testsInOrder = MutantTable.TestOrder.EMPTY;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
     this.id = id;
-    this.description = Objects.requireNonNull(description);
-    this.filename = defaultFilenameIfNotSupplied(filename);
+    this.description = MutantTable.string(Objects.requireNonNull(description));
+    this.filename = MutantTable.string(defaultFilenameIfNotSupplied(filename));
     this.lineNumber = lineNumber;
     this.block = block;
   }
@@ -52,7 +56,7 @@ public final class MutationDetails implements Serializable {
   public String toString() {
     return "MutationDetails [id=" + this.id + ", filename=" + this.filename + ", block="
         + this.block + ", lineNumber=" + this.lineNumber + ", description=" + this.description
-        + ", testsInOrder=" + this.testsInOrder + "]";
+        + ", testsInOrder=" + this.testsInOrder.asList() + "]";
   }
 
   public MutationDetails withDescription(String desc) {
@@ -150,10 +154,10 @@ public final class MutationDetails implements Serializable {
   /**
    * Returns the tests that cover this mutation in optimised order
    *
-   * @return a list of TestInfo objects
+   * @return a read only list of TestInfo objects
    */
   public List<TestInfo> getTestsInOrder() {
-    return this.testsInOrder;
+    return this.testsInOrder.asList();
   }
 
   /**
@@ -163,8 +167,14 @@ public final class MutationDetails implements Serializable {
    *          The tests to add
    */
   public void addTestsInOrder(final Collection<TestInfo> testNames) {
-    this.testsInOrder.addAll(testNames);
-    this.testsInOrder.trimToSize();
+    if (this.testsInOrder.asList().isEmpty()) {
+      this.testsInOrder = MutantTable.tests(testNames);
+    } else {
+      final List<TestInfo> combined = new ArrayList<>(
+          this.testsInOrder.asList());
+      combined.addAll(testNames);
+      this.testsInOrder = MutantTable.tests(combined);
+    }
   }
 
   /**
@@ -228,6 +238,13 @@ public final class MutationDetails implements Serializable {
     return filename;
   }
 
+  private Object readResolve() {
+    final MutationDetails pooled = new MutationDetails(this.id, this.filename,
+        this.description, this.lineNumber, this.block);
+    pooled.testsInOrder = this.testsInOrder;
+    return pooled;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(id);
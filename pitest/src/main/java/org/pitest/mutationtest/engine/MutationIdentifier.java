@@ -15,11 +15,12 @@
 package org.pitest.mutationtest.engine;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 import org.pitest.classinfo.ClassName;
 
@@ -28,7 +29,7 @@ import org.pitest.classinfo.ClassName;
  */
 public final class MutationIdentifier implements Comparable<MutationIdentifier>, Serializable {
 
-  private static final long serialVersionUID = 1L;
+  private static final long serialVersionUID = 2L;
 
   /**
    * The location at which the mutation occurs
@@ -42,7 +43,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * Usually this will be a single instruction, but may be multiple if the
    * mutation has been inlined by the compiler to implement a finally block
    */
-  private final List<Integer> indexes;
+  private final int[]         indexes;
 
   /**
    * Name of the mutation operator that created this mutation
@@ -51,14 +52,20 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
 
   public MutationIdentifier(final Location location, final int index,
       final String mutatorUniqueId) {
-    this(location, Collections.singleton(index), mutatorUniqueId);
+    this(location, new int[] { index }, mutatorUniqueId);
   }
 
   public MutationIdentifier(final Location location,
       final Collection<Integer> indexes, final String mutatorUniqueId) {
-    this.location = location;
-    this.indexes = new ArrayList<>(indexes);
-    this.mutator = mutatorUniqueId;
+    this(location, indexes.stream().mapToInt(Integer::intValue).toArray(),
+        mutatorUniqueId);
+  }
+
+  private MutationIdentifier(final Location location, final int[] indexes,
+      final String mutatorUniqueId) {
+    this.location = MutantTable.location(location);
+    this.indexes = indexes;
+    this.mutator = MutantTable.string(mutatorUniqueId);
   }
 
   /**
@@ -85,7 +92,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * @return the instruction indexes of the mutation
    */
   public List<Integer> getIndexes() {
-    return indexes;
+    return new Indexes(this.indexes);
   }
 
   /**
@@ -95,13 +102,13 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    * @return the zero based index to the instruction
    */
   public int getFirstIndex() {
-    return this.indexes.iterator().next();
+    return this.indexes[0];
   }
 
   @Override
   public String toString() {
     return "MutationIdentifier [location=" + this.location + ", indexes="
-        + this.indexes + ", mutator=" + this.mutator + "]";
+        + Arrays.toString(this.indexes) + ", mutator=" + this.mutator + "]";
   }
 
   /**
@@ -113,7 +120,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
    */
   public boolean matches(final MutationIdentifier id) {
     return this.location.equals(id.location) && this.mutator.equals(id.mutator)
-        && this.indexes.contains(id.getFirstIndex());
+        && contains(this.indexes, id.getFirstIndex());
   }
 
   /**
@@ -127,7 +134,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
 
   @Override
   public int hashCode() {
-    return Objects.hash(location, indexes, mutator);
+    return Objects.hash(location, Arrays.hashCode(indexes), mutator);
   }
 
   @Override
@@ -140,7 +147,7 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
     }
     final MutationIdentifier other = (MutationIdentifier) obj;
     return Objects.equals(location, other.location)
-            && Objects.equals(indexes, other.indexes)
+            && Arrays.equals(indexes, other.indexes)
             && Objects.equals(mutator, other.mutator);
   }
 
@@ -154,7 +161,42 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
     if (comp != 0) {
       return comp;
     }
-    return this.indexes.get(0).compareTo(other.indexes.get(0));
+    return Integer.compare(this.indexes[0], other.indexes[0]);
+  }
+
+  private static boolean contains(final int[] values, final int value) {
+    for (final int each : values) {
+      if (each == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object readResolve() {
+    return new MutationIdentifier(this.location, this.indexes, this.mutator);
+  }
+
+  /**
+   * Read only view of the indexes
+   */
+  private static final class Indexes extends AbstractList<Integer>
+      implements RandomAccess {
+    private final int[] values;
+
+    Indexes(final int[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public Integer get(final int index) {
+      return this.values[index];
+    }
+
+    @Override
+    public int size() {
+      return this.values.length;
+    }
   }
 
 }
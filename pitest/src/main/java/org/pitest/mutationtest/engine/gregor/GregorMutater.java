@@ -20,9 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -30,6 +28,7 @@ import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
+import org.pitest.bytecode.ClassAnalysisCache;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
@@ -43,7 +42,6 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class GregorMutater implements Mutater {
 
-  private final Map<String, String>       computeCache   = new HashMap<>();
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final List<MethodMutatorFactory> mutators;
@@ -65,25 +63,28 @@ public class GregorMutater implements Mutater {
     Optional<byte[]> bytes = GregorMutater.this.byteSource.getBytes(
         classToMutate.asInternalName());
     
-    return bytes.map(findMutations(context))
+    return bytes.map(findMutations(classToMutate, context))
         .orElse(Collections.emptyList());
 
   }
 
   private Function<byte[], List<MutationDetails>> findMutations(
-      final ClassContext context) {
-    return bytes -> findMutationsForBytes(context, bytes);
+      final ClassName classToMutate, final ClassContext context) {
+    return bytes -> findMutationsForBytes(classToMutate, context, bytes);
   }
 
   private List<MutationDetails> findMutationsForBytes(
-      final ClassContext context, final byte[] classToMutate) {
+      final ClassName classToMutate, final ClassContext context,
+      final byte[] bytes) {
 
-    final ClassReader first = new ClassReader(classToMutate);
     final NullVisitor nv = new NullVisitor();
     final MutatingClassVisitor mca = new MutatingClassVisitor(nv, context,
         filterMethods(), this.mutators);
 
-    first.accept(mca, ClassReader.EXPAND_FRAMES);
+    // the tree is shared with coverage line mapping and class info. The
+    // interceptors parse their own copy, as asm is relocated in the pitest jar
+    // so its tree nodes are not the types pitest-entry uses
+    ClassAnalysisCache.shared().analyse(classToMutate, bytes).accept(mca);
 
     return new ArrayList<>(context.getCollectedMutations());
   }
@@ -97,9 +98,11 @@ public class GregorMutater implements Mutater {
     final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
         .asJavaName());
 
+    // only the mutated method is rewritten, the writer copies the others
+    // from the original bytes
     final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
+        FrameOptions.pickFlags(bytes.get()));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
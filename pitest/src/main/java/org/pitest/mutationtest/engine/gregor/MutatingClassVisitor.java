@@ -59,14 +59,22 @@ class MutatingClassVisitor extends ClassVisitor {
       final String methodDescriptor, final String signature,
       final String[] exceptions) {
 
-    final MethodMutationContext methodContext = new MethodMutationContext(
-        this.context, Location.location(
-            ClassName.fromString(this.context.getClassInfo().getName()),
-            methodName, methodDescriptor));
+    final Location location = Location.location(
+        ClassName.fromString(this.context.getClassInfo().getName()),
+        methodName, methodDescriptor);
 
     final MethodVisitor methodVisitor = this.cv.visitMethod(access, methodName,
         methodDescriptor, signature, exceptions);
 
+    if (!mayContainTarget(location)) {
+      // returning the delegate's visitor unwrapped allows a writer sharing
+      // the reader's constant pool to copy the method without rewriting it
+      return methodVisitor;
+    }
+
+    final MethodMutationContext methodContext = new MethodMutationContext(
+        this.context, location);
+
     final MethodInfo info = new MethodInfo()
     .withOwner(this.context.getClassInfo()).withAccess(access)
     .withMethodName(methodName).withMethodDescriptor(methodDescriptor);
@@ -79,6 +87,12 @@ class MutatingClassVisitor extends ClassVisitor {
 
   }
 
+  private boolean mayContainTarget(final Location location) {
+    return this.context.getTargetMutation()
+        .map(target -> target.getLocation().equals(location))
+        .orElse(true);
+  }
+
   private static MethodVisitor wrapWithDecorators(
       MethodMutationContext methodContext, final MethodVisitor mv, final MethodInfo methodInfo) {
     return wrapWithBlockTracker(methodContext,
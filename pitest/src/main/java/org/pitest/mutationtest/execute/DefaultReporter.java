@@ -15,16 +15,27 @@
 package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestNames;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.PackedInts;
 import org.pitest.util.SafeDataOutputStream;
 
 import java.io.OutputStream;
+import java.util.BitSet;
 
+/**
+ * Reports to the parent process. Tests are referred to by their ids in a
+ * {@link TestNames} held by the reporter, each name being sent once before the first
+ * report that refers to it, and the ids of the tests killing and surviving
+ * each mutant are sent packed. Reports are read by a {@link ReportReader}.
+ */
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
+  private final BitSet               sentTests = new BitSet();
+  private final TestNames            testNames = TestNames.shared();
 
   DefaultReporter(final OutputStream w) {
     this.w = new SafeDataOutputStream(w);
@@ -40,9 +51,36 @@ public class DefaultReporter implements Reporter {
   @Override
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) {
+    final int[] killing = this.testNames
+        .idsOf(mutationDetected.getKillingTests());
+    final int[] succeeding = this.testNames
+        .idsOf(mutationDetected.getSucceedingTests());
+    sendTestNames(killing);
+    sendTestNames(succeeding);
     this.w.writeByte(Id.REPORT);
     this.w.write(i);
-    this.w.write(mutationDetected);
+    this.w.writeInt(mutationDetected.getNumberOfTestsRun());
+    this.w.writeString(mutationDetected.getStatus().name());
+    this.w.writeBytes(PackedInts.pack(killing));
+    this.w.writeBytes(PackedInts.pack(succeeding));
+    this.w.flush();
+  }
+
+  private void sendTestNames(final int[] ids) {
+    for (final int each : ids) {
+      if (!this.sentTests.get(each)) {
+        this.w.writeByte(Id.TEST);
+        this.w.writeInt(each);
+        this.w.writeString(this.testNames.nameOf(each));
+        this.sentTests.set(each);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void heapUsage(final long liveBytes) {
+    this.w.writeByte(Id.HEAP);
+    this.w.writeLong(liveBytes);
     this.w.flush();
   }
 
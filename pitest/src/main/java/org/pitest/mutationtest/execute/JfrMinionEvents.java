@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Emits JDK Flight Recorder events, which are recorded when the minion is
+ * launched with a flight recording enabled (e.g. with the jvm argument
+ * -XX:StartFlightRecording). Must only be loaded on JVMs that provide jdk.jfr.
+ */
+public class JfrMinionEvents implements MinionEvents {
+
+  @Name("org.pitest.TestDiscovery")
+  @Label("Test Discovery")
+  @Category("Pitest")
+  static class TestDiscoveryEvent extends Event {
+    @Label("Test Units")
+    int testUnits;
+  }
+
+  @Name("org.pitest.HotSwap")
+  @Label("Hot Swap")
+  @Category("Pitest")
+  static class HotSwapEvent extends Event {
+    @Label("Class")
+    String mutatedClass;
+
+    @Label("Succeeded")
+    boolean succeeded;
+  }
+
+  @Name("org.pitest.Mutant")
+  @Label("Mutant")
+  @Category("Pitest")
+  static class MutantEvent extends Event {
+    @Label("Class")
+    String mutatedClass;
+
+    @Label("Method")
+    String method;
+
+    @Label("Mutator")
+    String mutator;
+
+    @Label("Line")
+    int line;
+
+    @Label("Status")
+    String status;
+
+    @Label("Tests Run")
+    int testsRun;
+  }
+
+  @Override
+  public List<TestUnit> testDiscovery(
+      final Supplier<List<TestUnit>> discovery) {
+    final TestDiscoveryEvent event = new TestDiscoveryEvent();
+    event.begin();
+    final List<TestUnit> tests = discovery.get();
+    event.testUnits = tests.size();
+    event.commit();
+    return tests;
+  }
+
+  @Override
+  public boolean hotSwap(final ClassName clazz, final BooleanSupplier swap) {
+    final HotSwapEvent event = new HotSwapEvent();
+    event.begin();
+    final boolean succeeded = swap.getAsBoolean();
+    event.mutatedClass = clazz.asJavaName();
+    event.succeeded = succeeded;
+    event.commit();
+    return succeeded;
+  }
+
+  @Override
+  public MutationStatusTestPair mutant(final MutationDetails mutation,
+      final Supplier<MutationStatusTestPair> analysis) {
+    final MutantEvent event = new MutantEvent();
+    event.begin();
+    final MutationStatusTestPair result = analysis.get();
+    event.mutatedClass = mutation.getClassName().asJavaName();
+    event.method = mutation.getMethod();
+    event.mutator = mutation.getMutator();
+    event.line = mutation.getLineNumber();
+    event.status = result.getStatus().name();
+    event.testsRun = result.getNumberOfTestsRun();
+    event.commit();
+    return result;
+  }
+
+}
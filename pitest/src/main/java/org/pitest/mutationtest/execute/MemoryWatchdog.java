@@ -15,11 +15,16 @@
 
 package org.pitest.mutationtest.execute;
 
+import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.lang.management.MemoryUsage;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.management.NotificationEmitter;
 import javax.management.NotificationListener;
@@ -49,4 +54,39 @@ public class MemoryWatchdog {
     }
   }
 
+  /**
+   * The heap occupied by live data, estimated from the usage of each heap
+   * pool just after it was last collected. Pools that have not been collected
+   * contribute their current usage. Unlike peak usage this does not grow with
+   * the size of the heap, as garbage awaiting collection is not counted.
+   *
+   * @return the live heap in bytes, or 0 if no collection has run
+   */
+  public static long liveHeapUsage() {
+    final Set<String> collected = new HashSet<>();
+    for (final GarbageCollectorMXBean gc : ManagementFactory
+        .getGarbageCollectorMXBeans()) {
+      if (gc.getCollectionCount() > 0) {
+        collected.addAll(Arrays.asList(gc.getMemoryPoolNames()));
+      }
+    }
+    if (collected.isEmpty()) {
+      return 0;
+    }
+
+    long live = 0;
+    for (final MemoryPoolMXBean mp : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (mp.getType() != MemoryType.HEAP) {
+        continue;
+      }
+      final MemoryUsage afterGc = mp.getCollectionUsage();
+      if (collected.contains(mp.getName()) && afterGc != null) {
+        live = live + afterGc.getUsed();
+      } else {
+        live = live + mp.getUsage().getUsed();
+      }
+    }
+    return live;
+  }
+
 }
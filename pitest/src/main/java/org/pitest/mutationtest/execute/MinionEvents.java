@@ -0,0 +1,25 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Times the work done within a minion so that it can be examined with a
+ * profiler.
+ */
+public interface MinionEvents {
+
+  List<TestUnit> testDiscovery(Supplier<List<TestUnit>> discovery);
+
+  boolean hotSwap(ClassName clazz, BooleanSupplier swap);
+
+  MutationStatusTestPair mutant(MutationDetails mutation,
+      Supplier<MutationStatusTestPair> analysis);
+
+}
@@ -88,25 +88,50 @@ public class MutationTestMinion {
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
 
+      final MinionEvents events = createEvents();
+
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+          engine.createMutator(byteSource), loader,
+          paramsFromParent.fullMutationMatrix, events);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final List<TestUnit> tests = events.testDiscovery(
+          () -> findTestsForTestClasses(loader, paramsFromParent.testClasses,
+              createTestPlugin(paramsFromParent.pitConfig)));
 
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
               tests, this.reporter));
 
-      this.reporter.done(ExitCode.OK);
+      finish(this.reporter, ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
-      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+      finish(this.reporter, ExitCode.UNKNOWN_ERROR);
     }
 
   }
 
+  // the parent sizes the heap of later minions from the live heap reported
+  // here
+  private static void finish(final Reporter r, final ExitCode exitCode) {
+    r.heapUsage(MemoryWatchdog.liveHeapUsage());
+    r.done(exitCode);
+  }
+
+  // Flight recorder events are only available from java 11 and some later
+  // java 8 builds, so the implementation is loaded reflectively
+  private static MinionEvents createEvents() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return (MinionEvents) Class
+          .forName("org.pitest.mutationtest.execute.JfrMinionEvents")
+          .getDeclaredConstructor().newInstance();
+    } catch (final ReflectiveOperationException | LinkageError e) {
+      LOG.fine(() -> "Flight recorder events unavailable " + e);
+      return new NullMinionEvents();
+    }
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -128,10 +153,12 @@ public class MutationTestMinion {
     enablePowerMockSupport();
 
     final int port = Integer.parseInt(args[0]);
+    // minions launched by a remote agent report back to the parent's host
+    final String host = args.length > 1 ? args[1] : "localhost";
 
     Socket s = null;
     try {
-      s = new Socket("localhost", port);
+      s = new Socket(host, port);
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
@@ -187,7 +214,7 @@ public class MutationTestMinion {
         + " has exceeded the shutdown threshold : " + memInfo.getCount()
         + " times.\n" + memInfo.getUsage());
 
-    r.done(ExitCode.OUT_OF_MEMORY);
+    finish(r, ExitCode.OUT_OF_MEMORY);
 
     } else {
       LOG.warning("Unknown notification: " + notification);
@@ -58,14 +58,23 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final MinionEvents                                events;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, fullMutationMatrix, new NullMinionEvents());
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean fullMutationMatrix, final MinionEvents events) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.events = events;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
@@ -105,8 +114,9 @@ public class MutationTestWorker {
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+    final MutationStatusTestPair mutationDetected = this.events.mutant(
+        mutationDetails,
+        () -> handleMutation(mutationDetails, mutatedClass, relevantTests));
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -141,8 +151,9 @@ public class MutationTestWorker {
 
     final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
-    if (this.hotswap.apply(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    if (this.events.hotSwap(mutationId.getClassName(),
+        () -> this.hotswap.apply(mutationId.getClassName(), this.loader,
+            mutatedClass.getBytes()))) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
@@ -14,6 +14,8 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -31,21 +33,30 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final Collection<String>    tests;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, Collections.emptyList(),
+        executionTime);
+  }
+
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final Collection<String> tests,
+      final long executionTime) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.tests = tests;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
 
-    final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
+    final long maxTime = allowedTime();
 
     final FutureTask<?> future = createFutureForChildTestUnit(rc);
     executeFutureWithTimeOut(maxTime, future, rc);
@@ -66,6 +77,13 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
+  private long allowedTime() {
+    if (this.tests.isEmpty()) {
+      return this.timeOutStrategy.getAllowedTime(this.executionTime);
+    }
+    return this.timeOutStrategy.getAllowedTime(this.tests, this.executionTime);
+  }
+
   private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
     final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
     final Thread thread = new Thread(future);
@@ -0,0 +1,31 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+
+public class NullMinionEvents implements MinionEvents {
+
+  @Override
+  public List<TestUnit> testDiscovery(
+      final Supplier<List<TestUnit>> discovery) {
+    return discovery.get();
+  }
+
+  @Override
+  public boolean hotSwap(final ClassName clazz, final BooleanSupplier swap) {
+    return swap.getAsBoolean();
+  }
+
+  @Override
+  public MutationStatusTestPair mutant(final MutationDetails mutation,
+      final Supplier<MutationStatusTestPair> analysis) {
+    return analysis.get();
+  }
+
+}
@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Arrays;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestIdList;
+import org.pitest.mutationtest.TestNames;
+import org.pitest.util.PackedInts;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads the test names and statuses sent by a {@link DefaultReporter},
+ * translating the ids the minion refers to tests by into ids in a
+ * {@link TestNames} held by the reader.
+ */
+public class ReportReader {
+
+  private final TestNames testNames = TestNames.shared();
+  private int[]           localIds  = new int[64];
+
+  /**
+   * Reads a test name, following {@link org.pitest.util.Id#TEST}
+   */
+  public void readTest(final SafeDataInputStream is) {
+    final int minionId = is.readInt();
+    final String name = is.readString();
+    if (minionId >= this.localIds.length) {
+      this.localIds = Arrays.copyOf(this.localIds,
+          Math.max(minionId + 1, this.localIds.length * 2));
+    }
+    this.localIds[minionId] = this.testNames.idOf(name);
+  }
+
+  /**
+   * Reads a status, following the mutation identifier of a
+   * {@link org.pitest.util.Id#REPORT}
+   */
+  public MutationStatusTestPair readStatus(final SafeDataInputStream is) {
+    final int testsRun = is.readInt();
+    final DetectionStatus status = DetectionStatus.valueOf(is.readString());
+    final TestIdList killing = readTests(is);
+    final TestIdList succeeding = readTests(is);
+    return new MutationStatusTestPair(testsRun, status, killing, succeeding);
+  }
+
+  private TestIdList readTests(final SafeDataInputStream is) {
+    final int[] ids = PackedInts.unpack(is.readBytes());
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = this.localIds[ids[i]];
+    }
+    return TestIdList.ofIds(this.testNames, ids);
+  }
+
+}
@@ -24,6 +24,8 @@ public interface Reporter {
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
 
+  void heapUsage(long liveBytes);
+
   void done(ExitCode exitCode);
 
 }
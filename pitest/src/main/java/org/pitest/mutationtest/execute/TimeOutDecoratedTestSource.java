@@ -15,15 +15,16 @@
 
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map.Entry;
 
 import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.SharedFixtureTestUnit;
 import org.pitest.testapi.TestUnit;
 
 public class TimeOutDecoratedTestSource {
@@ -46,23 +47,50 @@ public class TimeOutDecoratedTestSource {
     }
   }
 
+  /**
+   * Translates tests to units in the supplied order. Units sharing a fixture
+   * are combined into a single unit at the position of the first of them, so
+   * the fixture is set up only once.
+   */
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
-    return testsInOrder.stream().flatMap(testToTestUnit()).collect(Collectors.toList());
-  }
-
-  private Function<TestInfo, Stream<TestUnit>> testToTestUnit() {
-    return a -> {
-      final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
-          .getName());
+    final Map<Object, List<TestUnit>> groups = new LinkedHashMap<>();
+    final Map<Object, List<String>> names = new HashMap<>();
+    final Map<Object, Integer> times = new HashMap<>();
+    for (final TestInfo each : testsInOrder) {
+      final TestUnit tu = this.allTests.get(each.getName());
       if (tu != null) {
-        return Stream
-            .of(new MutationTimeoutDecorator(tu,
-                new TimeOutSystemExitSideEffect(
-                    TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+        final Object key = tu instanceof SharedFixtureTestUnit
+            ? ((SharedFixtureTestUnit) tu).fixture() : new Object();
+        groups.computeIfAbsent(key, k -> new ArrayList<>()).add(tu);
+        names.computeIfAbsent(key, k -> new ArrayList<>()).add(each.getName());
+        times.merge(key, each.getTime(), Integer::sum);
       }
-      return Stream.empty();
-    };
+    }
+
+    final List<TestUnit> units = new ArrayList<>(groups.size());
+    for (final Entry<Object, List<TestUnit>> each : groups.entrySet()) {
+      units.add(decorate(combine(each.getValue()), names.get(each.getKey()),
+          times.get(each.getKey())));
+    }
+    return units;
+  }
+
+  private static TestUnit combine(final List<TestUnit> group) {
+    if (group.size() == 1) {
+      return group.get(0);
+    }
+    final List<SharedFixtureTestUnit> others = new ArrayList<>();
+    for (final TestUnit each : group.subList(1, group.size())) {
+      others.add((SharedFixtureTestUnit) each);
+    }
+    return ((SharedFixtureTestUnit) group.get(0)).combine(others);
+  }
+
+  private TestUnit decorate(final TestUnit tu, final List<String> tests,
+      final long time) {
+    return new MutationTimeoutDecorator(tu,
+        new TimeOutSystemExitSideEffect(this.r), this.timeoutStrategy, tests,
+        time);
   }
 
 }
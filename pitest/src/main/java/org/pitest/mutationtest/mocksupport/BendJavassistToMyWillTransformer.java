@@ -9,8 +9,6 @@ import org.pitest.classpath.ClassloaderByteArraySource;
 
 import java.lang.instrument.ClassFileTransformer;
 import java.security.ProtectionDomain;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -18,7 +16,6 @@ public class BendJavassistToMyWillTransformer implements ClassFileTransformer {
 
   private final Predicate<String> filter;
   private final Function<ClassWriter,ClassVisitor> transformation;
-  private final Map<String, String> computeCache = new ConcurrentHashMap<>();
 
   public BendJavassistToMyWillTransformer(final Predicate<String> filter, Function<ClassWriter,ClassVisitor> transformation) {
     this.filter = filter;
@@ -34,7 +31,7 @@ public class BendJavassistToMyWillTransformer implements ClassFileTransformer {
 
       final ClassReader reader = new ClassReader(classfileBuffer);
       final ClassWriter writer = new ComputeClassWriter(
-              new ClassloaderByteArraySource(loader), this.computeCache,
+              new ClassloaderByteArraySource(loader),
               FrameOptions.pickFlags(classfileBuffer));
 
 
@@ -0,0 +1,112 @@
+package org.pitest.sequence;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Avoids running the automaton where it cannot match, or where it has already
+ * matched the same sequence.
+ *
+ * A sequence cannot match unless it contains an item for each context free
+ * match the query requires. This is checked once per sequence, with a single
+ * pass that tests only those matches.
+ *
+ * The result for the sequence last matched is cached against the values the
+ * initial context holds, so the many mutants within a method that begin
+ * with the same context are matched once. Sequences are recognised by
+ * identity, and so must not be modified once matched.
+ *
+ * Debug queries, and matches made with a debug context, are passed straight
+ * to the automaton and not cached.
+ */
+class CachingSequenceMatcher<T> implements SequenceMatcher<T> {
+
+  private final Match<T>                          ignore;
+  private final List<Match<T>>                    required;
+  private final SequenceMatcher<T>                automaton;
+  private final boolean                           debug;
+  private final AtomicReference<SequenceCache<T>> last = new AtomicReference<>();
+
+  CachingSequenceMatcher(Match<T> ignore, List<Match<T>> required,
+      SequenceMatcher<T> automaton, boolean debug) {
+    this.ignore = ignore;
+    this.required = required;
+    this.automaton = automaton;
+    this.debug = debug;
+  }
+
+  @Override
+  public boolean matches(List<T> sequence) {
+    return matches(sequence, Context.start(sequence, this.debug));
+  }
+
+  @Override
+  public boolean matches(List<T> sequence, Context<T> context) {
+    if (context.isDebug()) {
+      return this.automaton.matches(sequence, context);
+    }
+
+    final SequenceCache<T> cache = cacheFor(sequence, context);
+    if (!cache.mayMatch) {
+      return false;
+    }
+
+    final Map<Slot<?>, Object> initial = context.slots();
+    final Boolean known = cache.results.get(initial);
+    if (known != null) {
+      return known;
+    }
+    final boolean result = this.automaton.matches(sequence, context);
+    cache.results.put(initial, result);
+    return result;
+  }
+
+  private SequenceCache<T> cacheFor(List<T> sequence, Context<T> context) {
+    final SequenceCache<T> cache = this.last.get();
+    if (cache != null && cache.sequence.get() == sequence) {
+      return cache;
+    }
+    final SequenceCache<T> fresh = new SequenceCache<>(sequence,
+        containsRequired(sequence, context));
+    this.last.set(fresh);
+    return fresh;
+  }
+
+  private boolean containsRequired(List<T> sequence, Context<T> context) {
+    if (this.required.isEmpty() || !this.ignore.isContextFree()) {
+      return true;
+    }
+    final boolean[] found = new boolean[this.required.size()];
+    int remaining = found.length;
+    for (final T t : sequence) {
+      if (this.ignore.test(context, t)) {
+        continue;
+      }
+      for (int i = 0; i != found.length; i++) {
+        if (!found[i] && this.required.get(i).test(context, t)) {
+          found[i] = true;
+          remaining = remaining - 1;
+          if (remaining == 0) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static final class SequenceCache<T> {
+    private final WeakReference<List<T>>     sequence;
+    private final boolean                    mayMatch;
+    private final Map<Map<Slot<?>, Object>, Boolean> results = new ConcurrentHashMap<>();
+
+    SequenceCache(List<T> sequence, boolean mayMatch) {
+      this.sequence = new WeakReference<>(sequence);
+      this.mayMatch = mayMatch;
+    }
+  }
+
+}
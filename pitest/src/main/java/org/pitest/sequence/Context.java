@@ -39,6 +39,17 @@ public class Context<T> {
   }
 
 
+  /**
+   * The values currently held in each slot
+   */
+  Map<Slot<?>, Object> slots() {
+    return new HashMap<>(this.slots);
+  }
+
+  boolean isDebug() {
+    return this.debug;
+  }
+
   void moveForward() {
     this.position = this.position + 1;
   }
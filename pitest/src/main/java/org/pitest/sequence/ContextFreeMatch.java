@@ -0,0 +1,48 @@
+package org.pitest.sequence;
+
+import java.util.function.Predicate;
+
+/**
+ * A match that depends on the item alone. Combining it with another context
+ * free match produces a context free match.
+ */
+final class ContextFreeMatch<T> implements Match<T> {
+
+  private final Predicate<T> p;
+
+  ContextFreeMatch(Predicate<T> p) {
+    this.p = p;
+  }
+
+  @Override
+  public boolean test(Context<T> c, T t) {
+    return this.p.test(t);
+  }
+
+  @Override
+  public boolean isContextFree() {
+    return true;
+  }
+
+  @Override
+  public Match<T> and(Match<T> other) {
+    if (other.isContextFree()) {
+      return new ContextFreeMatch<>(this.p.and(t -> other.test(null, t)));
+    }
+    return Match.super.and(other);
+  }
+
+  @Override
+  public Match<T> negate() {
+    return new ContextFreeMatch<>(this.p.negate());
+  }
+
+  @Override
+  public Match<T> or(Match<T> other) {
+    if (other.isContextFree()) {
+      return new ContextFreeMatch<>(this.p.or(t -> other.test(null, t)));
+    }
+    return Match.super.or(other);
+  }
+
+}
@@ -0,0 +1,100 @@
+package org.pitest.sequence;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Matches queries built from context free matches with a DFA. Each DFA state
+ * is the set of NFA states the simulation could be in, and is built the
+ * first time a sequence reaches it. Transitions are keyed by which of the
+ * state's matches accept an item, so once the states a sequence passes
+ * through have been built, each item costs a test of the matches its state
+ * may consume and no NFA states are allocated.
+ */
+class DFASequenceMatcher<T> implements SequenceMatcher<T> {
+
+  private final Match<T>                         ignore;
+  private final ConcurrentMap<Set<State<T>>, DFAState<T>> states = new ConcurrentHashMap<>();
+  private final DFAState<T>                      start;
+
+  DFASequenceMatcher(Match<T> ignore, State<T> nfaStart) {
+    this.ignore = ignore;
+    final Set<State<T>> initial = new HashSet<>();
+    NFASequenceMatcher.addstate(initial, nfaStart);
+    this.start = stateFor(initial);
+  }
+
+  @Override
+  public boolean matches(List<T> sequence) {
+    return matches(sequence, Context.start(sequence));
+  }
+
+  @Override
+  public boolean matches(List<T> sequence, Context<T> context) {
+    DFAState<T> current = this.start;
+    for (final T t : sequence) {
+      if (this.ignore.test(context, t)) {
+        continue;
+      }
+      current = current.next(this, context, t);
+      if (current.isDead()) {
+        return false;
+      }
+    }
+    return current.isMatch();
+  }
+
+  private DFAState<T> stateFor(Set<State<T>> nfaStates) {
+    return this.states.computeIfAbsent(nfaStates, DFAState::new);
+  }
+
+  private static final class DFAState<T> {
+    private final List<Consume<T>> consumes = new ArrayList<>();
+    private final boolean          isMatch;
+    private final ConcurrentMap<BitSet, DFAState<T>> transitions = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    DFAState(Set<State<T>> nfaStates) {
+      for (final State<T> each : nfaStates) {
+        if (each instanceof Consume) {
+          this.consumes.add((Consume<T>) each);
+        }
+      }
+      this.isMatch = nfaStates.contains(EndMatch.MATCH);
+    }
+
+    DFAState<T> next(DFASequenceMatcher<T> dfa, Context<T> context, T t) {
+      final BitSet accepting = new BitSet(this.consumes.size());
+      for (int i = 0; i != this.consumes.size(); i++) {
+        if (this.consumes.get(i).matches(context, t)) {
+          accepting.set(i);
+        }
+      }
+      final DFAState<T> known = this.transitions.get(accepting);
+      if (known != null) {
+        return known;
+      }
+      final Set<State<T>> nfaStates = new HashSet<>();
+      for (int i = accepting.nextSetBit(0); i >= 0; i = accepting.nextSetBit(i + 1)) {
+        NFASequenceMatcher.addstate(nfaStates, this.consumes.get(i).out);
+      }
+      final DFAState<T> next = dfa.stateFor(nfaStates);
+      this.transitions.putIfAbsent(accepting, next);
+      return next;
+    }
+
+    boolean isDead() {
+      return this.consumes.isEmpty() && !this.isMatch;
+    }
+
+    boolean isMatch() {
+      return this.isMatch;
+    }
+  }
+
+}
@@ -1,5 +1,7 @@
 package org.pitest.sequence;
 
+import java.util.function.Predicate;
+
 /**
  * Predicate with additional context.
  *
@@ -13,16 +15,32 @@ public interface Match<T> {
 
   boolean test(Context<T> c, T t);
 
+  /**
+   * True if this match depends on the item alone, never reading or writing
+   * the context. Such matches may be tested out of sequence, allowing
+   * queries built from them to be prefiltered and compiled to a DFA.
+   */
+  default boolean isContextFree() {
+    return false;
+  }
+
+  /**
+   * Creates a context free match from a predicate on the item alone
+   */
+  static <T> Match<T> of(final Predicate<T> p) {
+    return new ContextFreeMatch<>(p);
+  }
+
   static <T> Match<T> always() {
-    return (c, t) -> true;
+    return of(t -> true);
   }
 
   static <T> Match<T> never() {
-    return (c, t) -> false;
+    return of(t -> false);
   }
 
   static <T> Match<T> isEqual(final Object targetRef) {
-    return (c, t) -> targetRef.equals(t);
+    return of(targetRef::equals);
   }
 
   default Match<T> and(final Match<T> other) {
@@ -1,6 +1,9 @@
 package org.pitest.sequence;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -47,14 +50,61 @@ public class SequenceQuery<T> {
     return compile(QueryParams.params());
   }
 
+  /**
+   * Compiles the query. Queries built entirely from context free matches are
+   * compiled to a DFA, others are simulated as an NFA. Either way sequences
+   * are first checked for items matching each context free match the query
+   * requires, and results are cached for the sequence last matched.
+   */
   @SuppressWarnings("unchecked")
   public SequenceMatcher<T> compile(QueryParams<T> params) {
-    return new NFASequenceMatcher<T>(params.ignoring(),
-        this.token.make(EndMatch.MATCH), params.isDebug());
+    final State<T> start = this.token.make(EndMatch.MATCH);
+    final SequenceMatcher<T> automaton;
+    if (!params.isDebug() && isContextFree(start, params.ignoring())) {
+      automaton = new DFASequenceMatcher<>(params.ignoring(), start);
+    } else {
+      automaton = new NFASequenceMatcher<>(params.ignoring(), start,
+          params.isDebug());
+    }
+    return new CachingSequenceMatcher<>(params.ignoring(),
+        this.token.required(), automaton, params.isDebug());
+  }
+
+  private static <T> boolean isContextFree(State<T> start, Match<T> ignore) {
+    if (!ignore.isContextFree()) {
+      return false;
+    }
+    final Set<State<T>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<State<T>> toVisit = new ArrayList<>();
+    toVisit.add(start);
+    while (!toVisit.isEmpty()) {
+      final State<T> each = toVisit.remove(toVisit.size() - 1);
+      if (each == null || !visited.add(each)) {
+        continue;
+      }
+      if (each instanceof Consume) {
+        final Consume<T> consume = (Consume<T>) each;
+        if (!consume.c.isContextFree()) {
+          return false;
+        }
+        toVisit.add(consume.out);
+      } else if (each instanceof Split) {
+        final Split<T> split = (Split<T>) each;
+        toVisit.add(split.out1);
+        toVisit.add(split.out2);
+      }
+    }
+    return true;
   }
 
   interface Partial<T> {
     State<T> make(State<T> andThen);
+
+    /**
+     * The context free matches that every matching sequence must contain an
+     * item for
+     */
+    List<Match<T>> required();
   }
 
   static class Literal<T> implements Partial<T> {
@@ -68,6 +118,14 @@ public class SequenceQuery<T> {
     public State<T> make(State<T> andThen) {
       return new Consume<>(this.c, andThen);
     }
+
+    @Override
+    public List<Match<T>> required() {
+      if (this.c.isContextFree()) {
+        return Collections.singletonList(this.c);
+      }
+      return Collections.emptyList();
+    }
   }
 
   static class Or<T> implements Partial<T> {
@@ -86,6 +144,13 @@ public class SequenceQuery<T> {
       return new Split<>(l, r);
     }
 
+    @Override
+    public List<Match<T>> required() {
+      final List<Match<T>> both = new ArrayList<>(this.left.required());
+      both.retainAll(this.right.required());
+      return both;
+    }
+
   }
 
   static class Concat<T> implements Partial<T> {
@@ -101,6 +166,13 @@ public class SequenceQuery<T> {
     public State<T> make(State<T> andThen) {
       return this.left.make(this.right.make(andThen));
     }
+
+    @Override
+    public List<Match<T>> required() {
+      final List<Match<T>> all = new ArrayList<>(this.left.required());
+      all.addAll(this.right.required());
+      return all;
+    }
   }
 
   static class Repeat<T> implements Partial<T> {
@@ -118,6 +190,11 @@ public class SequenceQuery<T> {
       return placeHolder;
     }
 
+    @Override
+    public List<Match<T>> required() {
+      return Collections.emptyList();
+    }
+
   }
 
   static class Plus<T> implements Partial<T> {
@@ -132,6 +209,11 @@ public class SequenceQuery<T> {
       final Concat<T> concat = new Concat<>(this.r, new Repeat<>(this.r));
       return concat.make(andThen);
     }
+
+    @Override
+    public List<Match<T>> required() {
+      return this.r.required();
+    }
   }
 
 }
@@ -173,7 +255,7 @@ class NFASequenceMatcher<T> implements SequenceMatcher<T> {
   }
 
 
-  private static <T> void addstate(Set<State<T>> set, State<T> state) {
+  static <T> void addstate(Set<State<T>> set, State<T> state) {
     if (state == null) {
       return;
     }
@@ -0,0 +1,24 @@
+package org.pitest.testapi;
+
+import java.util.List;
+
+/**
+ * A test unit whose fixture is shared with other units. When several units
+ * sharing a fixture are needed they can be combined into one, so the fixture is
+ * set up once rather than once per unit.
+ */
+public interface SharedFixtureTestUnit extends TestUnit {
+
+  /**
+   * Identifies the fixture. Units with equal fixtures may be combined.
+   */
+  String fixture();
+
+  /**
+   * Creates a unit running the tests of this and the supplied units, which must
+   * share its fixture. Results are reported against the descriptions of the
+   * individual units.
+   */
+  TestUnit combine(List<SharedFixtureTestUnit> others);
+
+}
@@ -3,6 +3,7 @@ package org.pitest.testapi;
 import java.util.Collection;
 
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.plugin.ClientClasspathPlugin;
 
 public interface TestPluginFactory extends ClientClasspathPlugin {
@@ -10,6 +11,16 @@ public interface TestPluginFactory extends ClientClasspathPlugin {
   Configuration createTestFrameworkConfiguration(TestGroupConfig config,
       ClassByteArraySource source, Collection<String> excludedRunners, Collection<String> includedTestMethods);
 
+  /**
+   * Plugins supporting options beyond those of the four argument method should
+   * override this.
+   */
+  default Configuration createTestFrameworkConfiguration(
+      TestPluginArguments args, ClassByteArraySource source) {
+    return createTestFrameworkConfiguration(args.getGroupConfig(), source,
+        args.getExcludedRunners(), args.getIncludedTestMethods());
+  }
+
   String name();
 
 }
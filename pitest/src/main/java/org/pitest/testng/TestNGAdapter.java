@@ -25,14 +25,27 @@ public class TestNGAdapter implements ITestListener {
   private final ResultCollector rc;
   private final Description     description;
   private final Class<?>        clazz;
+  private final boolean         reportsClass;
   private boolean               hasHadFailure = false;
   private Throwable             error;
 
   public TestNGAdapter(final Class<?> clazz, final Description d,
       final ResultCollector rc) {
+    this(clazz, d, rc, true);
+  }
+
+  /**
+   * @param reportsClass
+   *          whether the start and end of the class should be reported in
+   *          addition to its methods. Not needed when the description is that
+   *          of the single method being run.
+   */
+  public TestNGAdapter(final Class<?> clazz, final Description d,
+      final ResultCollector rc, final boolean reportsClass) {
     this.rc = rc;
     this.description = d;
     this.clazz = clazz;
+    this.reportsClass = reportsClass;
   }
 
   public boolean hasHadFailure() {
@@ -41,6 +54,9 @@ public class TestNGAdapter implements ITestListener {
 
   @Override
   public void onFinish(final ITestContext arg0) {
+    if (!this.reportsClass) {
+      return;
+    }
     if (this.error != null) {
       this.rc.notifyEnd(this.description, this.error);
     } else {
@@ -50,7 +66,9 @@ public class TestNGAdapter implements ITestListener {
 
   @Override
   public void onStart(final ITestContext arg0) {
-    this.rc.notifyStart(this.description);
+    if (this.reportsClass) {
+      this.rc.notifyStart(this.description);
+    }
   }
 
   @Override
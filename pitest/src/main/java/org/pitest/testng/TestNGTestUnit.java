@@ -36,10 +36,12 @@ import org.testng.xml.XmlSuite;
 import org.testng.xml.XmlTest;
 
 /**
- * Runs tests within a class via TestNG. It would be possible to create a test
- * unit per method using TestNG's filters but this is about ten times slower and
- * probably more than negates any advantage from more finely targeting the
- * tests.
+ * Runs either a single test method or all tests within a class via TestNG.
+ *
+ * Running a single method costs more than running it as part of its class, but
+ * lets mutation analysis run only the methods covering a mutant. Classes whose
+ * tests share class level fixtures or depend on each other are run as a whole
+ * (see {@link TestNGTestUnitFinder}).
  */
 public class TestNGTestUnit extends AbstractTestUnit {
 
@@ -56,15 +58,34 @@ public class TestNGTestUnit extends AbstractTestUnit {
   private final Class<?>                     clazz;
   private final TestGroupConfig              config;
   private final Collection<String> includedTestMethods;
+  private final boolean                      singleMethod;
 
-
+  private XmlSuite                           suite;
 
   public TestNGTestUnit(
           final Class<?> clazz, final TestGroupConfig config, Collection<String> includedTestMethods) {
-    super(new org.pitest.testapi.Description("_", clazz));
+    this(new org.pitest.testapi.Description("_", clazz), clazz, config,
+        includedTestMethods, false);
+  }
+
+  /**
+   * Creates a unit that runs only the named test method
+   */
+  public TestNGTestUnit(final Class<?> clazz, final String method,
+      final TestGroupConfig config) {
+    this(new org.pitest.testapi.Description(method, clazz), clazz, config,
+        Collections.singletonList(method), true);
+  }
+
+  private TestNGTestUnit(final org.pitest.testapi.Description description,
+      final Class<?> clazz, final TestGroupConfig config,
+      final Collection<String> includedTestMethods,
+      final boolean singleMethod) {
+    super(description);
     this.clazz = clazz;
     this.config = config;
     this.includedTestMethods = includedTestMethods;
+    this.singleMethod = singleMethod;
   }
 
   @Override
@@ -78,9 +99,12 @@ public class TestNGTestUnit extends AbstractTestUnit {
 
   private void executeInCurrentLoader(final ResultCollector rc) {
     final TestNGAdapter listener = new TestNGAdapter(this.clazz,
-        this.getDescription(), rc);
+        this.getDescription(), rc, !this.singleMethod);
 
-    final XmlSuite suite = createSuite();
+    if (this.suite == null) {
+      this.suite = createSuite();
+    }
+    final XmlSuite suite = this.suite;
 
     TESTNG.setDefaultSuiteName(suite.getName());
     TESTNG.setXmlSuites(Collections.singletonList(suite));
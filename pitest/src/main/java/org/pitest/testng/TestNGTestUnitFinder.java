@@ -14,10 +14,18 @@
  */
 package org.pitest.testng;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.pitest.functional.FCollection;
 import org.pitest.reflection.IsAnnotatedWith;
@@ -25,9 +33,34 @@ import org.pitest.reflection.Reflection;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterGroups;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeGroups;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
 
+/**
+ * Creates a unit per test method where the methods of a class can safely be
+ * run in isolation, so that mutation analysis need run only the methods that
+ * cover a mutant. A single unit is created for the whole class if it has
+ * fixtures shared between methods, tests that depend on each other or
+ * on ordering, or inherits a class level annotation.
+ */
 public class TestNGTestUnitFinder implements TestUnitFinder {
 
+  private static final List<Class<? extends Annotation>> SHARED_FIXTURES = Arrays
+      .asList(BeforeClass.class, AfterClass.class, BeforeTest.class,
+          AfterTest.class, BeforeSuite.class, AfterSuite.class,
+          BeforeGroups.class, AfterGroups.class, Factory.class);
+
   private final TestGroupConfig config;
   private final Collection<String> includedTestMethods;
 
@@ -39,12 +72,151 @@ public class TestNGTestUnitFinder implements TestUnitFinder {
   @Override
   public List<TestUnit> findTestUnits(final Class<?> clazz) {
     if (!isAbstract(clazz) && (hasClassAnnotation(clazz) || hasMethodAnnotation(clazz))) {
-      return Collections.singletonList(new TestNGTestUnit(clazz, this.config, this.includedTestMethods));
+      if (mustRunAsClass(clazz)) {
+        return Collections.singletonList(new TestNGTestUnit(clazz, this.config, this.includedTestMethods));
+      }
+      final List<TestUnit> units = new ArrayList<>();
+      for (final String each : testMethods(clazz)) {
+        units.add(new TestNGTestUnit(clazz, each, this.config));
+      }
+      return units;
     }
     return Collections.emptyList();
 
   }
 
+  private boolean mustRunAsClass(final Class<?> clazz) {
+    if (inheritsClassAnnotation(clazz)) {
+      return true;
+    }
+    final Test classLevel = clazz.getAnnotation(Test.class);
+    if ((classLevel != null) && (isOrderDependent(classLevel)
+        || superClassesHavePublicMethods(clazz))) {
+      return true;
+    }
+    for (final Method each : Reflection.allMethods(clazz)) {
+      if (hasSharedFixture(each)) {
+        return true;
+      }
+      final Test test = each.getAnnotation(Test.class);
+      if ((test != null) && isOrderDependent(test)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean inheritsClassAnnotation(final Class<?> clazz) {
+    Class<?> current = clazz.getSuperclass();
+    while (current != null) {
+      if (current.getAnnotation(Test.class) != null) {
+        return true;
+      }
+      current = current.getSuperclass();
+    }
+    return false;
+  }
+
+  private static boolean superClassesHavePublicMethods(final Class<?> clazz) {
+    Class<?> current = clazz.getSuperclass();
+    while ((current != null) && !current.equals(Object.class)) {
+      for (final Method each : current.getDeclaredMethods()) {
+        if (Modifier.isPublic(each.getModifiers())
+            && !Modifier.isStatic(each.getModifiers())) {
+          return true;
+        }
+      }
+      current = current.getSuperclass();
+    }
+    return false;
+  }
+
+  private static boolean hasSharedFixture(final Method method) {
+    for (final Class<? extends Annotation> each : SHARED_FIXTURES) {
+      if (method.getAnnotation(each) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isOrderDependent(final Test test) {
+    return (test.dependsOnMethods().length != 0)
+        || (test.dependsOnGroups().length != 0) || (test.priority() != 0)
+        || test.singleThreaded();
+  }
+
+  private Set<String> testMethods(final Class<?> clazz) {
+    final Test classLevel = clazz.getAnnotation(Test.class);
+    final Set<String> methods = new LinkedHashSet<>();
+    for (final Method each : Reflection.allMethods(clazz)) {
+      if (!Modifier.isPublic(each.getModifiers()) || each.isSynthetic()
+          || each.isBridge()) {
+        continue;
+      }
+      final Test test = each.getAnnotation(Test.class);
+      final boolean isTest = (test != null)
+          || ((classLevel != null) && each.getDeclaringClass().equals(clazz)
+              && !Modifier.isStatic(each.getModifiers())
+              && !isConfiguration(each));
+      if (isTest && isEnabled(classLevel, test) && isInSelectedGroups(classLevel, test)
+          && isIncluded(each.getName())) {
+        methods.add(each.getName());
+      }
+    }
+    return methods;
+  }
+
+  private static boolean isConfiguration(final Method method) {
+    return hasSharedFixture(method)
+        || (method.getAnnotation(BeforeMethod.class) != null)
+        || (method.getAnnotation(AfterMethod.class) != null)
+        || (method.getAnnotation(DataProvider.class) != null);
+  }
+
+  private static boolean isEnabled(final Test classLevel, final Test test) {
+    if (test != null) {
+      return test.enabled();
+    }
+    return (classLevel == null) || classLevel.enabled();
+  }
+
+  private boolean isInSelectedGroups(final Test classLevel, final Test test) {
+    final Set<String> groups = new LinkedHashSet<>();
+    if (classLevel != null) {
+      groups.addAll(Arrays.asList(classLevel.groups()));
+    }
+    if (test != null) {
+      groups.addAll(Arrays.asList(test.groups()));
+    }
+    if (!Collections.disjoint(groups, this.config.getExcludedGroups())) {
+      return false;
+    }
+    return this.config.getIncludedGroups().isEmpty()
+        || !Collections.disjoint(groups, this.config.getIncludedGroups());
+  }
+
+  private boolean isIncluded(final String method) {
+    if (this.includedTestMethods.isEmpty()) {
+      return true;
+    }
+    for (final String each : this.includedTestMethods) {
+      if (each.equals(method) || matches(each, method)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // TestNG treats included method names as regular expressions
+  private static boolean matches(final String pattern, final String method) {
+    try {
+      return Pattern.matches(pattern, method);
+    } catch (final PatternSyntaxException e) {
+      return false;
+    }
+  }
+
   private boolean hasClassAnnotation(final Class<?> clazz) {
     return clazz.getAnnotation(org.testng.annotations.Test.class) != null;
 
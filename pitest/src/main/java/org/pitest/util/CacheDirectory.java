@@ -0,0 +1,81 @@
+package org.pitest.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Least recently used eviction for caches held as one file per entry below a
+ * directory. An entry's modification time records when it was last used.
+ */
+public final class CacheDirectory {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private CacheDirectory() {
+  }
+
+  /**
+   * Records that an entry has just been used
+   */
+  public static void touch(final Path entry) {
+    try {
+      Files.setLastModifiedTime(entry,
+          FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not touch cache entry " + entry, e);
+    }
+  }
+
+  /**
+   * Removes the least recently used entries below the directory until the
+   * remainder fit within the supplied number of bytes
+   */
+  public static void trim(final Path dir, final long maxBytes) {
+    if (!Files.isDirectory(dir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(dir)) {
+      final List<Path> entries = files.filter(Files::isRegularFile)
+          .sorted(Comparator.comparing(CacheDirectory::lastModified))
+          .collect(Collectors.toList());
+      long size = 0;
+      for (final Path each : entries) {
+        size = size + sizeOf(each);
+      }
+      for (final Path each : entries) {
+        if (size <= maxBytes) {
+          break;
+        }
+        size = size - sizeOf(each);
+        Files.deleteIfExists(each);
+      }
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not trim cache " + dir, e);
+    }
+  }
+
+  private static FileTime lastModified(final Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (final IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static long sizeOf(final Path path) {
+    try {
+      return Files.size(path);
+    } catch (final IOException e) {
+      return 0;
+    }
+  }
+
+}
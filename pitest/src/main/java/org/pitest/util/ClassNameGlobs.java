@@ -0,0 +1,196 @@
+package org.pitest.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Matches class names against a set of globs, as an or of {@link Glob}s
+ * would, but without evaluating a regex per glob or allocating per name.
+ *
+ * The literal prefixes of the globs are held in a trie, so a name is walked
+ * once and only the globs whose prefix it starts with have their wildcards
+ * matched. '/' and '.' are treated as the same separator in both globs and
+ * names, so either may be given in java or internal form.
+ *
+ * Regex globs (those starting with ~) and globs containing other regex
+ * syntax are matched as {@link Glob}s against the java form of the name.
+ *
+ * The most recently used sets of globs are held once compiled, so the few
+ * sets a run uses are compiled once however often they are requested.
+ */
+public final class ClassNameGlobs implements Predicate<String> {
+
+  private static final int                COMPILED_LIMIT = 64;
+
+  private static final Map<List<String>, ClassNameGlobs> COMPILED = Collections
+      .synchronizedMap(new LinkedHashMap<List<String>, ClassNameGlobs>(16,
+          0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<List<String>, ClassNameGlobs> eldest) {
+          return size() > COMPILED_LIMIT;
+        }
+      });
+
+  private static final String             REGEX_SYNTAX   = "~[](){}+|^\\";
+
+  private final Node                      root           = new Node();
+  private final List<Glob>                regexes        = new ArrayList<>();
+
+  private ClassNameGlobs(final Collection<String> globs) {
+    for (final String each : globs) {
+      if (isRegex(each)) {
+        this.regexes.add(new Glob(each));
+      } else {
+        add(each);
+      }
+    }
+  }
+
+  /**
+   * Matches names matching any of the globs, or nothing if there are none
+   */
+  public static ClassNameGlobs of(final Collection<String> globs) {
+    final List<String> key = globs == null ? Collections.emptyList()
+        : new ArrayList<>(globs);
+    return COMPILED.computeIfAbsent(key, ClassNameGlobs::new);
+  }
+
+  public static ClassNameGlobs of(final String... globs) {
+    return of(Arrays.asList(globs));
+  }
+
+  @Override
+  public boolean test(final String name) {
+    return matchesLiteral(name) || matchesRegex(name);
+  }
+
+  private boolean matchesLiteral(final String name) {
+    Node node = this.root;
+    int i = 0;
+    while (node != null) {
+      for (final char[] each : node.tails) {
+        if (matchesTail(each, name, i)) {
+          return true;
+        }
+      }
+      if (i == name.length()) {
+        return false;
+      }
+      node = node.child(normalise(name.charAt(i)));
+      i++;
+    }
+    return false;
+  }
+
+  private boolean matchesRegex(final String name) {
+    if (this.regexes.isEmpty()) {
+      return false;
+    }
+    final String javaName = name.replace('/', '.');
+    for (final Glob each : this.regexes) {
+      if (each.matches(javaName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void add(final String glob) {
+    Node node = this.root;
+    int i = 0;
+    while (i != glob.length() && !isWildcard(glob.charAt(i))) {
+      node = node.childOrCreate(normalise(glob.charAt(i)));
+      i++;
+    }
+    node.tails.add(glob.substring(i).replace('/', '.').toCharArray());
+  }
+
+  /**
+   * Matches the remainder of a glob, which is either empty or starts with a
+   * wildcard, against the name from the given position. This is the usual
+   * greedy wildcard match, which need only backtrack to the most recent *.
+   */
+  private static boolean matchesTail(final char[] tail, final String name,
+      final int from) {
+    int t = 0;
+    int n = from;
+    int star = -1;
+    int starMatch = 0;
+    while (n != name.length()) {
+      if (t != tail.length && (tail[t] == '?'
+          || tail[t] == normalise(name.charAt(n)))) {
+        t++;
+        n++;
+      } else if (t != tail.length && tail[t] == '*') {
+        star = t;
+        starMatch = n;
+        t++;
+      } else if (star != -1) {
+        t = star + 1;
+        starMatch++;
+        n = starMatch;
+      } else {
+        return false;
+      }
+    }
+    while (t != tail.length && tail[t] == '*') {
+      t++;
+    }
+    return t == tail.length;
+  }
+
+  private static char normalise(final char c) {
+    return c == '/' ? '.' : c;
+  }
+
+  private static boolean isWildcard(final char c) {
+    return c == '*' || c == '?';
+  }
+
+  private static boolean isRegex(final String glob) {
+    for (int i = 0; i != glob.length(); i++) {
+      if (REGEX_SYNTAX.indexOf(glob.charAt(i)) != -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class Node {
+    private char[]             keys     = new char[0];
+    private Node[]             children = new Node[0];
+    private final List<char[]> tails    = new ArrayList<>(1);
+
+    Node child(final char c) {
+      for (int i = 0; i != this.keys.length; i++) {
+        if (this.keys[i] == c) {
+          return this.children[i];
+        }
+      }
+      return null;
+    }
+
+    Node childOrCreate(final char c) {
+      final Node existing = child(c);
+      if (existing != null) {
+        return existing;
+      }
+      final Node node = new Node();
+      this.keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+      this.children = Arrays.copyOf(this.children, this.children.length + 1);
+      this.keys[this.keys.length - 1] = c;
+      this.children[this.children.length - 1] = node;
+      return node;
+    }
+  }
+
+}
@@ -0,0 +1,126 @@
+package org.pitest.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Packs arrays of ints as varints of the zigzag encoded difference between
+ * each value and the one before it, so ascending runs of ids such as test ids
+ * cost a byte each. Packings larger than a threshold are also deflated,
+ * which reduces long runs of consecutive ids to a few bytes.
+ */
+public final class PackedInts {
+
+  static final int          DEFLATE_THRESHOLD = 256;
+
+  private static final byte RAW               = 0;
+  private static final byte DEFLATED          = 1;
+
+  private PackedInts() {
+  }
+
+  public static byte[] pack(final int[] values) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream(
+        values.length + 5);
+    writeVarint(bos, values.length);
+    int previous = 0;
+    for (final int each : values) {
+      final int delta = each - previous;
+      writeVarint(bos, (delta << 1) ^ (delta >> 31));
+      previous = each;
+    }
+    final byte[] body = bos.toByteArray();
+    if (body.length < DEFLATE_THRESHOLD) {
+      return prefixed(RAW, body, body.length);
+    }
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      byte[] out = new byte[body.length / 4 + 16];
+      int length = 0;
+      while (!deflater.finished()) {
+        if (length == out.length) {
+          out = Arrays.copyOf(out, out.length * 2);
+        }
+        length = length + deflater.deflate(out, length, out.length - length);
+      }
+      if (length >= body.length) {
+        return prefixed(RAW, body, body.length);
+      }
+      return prefixed(DEFLATED, out, length);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  public static int[] unpack(final byte[] packed) {
+    final byte[] body = packed[0] == DEFLATED ? inflate(packed)
+        : Arrays.copyOfRange(packed, 1, packed.length);
+    final int[] position = { 0 };
+    final int[] values = new int[readVarint(body, position)];
+    int previous = 0;
+    for (int i = 0; i != values.length; i++) {
+      final int zigzag = readVarint(body, position);
+      previous = previous + ((zigzag >>> 1) ^ -(zigzag & 1));
+      values[i] = previous;
+    }
+    return values;
+  }
+
+  private static byte[] inflate(final byte[] packed) {
+    final Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(packed, 1, packed.length - 1);
+      final ByteArrayOutputStream bos = new ByteArrayOutputStream(
+          packed.length * 4);
+      final byte[] buffer = new byte[4096];
+      while (!inflater.finished()) {
+        final int read = inflater.inflate(buffer);
+        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new PitError("Truncated packed ints");
+        }
+        bos.write(buffer, 0, read);
+      }
+      return bos.toByteArray();
+    } catch (final DataFormatException e) {
+      throw new PitError("Corrupt packed ints", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] prefixed(final byte format, final byte[] body,
+      final int length) {
+    final byte[] out = new byte[length + 1];
+    out[0] = format;
+    System.arraycopy(body, 0, out, 1, length);
+    return out;
+  }
+
+  private static void writeVarint(final ByteArrayOutputStream out,
+      final int value) {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.write((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.write(remaining);
+  }
+
+  private static int readVarint(final byte[] in, final int[] position) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = in[position[0]++];
+      value = value | ((b & 0x7F) << shift);
+      shift = shift + 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+}
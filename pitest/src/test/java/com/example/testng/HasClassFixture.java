@@ -0,0 +1,23 @@
+package com.example.testng;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class HasClassFixture {
+
+  @BeforeClass
+  public void setUpClass() {
+
+  }
+
+  @Test
+  public void aTest() {
+
+  }
+
+  @Test
+  public void anotherTest() {
+
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.example.testng;
+
+import org.testng.annotations.Test;
+
+public class HasDependentMethods {
+
+  @Test
+  public void first() {
+
+  }
+
+  @Test(dependsOnMethods = "first")
+  public void second() {
+
+  }
+
+}
@@ -0,0 +1,74 @@
+package org.pitest.bytecode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class ClassAnalysisCacheTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource
+      .fromContext();
+
+  private final ClassAnalysisCache testee = new ClassAnalysisCache(2);
+
+  @Test
+  public void shouldReuseAnalysisOfIdenticalBytes() {
+    final ClassAnalysis first = this.testee.analyse(name(String.class),
+        bytes(String.class));
+    final ClassAnalysis second = this.testee.analyse(name(String.class),
+        bytes(String.class));
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void shouldReanalyseWhenBytesDiffer() {
+    final ClassAnalysis first = this.testee.analyse(name(String.class),
+        bytes(String.class));
+    final ClassAnalysis second = this.testee.analyse(name(String.class),
+        bytes(Integer.class));
+    assertThat(second).isNotSameAs(first);
+    assertThat(this.testee.cached(name(String.class), bytes(String.class)))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldDiscardLeastRecentlyUsedAnalysisWhenFull() {
+    this.testee.analyse(name(String.class), bytes(String.class));
+    this.testee.analyse(name(Integer.class), bytes(Integer.class));
+    this.testee.cached(name(String.class), bytes(String.class));
+    this.testee.analyse(name(Long.class), bytes(Long.class));
+
+    assertThat(this.testee.size()).isEqualTo(2);
+    assertThat(this.testee.cached(name(String.class), bytes(String.class)))
+        .isPresent();
+    assertThat(this.testee.cached(name(Integer.class), bytes(Integer.class)))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldNotAnalyseClassesWhenOnlyCheckingCache() {
+    assertThat(this.testee.cached(name(String.class), bytes(String.class)))
+        .isEmpty();
+    assertThat(this.testee.size()).isZero();
+  }
+
+  @Test
+  public void shouldMapLinesOnce() {
+    final ClassAnalysis analysis = this.testee.analyse(name(String.class),
+        bytes(String.class));
+    assertThat(analysis.lines()).isNotEmpty();
+    assertThat(analysis.lines()).isSameAs(analysis.lines());
+  }
+
+  private static ClassName name(Class<?> clazz) {
+    return ClassName.fromClass(clazz);
+  }
+
+  private byte[] bytes(Class<?> clazz) {
+    return this.source.getBytes(clazz.getName()).get();
+  }
+
+}
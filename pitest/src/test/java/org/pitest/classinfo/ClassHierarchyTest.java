@@ -0,0 +1,54 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+import org.junit.Test;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.PitError;
+
+public class ClassHierarchyTest {
+
+  private final ClassHierarchy       testee = new ClassHierarchy();
+
+  private final ClassByteArraySource source = spy(new ClassloaderByteArraySource(
+      IsolationUtils.getContextClassLoader()));
+
+  @Test
+  public void shouldReadSuperClassAndInterfaces() {
+    final ClassHierarchy.Header header = this.testee.header(
+        "java/util/ArrayList", this.source);
+    assertThat(header.getSuperName()).isEqualTo("java/util/AbstractList");
+    assertThat(header.getInterfaces()).contains("java/util/List",
+        "java/io/Serializable");
+    assertThat(header.isInterface()).isFalse();
+  }
+
+  @Test
+  public void shouldRecogniseInterfaces() {
+    assertThat(this.testee.header(ClassName.fromClass(Serializable.class)
+        .asInternalName(), this.source).isInterface()).isTrue();
+  }
+
+  @Test
+  public void shouldReadEachClassOnlyOnce() {
+    final String type = ClassName.fromClass(ArrayList.class).asInternalName();
+    this.testee.header(type, this.source);
+    this.testee.header(type, this.source);
+    verify(this.source, times(1)).getBytes(anyString());
+    assertThat(this.testee.size()).isEqualTo(1);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldErrorWhenClassCannotBeFound() {
+    this.testee.header("com/example/DoesNotExist", this.source);
+  }
+
+}
@@ -2,8 +2,6 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 
-import java.util.HashMap;
-
 import org.junit.Test;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.util.IsolationUtils;
@@ -13,8 +11,7 @@ public class ComputeClassWriterTest {
   private final ComputeClassWriter testee = new ComputeClassWriter(
       new ClassloaderByteArraySource(
           IsolationUtils
-          .getContextClassLoader()),
-          new HashMap<String, String>(), 0);
+          .getContextClassLoader()), 0);
 
   @Test
   public void shouldResolveObjectAsSuperClassWhenNoCommonParentExists() {
@@ -2,7 +2,10 @@ package org.pitest.coverage;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.objectweb.asm.ClassReader;
@@ -28,9 +31,17 @@ import java.util.Collections;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CoverageTransformerTest {
 
@@ -43,6 +54,9 @@ public class CoverageTransformerTest {
   @Mock
   private InvokeReceiver             invokeQueue;
 
+  @Rule
+  public TemporaryFolder             folder = new TemporaryFolder();
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -83,9 +97,39 @@ public class CoverageTransformerTest {
     assertValidClass(Math.class);
   }
 
+  @Test
+  public void shouldReplayCachedClassesUnderNewId() throws Exception {
+    final InstrumentedClassCache cache = new DirectoryInstrumentedClassCache(
+        this.folder.newFolder().toPath());
+    final byte[] original = this.bytes.getBytes(Vector.class.getName()).get();
+
+    final byte[] first = new CoverageTransformer(s -> true, cache)
+        .transform(this.loader, "java/util/Vector", null, null, original);
+    final byte[] replayed = new CoverageTransformer(s -> true, cache)
+        .transform(this.loader, "java/util/Vector", null, null, original);
+
+    final ArgumentCaptor<Integer> ids = ArgumentCaptor.forClass(Integer.class);
+    verify(this.invokeQueue, times(2)).registerClass(ids.capture(),
+        eq("java/util/Vector"));
+    final int firstId = ids.getAllValues().get(0);
+    final int replayedId = ids.getAllValues().get(1);
+
+    assertThat(cache.get("java/util/Vector", original)).isPresent();
+    assertThat(InstrumentedClass.findClassIdOffset(original, first, firstId))
+        .isEqualTo(InstrumentedClass.findClassIdOffset(original, replayed,
+            replayedId))
+        .isNotEqualTo(-1);
+    verify(this.invokeQueue, atLeastOnce()).registerProbes(eq(replayedId),
+        anyString(), anyString(), anyInt(), anyInt(), any());
+    assertValidClass(replayed);
+  }
+
   private void assertValidClass(final Class<?> clazz)
       throws IllegalClassFormatException {
-    final byte[] bs = transform(clazz);
+    assertValidClass(transform(clazz));
+  }
+
+  private void assertValidClass(final byte[] bs) {
     // printClass(bs);
     final StringWriter sw = new StringWriter();
     CheckClassAdapter.verify(new ClassReader(bs), false, new PrintWriter(sw));
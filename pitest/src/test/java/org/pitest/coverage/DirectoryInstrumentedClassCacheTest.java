@@ -0,0 +1,134 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.analysis.Block;
+
+public class DirectoryInstrumentedClassCacheTest {
+
+  private static final byte[] ORIGINAL = { 1, 2, 3 };
+
+  @Rule
+  public TemporaryFolder      folder   = new TemporaryFolder();
+
+  private File                dir;
+  private DirectoryInstrumentedClassCache testee;
+
+  @Before
+  public void setUp() throws Exception {
+    this.dir = this.folder.newFolder();
+    this.testee = new DirectoryInstrumentedClassCache(this.dir.toPath());
+  }
+
+  @Test
+  public void shouldReturnNothingWhenNothingCached() {
+    assertThat(this.testee.get("com/example/Foo", ORIGINAL)).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnStoredClass() {
+    final Block block = new Block(0, 4, new HashSet<>(Arrays.asList(10, 11)));
+    final InstrumentedClass stored = new InstrumentedClass(
+        new byte[] { 9, 9, 9, 9, 9, 9 }, 1,
+        Collections.singletonList(new InstrumentedClass.Method("foo", "()V",
+            1, 1, Collections.singletonList(block))),
+        Collections.singletonMap("com/example/Foo", "java/lang/Object;;false"));
+
+    this.testee.put("com/example/Foo", ORIGINAL, stored);
+    final InstrumentedClass actual = this.testee
+        .get("com/example/Foo", ORIGINAL).get();
+
+    assertThat(actual.getBytes()).isEqualTo(stored.getBytes());
+    assertThat(actual.getClassIdOffset()).isEqualTo(1);
+    assertThat(actual.getHierarchy()).isEqualTo(stored.getHierarchy());
+    assertThat(actual.getMethods()).hasSize(1);
+    final InstrumentedClass.Method method = actual.getMethods().get(0);
+    assertThat(method.getName()).isEqualTo("foo");
+    assertThat(method.getDesc()).isEqualTo("()V");
+    assertThat(method.getBlocks()).containsExactly(block);
+    assertThat(method.getBlocks().get(0).getLines()).containsOnly(10, 11);
+  }
+
+  @Test
+  public void shouldNotReturnClassStoredForDifferentBytes() {
+    this.testee.put("com/example/Foo", ORIGINAL, anInstrumentedClass());
+    assertThat(this.testee.get("com/example/Foo", new byte[] { 1, 2 }))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldNotReturnClassStoredForDifferentName() {
+    this.testee.put("com/example/Foo", ORIGINAL, anInstrumentedClass());
+    assertThat(this.testee.get("com/example/Bar", ORIGINAL)).isEmpty();
+  }
+
+  @Test
+  public void shouldTreatUnreadableEntriesAsMissing() throws Exception {
+    final String digest = DirectoryInstrumentedClassCache
+        .digest("com/example/Foo", ORIGINAL);
+    Files.createDirectories(this.testee.entryFor(digest).getParent());
+    Files.write(this.testee.entryFor(digest), new byte[] { 0, 0 });
+    final Optional<InstrumentedClass> actual = this.testee
+        .get("com/example/Foo", ORIGINAL);
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntriesWhenLargerThanLimit()
+      throws Exception {
+    final byte[] other = { 4, 5, 6 };
+    this.testee.put("com/example/Foo", ORIGINAL, anInstrumentedClass());
+    this.testee.put("com/example/Foo", other, anInstrumentedClass());
+    final Path a = this.testee.entryFor(
+        DirectoryInstrumentedClassCache.digest("com/example/Foo", ORIGINAL));
+    final Path b = this.testee.entryFor(
+        DirectoryInstrumentedClassCache.digest("com/example/Foo", other));
+    Files.setLastModifiedTime(a, FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(b, FileTime.fromMillis(2000));
+
+    new DirectoryInstrumentedClassCache(this.dir.toPath(), Files.size(b))
+        .close();
+
+    assertThat(a).doesNotExist();
+    assertThat(b).exists();
+  }
+
+  @Test
+  public void shouldKeepEntriesReadMostRecently() throws Exception {
+    final byte[] other = { 4, 5, 6 };
+    this.testee.put("com/example/Foo", ORIGINAL, anInstrumentedClass());
+    this.testee.put("com/example/Foo", other, anInstrumentedClass());
+    final Path a = this.testee.entryFor(
+        DirectoryInstrumentedClassCache.digest("com/example/Foo", ORIGINAL));
+    final Path b = this.testee.entryFor(
+        DirectoryInstrumentedClassCache.digest("com/example/Foo", other));
+    Files.setLastModifiedTime(a, FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(b, FileTime.fromMillis(2000));
+
+    this.testee.get("com/example/Foo", ORIGINAL);
+    new DirectoryInstrumentedClassCache(this.dir.toPath(), Files.size(a))
+        .close();
+
+    assertThat(a).exists();
+    assertThat(b).doesNotExist();
+  }
+
+  private InstrumentedClass anInstrumentedClass() {
+    return new InstrumentedClass(new byte[] { 9, 9, 9, 9 }, 0,
+        Collections.emptyList(), Collections.emptyMap());
+  }
+
+}
@@ -21,7 +21,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -132,6 +134,24 @@ public class DependencyExtractorTest {
     assertCollectionEquals(expected, actual);
   }
 
+  @Test
+  public void shouldReadEachClassOnceAcrossQueries() throws Exception {
+    final Map<String, Integer> reads = new ConcurrentHashMap<>();
+    final ClassPathByteArraySource source = new ClassPathByteArraySource();
+    this.testee = new DependencyExtractor(name -> {
+      reads.merge(name, 1, Integer::sum);
+      return source.getBytes(name);
+    }, 0);
+
+    this.testee.extractCallDependenciesForPackages(Foo.class.getName(),
+        s -> true);
+    this.testee.extractCallDependenciesForPackages(Bar.class.getName(),
+        s -> true);
+
+    assertEquals(Integer.valueOf(1), reads.get(classToJvmName(Far.class)));
+    assertEquals(Integer.valueOf(1), reads.get(classToJvmName(VeryFar.class)));
+  }
+
   private Predicate<DependencyAccess> ignoreCoreClasses() {
     return a -> !a.getDest().getOwner().startsWith("java");
 
@@ -32,6 +32,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
+import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.rules.ExternalResource;
@@ -39,6 +40,7 @@ import org.junit.rules.TestRule;
 import org.junit.runner.RunWith;
 import org.junit.runner.Runner;
 import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.MethodSorters;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 import org.junit.runners.Suite;
@@ -47,6 +49,7 @@ import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
 import org.mockito.MockitoAnnotations;
 import org.pitest.junit.RunnerSuiteFinderTest.ThrowsOnDiscoverySuite;
+import org.pitest.junit.adapter.ClassFixtureJUnitTestUnit;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestUnit;
 
@@ -259,6 +262,45 @@ public class JUnitCustomRunnerTestUnitFinderTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldCreateUnitPerMethodForClassFixturesWhenSplittingEnabled() {
+    this.testee = new JUnitCustomRunnerTestUnitFinder(new TestGroupConfig(),
+        Collections.<String>emptyList(), Collections.<String>emptyList(), true);
+    final Collection<TestUnit> actual = findWithTestee(HasBeforeClassAnnotation.class);
+    assertThat(actual).hasSize(2);
+    assertThat(actual).allMatch(each -> each instanceof ClassFixtureJUnitTestUnit);
+    assertThat(actual).extracting(each -> each.getDescription().getName())
+        .contains("testOne(" + HasBeforeClassAnnotation.class.getName() + ")");
+  }
+
+  @FixMethodOrder(MethodSorters.NAME_ASCENDING)
+  public static class HasFixedMethodOrder {
+
+    @BeforeClass
+    public static void before() {
+
+    }
+
+    @Test
+    public void testOne() {
+
+    }
+
+    @Test
+    public void testTwo() {
+
+    }
+
+  }
+
+  @Test
+  public void shouldNotSplitClassFixturesWhenMethodOrderIsFixed() {
+    this.testee = new JUnitCustomRunnerTestUnitFinder(new TestGroupConfig(),
+        Collections.<String>emptyList(), Collections.<String>emptyList(), true);
+    final Collection<TestUnit> actual = findWithTestee(HasFixedMethodOrder.class);
+    assertEquals(1, actual.size());
+  }
+
   public static class ClassRuleMethod {
 
     @ClassRule
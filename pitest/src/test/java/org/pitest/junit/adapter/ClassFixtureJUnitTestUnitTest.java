@@ -0,0 +1,115 @@
+package org.pitest.junit.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.SharedFixtureTestUnit;
+import org.pitest.testapi.TestUnit;
+
+public class ClassFixtureJUnitTestUnitTest {
+
+  @Mock
+  ResultCollector rc;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    HideFromJUnit.HasFixture.setups = 0;
+  }
+
+  private static class HideFromJUnit {
+
+    public static class HasFixture {
+
+      static int setups;
+
+      @BeforeClass
+      public static void before() {
+        setups++;
+      }
+
+      @Test
+      public void one() {
+
+      }
+
+      @Test
+      public void two() {
+
+      }
+
+      @Test
+      public void fails() {
+        org.junit.Assert.fail();
+      }
+
+    }
+
+  }
+
+  @Test
+  public void shouldRunOnlyRequestedTest() {
+    final ClassFixtureJUnitTestUnit testee = unitFor("one");
+    testee.execute(this.rc);
+    verify(this.rc).notifyEnd(describe("one"));
+    verify(this.rc, never()).notifyStart(describe("two"));
+  }
+
+  @Test
+  public void shouldReportFailuresUnderTestDescription() {
+    final ClassFixtureJUnitTestUnit testee = unitFor("fails");
+    testee.execute(this.rc);
+    verify(this.rc).notifyEnd(eq(describe("fails")), any(Throwable.class));
+  }
+
+  @Test
+  public void shouldRunCombinedTestsWithSingleFixture() {
+    final TestUnit testee = unitFor("one").combine(
+        Collections.<SharedFixtureTestUnit>singletonList(unitFor("two")));
+    testee.execute(this.rc);
+    verify(this.rc).notifyEnd(describe("one"));
+    verify(this.rc).notifyEnd(describe("two"));
+    verify(this.rc, never()).notifyStart(describe("fails"));
+    assertThat(HideFromJUnit.HasFixture.setups).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldShareFixtureWithUnitsForSameClass() {
+    assertThat(unitFor("one").fixture()).isEqualTo(unitFor("two").fixture());
+  }
+
+  @Test
+  public void shouldNameCombinedUnitAfterEachTest() {
+    final TestUnit testee = unitFor("one").combine(
+        Arrays.<SharedFixtureTestUnit>asList(unitFor("two")));
+    assertThat(testee.getDescription().getName())
+        .contains(name("one"), name("two"));
+  }
+
+  private ClassFixtureJUnitTestUnit unitFor(String method) {
+    return new ClassFixtureJUnitTestUnit(HideFromJUnit.HasFixture.class,
+        name(method));
+  }
+
+  private Description describe(String method) {
+    return new Description(name(method), HideFromJUnit.HasFixture.class);
+  }
+
+  private static String name(String method) {
+    return method + "(" + HideFromJUnit.HasFixture.class.getName() + ")";
+  }
+
+}
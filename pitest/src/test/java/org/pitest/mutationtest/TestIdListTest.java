@@ -0,0 +1,110 @@
+package org.pitest.mutationtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TestIdListTest {
+
+  @Test
+  public void shouldHoldNamesInTheOrderSupplied() {
+    final List<String> names = Arrays.asList("c", "a", "b");
+    assertThat(TestIdList.of(names)).containsExactly("c", "a", "b");
+  }
+
+  @Test
+  public void shouldEqualOtherListsOfTheSameNames() {
+    final List<String> names = Arrays.asList("a", "b");
+    assertThat(TestIdList.of(names)).isEqualTo(names);
+    assertThat(names).isEqualTo(TestIdList.of(names));
+    assertThat(TestIdList.of(names).hashCode()).isEqualTo(names.hashCode());
+  }
+
+  @Test
+  public void shouldReturnSameInstanceForEmptyLists() {
+    assertThat(TestIdList.of(Collections.emptyList()))
+        .isSameAs(TestIdList.of(new ArrayList<>()));
+  }
+
+  @Test
+  public void shouldHoldLargeAscendingListsAsBitsets() {
+    final List<String> names = someNames(1000);
+    final TestIdList testee = TestIdList.of(names);
+    assertThat(testee).isEqualTo(names);
+    assertThat(testee.get(0)).isEqualTo(names.get(0));
+    assertThat(testee.get(999)).isEqualTo(names.get(999));
+    assertThat(testee.get(500)).isEqualTo(names.get(500));
+  }
+
+  @Test
+  public void shouldMatchIdsWhenHeldAsBitset() {
+    final TestNames table = new TestNames();
+    final int[] ids = table.idsOf(someNames(1000));
+    final int[] some = new int[500];
+    for (int i = 0; i != some.length; i++) {
+      some[i] = ids[i * 2];
+    }
+    assertThat(TestIdList.ofIds(table, some).ids()).isEqualTo(some);
+  }
+
+  @Test
+  public void shouldEqualListsOfTheSameNamesFromOtherTables() {
+    final List<String> names = Arrays.asList("a", "b");
+    final TestNames other = new TestNames();
+    other.idOf("b");
+    assertThat(TestIdList.ofIds(other, other.idsOf(names)))
+        .isEqualTo(TestIdList.of(names));
+  }
+
+  @Test
+  public void shouldReleaseSharedTableOnceNothingRefersToIt()
+      throws Exception {
+    final WeakReference<TestNames> table = new WeakReference<>(
+        TestNames.shared());
+    for (int i = 0; i != 50 && table.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertThat(table.get()).isNull();
+  }
+
+  @Test
+  public void shouldKeepSharedTableWhileListsReferToIt() {
+    final TestIdList testee = TestIdList.of(someNames(10));
+    System.gc();
+    assertThat(testee.isIn(TestNames.shared())).isTrue();
+    assertThat(testee.get(9)).isEqualTo(someNames(10).get(9));
+  }
+
+  @Test
+  public void shouldSerializeAsNames() throws Exception {
+    final TestIdList testee = TestIdList.of(someNames(200));
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(testee);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new ByteArrayInputStream(bos.toByteArray()))) {
+      assertThat(ois.readObject()).isEqualTo(testee);
+    }
+  }
+
+  private List<String> someNames(final int count) {
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      names.add(TestIdListTest.class.getName() + ".test" + i);
+    }
+    return names;
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class AdaptiveTimeoutStrategyTest {
+
+  private final TimeoutLengthStrategy fallback = new PercentAndConstantTimeoutStrategy(
+      1.25f, 4000);
+
+  @Test
+  public void shouldUseFallbackForTestsWithoutAnAllowance() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L));
+    final List<String> tests = Collections.singletonList("b");
+    testee.getAllowedTime(tests, 100);
+    assertThat(testee.getAllowedTime(tests, 100)).isEqualTo(4125);
+  }
+
+  @Test
+  public void shouldUseFallbackTheFirstTimeATestRuns() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L));
+    final List<String> tests = Collections.singletonList("a");
+    assertThat(testee.getAllowedTime(tests, 100)).isEqualTo(4125);
+    assertThat(testee.getAllowedTime(tests, 100)).isEqualTo(600);
+  }
+
+  @Test
+  public void shouldUseFallbackWhenNoTestsAreNamed() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L));
+    assertThat(testee.getAllowedTime(Collections.emptyList(), 100))
+        .isEqualTo(4125);
+  }
+
+  @Test
+  public void shouldAllowSumOfAllowancesForUnitsOfSeveralTests() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L, "b", 700L));
+    final List<String> tests = Arrays.asList("a", "b");
+    testee.getAllowedTime(tests, 100);
+    assertThat(testee.getAllowedTime(tests, 100)).isEqualTo(1300);
+  }
+
+  @Test
+  public void shouldRetainOnlyAllowancesOfNamedTests() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L, "b", 700L));
+    final TimeoutLengthStrategy trimmed = testee
+        .forTests(Collections.singletonList("a"));
+    final List<String> b = Collections.singletonList("b");
+    trimmed.getAllowedTime(b, 100);
+    assertThat(trimmed.getAllowedTime(b, 100)).isEqualTo(4125);
+  }
+
+  @Test
+  public void shouldTreatAllTestsAsColdAfterSerialization() {
+    final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+        this.fallback, allowances("a", 600L));
+    final List<String> tests = Collections.singletonList("a");
+    testee.getAllowedTime(tests, 100);
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    new SafeDataOutputStream(bos).write(testee);
+    final TimeoutLengthStrategy copy = new SafeDataInputStream(
+        new ByteArrayInputStream(bos.toByteArray()))
+        .read(TimeoutLengthStrategy.class);
+    assertThat(copy.getAllowedTime(tests, 100)).isEqualTo(4125);
+    assertThat(copy.getAllowedTime(tests, 100)).isEqualTo(600);
+  }
+
+  private static Map<String, Long> allowances(final Object... testsAndTimes) {
+    final Map<String, Long> allowances = new HashMap<>();
+    for (int i = 0; i < testsAndTimes.length; i = i + 2) {
+      allowances.put((String) testsAndTimes[i], (Long) testsAndTimes[i + 1]);
+    }
+    return allowances;
+  }
+
+}
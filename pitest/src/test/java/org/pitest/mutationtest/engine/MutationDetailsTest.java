@@ -2,7 +2,17 @@ package org.pitest.mutationtest.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
@@ -24,4 +34,68 @@ public class MutationDetailsTest {
             .verify();
   }
 
+  @Test
+  public void shouldShareLocationsAndDescriptionsBetweenMutants() {
+    final MutationDetails a = MutationDetailsMother.makeMutation();
+    final MutationDetails b = MutationDetailsMother.makeMutation();
+    assertThat(a.getId().getLocation()).isSameAs(b.getId().getLocation());
+    assertThat(a.getDescription()).isSameAs(b.getDescription());
+    assertThat(a.getFilename()).isSameAs(b.getFilename());
+  }
+
+  @Test
+  public void shouldShareTestOrdersHoldingTheSameTests() {
+    final List<TestInfo> tests = someTests();
+    final MutationDetails a = MutationDetailsMother.makeMutation();
+    final MutationDetails b = MutationDetailsMother.makeMutation();
+    a.addTestsInOrder(tests);
+    b.addTestsInOrder(tests);
+    assertThat(a.getTestsInOrder()).containsExactlyElementsOf(tests);
+    assertThat(a.getTestsInOrder()).isSameAs(b.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldNotShareTestOrdersHoldingDifferentInstancesOfATest() {
+    final MutationDetails a = MutationDetailsMother.makeMutation();
+    final MutationDetails b = MutationDetailsMother.makeMutation();
+    a.addTestsInOrder(someTests());
+    b.addTestsInOrder(someTests());
+    assertThat(a.getTestsInOrder()).isEqualTo(b.getTestsInOrder());
+    assertThat(a.getTestsInOrder()).isNotSameAs(b.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldAppendTestsToThoseAlreadyAdded() {
+    final List<TestInfo> tests = someTests();
+    final MutationDetails testee = MutationDetailsMother.makeMutation();
+    testee.addTestsInOrder(tests.subList(0, 1));
+    testee.addTestsInOrder(tests.subList(1, 2));
+    assertThat(testee.getTestsInOrder()).containsExactlyElementsOf(tests);
+  }
+
+  @Test
+  public void shouldSurviveSerialization() throws Exception {
+    final MutationDetails testee = MutationDetailsMother.makeMutation();
+    testee.addTestsInOrder(someTests());
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(testee);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(
+        new ByteArrayInputStream(bos.toByteArray()))) {
+      final MutationDetails actual = (MutationDetails) ois.readObject();
+      assertThat(actual).isEqualTo(testee);
+      assertThat(actual.getId().getLocation())
+          .isSameAs(testee.getId().getLocation());
+      assertThat(actual.getTestsInOrder())
+          .isEqualTo(testee.getTestsInOrder());
+    }
+  }
+
+  private List<TestInfo> someTests() {
+    return Arrays.asList(
+        new TestInfo("foo", "one", 1, Optional.<ClassName> empty(), 0),
+        new TestInfo("foo", "two", 1, Optional.<ClassName> empty(), 0));
+  }
+
 }
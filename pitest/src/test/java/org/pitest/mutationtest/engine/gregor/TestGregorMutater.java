@@ -15,6 +15,12 @@
 package org.pitest.mutationtest.engine.gregor;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -23,7 +29,11 @@ import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator;
 import org.pitest.util.ResourceFolderByteArraySource;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -291,6 +301,50 @@ public class TestGregorMutater extends MutatorTestBase {
                                                                     // target?
   }
 
+  public static class HasFrameWithDeclaredType {
+    public int a() {
+      return 1;
+    }
+
+    public int b(final boolean b) {
+      // javac declares the merged local as a List, frames computed by asm
+      // would declare it an AbstractList
+      final List<String> l;
+      if (b) {
+        l = new ArrayList<>();
+      } else {
+        l = new LinkedList<>();
+      }
+      return l.size();
+    }
+  }
+
+  @Test
+  public void shouldCopyMethodsOtherThanTheMutatedMethodUnaltered() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasFrameWithDeclaredType.class);
+    final Mutant mutant = this.engine.getMutation(actualDetails.get(0).getId());
+    final byte[] original = ClassloaderByteArraySource.fromContext()
+        .getBytes(HasFrameWithDeclaredType.class.getName()).get();
+
+    assertThat(methodText(mutant.getBytes(), "b"))
+        .isEqualTo(methodText(original, "b"));
+    assertThat(methodText(mutant.getBytes(), "a"))
+        .isNotEqualTo(methodText(original, "a"));
+  }
+
+  private static String methodText(final byte[] bytes, final String name) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, 0);
+    final Textifier text = new Textifier();
+    node.methods.stream()
+        .filter(m -> m.name.equals(name))
+        .forEach(m -> m.accept(new TraceMethodVisitor(text)));
+    final StringWriter out = new StringWriter();
+    text.print(new PrintWriter(out));
+    return out.toString();
+  }
+
   @Test
   public void shouldNotMutateCompilerGeneratedConditionalsInStringSwitch() {
     createTesteeWith(new ResourceFolderByteArraySource(),
@@ -12,6 +12,8 @@ import org.pitest.util.SafeDataInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
@@ -46,9 +48,41 @@ public class DefaultReporterTest {
         DetectionStatus.KILLED, "foo");
     this.testee.report(mi, ms);
     final SafeDataInputStream is = resultToStream();
+    final ReportReader reader = new ReportReader();
+    assertEquals(Id.TEST, is.readByte());
+    reader.readTest(is);
     assertEquals(Id.REPORT, is.readByte());
     assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(reader.readStatus(is), ms);
+  }
+
+  @Test
+  public void shouldSendEachTestNameOnce() throws IOException {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    final MutationStatusTestPair first = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, Arrays.asList("foo", "bar"),
+        Arrays.asList("baz"));
+    final MutationStatusTestPair second = new MutationStatusTestPair(3,
+        DetectionStatus.SURVIVED, Collections.emptyList(),
+        Arrays.asList("baz", "bar", "foo"));
+    this.testee.report(mi, first);
+    this.testee.report(mi, second);
+
+    final SafeDataInputStream is = resultToStream();
+    final ReportReader reader = new ReportReader();
+    assertEquals(Id.TEST, is.readByte());
+    reader.readTest(is);
+    assertEquals(Id.TEST, is.readByte());
+    reader.readTest(is);
+    assertEquals(Id.TEST, is.readByte());
+    reader.readTest(is);
+    assertEquals(Id.REPORT, is.readByte());
+    is.read(MutationIdentifier.class);
+    assertEquals(first, reader.readStatus(is));
+    assertEquals(Id.REPORT, is.readByte());
+    is.read(MutationIdentifier.class);
+    assertEquals(second, reader.readStatus(is));
   }
 
   private SafeDataInputStream resultToStream() {
@@ -64,4 +98,12 @@ public class DefaultReporterTest {
     assertEquals(is.readInt(), ExitCode.TIMEOUT.getCode());
   }
 
+  @Test
+  public void shouldSendPeakHeapUsage() {
+    this.testee.heapUsage(1024L);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.HEAP, is.readByte());
+    assertEquals(1024L, is.readLong());
+  }
+
 }
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.TestUnit;
+
+public class JfrMinionEventsTest {
+
+  @Rule
+  public TemporaryFolder  folder = new TemporaryFolder();
+
+  private final JfrMinionEvents testee = new JfrMinionEvents();
+
+  @Test
+  public void shouldReturnResultsOfTimedWork() {
+    final MutationStatusTestPair status = MutationStatusTestPair
+        .notAnalysed(0, DetectionStatus.NON_VIABLE);
+    assertThat(this.testee.mutant(aMutation(), () -> status)).isSameAs(status);
+    assertThat(this.testee.hotSwap(ClassName.fromString("foo"), () -> true))
+        .isTrue();
+    assertThat(this.testee.testDiscovery(Collections::emptyList)).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordMutantEvents() throws IOException {
+    final List<RecordedEvent> events = record(() -> this.testee.mutant(
+        aMutation(), () -> new MutationStatusTestPair(2,
+            DetectionStatus.KILLED, "aTest")));
+
+    assertThat(events).hasSize(1);
+    final RecordedEvent event = events.get(0);
+    assertThat(event.getEventType().getName()).isEqualTo("org.pitest.Mutant");
+    assertThat(event.getString("mutatedClass")).isEqualTo("com.example.Foo");
+    assertThat(event.getString("mutator")).isEqualTo("mutator");
+    assertThat(event.getString("status")).isEqualTo("KILLED");
+    assertThat(event.getInt("testsRun")).isEqualTo(2);
+    assertThat(event.getInt("line")).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldRecordHotSwapAndDiscoveryEvents() throws IOException {
+    final List<RecordedEvent> events = record(() -> {
+      this.testee.hotSwap(ClassName.fromString("com.example.Foo"), () -> false);
+      this.testee.testDiscovery(() -> Collections.<TestUnit> nCopies(3, null));
+    });
+
+    assertThat(events).extracting(e -> e.getEventType().getName())
+        .containsExactly("org.pitest.HotSwap", "org.pitest.TestDiscovery");
+    assertThat(events.get(0).getBoolean("succeeded")).isFalse();
+    assertThat(events.get(1).getInt("testUnits")).isEqualTo(3);
+  }
+
+  private List<RecordedEvent> record(final Runnable work) throws IOException {
+    final Path file = this.folder.getRoot().toPath().resolve("test.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("org.pitest.Mutant");
+      recording.enable("org.pitest.HotSwap");
+      recording.enable("org.pitest.TestDiscovery");
+      recording.start();
+      work.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static MutationDetails aMutation() {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation().withClass(
+            ClassName.fromString("com.example.Foo")))
+        .withMutator("mutator").build(), "Foo.java", "desc", 42, 0);
+  }
+
+}
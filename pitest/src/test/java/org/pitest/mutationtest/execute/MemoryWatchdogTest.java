@@ -0,0 +1,30 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class MemoryWatchdogTest {
+
+  private static final int MB = 1024 * 1024;
+
+  @Test
+  public void shouldNotCountGarbageAsLiveHeap() {
+    final long before = MemoryWatchdog.liveHeapUsage();
+    long total = 0;
+    for (int i = 0; i != 64; i++) {
+      total = total + new byte[4 * MB].length;
+    }
+    System.gc();
+    assertThat(total).isEqualTo(256L * MB);
+    assertThat(MemoryWatchdog.liveHeapUsage())
+        .isLessThan(before + (128L * MB));
+  }
+
+  @Test
+  public void shouldReportLiveHeapOnceCollected() {
+    System.gc();
+    assertThat(MemoryWatchdog.liveHeapUsage()).isPositive();
+  }
+
+}
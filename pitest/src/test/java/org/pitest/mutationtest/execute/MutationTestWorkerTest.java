@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -128,6 +131,39 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldTimeEachMutantAndHotSwap() throws IOException {
+    final List<String> events = new ArrayList<>();
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, new NullMinionEvents() {
+          @Override
+          public boolean hotSwap(final ClassName clazz,
+              final BooleanSupplier swap) {
+            events.add("swap " + clazz.asJavaName());
+            return super.hotSwap(clazz, swap);
+          }
+
+          @Override
+          public MutationStatusTestPair mutant(final MutationDetails mutation,
+              final Supplier<MutationStatusTestPair> analysis) {
+            final MutationStatusTestPair result = super.mutant(mutation,
+                analysis);
+            events.add("mutant " + result.getStatus());
+            return result;
+          }
+        });
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeFailingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    assertThat(events).containsExactly("swap foo", "mutant KILLED");
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -31,6 +31,7 @@ import java.util.Optional;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.SharedFixtureTestUnit;
 import org.pitest.testapi.TestUnit;
 
 public class TimeOutDecoratedTestSourceTest {
@@ -71,6 +72,52 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldCombineTestUnitsSharingAFixture() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(makeSharedTestUnit("one", "fixture"),
+            makeSharedTestUnit("two", "fixture"), makeTestUnit("three")),
+        this.reporter);
+    final List<TestUnit> actual = this.testee.translateTests(Arrays.asList(
+        new TestInfo("foo", "one", 42, Optional.<ClassName> empty(), 0),
+        new TestInfo("foo", "three", 42, Optional.<ClassName> empty(), 0),
+        new TestInfo("foo", "two", 42, Optional.<ClassName> empty(), 0)));
+    assertEquals(2, actual.size());
+    assertEquals("one, two", actual.get(0).getDescription().getName());
+    assertEquals("three", actual.get(1).getDescription().getName());
+  }
+
+  private SharedFixtureTestUnit makeSharedTestUnit(final String name,
+      final String fixture) {
+    return new SharedFixtureTestUnit() {
+      private final Description description = new Description(name);
+
+      @Override
+      public void execute(final ResultCollector rc) {
+      }
+
+      @Override
+      public Description getDescription() {
+        return this.description;
+      }
+
+      @Override
+      public String fixture() {
+        return fixture;
+      }
+
+      @Override
+      public TestUnit combine(final List<SharedFixtureTestUnit> others) {
+        final StringBuilder combined = new StringBuilder(name);
+        for (final SharedFixtureTestUnit each : others) {
+          combined.append(", ").append(each.getDescription().getName());
+        }
+        return makeTestUnit(combined.toString());
+      }
+
+    };
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
@@ -57,4 +57,22 @@ public class MatchTest {
     assertTrue(isFalse.or(isTrue).test(this.unused, 1));
   }
 
+  @Test
+  public void shouldCombineContextFreeMatchesIntoContextFreeMatches() {
+    final Match<Integer> isTrue = Match.always();
+    final Match<Integer> isOne = Match.of(i -> i == 1);
+    assertTrue(isOne.isContextFree());
+    assertTrue(isTrue.and(isOne).isContextFree());
+    assertTrue(isTrue.or(isOne).negate().isContextFree());
+    assertFalse(isTrue.and(isOne.negate()).test(this.unused, 1));
+  }
+
+  @Test
+  public void shouldNotTreatMatchesReadingContextAsContextFree() {
+    final Match<Integer> readsContext = (c, t) -> true;
+    assertFalse(readsContext.isContextFree());
+    assertFalse(Match.<Integer>always().and(readsContext).isContextFree());
+    assertFalse(readsContext.or(Match.never()).isContextFree());
+  }
+
 }
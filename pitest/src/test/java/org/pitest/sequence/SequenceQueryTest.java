@@ -1,10 +1,13 @@
 package org.pitest.sequence;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -106,6 +109,100 @@ public class SequenceQueryTest {
     assertTrue(testee.matches(asList(1, 99, 2)));
   }
 
+  @Test
+  public void shouldMatchQueriesThatReadTheContext() {
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(contextEq(1))
+        .zeroOrMore(QueryStart.match(contextEq(2)))
+        .then(eq(3))
+        .compile();
+
+    assertTrue(testee.matches(asList(1, 3)));
+    assertTrue(testee.matches(asList(1, 2, 2, 3)));
+    assertFalse(testee.matches(asList(1, 2, 4)));
+    assertFalse(testee.matches(asList(2, 3)));
+  }
+
+  @Test
+  public void shouldNotSimulateSequencesMissingARequiredItem() {
+    final AtomicInteger tests = new AtomicInteger();
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(counting(tests))
+        .then(eq(3))
+        .compile();
+
+    assertFalse(testee.matches(asList(1, 2)));
+    assertThat(tests.get()).isZero();
+  }
+
+  @Test
+  public void shouldReuseResultForSameSequenceAndContext() {
+    final AtomicInteger tests = new AtomicInteger();
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(counting(tests))
+        .then(eq(3))
+        .compile();
+
+    final List<Integer> sequence = asList(1, 3);
+    assertTrue(testee.matches(sequence));
+    assertTrue(testee.matches(sequence));
+    assertThat(tests.get()).isEqualTo(1);
+
+    assertTrue(testee.matches(new ArrayList<>(sequence)));
+    assertThat(tests.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldMatchDebugQueriesWithDebugContextAndWithoutCaching() {
+    final AtomicInteger debugTests = new AtomicInteger();
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(Match.<Integer>always())
+        .then((Match<Integer>) (c, t) -> {
+          if (c.isDebug()) {
+            debugTests.incrementAndGet();
+          }
+          return t == 3;
+        })
+        .compile(QueryParams.params(Integer.class).withDebug(true));
+
+    final List<Integer> sequence = asList(1, 3);
+    assertTrue(testee.matches(sequence));
+    assertTrue(testee.matches(sequence));
+    assertThat(debugTests.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotReuseResultsForDifferentInitialContexts() {
+    final Slot<Integer> target = Slot.create(Integer.class);
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(Match.<Integer>always())
+        .then((c, t) -> c.retrieve(target.read()).filter(t::equals).isPresent())
+        .compile();
+
+    final List<Integer> sequence = asList(1, 2);
+    assertTrue(testee.matches(sequence, contextWith(sequence, target, 2)));
+    assertFalse(testee.matches(sequence, contextWith(sequence, target, 3)));
+    assertTrue(testee.matches(sequence, contextWith(sequence, target, 2)));
+  }
+
+  private static Context<Integer> contextWith(List<Integer> sequence,
+      Slot<Integer> slot, int value) {
+    final Context<Integer> context = Context.start(sequence);
+    context.store(slot.write(), value);
+    return context;
+  }
+
+  private static Match<Integer> counting(AtomicInteger tests) {
+    return (c, t) -> {
+      tests.incrementAndGet();
+      return true;
+    };
+  }
+
+  private static Match<Integer> contextEq(final int i) {
+    return (c, t) -> t == i;
+  }
+
   private Match<Integer> eq(final int i) {
     return Match.isEqual(i);
   }
@@ -14,17 +14,25 @@
  */
 package org.pitest.testng;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
 
 import com.example.testng.AbstractTestNGClass;
 import com.example.testng.AnnotatedAtClassLevel;
 import com.example.testng.AnnotatedAtMethodLevel;
+import com.example.testng.HasClassFixture;
+import com.example.testng.HasDependentMethods;
+import com.example.testng.HasGroups;
 
 public class TestNGTestUnitFinderTest {
 
@@ -38,15 +46,47 @@ public class TestNGTestUnitFinderTest {
   }
 
   @Test
-  public void shouldFindSingleTestUnitForAllPublicMethodsInAnnotatedClass() {
-    assertEquals(1, this.testee.findTestUnits(AnnotatedAtClassLevel.class)
-        .size());
+  public void shouldFindTestUnitForEachPublicMethodInAnnotatedClass() {
+    assertThat(descriptionsOf(AnnotatedAtClassLevel.class)).containsExactlyInAnyOrder(
+        new Description("aTest", AnnotatedAtClassLevel.class),
+        new Description("anotherTest", AnnotatedAtClassLevel.class));
   }
 
   @Test
-  public void shouldFindSingleTestUnitClassWithAnnotatedMethods() {
-    assertEquals(1, this.testee.findTestUnits(AnnotatedAtMethodLevel.class)
-        .size());
+  public void shouldFindTestUnitForEachAnnotatedMethod() {
+    assertThat(descriptionsOf(AnnotatedAtMethodLevel.class)).containsExactlyInAnyOrder(
+        new Description("aTest", AnnotatedAtMethodLevel.class),
+        new Description("anotherTest", AnnotatedAtMethodLevel.class));
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForClassWithClassFixture() {
+    assertThat(descriptionsOf(HasClassFixture.class)).containsExactly(
+        new Description("_", HasClassFixture.class));
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForClassWithDependentMethods() {
+    assertThat(descriptionsOf(HasDependentMethods.class)).containsExactly(
+        new Description("_", HasDependentMethods.class));
+  }
+
+  @Test
+  public void shouldOnlyCreateUnitsForIncludedTestMethods() {
+    final TestGroupConfig config = new TestGroupConfig(
+        Collections.<String> emptyList(), Collections.<String> emptyList());
+    this.testee = new TestNGTestUnitFinder(config, Collections.singletonList("aTest"));
+    assertThat(descriptionsOf(AnnotatedAtMethodLevel.class)).containsExactly(
+        new Description("aTest", AnnotatedAtMethodLevel.class));
+  }
+
+  @Test
+  public void shouldNotCreateUnitsForMethodsInExcludedGroups() {
+    final TestGroupConfig config = new TestGroupConfig(
+        Collections.singletonList("exclude"), Collections.<String> emptyList());
+    this.testee = new TestNGTestUnitFinder(config, Collections.<String> emptyList());
+    assertThat(descriptionsOf(HasGroups.class)).doesNotContain(
+        new Description("excludeGroup", HasGroups.class));
   }
 
   @Test
@@ -58,4 +98,10 @@ public class TestNGTestUnitFinderTest {
   public void shouldIgnoreAbstractClasses() {
     assertEquals(0, this.testee.findTestUnits(AbstractTestNGClass.class).size());
   }
+
+  private List<Description> descriptionsOf(Class<?> clazz) {
+    return this.testee.findTestUnits(clazz).stream()
+        .map(TestUnit::getDescription)
+        .collect(Collectors.toList());
+  }
 }
@@ -147,6 +147,26 @@ public class TestNGTestUnitTest {
             new Description("excludeGroup", HasGroups.class));
   }
 
+  @Test
+  public void shouldRunOnlyTheNamedMethodForSingleMethodUnits() {
+    this.testee = new TestNGTestUnit(HasGroups.class, "noGroup", this.config);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(1)).notifyStart(
+            new Description("noGroup", HasGroups.class));
+    verify(this.rc, times(1)).notifyEnd(
+            new Description("noGroup", HasGroups.class));
+    verify(this.rc, times(1)).notifyEnd(any(Description.class));
+  }
+
+  @Test
+  public void shouldRunSingleMethodUnitsRepeatedly() {
+    this.testee = new TestNGTestUnit(HasGroups.class, "noGroup", this.config);
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(
+            new Description("noGroup", HasGroups.class));
+  }
+
   @Test
   public void shouldReportTestSkipped() {
     this.testee = new TestNGTestUnit(Skips.class, this.config, this.includedTestMethods);
@@ -0,0 +1,67 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ClassNameGlobsTest {
+
+  @Test
+  public void shouldMatchLikeAnyOfTheGlobs() {
+    final List<String> globs = Arrays.asList("com.example.*", "org.foo.Bar",
+        "org.?oo.*Test", "*Helper", "a*b*c", "~.*Regex.*", "org.[ab].X", "");
+    final List<String> names = Arrays.asList("com.example.Foo",
+        "com.example.", "com.exampl", "org.foo.Bar", "org.foo.BarX",
+        "org.zoo.SomeTest", "org.zoo.SomeTests", "x.y.Helper", "Helpe",
+        "abc", "aXbYc", "aXbYcZ", "acb", "my.RegexThing", "org.a.X",
+        "org.c.X", "", "org.foo.Bar$Inner");
+
+    final ClassNameGlobs testee = ClassNameGlobs.of(globs);
+    for (final String each : names) {
+      final boolean expected = globs.stream().map(Glob::new)
+          .anyMatch(g -> g.matches(each));
+      assertThat(testee.test(each)).as(each).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldMatchInternalNamesAsJavaNames() {
+    final ClassNameGlobs testee = ClassNameGlobs.of("com.example.*Test",
+        "~org\\.foo\\..*");
+    assertThat(testee.test("com/example/FooTest")).isTrue();
+    assertThat(testee.test("com/example/Foo")).isFalse();
+    assertThat(testee.test("org/foo/Bar")).isTrue();
+  }
+
+  @Test
+  public void shouldMatchGlobsInInternalForm() {
+    final ClassNameGlobs testee = ClassNameGlobs.of("java/*");
+    assertThat(testee.test("java/lang/String")).isTrue();
+    assertThat(testee.test("java.lang.String")).isTrue();
+    assertThat(testee.test("javax/swing/JFrame")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchNothingWhenNoGlobsGiven() {
+    assertThat(ClassNameGlobs.of().test("com.example.Foo")).isFalse();
+  }
+
+  @Test
+  public void shouldCompileEachSetOfGlobsOnce() {
+    assertThat(ClassNameGlobs.of("com.example.*"))
+        .isSameAs(ClassNameGlobs.of(Arrays.asList("com.example.*")));
+  }
+
+  @Test
+  public void shouldOnlyHoldRecentlyUsedSetsOfGlobs() {
+    final ClassNameGlobs first = ClassNameGlobs.of("com.first.*");
+    for (int i = 0; i != 100; i++) {
+      ClassNameGlobs.of("com.other" + i + ".*");
+    }
+    assertThat(ClassNameGlobs.of("com.first.*")).isNotSameAs(first);
+  }
+
+}
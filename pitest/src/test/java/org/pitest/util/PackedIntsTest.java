@@ -0,0 +1,31 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class PackedIntsTest {
+
+  @Test
+  public void shouldUnpackEmptyArrays() {
+    assertThat(PackedInts.unpack(PackedInts.pack(new int[0]))).isEmpty();
+  }
+
+  @Test
+  public void shouldUnpackUnorderedValues() {
+    final int[] values = { 7, 3, 100000, 0, Integer.MAX_VALUE, 42 };
+    assertThat(PackedInts.unpack(PackedInts.pack(values))).isEqualTo(values);
+  }
+
+  @Test
+  public void shouldPackAscendingRunsCompactly() {
+    final int[] values = new int[60000];
+    for (int i = 0; i != values.length; i++) {
+      values[i] = i + 10;
+    }
+    final byte[] packed = PackedInts.pack(values);
+    assertThat(packed.length).isLessThan(1000);
+    assertThat(PackedInts.unpack(packed)).isEqualTo(values);
+  }
+
+}